@@ -18,6 +18,8 @@ package org.openRealmOfStars.ai.mission;
  */
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 
 import org.openRealmOfStars.ai.pathfinding.AStarSearch;
 import org.openRealmOfStars.ai.pathfinding.PathPoint;
@@ -189,31 +191,27 @@ public final class MissionHandling {
       final Game game, final Fleet fleet, final int distance) {
     StarMap starMap = game.getStarMap();
     Coordinate center = fleet.getCoordinate();
+    List<Planet> planets = starMap.getPlanetGrid().getWithinArea(
+        center.getX() - distance, center.getY() - distance,
+        center.getX() + distance, center.getY() + distance,
+        planet -> !planet.getCoordinate().sameAs(center)
+        && info.getSectorVisibility(planet.getCoordinate())
+        != PlayerInfo.UNCHARTED
+        && planet.getPlanetPlayerInfo() == null
+        && !planet.isEventActivated());
+    // Sectors were originally scanned row by row, keep that order for ties
+    planets.sort(Comparator.comparingInt(Planet::getY)
+        .thenComparingInt(Planet::getX));
     Coordinate targetCoord = null;
-    for (int y = -distance; y <= distance; y++) {
-      for (int x = -distance; x <= distance; x++) {
-        if (x == 0 && y == 0) {
-          continue;
-        }
-        Planet planet = starMap.getPlanetByCoordinate(center.getX() + x,
-            center.getY() + y);
-        if (info.getSectorVisibility(center.getX() + x,
-            center.getY() + y) == PlayerInfo.UNCHARTED) {
-          planet = null;
-        }
-        if (planet != null && planet.getPlanetPlayerInfo() == null
-            && !planet.isEventActivated()) {
-          if (targetCoord == null) {
-            targetCoord = new Coordinate(center.getX() + x, center.getY() + y);
-          } else {
-            Coordinate tmpCoord = new Coordinate(center.getX() + x,
-                center.getY() + y);
-            double tmpDist = center.calculateDistance(tmpCoord);
-            double targetDist = center.calculateDistance(targetCoord);
-            if (tmpDist < targetDist) {
-              targetCoord = tmpCoord;
-            }
-          }
+    for (Planet planet : planets) {
+      if (targetCoord == null) {
+        targetCoord = new Coordinate(planet.getX(), planet.getY());
+      } else {
+        Coordinate tmpCoord = new Coordinate(planet.getX(), planet.getY());
+        double tmpDist = center.calculateDistance(tmpCoord);
+        double targetDist = center.calculateDistance(targetCoord);
+        if (tmpDist < targetDist) {
+          targetCoord = tmpCoord;
         }
       }
     }
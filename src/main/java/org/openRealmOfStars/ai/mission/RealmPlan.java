@@ -0,0 +1,244 @@
+package org.openRealmOfStars.ai.mission;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.stream.IntStream;
+
+import org.openRealmOfStars.ai.planet.PlanetHandling;
+import org.openRealmOfStars.player.PlayerInfo;
+import org.openRealmOfStars.player.PlayerList;
+import org.openRealmOfStars.player.diplomacy.Attitude;
+import org.openRealmOfStars.starMap.Coordinate;
+import org.openRealmOfStars.starMap.StarMap;
+import org.openRealmOfStars.starMap.StarMapUtilities;
+import org.openRealmOfStars.starMap.planet.Planet;
+import org.openRealmOfStars.starMap.planet.construction.Construction;
+
+/**
+ *
+ * Planning data for single AI realm. Plans are calculated for all AI
+ * realms at the beginning of AI turn. Calculation only reads star map
+ * and realms, so plans for different realms are calculated
+ * concurrently. Plan has planet values for mission scoring and
+ * construction scores for realm's planets which need new construction.
+ * Results are used when realm's own turn is handled, so they are
+ * applied in realm index order. Research, construction selection,
+ * population handling and fleet moves change the map and use game's
+ * dice, so those are still handled serially in AI turn.
+ *
+ */
+public final class RealmPlan {
+
+  /**
+   * Center of realm when plan was made.
+   */
+  private final Coordinate center;
+
+  /**
+   * Number of techs realm had when plan was made.
+   */
+  private final int techCount;
+
+  /**
+   * Planet values for realm, index is planet index in star map's
+   * planet list. Gas giants are not evaluated.
+   */
+  private final int[] planetValues;
+
+  /**
+   * Is planet value evaluated.
+   */
+  private final boolean[] evaluated;
+
+  /**
+   * Attitude used when constructions were scored.
+   */
+  private final Attitude attitude;
+
+  /**
+   * Construction scores for realm's planets which need new construction.
+   */
+  private final IdentityHashMap<Planet, ConstructionScores> constructions;
+
+  /**
+   * Scored constructions for single planet.
+   */
+  private static final class ConstructionScores {
+    /** Names of scored constructions */
+    private final String[] names;
+    /** Score for each construction */
+    private final int[] scores;
+
+    /**
+     * Create construction scores.
+     * @param list Scored constructions
+     * @param scores Score for each construction
+     */
+    ConstructionScores(final Construction[] list, final int[] scores) {
+      names = new String[list.length];
+      for (int i = 0; i < list.length; i++) {
+        names[i] = list[i].getName();
+      }
+      this.scores = scores;
+    }
+
+    /**
+     * Are scores made for same constructions.
+     * @param list Constructions
+     * @return True if constructions have same names in same order
+     */
+    boolean isSame(final Construction[] list) {
+      if (list.length != names.length) {
+        return false;
+      }
+      for (int i = 0; i < list.length; i++) {
+        if (!names[i].equals(list[i].getName())) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  /**
+   * Make plan for realm.
+   * @param map StarMap
+   * @param info Realm
+   * @param index Realm index
+   */
+  private RealmPlan(final StarMap map, final PlayerInfo info,
+      final int index) {
+    center = map.calculateCenterOfRealm(index);
+    techCount = info.getTechList().getList().length;
+    int divider = StarMapUtilities.getPlanetValueDivider(map);
+    ArrayList<Planet> planets = map.getPlanetList();
+    planetValues = new int[planets.size()];
+    evaluated = new boolean[planets.size()];
+    for (int i = 0; i < planets.size(); i++) {
+      Planet planet = planets.get(i);
+      if (!planet.isGasGiant()) {
+        planetValues[i] = planet.evaluatePlanetValue(info, center, divider);
+        evaluated[i] = true;
+      }
+    }
+    attitude = info.getAiAttitude();
+    constructions = new IdentityHashMap<>();
+    for (int i = 0; i < planets.size(); i++) {
+      Planet planet = planets.get(i);
+      if (planet.getPlanetPlayerInfo() == info
+          && PlanetHandling.needsNewConstruction(planet, info)) {
+        Construction[] list = planet.getProductionList();
+        constructions.put(planet, new ConstructionScores(list,
+            PlanetHandling.scoreConstructions(list, planet, info, map,
+                attitude)));
+      }
+    }
+  }
+
+  /**
+   * Make plans for all AI realms. Plans are calculated concurrently
+   * in common fork join pool unless serial planning is requested.
+   * @param map StarMap
+   * @param serial True for single thread planning
+   * @return Realm plans, index is realm index. Human realms have null.
+   */
+  public static RealmPlan[] planRealms(final StarMap map,
+      final boolean serial) {
+    PlayerList players = map.getPlayerList();
+    RealmPlan[] plans = new RealmPlan[players.getCurrentMaxPlayers()];
+    IntStream indexes = IntStream.range(0, plans.length);
+    if (!serial) {
+      indexes = indexes.parallel();
+    }
+    indexes.forEach(i -> plans[i] = planRealm(map, i));
+    return plans;
+  }
+
+  /**
+   * Make plan for single realm.
+   * @param map StarMap
+   * @param index Realm index
+   * @return Realm plan or null if realm is human
+   */
+  public static RealmPlan planRealm(final StarMap map, final int index) {
+    PlayerInfo info = map.getPlayerList().getPlayerInfoByIndex(index);
+    if (info == null || info.isHuman()) {
+      return null;
+    }
+    return new RealmPlan(map, info, index);
+  }
+
+  /**
+   * Get center of realm when plan was made.
+   * @return Center of realm
+   */
+  public Coordinate getCenter() {
+    return center;
+  }
+
+  /**
+   * Is plan still valid for realm. Planet values depend on realm's center
+   * and techs, so if either has changed then plan is no longer valid.
+   * @param info Realm
+   * @param coord Current center of realm
+   * @return True if plan is valid
+   */
+  public boolean isValid(final PlayerInfo info, final Coordinate coord) {
+    return center.sameAs(coord)
+        && techCount == info.getTechList().getList().length;
+  }
+
+  /**
+   * Has plan value for planet.
+   * @param planetIndex Planet index in star map's planet list
+   * @return True if plan has value for planet
+   */
+  public boolean hasPlanetValue(final int planetIndex) {
+    return planetIndex >= 0 && planetIndex < evaluated.length
+        && evaluated[planetIndex];
+  }
+
+  /**
+   * Get planet value for realm.
+   * @param planetIndex Planet index in star map's planet list
+   * @return Planet value
+   */
+  public int getPlanetValue(final int planetIndex) {
+    return planetValues[planetIndex];
+  }
+
+  /**
+   * Get construction scores for planet made when plan was made.
+   * Scores are available only if planet is offering same constructions
+   * and realm has same attitude as when plan was made.
+   * @param planet Planet
+   * @param list Constructions planet is offering now
+   * @param current Current attitude of realm
+   * @return Score for each construction or null if not available
+   */
+  public int[] getConstructionScores(final Planet planet,
+      final Construction[] list, final Attitude current) {
+    ConstructionScores planned = constructions.get(planet);
+    if (planned == null || current != attitude || !planned.isSame(list)) {
+      return null;
+    }
+    return planned.scores.clone();
+  }
+}
@@ -1,7 +1,7 @@
 package org.openRealmOfStars.ai.pathfinding;
 /*
  * Open Realm of Stars game project
- * Copyright (C) 2016-2022 Tuomo Untinen
+ * Copyright (C) 2016-2026 Tuomo Untinen
  *
  * This program is free software; you can redistribute it and/or
  * modify it under the terms of the GNU General Public License
@@ -18,22 +18,32 @@ package org.openRealmOfStars.ai.pathfinding;
  */
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 import org.openRealmOfStars.mapTiles.FleetTileInfo;
 import org.openRealmOfStars.player.combat.Combat;
 import org.openRealmOfStars.player.combat.CombatShip;
 import org.openRealmOfStars.starMap.Coordinate;
+import org.openRealmOfStars.starMap.NavigationGrid;
 import org.openRealmOfStars.starMap.StarMap;
 
 /**
  *
  * A Star path searching algorithm. This works with BattleMap and StarMap.
+ * Search is done with binary heap in thread specific SearchArena.
+ * Old list based search can be selected per search with
+ * setLegacySearch() for comparing results.
  *
  */
 
 public class AStarSearch {
 
+  /**
+   * Is old list based search used instead of binary heap search.
+   */
+  private boolean legacySearch = false;
+
   /**
    * Map X size
    */
@@ -60,15 +70,32 @@ public class AStarSearch {
   private static final int START_DISTANCE = 999999;
 
   /**
-   * Map containing the block information
+   * Blocked points, indexed with x + y * maxX. Star map searches share
+   * this with navigation grid so it must not be modified after
+   * constructor.
+   */
+  private BitSet blocked;
+
+  /**
+   * Map containing the block information for legacy search.
    */
   private int[][] blockMap;
 
   /**
-   * Points to still to check
+   * Points to still to check in legacy search and found route
+   * after route has been calculated.
    */
   private List<PathPoint> points;
 
+  /**
+   * Start X coordinate
+   */
+  private int sx;
+  /**
+   * Start Y coordinate
+   */
+  private int sy;
+
   /**
    * Target X coordinate
    */
@@ -105,41 +132,31 @@ public class AStarSearch {
     maxX = Combat.MAX_X;
     maxY = Combat.MAX_Y;
     boolean moreShips = combat.biggerFleet(start.getPlayer());
-    blockMap = new int[maxX][maxY];
-    this.targetDistance = targetDistance;
+    blocked = new BitSet(maxX * maxY);
     for (int y = 0; y < maxY; y++) {
       for (int x = 0; x < maxX; x++) {
-        if (combat.isBlocked(x, y, true)) {
-          blockMap[x][y] = BLOCKED;
-        } else {
-          blockMap[x][y] = UNBLOCKED;
-        }
+        boolean isBlocked = combat.isBlocked(x, y, true);
         if (target.getShip().isStarBaseOrOrbital() && !moreShips) {
           if (x > 0 && x < 8 && y > 1 && y < 6) {
-            blockMap[x][y] = BLOCKED;
+            isBlocked = true;
           }
-          if (blockMap[x][y] == BLOCKED) {
+          if (isBlocked) {
             CombatShip blockShip = combat.getShipFromCoordinate(x, y);
             if (blockShip != null
                 && blockShip.getPlayer() == start.getPlayer()) {
-              blockMap[x][y] = UNBLOCKED;
+              isBlocked = false;
             }
           }
         }
+        if (isBlocked) {
+          blocked.set(x + y * maxX);
+        }
       }
     }
-    points = new ArrayList<>();
-    tx = target.getX();
-    ty = target.getY();
+    this.tx = target.getX();
+    this.ty = target.getY();
     this.targetDistance = targetDistance;
-    Coordinate startCoordinate = new Coordinate(start.getX(), start.getY());
-    Coordinate targetCoordinate = new Coordinate(target.getX(), target.getY());
-    PathPoint point1 = new PathPoint(start.getX(), start.getY(),
-            startCoordinate.calculateDistance(targetCoordinate));
-    points.add(point1);
-    blockMap[point1.getX()][point1.getY()] = 0;
-    targetPoint = null;
-    routeIndex = -1;
+    setStart(start.getX(), start.getY());
   }
 
   /**
@@ -153,39 +170,30 @@ public class AStarSearch {
       final Coordinate target, final int targetDistance) {
     maxX = Combat.MAX_X;
     maxY = Combat.MAX_Y;
-    blockMap = new int[maxX][maxY];
-    this.targetDistance = targetDistance;
+    blocked = new BitSet(maxX * maxY);
     for (int y = 0; y < maxY; y++) {
       for (int x = 0; x < maxX; x++) {
-        if (combat.isBlocked(x, y, true)) {
-          blockMap[x][y] = BLOCKED;
-        } else {
-          blockMap[x][y] = UNBLOCKED;
-        }
+        boolean isBlocked = combat.isBlocked(x, y, true);
         if (combat.getWormHoleCoordinate() != null
             && combat.getWormHoleCoordinate().sameAs(target)
             && x == target.getX() && y == target.getY()) {
-          blockMap[x][y] = UNBLOCKED;
+          isBlocked = false;
+        }
+        if (isBlocked) {
+          blocked.set(x + y * maxX);
         }
       }
     }
-    points = new ArrayList<>();
-    tx = target.getX();
-    ty = target.getY();
+    this.tx = target.getX();
+    this.ty = target.getY();
     this.targetDistance = targetDistance;
-    Coordinate startCoordinate = new Coordinate(start.getX(), start.getY());
-    Coordinate targetCoordinate = new Coordinate(target.getX(), target.getY());
-    PathPoint point1 = new PathPoint(start.getX(), start.getY(),
-            startCoordinate.calculateDistance(targetCoordinate));
-    points.add(point1);
-    blockMap[point1.getX()][point1.getY()] = 0;
-    targetPoint = null;
-    routeIndex = -1;
+    setStart(start.getX(), start.getY());
   }
 
   /**
    * Initialize A Star Search for star map to find a route over
-   * some obstacle.
+   * some obstacle. Blocked sectors are taken from map's navigation grid
+   * and sectors with other realm's fleets are blocked too.
    * @param map StarMap
    * @param sx Starting point X coordinate
    * @param sy Starting point Y coordinate
@@ -199,29 +207,30 @@ public class AStarSearch {
       final boolean dangerousBlocked) {
     maxX = map.getMaxX();
     maxY = map.getMaxY();
-    blockMap = new int[maxX][maxY];
-    FleetTileInfo[][] fleetTiles = map.getFleetTiles();
-    int ownerIndex = -1;
-    if (fleetTiles != null && fleetTiles[sx][sy] != null) {
-      ownerIndex = fleetTiles[sx][sy].getPlayerIndex();
-    }
-    for (int y = 0; y < maxY; y++) {
-      for (int x = 0; x < maxX; x++) {
-        if (map.isBlocked(x, y) || dangerousBlocked && map.isDangerous(x, y)) {
-          blockMap[x][y] = BLOCKED;
-        } else {
-          blockMap[x][y] = UNBLOCKED;
-        }
-        if (ownerIndex != -1 && fleetTiles != null
-            && fleetTiles[x][y] != null) {
-          FleetTileInfo fleetTile = fleetTiles[x][y];
-          if (fleetTile != null && fleetTile.getPlayerIndex() != ownerIndex) {
-            blockMap[x][y] = BLOCKED;
+    NavigationGrid grid = map.getNavigationGrid();
+    if (grid != null) {
+      blocked = grid.getBlocked(grid.getRealmAt(sx, sy), dangerousBlocked);
+    } else {
+      blocked = new BitSet(maxX * maxY);
+      FleetTileInfo[][] fleetTiles = map.getFleetTiles();
+      int ownerIndex = -1;
+      if (fleetTiles != null && fleetTiles[sx][sy] != null) {
+        ownerIndex = fleetTiles[sx][sy].getPlayerIndex();
+      }
+      for (int y = 0; y < maxY; y++) {
+        for (int x = 0; x < maxX; x++) {
+          if (map.isBlocked(x, y)
+              || dangerousBlocked && map.isDangerous(x, y)) {
+            blocked.set(x + y * maxX);
+          }
+          if (ownerIndex != -1 && fleetTiles != null
+              && fleetTiles[x][y] != null
+              && fleetTiles[x][y].getPlayerIndex() != ownerIndex) {
+            blocked.set(x + y * maxX);
           }
         }
       }
     }
-    points = new ArrayList<>();
     this.tx = tx;
     this.ty = ty;
     Coordinate startCoordinate = new Coordinate(sx, sy);
@@ -232,16 +241,12 @@ public class AStarSearch {
       // Target is actually in reroute area
       this.targetDistance = 0;
     }
-    PathPoint point1 = new PathPoint(sx, sy,
-            startCoordinate.calculateDistance(targetCoordinate));
-    points.add(point1);
-    blockMap[point1.getX()][point1.getY()] = 0;
-    targetPoint = null;
-    routeIndex = -1;
+    setStart(sx, sy);
   }
 
   /**
-   * Initialize A Star Search for star map to find a route to target point
+   * Initialize A Star Search for star map to find a route to target point.
+   * Blocked sectors are taken from map's navigation grid.
    * @param map StarMap
    * @param sx Starting point X coordinate
    * @param sy Starting point Y coordinate
@@ -253,28 +258,24 @@ public class AStarSearch {
       final int tx, final int ty, final boolean dangerousBlocked) {
     maxX = map.getMaxX();
     maxY = map.getMaxY();
-    blockMap = new int[maxX][maxY];
-    for (int y = 0; y < maxY; y++) {
-      for (int x = 0; x < maxX; x++) {
-        if (map.isBlocked(x, y) || dangerousBlocked && map.isDangerous(x, y)) {
-          blockMap[x][y] = BLOCKED;
-        } else {
-          blockMap[x][y] = UNBLOCKED;
+    NavigationGrid grid = map.getNavigationGrid();
+    if (grid != null) {
+      blocked = grid.getBlocked(NavigationGrid.NO_REALM, dangerousBlocked);
+    } else {
+      blocked = new BitSet(maxX * maxY);
+      for (int y = 0; y < maxY; y++) {
+        for (int x = 0; x < maxX; x++) {
+          if (map.isBlocked(x, y)
+              || dangerousBlocked && map.isDangerous(x, y)) {
+            blocked.set(x + y * maxX);
+          }
         }
       }
     }
-    points = new ArrayList<>();
     this.tx = tx;
     this.ty = ty;
     this.targetDistance = 0;
-    Coordinate startCoordinate = new Coordinate(sx, sy);
-    Coordinate targetCoordinate = new Coordinate(tx, ty);
-    PathPoint point1 = new PathPoint(sx, sy,
-        startCoordinate.calculateDistance(targetCoordinate));
-    points.add(point1);
-    blockMap[point1.getX()][point1.getY()] = 0;
-    targetPoint = null;
-    routeIndex = -1;
+    setStart(sx, sy);
   }
 
   /**
@@ -289,29 +290,113 @@ public class AStarSearch {
       final int tx, final int ty) {
     maxX = map.getMaxX();
     maxY = map.getMaxY();
-    blockMap = new int[maxX][maxY];
+    blocked = new BitSet(maxX * maxY);
     for (int y = 0; y < maxY; y++) {
       for (int x = 0; x < maxX; x++) {
-        if (map.isGoodForAscension(x, y)) {
-          blockMap[x][y] = UNBLOCKED;
-        } else {
-          blockMap[x][y] = BLOCKED;
+        if (!map.isGoodForAscension(x, y)) {
+          blocked.set(x + y * maxX);
         }
       }
     }
-    points = new ArrayList<>();
     this.tx = tx;
     this.ty = ty;
     this.targetDistance = 0;
+    setStart(sx, sy);
+  }
+
+  /**
+   * Set start point and reset search results.
+   * @param startX Start X coordinate
+   * @param startY Start Y coordinate
+   */
+  private void setStart(final int startX, final int startY) {
+    this.sx = startX;
+    this.sy = startY;
+    points = new ArrayList<>();
+    targetPoint = null;
+    routeIndex = -1;
+  }
+
+  /**
+   * Is old list based search used instead of binary heap search.
+   * @return True if legacy search is used
+   */
+  public boolean isLegacySearch() {
+    return legacySearch;
+  }
+
+  /**
+   * Set old list based search to be used in this search instead of
+   * binary heap search. This is mainly for comparing results in
+   * benchmarks.
+   * @param legacy True for using legacy search
+   */
+  public void setLegacySearch(final boolean legacy) {
+    legacySearch = legacy;
+  }
+
+  /**
+   * Initialize block map and open list for legacy search.
+   */
+  private void initLegacySearch() {
+    blockMap = new int[maxX][maxY];
+    for (int y = 0; y < maxY; y++) {
+      for (int x = 0; x < maxX; x++) {
+        if (blocked.get(x + y * maxX)) {
+          blockMap[x][y] = BLOCKED;
+        } else {
+          blockMap[x][y] = UNBLOCKED;
+        }
+      }
+    }
+    points = new ArrayList<>();
     Coordinate startCoordinate = new Coordinate(sx, sy);
     Coordinate targetCoordinate = new Coordinate(tx, ty);
     PathPoint point1 = new PathPoint(sx, sy,
         startCoordinate.calculateDistance(targetCoordinate));
     points.add(point1);
     blockMap[point1.getX()][point1.getY()] = 0;
-    targetPoint = null;
-    routeIndex = -1;
   }
+
+  /**
+   * Check if target is blocked and adjust target distance so that
+   * target can be reached next to it.
+   */
+  private void adjustBlockedTarget() {
+    if (isValidPos(tx, ty) && blocked.get(tx + ty * maxX)
+        && (tx != sx || ty != sy) && targetDistance == 0) {
+      targetDistance = 1;
+    }
+  }
+
+  /**
+   * Search route with binary heap search.
+   * @param mode Search mode
+   * @return True if successful and false if not
+   */
+  private boolean doHeapSearch(final int mode) {
+    adjustBlockedTarget();
+    SearchArena arena = SearchArena.get();
+    int found = arena.search(blocked, maxX, maxY, sx, sy, tx, ty,
+        targetDistance, mode);
+    if (found == -1) {
+      // Target is not found, no path available
+      return false;
+    }
+    points = arena.buildRoute(found, maxX, tx, ty);
+    targetPoint = points.get(0);
+    return true;
+  }
+
+  /**
+   * Set route index to first move of route found with binary heap search.
+   */
+  private void doHeapRoute() {
+    if (targetPoint != null) {
+      routeIndex = points.size() - 1;
+    }
+  }
+
   /**
    * Is coordinate valid position on map
    * @param x X Coordinate
@@ -330,12 +415,21 @@ public class AStarSearch {
    * @return True if successful and false if not
    */
   public boolean doSearch() {
+    if (legacySearch) {
+      return legacyNormalSearch();
+    }
+    return doHeapSearch(SearchArena.MODE_NORMAL);
+  }
+
+  /**
+   * Legacy list based search for doSearch().
+   * @return True if successful and false if not
+   */
+  private boolean legacyNormalSearch() {
     boolean noMorePoints = false;
     int count = 0;
-    if (isValidPos(tx, ty) && blockMap[tx][ty] == BLOCKED
-        && targetDistance == 0) {
-      targetDistance = 1;
-    }
+    adjustBlockedTarget();
+    initLegacySearch();
     while (!noMorePoints) {
       count++;
       if (points.size() > 0) {
@@ -395,12 +489,21 @@ public class AStarSearch {
    * @return True if successful and false if not
    */
   public boolean doSquareSearch() {
+    if (legacySearch) {
+      return legacySquareSearch();
+    }
+    return doHeapSearch(SearchArena.MODE_SQUARE);
+  }
+
+  /**
+   * Legacy list based search for doSquareSearch().
+   * @return True if successful and false if not
+   */
+  private boolean legacySquareSearch() {
     boolean noMorePoints = false;
     int count = 0;
-    if (isValidPos(tx, ty) && blockMap[tx][ty] == BLOCKED
-        && targetDistance == 0) {
-      targetDistance = 1;
-    }
+    adjustBlockedTarget();
+    initLegacySearch();
     while (!noMorePoints) {
       count++;
       if (points.size() > 0) {
@@ -473,12 +576,21 @@ public class AStarSearch {
    * @return True if successful and false if not
    */
   public boolean doSearchPreferStraightLines() {
+    if (legacySearch) {
+      return legacySearchPreferStraightLines();
+    }
+    return doHeapSearch(SearchArena.MODE_STRAIGHT_LINES);
+  }
+
+  /**
+   * Legacy list based search for doSearchPreferStraightLines().
+   * @return True if successful and false if not
+   */
+  private boolean legacySearchPreferStraightLines() {
     boolean noMorePoints = false;
     int count = 0;
-    if (isValidPos(tx, ty) && blockMap[tx][ty] == BLOCKED
-        && targetDistance == 0) {
-      targetDistance = 1;
-    }
+    adjustBlockedTarget();
+    initLegacySearch();
     while (!noMorePoints) {
       count++;
       if (points.size() > 0) {
@@ -576,6 +688,17 @@ public class AStarSearch {
    * Calculate Route
    */
   public void doRoute() {
+    if (legacySearch) {
+      legacyRoute();
+    } else {
+      doHeapRoute();
+    }
+  }
+
+  /**
+   * Legacy route calculation for doRoute().
+   */
+  private void legacyRoute() {
     boolean targetReached = false;
     if (targetPoint != null) {
       points = new ArrayList<>();
@@ -621,6 +744,17 @@ public class AStarSearch {
    * Calculate Route
    */
   public void doSquareRoute() {
+    if (legacySearch) {
+      legacySquareRoute();
+    } else {
+      doHeapRoute();
+    }
+  }
+
+  /**
+   * Legacy route calculation for doSquareRoute().
+   */
+  private void legacySquareRoute() {
     boolean targetReached = false;
     if (targetPoint != null) {
       points = new ArrayList<>();
@@ -0,0 +1,406 @@
+package org.openRealmOfStars.ai.pathfinding;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ *
+ * Reusable search arena for A Star path searching. Arena contains flat
+ * node array for costs and parents and binary heap for open set. Arrays
+ * are reused between searches and generation counter is used instead of
+ * clearing them. Each thread has its own arena.
+
+ *
+ */
+final class SearchArena {
+
+  /**
+   * Search with all eight directions.
+   */
+  static final int MODE_NORMAL = 0;
+  /**
+   * Search with only four directions.
+   */
+  static final int MODE_SQUARE = 1;
+  /**
+   * Search with all eight directions but straight lines are preferred
+   * over getting closer to target when routes are equally long.
+   */
+  static final int MODE_STRAIGHT_LINES = 2;
+
+  /**
+   * Cost for single move. Diagonal move is single move on star map
+   * so all eight directions cost the same.
+   */
+  private static final int STEP_COST = 1;
+
+  /**
+   * Neighbour X offsets. Four first ones are straight moves.
+   */
+  private static final int[] NEIGHBOUR_X = {-1, 1, 0, 0, -1, 1, -1, 1};
+  /**
+   * Neighbour Y offsets. Four first ones are straight moves.
+   */
+  private static final int[] NEIGHBOUR_Y = {0, 0, -1, 1, -1, -1, 1, 1};
+
+  /**
+   * Multiplier for estimated total cost in heap key. Remaining part
+   * of the key is tie break between nodes with same total cost.
+   */
+  private static final int TIE_BREAK = 1024;
+  /**
+   * Multiplier for the more important part of tie break. Tie break
+   * has two parts: estimated cost to target, so node closer to target
+   * is preferred, and number of diagonal moves on the route, so route
+   * with more straight moves is preferred.
+   */
+  private static final int TIE_PART = 32;
+
+  /**
+   * Number of ints for each node in node array.
+   */
+  private static final int NODE_SIZE = 5;
+  /**
+   * Node field for generation when node was last touched.
+   */
+  private static final int STAMP = 0;
+  /**
+   * Node field for cost from start to node.
+   */
+  private static final int COST = 1;
+  /**
+   * Node field for parent node index. -1 for start node.
+   */
+  private static final int PARENT = 2;
+  /**
+   * Node field for position in heap or CLOSED.
+   */
+  private static final int HEAP_POS = 3;
+  /**
+   * Node field for number of diagonal moves from start to node.
+   */
+  private static final int DIAGONALS = 4;
+
+  /**
+   * Heap position for node which is already closed.
+   */
+  private static final int CLOSED = -1;
+
+  /**
+   * Search arena for each thread.
+   */
+  private static final ThreadLocal<SearchArena> ARENAS =
+      ThreadLocal.withInitial(SearchArena::new);
+
+  /**
+   * Node data. Fields for single node are next to each other so that
+   * touching neighbours hits as few cache lines as possible.
+   */
+  private int[] nodes;
+  /**
+   * Heap of node indexes.
+   */
+  private int[] heap;
+  /**
+   * Heap keys, estimated total cost for node in same heap position.
+   */
+  private int[] heapKey;
+  /**
+   * Number of nodes in heap.
+   */
+  private int heapSize;
+  /**
+   * Current search generation.
+   */
+  private int generation;
+
+  /**
+   * Use get() for getting the search arena.
+   */
+  private SearchArena() {
+    generation = 0;
+    heapSize = 0;
+  }
+
+  /**
+   * Get search arena for current thread.
+   * @return SearchArena
+   */
+  static SearchArena get() {
+    return ARENAS.get();
+  }
+
+  /**
+   * Make sure that arrays can hold all the nodes and start new generation.
+   * @param size Number of nodes
+   */
+  private void prepare(final int size) {
+    if (nodes == null || nodes.length < size * NODE_SIZE) {
+      nodes = new int[size * NODE_SIZE];
+      heap = new int[size];
+      heapKey = new int[size];
+      generation = 0;
+    }
+    if (generation == Integer.MAX_VALUE) {
+      Arrays.fill(nodes, 0);
+      generation = 0;
+    }
+    generation++;
+    heapSize = 0;
+  }
+
+  /**
+   * Estimate remaining cost from point to target area. Estimate is
+   * admissible, so found route is always the shortest one.
+   * @param x X coordinate
+   * @param y Y coordinate
+   * @param tx Target X coordinate
+   * @param ty Target Y coordinate
+   * @param targetDistance Target distance where to stop
+   * @return Estimated cost
+   */
+  private static int heuristic(final int x, final int y, final int tx,
+      final int ty, final int targetDistance) {
+    // Chebyshev distance is exact move count without obstacles: every
+    // move changes both coordinates by at most one.
+    // Points in target area are at most target distance away from target.
+    int estimate = STEP_COST * (Math.max(Math.abs(x - tx),
+        Math.abs(y - ty)) - targetDistance);
+    if (estimate < 0) {
+      estimate = 0;
+    }
+    return estimate;
+  }
+
+  /**
+   * Calculate heap key from cost and estimate. Nodes with same total
+   * cost are ordered by estimate and by number of diagonal moves.
+   * In straight lines mode number of diagonal moves is compared first.
+   * @param pathCost Cost from start to node
+   * @param estimate Estimated cost from node to target
+   * @param diagonals Number of diagonal moves from start to node
+   * @param mode Search mode
+   * @return Heap key
+   */
+  private static int key(final int pathCost, final int estimate,
+      final int diagonals, final int mode) {
+    int closeness = Math.min(estimate, TIE_PART - 1);
+    int straightness = Math.min(diagonals, TIE_PART - 1);
+    int tieBreak = closeness * TIE_PART + straightness;
+    if (mode == MODE_STRAIGHT_LINES) {
+      tieBreak = straightness * TIE_PART + closeness;
+    }
+    return (pathCost + estimate) * TIE_BREAK + tieBreak;
+  }
+
+  /**
+   * Search path from start to target area. Target area is all the points
+   * which distance from target is equal or less than target distance.
+   * Start point itself is never accepted as a target.
+   * @param blocked Blocked points, indexed with x + y * maxX
+   * @param maxX Map X size
+   * @param maxY Map Y size
+   * @param sx Start X coordinate
+   * @param sy Start Y coordinate
+   * @param tx Target X coordinate
+   * @param ty Target Y coordinate
+   * @param targetDistance Target distance where to stop
+   * @param mode Search mode
+   * @return Found node index or -1 if path is not available
+   */
+  int search(final BitSet blocked, final int maxX, final int maxY,
+      final int sx, final int sy, final int tx, final int ty,
+      final int targetDistance, final int mode) {
+    prepare(maxX * maxY);
+    int neighbours = 8;
+    if (mode == MODE_SQUARE) {
+      neighbours = 4;
+    }
+    int limit = targetDistance * targetDistance;
+    int start = sx + sy * maxX;
+    int base = start * NODE_SIZE;
+    nodes[base + STAMP] = generation;
+    nodes[base + COST] = 0;
+    nodes[base + PARENT] = -1;
+    nodes[base + DIAGONALS] = 0;
+    push(start, key(0, heuristic(sx, sy, tx, ty, targetDistance), 0,
+        mode));
+    while (heapSize > 0) {
+      int current = pop();
+      int cy = current / maxX;
+      int cx = current - cy * maxX;
+      if (current != start) {
+        int dx = cx - tx;
+        int dy = cy - ty;
+        if (dx * dx + dy * dy <= limit) {
+          return current;
+        }
+      }
+      int currentCost = nodes[current * NODE_SIZE + COST];
+      int currentDiagonals = nodes[current * NODE_SIZE + DIAGONALS];
+      for (int i = 0; i < neighbours; i++) {
+        int mx = cx + NEIGHBOUR_X[i];
+        int my = cy + NEIGHBOUR_Y[i];
+        if (mx < 0 || my < 0 || mx >= maxX || my >= maxY) {
+          continue;
+        }
+        int index = mx + my * maxX;
+        if (blocked.get(index)) {
+          continue;
+        }
+        int newCost = currentCost + STEP_COST;
+        int newDiagonals = currentDiagonals;
+        if (i >= 4) {
+          newDiagonals++;
+        }
+        base = index * NODE_SIZE;
+        if (nodes[base + STAMP] == generation) {
+          int pos = nodes[base + HEAP_POS];
+          if (pos == CLOSED || newCost > nodes[base + COST]
+              || newCost == nodes[base + COST]
+              && newDiagonals >= nodes[base + DIAGONALS]) {
+            continue;
+          }
+          nodes[base + COST] = newCost;
+          nodes[base + PARENT] = current;
+          nodes[base + DIAGONALS] = newDiagonals;
+          heapKey[pos] = key(newCost, heuristic(mx, my, tx, ty,
+              targetDistance), newDiagonals, mode);
+          siftUp(pos);
+        } else {
+          nodes[base + STAMP] = generation;
+          nodes[base + COST] = newCost;
+          nodes[base + PARENT] = current;
+          nodes[base + DIAGONALS] = newDiagonals;
+          push(index, key(newCost, heuristic(mx, my, tx, ty,
+              targetDistance), newDiagonals, mode));
+        }
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Build route from latest search. Route is in reverse order,
+   * first element is the target point and last element is the first move.
+   * Start point is not included.
+   * @param target Target node index returned by search
+   * @param maxX Map X size
+   * @param tx Target X coordinate
+   * @param ty Target Y coordinate
+   * @return List of path points
+   */
+  List<PathPoint> buildRoute(final int target, final int maxX,
+      final int tx, final int ty) {
+    List<PathPoint> route = new ArrayList<>();
+    int node = target;
+    while (node != -1 && nodes[node * NODE_SIZE + PARENT] != -1) {
+      int y = node / maxX;
+      int x = node - y * maxX;
+      int dx = x - tx;
+      int dy = y - ty;
+      route.add(new PathPoint(x, y, Math.sqrt(dx * dx + dy * dy)));
+      node = nodes[node * NODE_SIZE + PARENT];
+    }
+    return route;
+  }
+
+  /**
+   * Push node into heap.
+   * @param node Node index
+   * @param key Heap key
+   */
+  private void push(final int node, final int key) {
+    heap[heapSize] = node;
+    heapKey[heapSize] = key;
+    heapSize++;
+    siftUp(heapSize - 1);
+  }
+
+  /**
+   * Pop node with smallest key from heap. Popped node is marked as closed.
+   * @return Node index
+   */
+  private int pop() {
+    int node = heap[0];
+    nodes[node * NODE_SIZE + HEAP_POS] = CLOSED;
+    heapSize--;
+    if (heapSize > 0) {
+      heap[0] = heap[heapSize];
+      heapKey[0] = heapKey[heapSize];
+      siftDown(0);
+    }
+    return node;
+  }
+
+  /**
+   * Move heap element up until heap order is valid.
+   * @param position Heap position
+   */
+  private void siftUp(final int position) {
+    int pos = position;
+    int node = heap[pos];
+    int key = heapKey[pos];
+    while (pos > 0) {
+      int parentPos = (pos - 1) / 2;
+      if (heapKey[parentPos] <= key) {
+        break;
+      }
+      heap[pos] = heap[parentPos];
+      heapKey[pos] = heapKey[parentPos];
+      nodes[heap[pos] * NODE_SIZE + HEAP_POS] = pos;
+      pos = parentPos;
+    }
+    heap[pos] = node;
+    heapKey[pos] = key;
+    nodes[node * NODE_SIZE + HEAP_POS] = pos;
+  }
+
+  /**
+   * Move heap element down until heap order is valid.
+   * @param position Heap position
+   */
+  private void siftDown(final int position) {
+    int pos = position;
+    int node = heap[pos];
+    int key = heapKey[pos];
+    while (true) {
+      int child = pos * 2 + 1;
+      if (child >= heapSize) {
+        break;
+      }
+      if (child + 1 < heapSize && heapKey[child + 1] < heapKey[child]) {
+        child++;
+      }
+      if (heapKey[child] >= key) {
+        break;
+      }
+      heap[pos] = heap[child];
+      heapKey[pos] = heapKey[child];
+      nodes[heap[pos] * NODE_SIZE + HEAP_POS] = pos;
+      pos = child;
+    }
+    heap[pos] = node;
+    heapKey[pos] = key;
+    nodes[node * NODE_SIZE + HEAP_POS] = pos;
+  }
+}
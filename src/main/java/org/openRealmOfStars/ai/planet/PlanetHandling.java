@@ -23,6 +23,7 @@ import java.util.ArrayList;
 import org.openRealmOfStars.ai.mission.Mission;
 import org.openRealmOfStars.ai.mission.MissionPhase;
 import org.openRealmOfStars.ai.mission.MissionType;
+import org.openRealmOfStars.ai.mission.RealmPlan;
 import org.openRealmOfStars.player.AiDifficulty;
 import org.openRealmOfStars.player.PlayerInfo;
 import org.openRealmOfStars.player.WinningStrategy;
@@ -286,6 +287,58 @@ public final class PlanetHandling {
     }
   }
 
+  /**
+   * Does planet need new construction. Planet needs new construction
+   * if nothing is under construction or realm has construction message
+   * for the planet.
+   * @param planet Planet
+   * @param info Realm who owns the planet
+   * @return True if next construction should be chosen
+   */
+  public static boolean needsNewConstruction(final Planet planet,
+      final PlayerInfo info) {
+    if (planet.getUnderConstruction() == null) {
+      return true;
+    }
+    ArrayList<Message> messages = info.getMsgList().getFullList();
+    for (Message msg : messages) {
+      if (msg.getType().equals(MmType.CONSTRUCTION)
+          && msg.getMatchByString().equals(planet.getName())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Score constructions for planet. Scoring only reads planet, realm
+   * and star map, so it is also done when AI realm plans are made.
+   * @param constructions Constructions to score
+   * @param planet Planet
+   * @param info Realm who owns the planet
+   * @param map StarMap
+   * @param attitude AI's attitude
+   * @return Score for each construction
+   */
+  public static int[] scoreConstructions(final Construction[] constructions,
+      final Planet planet, final PlayerInfo info, final StarMap map,
+      final Attitude attitude) {
+    int fleetCap = map.getTotalFleetCapacity(info);
+    double fleetSize = info.getFleets().getTotalFleetCapacity();
+    boolean nearFleetLimit = false;
+    if (fleetSize + 1 > fleetCap) {
+      nearFleetLimit = true;
+    }
+    if (info.getAiDifficulty() == AiDifficulty.CHALLENGING) {
+      return ChallengingScoring.scoreConstructions(constructions,
+          planet, info, map,
+          attitude, nearFleetLimit);
+    }
+    return DefaultScoring.scoreConstructions(constructions, planet, info,
+        map,
+        attitude, nearFleetLimit);
+  }
+
   /**
    * AI player handling for a single planet, what to build
    * and how to set population work
@@ -345,15 +398,7 @@ public final class PlanetHandling {
         // Set Planet text higher just for get new ruler
         planet.setTax(planet.getTax() + 1, false);
       }
-      ArrayList<Message> messages = info.getMsgList().getFullList();
-      boolean changeConstruction = false;
-      for (Message msg : messages) {
-        if (msg.getType().equals(MmType.CONSTRUCTION)
-            && msg.getMatchByString().equals(planet.getName())) {
-          changeConstruction = true;
-        }
-      }
-      if (changeConstruction || planet.getUnderConstruction() == null) {
+      if (needsNewConstruction(planet, info)) {
         chooseNextConstruction(map, planet, index, attitude);
       } else {
         // Let's check rushing
@@ -486,21 +531,15 @@ public final class PlanetHandling {
       final Planet planet, final PlayerInfo info, final StarMap map,
       final Attitude attitude) {
     boolean constructionSelected = false;
-    int fleetCap = map.getTotalFleetCapacity(info);
-    double fleetSize = info.getFleets().getTotalFleetCapacity();
-    boolean nearFleetLimit = false;
-    if (fleetSize + 1 > fleetCap) {
-      nearFleetLimit = true;
-    }
     int[] scores = null;
-    if (info.getAiDifficulty() == AiDifficulty.CHALLENGING) {
-      scores = ChallengingScoring.scoreConstructions(constructions,
-          planet, info, map,
-          attitude, nearFleetLimit);
-    } else {
-      scores = DefaultScoring.scoreConstructions(constructions, planet, info,
-          map,
-          attitude, nearFleetLimit);
+    RealmPlan plan = map.getRealmPlan(info);
+    if (plan != null) {
+      // Scores made concurrently at the beginning of AI turn
+      scores = plan.getConstructionScores(planet, constructions, attitude);
+    }
+    if (scores == null) {
+      scores = scoreConstructions(constructions, planet, info, map,
+          attitude);
     }
     int highest = -1;
     int value = -1;
@@ -0,0 +1,129 @@
+package org.openRealmOfStars.game;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.openRealmOfStars.gui.graphs.BridgeGraphFactory;
+import org.openRealmOfStars.player.diplomacy.speeches.SpeechFactory;
+import org.openRealmOfStars.player.government.GovernmentFactory;
+import org.openRealmOfStars.player.government.trait.GovTraitFactory;
+import org.openRealmOfStars.player.race.SpaceRaceFactory;
+import org.openRealmOfStars.player.race.trait.TraitFactory;
+import org.openRealmOfStars.player.scenario.StartingScenarioFactory;
+import org.openRealmOfStars.player.ship.ShipComponentFactory;
+import org.openRealmOfStars.player.ship.ShipHullFactory;
+import org.openRealmOfStars.player.ship.ShipImageFactor;
+import org.openRealmOfStars.starMap.planet.construction.BuildingFactory;
+import org.openRealmOfStars.starMap.planet.status.StatusFactory;
+import org.openRealmOfStars.utilities.ErrorLogger;
+import org.openRealmOfStars.utilities.FileIo.DataLoader;
+
+/**
+ *
+ * Data registry loads all JSON data factories at startup. Factories
+ * are loaded in parallel, so that first access to them during the game
+ * does not need to load anything. Factories which depend on each other
+ * wait for each other since factory loading is synchronized.
+ *
+ */
+public final class DataRegistry {
+
+  /**
+   * Factory initializers.
+   */
+  private static final Runnable[] FACTORIES = {
+      TraitFactory::initialize, GovTraitFactory::initialize,
+      SpaceRaceFactory::initialize, GovernmentFactory::initialize,
+      BuildingFactory::initialize, ShipComponentFactory::initialize,
+      ShipHullFactory::initialize, ShipImageFactor::initialize,
+      BridgeGraphFactory::initialize, SpeechFactory::initialize,
+      StatusFactory::initialize, StartingScenarioFactory::initialize };
+
+  /**
+   * Hiding constructor.
+   */
+  private DataRegistry() {
+    // Nothing to do
+  }
+
+  /**
+   * Get number of factories in registry.
+   * @return Number of factories
+   */
+  public static int getNumberOfFactories() {
+    return FACTORIES.length;
+  }
+
+  /**
+   * Create thread for loading data.
+   * @param task Task to run
+   * @return Daemon thread
+   */
+  private static Thread newLoaderThread(final Runnable task) {
+    Thread thread = new Thread(task, "Data loader");
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  /**
+   * Load all data factories in parallel and wait until they are
+   * loaded.
+   * @return True if all data files were loaded without errors
+   */
+  public static boolean loadAll() {
+    long start = System.currentTimeMillis();
+    int failedBefore = DataLoader.getNumberOfFailedFiles();
+    int threads = Math.max(1, Math.min(FACTORIES.length,
+        Runtime.getRuntime().availableProcessors()));
+    ExecutorService executor = Executors.newFixedThreadPool(threads,
+        DataRegistry::newLoaderThread);
+    boolean result = true;
+    try {
+      ArrayList<Future<?>> futures = new ArrayList<>();
+      for (Runnable factory : FACTORIES) {
+        futures.add(executor.submit(factory));
+      }
+      for (Future<?> future : futures) {
+        try {
+          future.get();
+        } catch (ExecutionException e) {
+          ErrorLogger.log("Loading data failed: " + e.getCause());
+          result = false;
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return false;
+        }
+      }
+    } finally {
+      executor.shutdown();
+    }
+    int failed = DataLoader.getNumberOfFailedFiles() - failedBefore;
+    if (failed > 0) {
+      ErrorLogger.log("Data files failed to load: " + failed);
+      result = false;
+    }
+    ErrorLogger.log("Data registry loaded in "
+        + (System.currentTimeMillis() - start) + " ms.");
+    return result;
+  }
+}
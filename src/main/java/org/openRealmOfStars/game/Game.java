@@ -1,7 +1,7 @@
 package org.openRealmOfStars.game;
 /*
  * Open Realm of Stars game project
- * Copyright (C) 2016-2025 Tuomo Untinen, Richard Smit
+ * Copyright (C) 2016-2026 Tuomo Untinen, Richard Smit
  * Copyright (C) 2017 God Beom
  *
  * This program is free software; you can redistribute it and/or
@@ -50,6 +50,8 @@ import org.openRealmOfStars.audio.music.MusicPlayer;
 import org.openRealmOfStars.audio.soundeffect.SoundPlayer;
 import org.openRealmOfStars.game.config.ConfigFile;
 import org.openRealmOfStars.game.config.ConfigLine;
+import org.openRealmOfStars.game.simulation.TurnPhaseTimer;
+import org.openRealmOfStars.game.simulation.TurnSimulator;
 import org.openRealmOfStars.game.state.AITurnView;
 import org.openRealmOfStars.game.state.AiRealmSetupView;
 import org.openRealmOfStars.game.state.AmbientLightView;
@@ -100,6 +102,7 @@ import org.openRealmOfStars.gui.util.UIScale;
 import org.openRealmOfStars.mapTiles.FleetTileInfo;
 import org.openRealmOfStars.mapTiles.Tile;
 import org.openRealmOfStars.mapTiles.TileNames;
+import org.openRealmOfStars.mapTiles.Tiles;
 import org.openRealmOfStars.mapTiles.anomaly.AnomalyType;
 import org.openRealmOfStars.mapTiles.anomaly.SpaceAnomaly;
 import org.openRealmOfStars.player.PlayerInfo;
@@ -165,6 +168,7 @@ import org.openRealmOfStars.starMap.vote.Vote;
 import org.openRealmOfStars.starMap.vote.VotingType;
 import org.openRealmOfStars.utilities.DiceGenerator;
 import org.openRealmOfStars.utilities.ErrorLogger;
+import org.openRealmOfStars.utilities.FileIo.DataLoader;
 import org.openRealmOfStars.utilities.FileIo.Folders;
 import org.openRealmOfStars.utilities.FileIo.GenericFileFilter;
 import org.openRealmOfStars.utilities.repository.ConfigFileRepository;
@@ -588,6 +592,7 @@ public class Game implements ActionListener {
       MusicPlayer.setVolume(musicVolume);
       SoundPlayer.setSoundVolume(soundVolume);
       musicTimer.start();
+      NewsCorpView.seedNewsImageSize(this);
       initBridge();
     }
     changeGameState(GameState.MAIN_MENU);
@@ -1016,7 +1021,6 @@ public class Game implements ActionListener {
             && starMapView != null) {
           starMapView.setShowFleet(fleet);
         }
-        starMap.clearFleetTiles();
         fleet.decMovesLeft();
         getStarMap().doFleetScanUpdate(info, fleet, null);
         Tile tile = getStarMap().getTile(fleet.getX(), fleet.getY());
@@ -1025,7 +1029,6 @@ public class Game implements ActionListener {
           Coordinate coord = getStarMap().getFreeWormHole(
               fleet.getCoordinate());
           fleet.setPos(coord);
-          starMap.clearFleetTiles();
           getStarMap().doFleetScanUpdate(info, fleet, null);
           if (fleet.getCommander() != null) {
             fleet.getCommander().addExperience(2);
@@ -2730,6 +2733,42 @@ public class Game implements ActionListener {
     }
   }
 
+  /**
+   * Simulate game with only AI realms without game window and print
+   * turn and phase times. Arguments after --simulate are number of turns,
+   * number of realms, galaxy size index and CSV file for turn profiles.
+   * All of them are optional.
+   * @param args from Command line
+   */
+  public static void simulateGame(final String[] args) {
+    int turns = 200;
+    int players = 8;
+    int galaxySize = 2;
+    try {
+      if (args.length > 1) {
+        turns = Integer.parseInt(args[1]);
+      }
+      if (args.length > 2) {
+        players = Integer.parseInt(args[2]);
+      }
+      if (args.length > 3) {
+        galaxySize = Integer.parseInt(args[3]);
+      }
+    } catch (NumberFormatException e) {
+      System.out.println("Usage: --simulate [turns] [realms] [galaxy size]"
+          + " [profile csv]");
+      return;
+    }
+    if (args.length > 4) {
+      TurnPhaseTimer.setCsvFile(new File(args[4]));
+    }
+    DataRegistry.loadAll();
+    TurnSimulator simulator = new TurnSimulator(
+        TurnSimulator.createConfig(players, galaxySize, turns), turns);
+    simulator.run(System.out);
+    System.out.print(simulator.getReport());
+  }
+
   /**
    * Main method to run the game
    * @param args from Command line
@@ -2751,6 +2790,10 @@ public class Game implements ActionListener {
       System.out.println(printGovTraitWiki());
     } else if (args.length > 0 && args[0].equals("--save-update")) {
       saveGameUpdate();
+    } else if (args.length > 0 && args[0].equals("--simulate")) {
+      MusicPlayer.setMusicEnabled(false);
+      SoundPlayer.setSoundEnabled(false);
+      simulateGame(args);
     } else if (args.length > 1 && args[0].equals("--text")) {
       System.out.println("Disabling the music...");
       MusicPlayer.setMusicEnabled(false);
@@ -2779,6 +2822,14 @@ public class Game implements ActionListener {
         ErrorLogger.log(error);
         return;
       }
+      if (args.length > 0 && args[0].equals("--debug")) {
+        TurnPhaseTimer.setEnabled(true);
+        TurnPhaseTimer.setCsvFile(new File(Folders.getTurnProfilePath()));
+      }
+      DataLoader.setCacheFolder(new File(Folders.getDataCachePath()));
+      Tiles.setAtlasCacheFolder(new File(Folders.getTileCachePath()));
+      Tiles.prepareAtlases();
+      DataRegistry.loadAll();
       mainMethodCalled = true;
       new Game(true);
     }
@@ -3619,6 +3670,7 @@ public class Game implements ActionListener {
             // Nothing to do
           }
         }
+        GameRepository.waitForBackgroundSaves();
         System.exit(0);
       }
     }
@@ -3689,8 +3741,8 @@ public class Game implements ActionListener {
       if (arg0.getActionCommand()
           .equalsIgnoreCase(GameCommands.COMMAND_END_TURN)) {
         SoundPlayer.playMenuSound();
-        new GameRepository()
-        .saveGame(Folders.getSavegamePath(), "autosave.save", starMap);
+        new GameRepository().saveGameInBackground(Folders.getSavegamePath(),
+            "autosave.save", starMap);
         if (needForHumanVotingSelection()) {
           changeGameState(GameState.VOTING_SELECTION_VIEW);
         } else {
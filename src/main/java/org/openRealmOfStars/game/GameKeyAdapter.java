@@ -1,7 +1,7 @@
 package org.openRealmOfStars.game;
 /*
  * Open Realm of Stars game project
- * Copyright (C) 2016-2023 Tuomo Untinen
+ * Copyright (C) 2016-2026 Tuomo Untinen
  *
  * This program is free software; you can redistribute it and/or
  * modify it under the terms of the GNU General Public License
@@ -142,8 +142,8 @@ public class GameKeyAdapter implements KeyEventDispatcher {
             && !game.getSaveGameFile().equals("autosave.save")) {
           saveFilename = game.getSaveGameFile();
         }
-        new GameRepository().saveGame(Folders.getSavegamePath(),
-                                      saveFilename, game.getStarMap());
+        new GameRepository().saveGameInBackground(
+            Folders.getSavegamePath(), saveFilename, game.getStarMap());
         game.changeGameState(GameState.MAIN_MENU);
         return true;
       }
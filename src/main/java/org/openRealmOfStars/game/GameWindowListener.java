@@ -1,7 +1,7 @@
 package org.openRealmOfStars.game;
 /*
  * Open Realm of Stars game project
- * Copyright (C) 2016-2020 Tuomo Untinen
+ * Copyright (C) 2016-2026 Tuomo Untinen
  *
  * This program is free software; you can redistribute it and/or
  * modify it under the terms of the GNU General Public License
@@ -21,6 +21,7 @@ import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 
 import org.openRealmOfStars.ambient.BridgeCommandType;
+import org.openRealmOfStars.utilities.repository.GameRepository;
 
 /**
  *
@@ -49,6 +50,7 @@ public class GameWindowListener extends WindowAdapter {
         // Nothing to do
       }
     }
+    GameRepository.waitForBackgroundSaves();
     System.exit(0);
   }
 
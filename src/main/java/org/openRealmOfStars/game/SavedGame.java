@@ -1,7 +1,7 @@
 package org.openRealmOfStars.game;
 /*
  * Open Realm of Stars game project
- * Copyright (C) 2016-2023 Tuomo Untinen
+ * Copyright (C) 2016-2026 Tuomo Untinen
  *
  * This program is free software; you can redistribute it and/or
  * modify it under the terms of the GNU General Public License
@@ -17,14 +17,19 @@ package org.openRealmOfStars.game;
  * along with this program; if not, see http://www.gnu.org/licenses/
  */
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.text.SimpleDateFormat;
 
+import org.openRealmOfStars.player.PlayerInfo;
 import org.openRealmOfStars.player.race.SpaceRace;
+import org.openRealmOfStars.player.race.SpaceRaceFactory;
 import org.openRealmOfStars.starMap.StarMap;
+import org.openRealmOfStars.utilities.FileIo.IOUtilities;
 import org.openRealmOfStars.utilities.repository.GameRepository;
 
 /**
@@ -87,12 +92,25 @@ public class SavedGame implements Comparable<SavedGame> {
     SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm");
     creationTimeMillis = attr.creationTime().toMillis();
     creationTime = dateFormat.format(creationTimeMillis);
-    StarMap starMap = new GameRepository().loadGame(folderName, filename);
+    this.filename = filename;
+    GameRepository repository = new GameRepository();
+    DataInputStream dis = repository.loadSummary(folderName, filename);
+    if (dis != null) {
+      starYear = dis.readInt();
+      realms = dis.readInt();
+      int maxX = dis.readInt();
+      int maxY = dis.readInt();
+      galaxySize = maxX + " X " + maxY;
+      playerRace = SpaceRaceFactory.createOne(IOUtilities.readString(dis));
+      empireName = IOUtilities.readString(dis);
+      return;
+    }
+    // Old saves do not have summary so whole game needs to be read.
+    StarMap starMap = repository.loadGame(folderName, filename);
     if (starMap == null) {
       throw new IOException("Error while reading the saved game: "
           + folderName + "/" + filename);
     }
-    this.filename = filename;
     starYear = starMap.getTurn() + starMap.getStartStarYear();
     realms = starMap.getPlayerList().getCurrentMaxRealms();
     galaxySize = starMap.getMaxX() + " X " + starMap.getMaxY();
@@ -101,6 +119,24 @@ public class SavedGame implements Comparable<SavedGame> {
         .getEmpireName();
   }
 
+  /**
+   * Write save summary. Summary contains information shown in
+   * saved games list.
+   * @param dos DataOutputStream
+   * @param starMap StarMap to save
+   * @throws IOException if writing fails
+   */
+  public static void writeSummary(final DataOutputStream dos,
+      final StarMap starMap) throws IOException {
+    dos.writeInt(starMap.getTurn() + starMap.getStartStarYear());
+    dos.writeInt(starMap.getPlayerList().getCurrentMaxRealms());
+    dos.writeInt(starMap.getMaxX());
+    dos.writeInt(starMap.getMaxY());
+    PlayerInfo info = starMap.getPlayerList().getPlayerInfoByIndex(0);
+    IOUtilities.writeString(dos, info.getRace().getId());
+    IOUtilities.writeString(dos, info.getEmpireName());
+  }
+
   /**
    * Get first player's space race.
    * @return Space race
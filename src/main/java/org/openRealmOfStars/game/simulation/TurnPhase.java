@@ -0,0 +1,66 @@
+package org.openRealmOfStars.game.simulation;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+/**
+ *
+ * Phases of AI turn which are timed separately.
+ *
+ */
+public enum TurnPhase {
+  /**
+   * Research handling and ship designs.
+   */
+  RESEARCH,
+  /**
+   * Planet handling and planet updates at end of turn.
+   */
+  PLANETS,
+  /**
+   * AI fleet moves and missions.
+   */
+  FLEETS,
+  /**
+   * Fast combat between AI realms.
+   */
+  COMBAT,
+  /**
+   * News and statistics published at end of turn.
+   */
+  NEWS,
+  /**
+   * Mission planning for all AI realms at start of AI turn.
+   */
+  MISSION_PLANNING,
+  /**
+   * Searching fleets which have crossed the borders.
+   */
+  BORDER_CROSSING,
+  /**
+   * Searching fleets to intercept and to destroy.
+   */
+  INTERCEPT,
+  /**
+   * Diplomatic delegacies and faking military size.
+   */
+  DIPLOMACY,
+  /**
+   * Rest of updating star map for next turn.
+   */
+  END_OF_TURN;
+}
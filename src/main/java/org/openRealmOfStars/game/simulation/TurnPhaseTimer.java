@@ -0,0 +1,451 @@
+package org.openRealmOfStars.game.simulation;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+
+import org.openRealmOfStars.starMap.StarMap;
+import org.openRealmOfStars.utilities.ErrorLogger;
+
+/**
+ *
+ * Timer for AI turn phases. Timing is disabled by default and then
+ * entering and exiting phases does nothing. Phases can be nested, time
+ * is counted only for innermost phase. So combat happening during fleet
+ * moves is counted only as combat. Timer is meant to be used from
+ * single thread which is handling the AI turn. That thread is the first
+ * one entering a phase or setting the realm after enabling timer, calls
+ * from other threads are ignored.
+ *
+ * Time and allocated bytes are also counted per realm for each turn.
+ * At end of turn these are collected into TurnProfile which is written
+ * into debug log and optionally into CSV file.
+ *
+ */
+public final class TurnPhaseTimer {
+
+  /**
+   * Realm index for work which is not done for any single realm.
+   */
+  public static final int NO_REALM = -1;
+
+  /**
+   * Maximum depth for nested phases.
+   */
+  private static final int MAX_DEPTH = 8;
+
+  /**
+   * Maximum number of realms. Playing realms plus pirate and monster
+   * realm which comes after them. Work for realms above this is counted
+   * as NO_REALM.
+   */
+  private static final int MAX_REALMS = StarMap.MAX_PLAYERS + 1;
+
+  /**
+   * Thread bean from standard management API.
+   */
+  private static final ThreadMXBean THREAD_BEAN =
+      ManagementFactory.getThreadMXBean();
+
+  /**
+   * Is counting allocated bytes supported.
+   */
+  private static final boolean ALLOCATION_SUPPORTED =
+      findAllocationSupport();
+
+  /**
+   * Is timing enabled.
+   */
+  private static volatile boolean enabled = false;
+
+  /**
+   * Total time for each phase in nanoseconds.
+   */
+  private static long[] totals = new long[TurnPhase.values().length];
+
+  /**
+   * Time for each realm and phase in current turn in nanoseconds.
+   * First index is realm index + 1.
+   */
+  private static long[][] turnTimes = createRealmTable();
+
+  /**
+   * Allocated bytes for each realm and phase in current turn.
+   * First index is realm index + 1.
+   */
+  private static long[][] turnAllocations = createRealmTable();
+
+  /**
+   * Stack of entered phases.
+   */
+  private static TurnPhase[] stack = new TurnPhase[MAX_DEPTH];
+
+  /**
+   * Number of phases in stack.
+   */
+  private static int depth = 0;
+
+  /**
+   * Number of entered phases which did not fit in stack.
+   */
+  private static int overflow = 0;
+
+  /**
+   * Time when innermost phase was entered or continued.
+   */
+  private static long startTime = 0;
+
+  /**
+   * Allocated bytes when innermost phase was entered or continued.
+   */
+  private static long startAllocated = 0;
+
+  /**
+   * Realm whose work is being timed.
+   */
+  private static int realm = NO_REALM;
+
+  /**
+   * Thread whose phases are timed. Null until first phase is entered.
+   */
+  private static Thread owner = null;
+
+  /**
+   * Time when current turn was started. Zero if turn has not started.
+   */
+  private static long turnStart = 0;
+
+  /**
+   * Profile of last ended turn.
+   */
+  private static volatile TurnProfile lastProfile = null;
+
+  /**
+   * CSV file where turn profiles are appended. Null if not written.
+   */
+  private static File csvFile = null;
+
+  /**
+   * Hidden constructor.
+   */
+  private TurnPhaseTimer() {
+    // Nothing to do
+  }
+
+  /**
+   * Allocation counting with JDK specific thread bean. This is loaded
+   * only when checking support, so timer works with standard
+   * management API when com.sun.management is not available.
+   */
+  private static final class AllocationCounter {
+
+    /**
+     * Hidden constructor.
+     */
+    private AllocationCounter() {
+      // Nothing to do
+    }
+
+    /**
+     * Can thread bean count allocated bytes.
+     * @param bean Thread bean
+     * @return True if allocated bytes can be counted
+     */
+    static boolean isSupported(final ThreadMXBean bean) {
+      if (bean instanceof com.sun.management.ThreadMXBean) {
+        com.sun.management.ThreadMXBean sunBean =
+            (com.sun.management.ThreadMXBean) bean;
+        return sunBean.isThreadAllocatedMemorySupported()
+            && sunBean.isThreadAllocatedMemoryEnabled();
+      }
+      return false;
+    }
+
+    /**
+     * Get bytes allocated by thread.
+     * @param bean Thread bean which supports counting
+     * @param threadId Thread id
+     * @return Allocated bytes
+     */
+    static long getAllocatedBytes(final ThreadMXBean bean,
+        final long threadId) {
+      return ((com.sun.management.ThreadMXBean) bean)
+          .getThreadAllocatedBytes(threadId);
+    }
+  }
+
+  /**
+   * Check if allocated bytes can be counted. Falls back to timing only
+   * when JDK specific thread bean is missing.
+   * @return True if supported
+   */
+  private static boolean findAllocationSupport() {
+    try {
+      return AllocationCounter.isSupported(THREAD_BEAN);
+    } catch (LinkageError e) {
+      ErrorLogger.debug("Allocated bytes are not counted: "
+          + e.getMessage());
+      return false;
+    }
+  }
+
+  /**
+   * Create empty table for realms and phases.
+   * @return Table where first index is realm index + 1
+   */
+  private static long[][] createRealmTable() {
+    return new long[MAX_REALMS + 1][TurnPhase.values().length];
+  }
+
+  /**
+   * Get bytes allocated by owner thread.
+   * @return Allocated bytes or zero if not supported
+   */
+  private static long getAllocatedBytes() {
+    if (!ALLOCATION_SUPPORTED) {
+      return 0;
+    }
+    return AllocationCounter.getAllocatedBytes(THREAD_BEAN, owner.getId());
+  }
+
+  /**
+   * Is call made from thread whose phases are timed. First thread
+   * calling this becomes the timed thread.
+   * @return True if calling thread is timed
+   */
+  private static boolean isOwner() {
+    if (owner == null) {
+      owner = Thread.currentThread();
+      return true;
+    }
+    return owner == Thread.currentThread();
+  }
+
+  /**
+   * Is phase timing enabled.
+   * @return True if enabled
+   */
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Enable or disable phase timing. Phase times are reset.
+   * @param enable True to enable timing
+   */
+  public static void setEnabled(final boolean enable) {
+    enabled = enable;
+    reset();
+  }
+
+  /**
+   * Set CSV file where profile of each turn is appended. Header line is
+   * written if file is empty.
+   * @param file CSV file or null to stop writing
+   */
+  public static void setCsvFile(final File file) {
+    csvFile = file;
+  }
+
+  /**
+   * Reset all phase times.
+   */
+  public static void reset() {
+    totals = new long[TurnPhase.values().length];
+    turnTimes = createRealmTable();
+    turnAllocations = createRealmTable();
+    depth = 0;
+    overflow = 0;
+    realm = NO_REALM;
+    owner = null;
+    turnStart = 0;
+    lastProfile = null;
+  }
+
+  /**
+   * Add time and allocated bytes since last update into phase.
+   * @param phase Turn phase
+   * @param now Current time in nanoseconds
+   * @param allocated Current allocated bytes
+   */
+  private static void count(final TurnPhase phase, final long now,
+      final long allocated) {
+    totals[phase.ordinal()] += now - startTime;
+    turnTimes[realm + 1][phase.ordinal()] += now - startTime;
+    turnAllocations[realm + 1][phase.ordinal()] += allocated
+        - startAllocated;
+  }
+
+  /**
+   * Set realm whose work is being timed. Time of current phase so far
+   * is counted for previous realm.
+   * @param index Realm index or NO_REALM
+   */
+  public static void setRealm(final int index) {
+    if (!enabled || !isOwner()) {
+      return;
+    }
+    int newRealm = NO_REALM;
+    if (index >= 0 && index < MAX_REALMS) {
+      newRealm = index;
+    }
+    if (newRealm == realm) {
+      return;
+    }
+    if (depth > 0) {
+      long now = System.nanoTime();
+      long allocated = getAllocatedBytes();
+      count(stack[depth - 1], now, allocated);
+      startTime = now;
+      startAllocated = allocated;
+    }
+    realm = newRealm;
+  }
+
+  /**
+   * Enter phase. Time of previous phase is paused until
+   * this phase is exited.
+   * @param phase Phase to enter
+   */
+  public static void enter(final TurnPhase phase) {
+    if (!enabled || !isOwner()) {
+      return;
+    }
+    if (depth == MAX_DEPTH) {
+      overflow++;
+      return;
+    }
+    long now = System.nanoTime();
+    long allocated = getAllocatedBytes();
+    if (turnStart == 0) {
+      turnStart = now;
+    }
+    if (depth > 0) {
+      count(stack[depth - 1], now, allocated);
+    }
+    stack[depth] = phase;
+    depth++;
+    startTime = now;
+    startAllocated = allocated;
+  }
+
+  /**
+   * Exit latest entered phase.
+   */
+  public static void exit() {
+    if (!enabled || depth == 0 || !isOwner()) {
+      return;
+    }
+    if (overflow > 0) {
+      overflow--;
+      return;
+    }
+    long now = System.nanoTime();
+    long allocated = getAllocatedBytes();
+    depth--;
+    count(stack[depth], now, allocated);
+    startTime = now;
+    startAllocated = allocated;
+  }
+
+  /**
+   * End turn. Times and allocations counted since previous end of turn
+   * are collected into turn profile. Profile summary is written into
+   * debug log and profile is appended into CSV file if one is set.
+   * @param turn Turn number which ended
+   * @return Turn profile or null if timing is not enabled
+   */
+  public static TurnProfile endTurn(final int turn) {
+    if (!enabled || !isOwner()) {
+      return null;
+    }
+    long now = System.nanoTime();
+    if (depth > 0) {
+      long allocated = getAllocatedBytes();
+      count(stack[depth - 1], now, allocated);
+      startTime = now;
+      startAllocated = allocated;
+    }
+    long elapsed = 0;
+    if (turnStart != 0) {
+      elapsed = now - turnStart;
+    }
+    TurnProfile profile = new TurnProfile(turn, elapsed, turnTimes,
+        turnAllocations);
+    turnTimes = createRealmTable();
+    turnAllocations = createRealmTable();
+    turnStart = 0;
+    realm = NO_REALM;
+    lastProfile = profile;
+    ErrorLogger.debug(profile.getSummary());
+    if (csvFile != null) {
+      writeCsv(profile);
+    }
+    return profile;
+  }
+
+  /**
+   * Append turn profile into CSV file.
+   * @param profile Turn profile
+   */
+  private static void writeCsv(final TurnProfile profile) {
+    boolean header = !csvFile.exists() || csvFile.length() == 0;
+    try (PrintWriter writer = new PrintWriter(new OutputStreamWriter(
+        new FileOutputStream(csvFile, true), StandardCharsets.UTF_8))) {
+      if (header) {
+        writer.println(TurnProfile.CSV_HEADER);
+      }
+      writer.print(profile.getCsvLines());
+    } catch (IOException e) {
+      ErrorLogger.log("Failed to write turn profile: " + e.getMessage());
+      csvFile = null;
+    }
+  }
+
+  /**
+   * Get profile of last ended turn.
+   * @return Turn profile or null if no turn has ended while enabled
+   */
+  public static TurnProfile getLastProfile() {
+    return lastProfile;
+  }
+
+  /**
+   * Get total time spent in phase.
+   * @param phase Turn phase
+   * @return Time in nanoseconds
+   */
+  public static long getTime(final TurnPhase phase) {
+    return totals[phase.ordinal()];
+  }
+
+  /**
+   * Is counting allocated bytes supported.
+   * @return True if allocated bytes are counted
+   */
+  public static boolean isAllocationCounted() {
+    return ALLOCATION_SUPPORTED;
+  }
+}
@@ -0,0 +1,269 @@
+package org.openRealmOfStars.game.simulation;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import java.util.Locale;
+
+/**
+ *
+ * Phase times and allocated bytes for single AI turn. Values are kept
+ * per realm and per phase. Work which is not done for any single realm,
+ * like updating the star map for next turn, is kept under
+ * TurnPhaseTimer.NO_REALM.
+ *
+ */
+public final class TurnProfile {
+
+  /**
+   * Nanoseconds in millisecond.
+   */
+  private static final double NANOS_IN_MILLI = 1000000.0;
+
+  /**
+   * Bytes in kilobyte.
+   */
+  private static final long BYTES_IN_KILO = 1024;
+
+  /**
+   * CSV header line matching lines from getCsvLines().
+   */
+  public static final String CSV_HEADER =
+      "turn,realm,phase,time_ns,allocated_bytes";
+
+  /**
+   * Turn number.
+   */
+  private final int turn;
+
+  /**
+   * Time from start of turn handling to end of turn in nanoseconds.
+   */
+  private final long elapsed;
+
+  /**
+   * Phase times in nanoseconds. First index is realm index + 1.
+   */
+  private final long[][] times;
+
+  /**
+   * Allocated bytes. First index is realm index + 1.
+   */
+  private final long[][] allocations;
+
+  /**
+   * Create turn profile. Arrays are used as is.
+   * @param turn Turn number
+   * @param elapsed Time from start of turn handling to end in nanoseconds
+   * @param times Phase times, first index is realm index + 1
+   * @param allocations Allocated bytes, first index is realm index + 1
+   */
+  public TurnProfile(final int turn, final long elapsed,
+      final long[][] times, final long[][] allocations) {
+    this.turn = turn;
+    this.elapsed = elapsed;
+    this.times = times;
+    this.allocations = allocations;
+  }
+
+  /**
+   * Get turn number.
+   * @return Turn number
+   */
+  public int getTurn() {
+    return turn;
+  }
+
+  /**
+   * Get time from start of turn handling to end of turn.
+   * @return Time in nanoseconds
+   */
+  public long getElapsed() {
+    return elapsed;
+  }
+
+  /**
+   * Get number of realms in profile.
+   * @return Number of realms
+   */
+  public int getNumberOfRealms() {
+    return times.length - 1;
+  }
+
+  /**
+   * Get phase time for single realm.
+   * @param realm Realm index or TurnPhaseTimer.NO_REALM
+   * @param phase Turn phase
+   * @return Time in nanoseconds
+   */
+  public long getTime(final int realm, final TurnPhase phase) {
+    if (realm + 1 < 0 || realm + 1 >= times.length) {
+      return 0;
+    }
+    return times[realm + 1][phase.ordinal()];
+  }
+
+  /**
+   * Get phase time for all realms.
+   * @param phase Turn phase
+   * @return Time in nanoseconds
+   */
+  public long getTime(final TurnPhase phase) {
+    long total = 0;
+    for (int i = 0; i < times.length; i++) {
+      total = total + times[i][phase.ordinal()];
+    }
+    return total;
+  }
+
+  /**
+   * Get all phase times for single realm.
+   * @param realm Realm index or TurnPhaseTimer.NO_REALM
+   * @return Time in nanoseconds
+   */
+  public long getRealmTime(final int realm) {
+    long total = 0;
+    for (TurnPhase phase : TurnPhase.values()) {
+      total = total + getTime(realm, phase);
+    }
+    return total;
+  }
+
+  /**
+   * Get allocated bytes for single realm and phase.
+   * @param realm Realm index or TurnPhaseTimer.NO_REALM
+   * @param phase Turn phase
+   * @return Allocated bytes
+   */
+  public long getAllocated(final int realm, final TurnPhase phase) {
+    if (realm + 1 < 0 || realm + 1 >= allocations.length) {
+      return 0;
+    }
+    return allocations[realm + 1][phase.ordinal()];
+  }
+
+  /**
+   * Get allocated bytes for phase for all realms.
+   * @param phase Turn phase
+   * @return Allocated bytes
+   */
+  public long getAllocated(final TurnPhase phase) {
+    long total = 0;
+    for (int i = 0; i < allocations.length; i++) {
+      total = total + allocations[i][phase.ordinal()];
+    }
+    return total;
+  }
+
+  /**
+   * Get phase which took most time.
+   * @return Turn phase
+   */
+  public TurnPhase getSlowestPhase() {
+    TurnPhase slowest = TurnPhase.values()[0];
+    for (TurnPhase phase : TurnPhase.values()) {
+      if (getTime(phase) > getTime(slowest)) {
+        slowest = phase;
+      }
+    }
+    return slowest;
+  }
+
+  /**
+   * Get realm which took most time.
+   * @return Realm index or TurnPhaseTimer.NO_REALM if no time is
+   *         counted for any realm.
+   */
+  public int getSlowestRealm() {
+    int slowest = TurnPhaseTimer.NO_REALM;
+    long slowestTime = 0;
+    for (int i = 0; i < getNumberOfRealms(); i++) {
+      long time = getRealmTime(i);
+      if (time > slowestTime) {
+        slowest = i;
+        slowestTime = time;
+      }
+    }
+    return slowest;
+  }
+
+  /**
+   * Get short summary of turn in single line.
+   * @return Summary
+   */
+  public String getSummary() {
+    StringBuilder sb = new StringBuilder();
+    sb.append(String.format(Locale.ENGLISH, "Turn %d: %.1f ms", turn,
+        elapsed / NANOS_IN_MILLI));
+    TurnPhase phase = getSlowestPhase();
+    sb.append(String.format(Locale.ENGLISH, ", slowest phase %s %.1f ms",
+        phase.name(), getTime(phase) / NANOS_IN_MILLI));
+    int realm = getSlowestRealm();
+    if (realm != TurnPhaseTimer.NO_REALM) {
+      sb.append(String.format(Locale.ENGLISH, ", slowest realm %d %.1f ms",
+          realm, getRealmTime(realm) / NANOS_IN_MILLI));
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Get report of turn with time and allocations of each phase.
+   * @return Report as a text
+   */
+  public String getReport() {
+    StringBuilder sb = new StringBuilder();
+    sb.append(getSummary());
+    sb.append("\n");
+    for (TurnPhase phase : TurnPhase.values()) {
+      long time = getTime(phase);
+      if (time == 0) {
+        continue;
+      }
+      sb.append(String.format(Locale.ENGLISH, "%-17s %10.1f ms %10d KiB\n",
+          phase.name(), time / NANOS_IN_MILLI,
+          getAllocated(phase) / BYTES_IN_KILO));
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Get CSV lines for each realm and phase which has time counted.
+   * Lines are in format of CSV_HEADER and end with new line.
+   * @return CSV lines
+   */
+  public String getCsvLines() {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < times.length; i++) {
+      for (TurnPhase phase : TurnPhase.values()) {
+        if (times[i][phase.ordinal()] == 0) {
+          continue;
+        }
+        sb.append(turn);
+        sb.append(",");
+        sb.append(i - 1);
+        sb.append(",");
+        sb.append(phase.name());
+        sb.append(",");
+        sb.append(times[i][phase.ordinal()]);
+        sb.append(",");
+        sb.append(allocations[i][phase.ordinal()]);
+        sb.append("\n");
+      }
+    }
+    return sb.toString();
+  }
+}
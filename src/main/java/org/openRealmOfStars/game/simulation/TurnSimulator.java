@@ -0,0 +1,248 @@
+package org.openRealmOfStars.game.simulation;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Locale;
+
+import org.openRealmOfStars.game.Game;
+import org.openRealmOfStars.game.state.AITurnView;
+import org.openRealmOfStars.player.AiDifficulty;
+import org.openRealmOfStars.starMap.GalaxyConfig;
+
+/**
+ *
+ * Simulates game with only AI realms without game window. Wall time
+ * for each turn and time for each turn phase are measured. This is
+ * used for benchmarking AI turns.
+ *
+ */
+public final class TurnSimulator {
+
+  /**
+   * Galaxy sizes by galaxy size index. These are same as in galaxy
+   * creation view.
+   */
+  private static final int[] GALAXY_SIZES = {50, 75, 128, 160, 200, 256};
+
+  /**
+   * Nanoseconds in millisecond.
+   */
+  private static final double NANOS_IN_MILLI = 1000000.0;
+
+  /**
+   * Nanoseconds in second.
+   */
+  private static final double NANOS_IN_SECOND = 1000000000.0;
+
+  /**
+   * Galaxy configuration for simulated game.
+   */
+  private final GalaxyConfig config;
+
+  /**
+   * Maximum number of turns to simulate.
+   */
+  private final int maxTurns;
+
+  /**
+   * Wall time for each simulated turn in nanoseconds.
+   */
+  private long[] turnTimes;
+
+  /**
+   * Number of turns simulated.
+   */
+  private int turnsSimulated;
+
+  /**
+   * Time spent in each turn phase in nanoseconds.
+   */
+  private long[] phaseTimes;
+
+  /**
+   * Create turn simulator.
+   * @param config Galaxy configuration, this should have AI only set.
+   * @param turns Maximum number of turns to simulate
+   */
+  public TurnSimulator(final GalaxyConfig config, final int turns) {
+    this.config = config;
+    this.maxTurns = turns;
+    turnTimes = new long[0];
+    phaseTimes = new long[TurnPhase.values().length];
+    turnsSimulated = 0;
+  }
+
+  /**
+   * Create galaxy configuration with only AI realms.
+   * Game length is set long enough for simulated turns.
+   * @param players Number of realms
+   * @param galaxySize Galaxy size index, 0 is very small and 5 is huge
+   * @param turns Number of turns to simulate
+   * @return GalaxyConfig
+   */
+  public static GalaxyConfig createConfig(final int players,
+      final int galaxySize, final int turns) {
+    GalaxyConfig config = new GalaxyConfig();
+    int sizeIndex = Math.max(0, Math.min(galaxySize,
+        GALAXY_SIZES.length - 1));
+    config.setSize(GALAXY_SIZES[sizeIndex], sizeIndex);
+    config.setMaxPlayers(players);
+    config.setScoringVictoryTurns(turns);
+    config.setStartingPosition(GalaxyConfig.START_POSITION_RANDOM);
+    config.setAiOnly(true);
+    for (int i = 0; i < config.getMaxPlayers(); i++) {
+      config.setPlayerDifficult(i, AiDifficulty.NORMAL);
+    }
+    return config;
+  }
+
+  /**
+   * Run simulation. Simulation ends when maximum number of turns have
+   * been simulated or game ends.
+   * @param out Stream where each turn time is printed, may be null.
+   */
+  public void run(final PrintStream out) {
+    Game game = new Game(false);
+    game.setGalaxyConfig(config);
+    game.setPlayerInfo();
+    game.makeNewGame(false);
+    turnTimes = new long[maxTurns];
+    turnsSimulated = 0;
+    TurnPhaseTimer.setEnabled(true);
+    while (turnsSimulated < maxTurns && !game.getStarMap().isGameEnded()) {
+      int turn = game.getStarMap().getTurn();
+      long start = System.nanoTime();
+      game.setAITurnView(new AITurnView(game, false));
+      while (turn == game.getStarMap().getTurn()
+          && !game.getStarMap().isGameEnded()) {
+        boolean turnEnd = false;
+        do {
+          turnEnd = game.getAITurnView().handleAiTurn();
+        } while (!turnEnd);
+      }
+      turnTimes[turnsSimulated] = System.nanoTime() - start;
+      if (out != null) {
+        out.println(String.format(Locale.ENGLISH, "Turn %d: %.1f ms",
+            turn, turnTimes[turnsSimulated] / NANOS_IN_MILLI));
+      }
+      turnsSimulated++;
+    }
+    for (TurnPhase phase : TurnPhase.values()) {
+      phaseTimes[phase.ordinal()] = TurnPhaseTimer.getTime(phase);
+    }
+    TurnPhaseTimer.setEnabled(false);
+  }
+
+  /**
+   * Get number of simulated turns.
+   * @return Number of turns
+   */
+  public int getTurnsSimulated() {
+    return turnsSimulated;
+  }
+
+  /**
+   * Get wall time for simulated turn.
+   * @param index Index of simulated turn, starting from zero
+   * @return Time in nanoseconds
+   */
+  public long getTurnTime(final int index) {
+    return turnTimes[index];
+  }
+
+  /**
+   * Get total wall time for all simulated turns.
+   * @return Time in nanoseconds
+   */
+  public long getTotalTime() {
+    long total = 0;
+    for (int i = 0; i < turnsSimulated; i++) {
+      total = total + turnTimes[i];
+    }
+    return total;
+  }
+
+  /**
+   * Get time spent in turn phase.
+   * @param phase Turn phase
+   * @return Time in nanoseconds
+   */
+  public long getPhaseTime(final TurnPhase phase) {
+    return phaseTimes[phase.ordinal()];
+  }
+
+  /**
+   * Get simulated turns per second.
+   * @return Turns per second
+   */
+  public double getTurnsPerSecond() {
+    long total = getTotalTime();
+    if (total == 0) {
+      return 0;
+    }
+    return turnsSimulated * NANOS_IN_SECOND / total;
+  }
+
+  /**
+   * Get report of simulation.
+   * @return Report as a text
+   */
+  public String getReport() {
+    StringBuilder sb = new StringBuilder();
+    long total = getTotalTime();
+    sb.append(String.format(Locale.ENGLISH,
+        "Simulated %d turns in %.2f s, %.2f turns/s\n", turnsSimulated,
+        total / NANOS_IN_SECOND, getTurnsPerSecond()));
+    if (turnsSimulated > 0) {
+      long[] sorted = Arrays.copyOf(turnTimes, turnsSimulated);
+      Arrays.sort(sorted);
+      sb.append(String.format(Locale.ENGLISH,
+          "Turn time: avg %.1f ms, median %.1f ms, max %.1f ms\n",
+          total / NANOS_IN_MILLI / turnsSimulated,
+          sorted[turnsSimulated / 2] / NANOS_IN_MILLI,
+          sorted[turnsSimulated - 1] / NANOS_IN_MILLI));
+    }
+    long other = total;
+    for (TurnPhase phase : TurnPhase.values()) {
+      long time = getPhaseTime(phase);
+      other = other - time;
+      sb.append(formatPhase(phase.name(), time, total));
+    }
+    sb.append(formatPhase("OTHER", other, total));
+    return sb.toString();
+  }
+
+  /**
+   * Format single phase line for report.
+   * @param name Phase name
+   * @param time Phase time in nanoseconds
+   * @param total Total time in nanoseconds
+   * @return Formatted line
+   */
+  private static String formatPhase(final String name, final long time,
+      final long total) {
+    double percent = 0;
+    if (total > 0) {
+      percent = time * 100.0 / total;
+    }
+    return String.format(Locale.ENGLISH, "%-17s %10.1f ms %5.1f%%\n", name,
+        time / NANOS_IN_MILLI, percent);
+  }
+}
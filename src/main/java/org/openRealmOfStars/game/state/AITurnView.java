@@ -34,12 +34,16 @@ import org.openRealmOfStars.ai.mission.Mission;
 import org.openRealmOfStars.ai.mission.MissionHandling;
 import org.openRealmOfStars.ai.mission.MissionPhase;
 import org.openRealmOfStars.ai.mission.MissionType;
+import org.openRealmOfStars.ai.mission.RealmPlan;
 import org.openRealmOfStars.ai.pathfinding.AStarSearch;
 import org.openRealmOfStars.ai.research.Research;
 import org.openRealmOfStars.audio.soundeffect.SoundPlayer;
 import org.openRealmOfStars.game.Game;
 import org.openRealmOfStars.game.GameCommands;
 import org.openRealmOfStars.game.GameState;
+import org.openRealmOfStars.game.simulation.TurnPhase;
+import org.openRealmOfStars.game.simulation.TurnPhaseTimer;
+import org.openRealmOfStars.game.simulation.TurnProfile;
 import org.openRealmOfStars.gui.icons.Icons;
 import org.openRealmOfStars.gui.labels.SpaceLabel;
 import org.openRealmOfStars.gui.panels.BigImagePanel;
@@ -52,6 +56,7 @@ import org.openRealmOfStars.player.PlayerInfo;
 import org.openRealmOfStars.player.PlayerList;
 import org.openRealmOfStars.player.WinningStrategy;
 import org.openRealmOfStars.player.artifact.ArtifactFactory;
+import org.openRealmOfStars.player.combat.CombatPredictor;
 import org.openRealmOfStars.player.diplomacy.Attitude;
 import org.openRealmOfStars.player.diplomacy.Diplomacy;
 import org.openRealmOfStars.player.diplomacy.DiplomacyBonusList;
@@ -139,11 +144,22 @@ public class AITurnView extends BlackPanel {
    * Limit for colonization missions
    */
   private static final int LIMIT_COLONIZATIONS = 6;
+  /**
+   * Minimum predicted win probability for fleet sent to destroy
+   * enemy fleet. If no fleet reaches this, no fleet is sent.
+   */
+  private static final double MIN_DESTROY_FLEET_WIN = 0.5;
   /**
    * Text for showing human player
    */
   private SpaceLabel label;
 
+  /**
+   * Debug text for showing previous turn profile. Null if turn phase
+   * timing is not enabled.
+   */
+  private SpaceLabel profileLabel;
+
   /**
    * Reference to the game
    */
@@ -185,7 +201,24 @@ public class AITurnView extends BlackPanel {
    * @param game Game used to get access star map and planet lists
    */
   public AITurnView(final Game game) {
+    this(game, true);
+  }
+
+  /**
+   * Constructor for AI turn view. If view is not shown then no
+   * components are created and text updates are ignored. This is used
+   * when AI turns are simulated without game window.
+   * @param game Game used to get access star map and planet lists
+   * @param showView True to create components for showing the view
+   */
+  public AITurnView(final Game game, final boolean showView) {
     this.game = game;
+    textAnim = 0;
+    aiThread = new AiThread(this);
+    readyToMove = false;
+    if (!showView) {
+      return;
+    }
     Planet planet = new Planet(new Coordinate(1, 1), "Random Planet", 1, false);
     planet.setPlanetType(PlanetTypes.getRandomPlanetType(true, true, true));
     if (planet.getPlanetType().isGasGiant()) {
@@ -217,10 +250,12 @@ public class AITurnView extends BlackPanel {
     label.setAlignmentX(JComponent.CENTER_ALIGNMENT);
 
     imgBase.add(label);
+    if (TurnPhaseTimer.isEnabled()) {
+      profileLabel = new SpaceLabel("");
+      profileLabel.setAlignmentX(JComponent.CENTER_ALIGNMENT);
+      imgBase.add(profileLabel);
+    }
     this.add(imgBase, BorderLayout.CENTER);
-    textAnim = 0;
-    aiThread = new AiThread(this);
-    readyToMove = false;
   }
 
   /**
@@ -228,13 +263,21 @@ public class AITurnView extends BlackPanel {
    * @param text Text to set
    */
   public void setText(final String text) {
-    label.setText(text);
+    if (label != null) {
+      label.setText(text);
+    }
   }
 
   /**
    * Update animated text on AI Turn View
    */
   public void updateText() {
+    if (profileLabel != null) {
+      TurnProfile profile = TurnPhaseTimer.getLastProfile();
+      if (profile != null) {
+        profileLabel.setText(profile.getSummary());
+      }
+    }
     switch (textAnim) {
     default:
     case 0:
@@ -1135,7 +1178,9 @@ public class AITurnView extends BlackPanel {
     }
   }
   /**
-   * Search best fleet for fleet destruction.
+   * Search best fleet for fleet destruction. Closest fleet which is
+   * predicted to win the combat against target fleet is selected.
+   * Mission stays in planning if no fleet is predicted to win.
    */
   public void searchForFleetDestruction() {
     PlayerInfo info = game.getPlayers()
@@ -1148,6 +1193,14 @@ public class AITurnView extends BlackPanel {
           int bestDistance = 999;
           Fleet bestFleet = null;
           Mission bestMission = null;
+          Fleet targetFleet = game.getStarMap().getFleetByCoordinate(
+              mission.getX(), mission.getY());
+          CombatPredictor predictor = game.getStarMap()
+              .getCombatPredictor();
+          if (targetFleet != null && game.getStarMap().getPlayerInfoByFleet(
+              targetFleet) == info) {
+            targetFleet = null;
+          }
           for (int j = 0; j < info.getFleets().getNumberOfFleets(); j++) {
             Fleet fleet = info.getFleets().getByIndex(j);
             if (fleet.getMilitaryValue() == 0
@@ -1167,7 +1220,9 @@ public class AITurnView extends BlackPanel {
             if (checkFleet) {
               int distance = (int) fleet.getCoordinate().calculateDistance(
                   new Coordinate(mission.getX(), mission.getY()));
-              if (distance < bestDistance) {
+              if (distance < bestDistance && (targetFleet == null
+                  || predictor.predict(fleet, targetFleet)
+                  .getWinProbability() >= MIN_DESTROY_FLEET_WIN)) {
                 bestFleet = fleet;
                 bestDistance = distance;
                 bestMission = fleetMission;
@@ -1594,8 +1649,10 @@ public class AITurnView extends BlackPanel {
       if (sporeMission) {
         missionType = MissionType.SPORE_COLONY;
       }
+      RealmPlan plan = game.getStarMap().getRealmPlan(
+          game.getStarMap().getAiTurnNumber());
       Planet[] planets = StarMapUtilities.getBestFreePlanets(game.getStarMap(),
-          info);
+          info, plan);
       int colonizations = info.getMissions().getNumberOfMissionTypes(
           MissionType.COLONIZE, MissionPhase.PLANNING);
       int attacks = info.getMissions().getNumberOfMissionTypes(
@@ -1632,7 +1689,7 @@ public class AITurnView extends BlackPanel {
         }
       }
       planets = StarMapUtilities.getBestConquerablePlanets(game.getStarMap(),
-          info);
+          info, plan);
       for (Planet planet : planets) {
         if (planet.isColonizeablePlanet(info)
             && planet.getPlanetPlayerInfo() != null
@@ -3552,7 +3609,8 @@ public class AITurnView extends BlackPanel {
    * Update whole star map to next turn
    */
   public void updateStarMapToNextTurn() {
-    game.getStarMap().resetCulture();
+    // Only changed culture sources are applied again into map
+    game.getStarMap().getCultureField().startUpdate();
     int richest = game.getStarMap().getNewsCorpData().getCredit().getBiggest();
     int poorest = game.getStarMap().getNewsCorpData().getCredit().getSmallest();
     for (int i = 0; i < game.getPlayers().getCurrentMaxPlayers(); i++) {
@@ -3737,11 +3795,10 @@ public class AITurnView extends BlackPanel {
           } else {
             fleet.setMovesLeft(fleet.getFleetSpeed());
           }
-          game.getStarMap().doFleetScanUpdate(info, fleet, null);
           if (fleet.getCulturalValue() > 0 && fleet.isStarBaseDeployed()) {
          // Recalculate culture for the map for each player
-            game.getStarMap().calculateCulture(fleet.getX(), fleet.getY(),
-                fleet.getCulturalValue(), i);
+            game.getStarMap().getCultureField().updateSource(fleet,
+                fleet.getX(), fleet.getY(), fleet.getCulturalValue(), i);
           }
         }
       }
@@ -3791,18 +3848,26 @@ public class AITurnView extends BlackPanel {
             enemyOrbiting = true;
           }
         }
-        // Update each planet one by one
-        planet.updateOneTurn(enemyOrbiting, game.getStarMap());
         int index = game.getPlayers().getIndex(info);
+        // Update each planet one by one
+        TurnPhaseTimer.setRealm(index);
+        TurnPhaseTimer.enter(TurnPhase.PLANETS);
+        try {
+          planet.updateOneTurn(enemyOrbiting, game.getStarMap());
+        } finally {
+          TurnPhaseTimer.exit();
+        }
+        TurnPhaseTimer.setRealm(TurnPhaseTimer.NO_REALM);
         if (index > -1) {
           // Recalculate culture for the map for each player
-          game.getStarMap().calculateCulture(planet.getX(), planet.getY(),
-              planet.getCulture(), index);
+          game.getStarMap().getCultureField().updateSource(planet,
+              planet.getX(), planet.getY(), planet.getCulture(), index);
         }
-        // Fleets and planets do the scan
-        game.getStarMap().doFleetScanUpdate(info, null, planet);
       }
     }
+    game.getStarMap().getCultureField().finishUpdate();
+    // Fleets and planets do the scan, one pass for each realm
+    game.getStarMap().doAllRealmScanUpdates();
     if (game.getStarMap().getTurn() > 0) {
       handleDiplomaticVotes(towers);
     }
@@ -3902,6 +3967,29 @@ public class AITurnView extends BlackPanel {
       }
     }
     game.getStarMap().getHistory().addTurn(game.getStarMap().getTurn());
+    TurnPhaseTimer.enter(TurnPhase.NEWS);
+    try {
+      publishNews(broadcasters);
+    } finally {
+      TurnPhaseTimer.exit();
+    }
+    game.getStarMap().updateWinningStrategies();
+    for (int i = 0;
+        i < game.getStarMap().getPlayerList().getCurrentMaxRealms(); i++) {
+      if (game.getStarMap().getPlayerByIndex(i).isHuman()) {
+        continue;
+      }
+      StarMapUtilities.makeGovernorGuideAdjustments(game.getStarMap(),
+          game.getStarMap().getPlayerByIndex(i));
+    }
+  }
+
+  /**
+   * Publish news and score news for the turn and check if game
+   * has ended.
+   * @param broadcasters Realms which have broadcasting building
+   */
+  private void publishNews(final boolean[] broadcasters) {
     if (game.getStarMap().getTurn() % NewsCorpData.NEWS_PUBLISH_RATE == 0) {
       NewsCorpData newsData = game.getStarMap().getNewsCorpData();
       newsData.calculateCredit(game.getStarMap().getPlayerList());
@@ -4044,15 +4132,6 @@ public class AITurnView extends BlackPanel {
       }
     }
     game.getStarMap().getNewsCorpData().clearNewsList();
-    game.getStarMap().updateWinningStrategies();
-    for (int i = 0;
-        i < game.getStarMap().getPlayerList().getCurrentMaxRealms(); i++) {
-      if (game.getStarMap().getPlayerByIndex(i).isHuman()) {
-        continue;
-      }
-      StarMapUtilities.makeGovernorGuideAdjustments(game.getStarMap(),
-          game.getStarMap().getPlayerByIndex(i));
-    }
   }
 
   /**
@@ -4087,17 +4166,44 @@ public class AITurnView extends BlackPanel {
    */
   public boolean handleAiTurn() {
     game.getStarMap().setAiOrAutomateTakingMoves(true);
+    TurnPhaseTimer.setRealm(game.getStarMap().getAiTurnNumber());
     if (game.getStarMap().getAIFleet() == null) {
+      TurnPhaseTimer.enter(TurnPhase.MISSION_PLANNING);
+      try {
+        game.getStarMap().makeRealmPlans();
+      } finally {
+        TurnPhaseTimer.exit();
+      }
       // Searching for fleet which has crossed the borders
-      searchForBorderCrossing();
-      searchForInterceptFleets();
-      searchForFleetDestruction();
-      game.getStarMap().handleDiplomaticDelegacies();
-      game.getStarMap().handleFakingMilitarySize();
+      TurnPhaseTimer.enter(TurnPhase.BORDER_CROSSING);
+      try {
+        searchForBorderCrossing();
+      } finally {
+        TurnPhaseTimer.exit();
+      }
+      TurnPhaseTimer.enter(TurnPhase.INTERCEPT);
+      try {
+        searchForInterceptFleets();
+        searchForFleetDestruction();
+      } finally {
+        TurnPhaseTimer.exit();
+      }
+      TurnPhaseTimer.enter(TurnPhase.DIPLOMACY);
+      try {
+        game.getStarMap().handleDiplomaticDelegacies();
+        game.getStarMap().handleFakingMilitarySize();
+      } finally {
+        TurnPhaseTimer.exit();
+      }
       // This must be last since this changes the realm at very end.
       game.getStarMap().handleAIResearchAndPlanets();
     } else {
-      handleAIFleet();
+      TurnPhaseTimer.enter(TurnPhase.FLEETS);
+      try {
+        handleAIFleet();
+      } finally {
+        TurnPhaseTimer.exit();
+      }
       if (getNextState() != null) {
         return true;
       }
@@ -4109,17 +4215,30 @@ public class AITurnView extends BlackPanel {
       }
     }
     if (game.getStarMap().isAllAIsHandled()) {
-      updateStarMapToNextTurn();
+      TurnPhaseTimer.setRealm(TurnPhaseTimer.NO_REALM);
+      TurnPhaseTimer.enter(TurnPhase.END_OF_TURN);
+      try {
+        updateStarMapToNextTurn();
+      } finally {
+        TurnPhaseTimer.exit();
+      }
       if (game.getStarMap().getTurn() > 0) {
         game.getStarMap().handleEvents();
       }
       for (int i = 0; i < game.getPlayers().getCurrentMaxPlayers(); i++) {
         // Handle player research at end of turn
         PlayerInfo info = game.getPlayers().getPlayerInfoByIndex(i);
-        info.getTechList().updateResearchPointByTurn(game.getStarMap()
-            .getTotalProductionByPlayerPerTurn(Planet.PRODUCTION_RESEARCH, i),
-            info, game.getStarMap().getScoreVictoryTurn(),
-            game.getStarMap().isTutorialEnabled());
+        TurnPhaseTimer.setRealm(i);
+        TurnPhaseTimer.enter(TurnPhase.RESEARCH);
+        try {
+          info.getTechList().updateResearchPointByTurn(game.getStarMap()
+              .getTotalProductionByPlayerPerTurn(Planet.PRODUCTION_RESEARCH,
+                  i),
+              info, game.getStarMap().getScoreVictoryTurn(),
+              game.getStarMap().isTutorialEnabled());
+        } finally {
+          TurnPhaseTimer.exit();
+        }
         if (!info.areLeadersDead() && !info.isBoard()) {
           Leader scientist = RulerUtility.getBestScientist(info);
           if (scientist != null
@@ -4210,6 +4329,7 @@ public class AITurnView extends BlackPanel {
           }
         }
       }
+      TurnPhaseTimer.endTurn(game.getStarMap().getTurn() - 1);
       game.getStarMap().clearAITurn();
       return true;
     }
@@ -123,10 +123,7 @@ public class HistoryView extends BlackPanel {
     centerPanel.setLayout(new BorderLayout());
     centerPanel.setTitle("History");
     mapPanel = new MapPanel(false);
-    mapPanel.setHistoryCultures(starMap.getHistory().calculateCulture(0,
-        starMap));
-    mapPanel.setTileOverride(map.getHistory().calculateOverrideTiles(
-        turnNumber, map));
+    updateHistoryMaps();
     centerPanel.add(mapPanel, BorderLayout.CENTER);
     InfoPanel infoPanel = new InfoPanel();
     infoPanel.setLayout(new BorderLayout());
@@ -211,6 +208,18 @@ public class HistoryView extends BlackPanel {
     turnLabel.setText(text);
   }
 
+  /**
+   * Update culture and override tiles in map panel for current turn.
+   * History seeks from its keyframes, so stepping between turns does not
+   * replay whole history.
+   */
+  private void updateHistoryMaps() {
+    mapPanel.setHistoryCultures(map.getHistory().calculateCulture(
+        turnNumber, map));
+    mapPanel.setTileOverride(map.getHistory().calculateOverrideTiles(
+        turnNumber, map));
+  }
+
   /**
    * Get space sector owner.
    * @param target Where is this sector.
@@ -411,10 +420,7 @@ public class HistoryView extends BlackPanel {
         && turnNumber > 0) {
       SoundPlayer.playMenuSound();
       changeTurn(false);
-      mapPanel.setHistoryCultures(map.getHistory().calculateCulture(
-          turnNumber, map));
-      mapPanel.setTileOverride(map.getHistory().calculateOverrideTiles(
-          turnNumber, map));
+      updateHistoryMaps();
       updateTurnLabel();
       updateTextArea();
       turnLabel.repaint();
@@ -424,10 +430,7 @@ public class HistoryView extends BlackPanel {
         && turnNumber < map.getHistory().numberOfTurns() - 1) {
       SoundPlayer.playMenuSound();
       changeTurn(true);
-      mapPanel.setHistoryCultures(map.getHistory().calculateCulture(
-          turnNumber, map));
-      mapPanel.setTileOverride(map.getHistory().calculateOverrideTiles(
-          turnNumber, map));
+      updateHistoryMaps();
       updateTurnLabel();
       updateTextArea();
       turnLabel.repaint();
@@ -455,10 +458,7 @@ public class HistoryView extends BlackPanel {
         if (event == null) {
           if (turnNumber < map.getHistory().numberOfTurns() - 1) {
             changeTurn(true);
-            mapPanel.setHistoryCultures(map.getHistory().calculateCulture(
-                turnNumber, map));
-            mapPanel.setTileOverride(map.getHistory().calculateOverrideTiles(
-                turnNumber, map));
+            updateHistoryMaps();
             updateTurnLabel();
             updateTextArea();
             turnLabel.repaint();
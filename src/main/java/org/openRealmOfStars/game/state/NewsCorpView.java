@@ -39,8 +39,8 @@ import org.openRealmOfStars.gui.panels.NewsImagePanel;
 import org.openRealmOfStars.gui.panels.SpaceGreyPanel;
 import org.openRealmOfStars.gui.util.GuiStatics;
 import org.openRealmOfStars.gui.util.UIScale;
-import org.openRealmOfStars.starMap.newsCorp.ImageInstruction;
 import org.openRealmOfStars.starMap.newsCorp.NewsData;
+import org.openRealmOfStars.starMap.newsCorp.NewsImageCache;
 
 /**
 *
@@ -102,19 +102,14 @@ public class NewsCorpView extends BlackPanel {
     }
     base.setLayout(new BorderLayout());
     base.setTitle("Galactic Broadcasting News Company");
-    widthHeadLine = 800;
-    heightHeadLine = 400;
-    if (listener instanceof Game) {
-      Game game = (Game) listener;
-      heightHeadLine = game.getHeight() - UIScale.scale(100);
-      widthHeadLine = game.getWidth() - 4;
-    }
+    Dimension headLine = getHeadLineSize(listener);
+    widthHeadLine = headLine.width;
+    heightHeadLine = headLine.height;
     newsImage = new NewsImagePanel(widthHeadLine, heightHeadLine);
-    BufferedImage image = new BufferedImage(newsImage.getNewsImageWidth(),
-        newsImage.getNewsImageHeight(), BufferedImage.TYPE_4BYTE_ABGR);
-    image = ImageInstruction.parseImageInstructions(image,
-        news[0].getImageInstructions());
-    newsImage.setNewsImage(image);
+    newsImage.setNewsImage(getNewsImage(news[0]));
+    for (int i = 1; i < news.length; i++) {
+      NewsImageCache.prerender(news[i].getImageInstructions());
+    }
     newsImage.setText(newsList[newsIndex].getNewsText());
     base.add(newsImage, BorderLayout.CENTER);
     this.add(base, BorderLayout.CENTER);
@@ -149,6 +144,46 @@ public class NewsCorpView extends BlackPanel {
     this.add(bottomPanel, BorderLayout.SOUTH);
   }
 
+  /**
+   * Get size of news headline panel.
+   * @param listener ActionListener, headline fills game window if
+   *        this is game
+   * @return Headline size
+   */
+  public static Dimension getHeadLineSize(final ActionListener listener) {
+    if (listener instanceof Game) {
+      Game game = (Game) listener;
+      return new Dimension(game.getWidth() - 4,
+          game.getHeight() - UIScale.scale(100));
+    }
+    return new Dimension(800, 400);
+  }
+
+  /**
+   * Seed news image size for background rendering, so news can be
+   * rendered before first news screen is shown.
+   * @param listener ActionListener, headline fills game window if
+   *        this is game
+   */
+  public static void seedNewsImageSize(final ActionListener listener) {
+    Dimension headLine = getHeadLineSize(listener);
+    Dimension size = NewsImagePanel.getNewsImageSize(headLine.width,
+        headLine.height);
+    if (size != null) {
+      NewsImageCache.setImageSize(size.width, size.height);
+    }
+  }
+
+  /**
+   * Get rendered news image from news image cache.
+   * @param news News which image to get
+   * @return Rendered news image
+   */
+  private BufferedImage getNewsImage(final NewsData news) {
+    return NewsImageCache.getImage(news.getImageInstructions(),
+        newsImage.getNewsImageWidth(), newsImage.getNewsImageHeight());
+  }
+
   /**
    * Handle events for NewsCorpView.
    * @param arg0 ActionEvent
@@ -160,11 +195,7 @@ public class NewsCorpView extends BlackPanel {
     } else if (arg0.getActionCommand().equals(GameCommands.COMMAND_NEXT_TARGET)
         && newsIndex < newsList.length - 1) {
       newsIndex++;
-      BufferedImage image = new BufferedImage(newsImage.getNewsImageWidth(),
-          newsImage.getNewsImageHeight(), BufferedImage.TYPE_4BYTE_ABGR);
-      image = ImageInstruction.parseImageInstructions(image,
-          newsList[newsIndex].getImageInstructions());
-      newsImage.setNewsImage(image);
+      newsImage.setNewsImage(getNewsImage(newsList[newsIndex]));
       newsImage.setText(newsList[newsIndex].getNewsText());
       newsLabel.setText(newsIndex + 1 + "/" + newsList.length);
       SoundPlayer.playMenuSound();
@@ -176,11 +207,7 @@ public class NewsCorpView extends BlackPanel {
     } else if (arg0.getActionCommand().equals(GameCommands.COMMAND_PREV_TARGET)
         && newsIndex > 0) {
       newsIndex--;
-      BufferedImage image = new BufferedImage(newsImage.getNewsImageWidth(),
-          newsImage.getNewsImageHeight(), BufferedImage.TYPE_4BYTE_ABGR);
-      image = ImageInstruction.parseImageInstructions(image,
-          newsList[newsIndex].getImageInstructions());
-      newsImage.setNewsImage(image);
+      newsImage.setNewsImage(getNewsImage(newsList[newsIndex]));
       newsImage.setText(newsList[newsIndex].getNewsText());
       newsLabel.setText(newsIndex + 1 + "/" + newsList.length);
       SoundPlayer.playMenuSound();
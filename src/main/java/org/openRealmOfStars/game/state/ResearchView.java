@@ -51,9 +51,9 @@ import org.openRealmOfStars.gui.list.TechTreeCellRenderer;
 import org.openRealmOfStars.gui.panels.BlackPanel;
 import org.openRealmOfStars.gui.panels.ResearchTechPanel;
 import org.openRealmOfStars.gui.panels.SpaceGreyPanel;
-import org.openRealmOfStars.gui.util.GraphRoutines;
 import org.openRealmOfStars.gui.util.GuiFonts;
 import org.openRealmOfStars.gui.util.GuiStatics;
+import org.openRealmOfStars.gui.util.ImageAssets;
 import org.openRealmOfStars.player.PlayerInfo;
 import org.openRealmOfStars.player.artifact.Artifact;
 import org.openRealmOfStars.player.leader.RulerUtility;
@@ -173,7 +173,7 @@ public class ResearchView extends BlackPanel implements TreeSelectionListener,
         Icons.getIconByName(Icons.ICON_COMBAT_TECH), false,
         GameCommands.COMMAND_COMBAT_INFO, null);
     iBtn.setRollOverImage(
-        GraphRoutines.addGlow(Icons.getIconByName(Icons.ICON_COMBAT_TECH)
+        ImageAssets.getGlow(Icons.getIconByName(Icons.ICON_COMBAT_TECH)
             .getIcon()));
     iBtn.addActionListener(listener);
     iBtn.setToolTipText("Show information about combat technology");
@@ -197,7 +197,7 @@ public class ResearchView extends BlackPanel implements TreeSelectionListener,
         Icons.getIconByName(Icons.ICON_DEFENSE_TECH), false,
         GameCommands.COMMAND_DEFENSE_INFO, null);
     iBtn.setRollOverImage(
-        GraphRoutines.addGlow(Icons.getIconByName(Icons.ICON_DEFENSE_TECH)
+        ImageAssets.getGlow(Icons.getIconByName(Icons.ICON_DEFENSE_TECH)
             .getIcon()));
     iBtn.addActionListener(listener);
     iBtn.setToolTipText("Show information about defense technology");
@@ -221,7 +221,7 @@ public class ResearchView extends BlackPanel implements TreeSelectionListener,
         Icons.getIconByName(Icons.ICON_HULL_TECH), false,
         GameCommands.COMMAND_HULL_INFO, null);
     iBtn.setRollOverImage(
-        GraphRoutines.addGlow(Icons.getIconByName(Icons.ICON_HULL_TECH)
+        ImageAssets.getGlow(Icons.getIconByName(Icons.ICON_HULL_TECH)
             .getIcon()));
     iBtn.setToolTipText("Show information about hull technology");
     iBtn.addActionListener(listener);
@@ -247,7 +247,7 @@ public class ResearchView extends BlackPanel implements TreeSelectionListener,
         Icons.getIconByName(Icons.ICON_IMPROVEMENT_TECH), false,
         GameCommands.COMMAND_IMPROVEMENT_INFO, null);
     iBtn.setRollOverImage(
-        GraphRoutines.addGlow(Icons.getIconByName(Icons.ICON_IMPROVEMENT_TECH)
+        ImageAssets.getGlow(Icons.getIconByName(Icons.ICON_IMPROVEMENT_TECH)
             .getIcon()));
     iBtn.addActionListener(listener);
     iBtn.setToolTipText("Show information about planetary improvement "
@@ -274,7 +274,7 @@ public class ResearchView extends BlackPanel implements TreeSelectionListener,
         Icons.getIconByName(Icons.ICON_PROPULSION_TECH), false,
         GameCommands.COMMAND_PROPULSION_INFO, null);
     iBtn.setRollOverImage(
-        GraphRoutines.addGlow(Icons.getIconByName(Icons.ICON_PROPULSION_TECH)
+        ImageAssets.getGlow(Icons.getIconByName(Icons.ICON_PROPULSION_TECH)
             .getIcon()));
     iBtn.addActionListener(listener);
     iBtn.setToolTipText("Show information about propulsion technology");
@@ -300,7 +300,7 @@ public class ResearchView extends BlackPanel implements TreeSelectionListener,
         Icons.getIconByName(Icons.ICON_ELECTRONICS_TECH), false,
         GameCommands.COMMAND_ELECTRONICS_INFO, null);
     iBtn.setRollOverImage(
-        GraphRoutines.addGlow(Icons.getIconByName(Icons.ICON_ELECTRONICS_TECH)
+        ImageAssets.getGlow(Icons.getIconByName(Icons.ICON_ELECTRONICS_TECH)
             .getIcon()));
     iBtn.addActionListener(listener);
     iBtn.setToolTipText("Show information about electronics technology");
@@ -51,10 +51,7 @@ public final class BridgeGraphFactory {
    * @return Found bridge or default.
    */
   public static BridgeGraph create(final String name) {
-    if (!initialized) {
-      SINGLETON.init();
-      initialized = true;
-    }
+    loadIfNeeded();
     BridgeGraph bridge = SINGLETON.createById(name);
     if (bridge == null) {
       ErrorLogger.log("Could not find bridge with ID " + name
@@ -69,10 +66,7 @@ public final class BridgeGraphFactory {
    * @return Array of Strings.
    */
   public static String[] getAllIds() {
-    if (!initialized) {
-      SINGLETON.init();
-      initialized = true;
-    }
+    loadIfNeeded();
     return SINGLETON.mapForBridges.keySet().toArray(new String[0]);
   }
 
@@ -100,6 +94,24 @@ public final class BridgeGraphFactory {
   private BridgeGraph createById(final String id) {
     return mapForBridges.get(id);
   }
+  /**
+   * Load data into factory if not yet loaded. Loading is synchronized
+   * so that factory can be initialized from several threads.
+   */
+  private static synchronized void loadIfNeeded() {
+    if (!initialized) {
+      SINGLETON.init();
+      initialized = true;
+    }
+  }
+
+  /**
+   * Initialize factory by loading its data if not yet loaded.
+   */
+  public static void initialize() {
+    loadIfNeeded();
+  }
+
   /** Init bridges by loading from JSON */
   private void init() {
     final var basePath = "resources/data/graphset/";
@@ -22,6 +22,7 @@ import java.awt.image.RasterFormatException;
 import java.util.ArrayList;
 import java.util.HashMap;
 
+import org.openRealmOfStars.gui.util.ImageAssets;
 import org.openRealmOfStars.utilities.FileIo.IOUtilities;
 
 /**
@@ -621,7 +622,7 @@ public final class Icons {
   public static BufferedImage loadBigIcon(final String imageFile, final int x,
       final int y, final int width, final int height)
           throws RasterFormatException {
-    BufferedImage image = IOUtilities.loadImage(imageFile);
+    BufferedImage image = ImageAssets.load(imageFile);
     if (x >= 0 && y >= 0 && x + width < image.getWidth() + 1
         && y + height < image.getHeight() + 1) {
       return image.getSubimage(x, y, width, height);
@@ -639,7 +640,7 @@ public final class Icons {
    */
   public static Icon16x16 loadSmallIcon(final String imageFile,
       final int x, final int y, final String name) {
-    BufferedImage image = IOUtilities.loadImage(imageFile);
+    BufferedImage image = ImageAssets.load(imageFile);
     Icon16x16 icon = new Icon16x16(image, x, y, name);
     return icon;
   }
@@ -18,6 +18,7 @@ package org.openRealmOfStars.gui.mapPanel;
  * along with this program; if not, see http://www.gnu.org/licenses/
  */
 
+import java.awt.AlphaComposite;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Dimension;
@@ -25,8 +26,6 @@ import java.awt.Font;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Stroke;
-import java.awt.geom.AffineTransform;
-import java.awt.image.AffineTransformOp;
 import java.awt.image.BufferedImage;
 import java.util.List;
 
@@ -39,6 +38,7 @@ import org.openRealmOfStars.gui.icons.Icons;
 import org.openRealmOfStars.gui.util.GraphRoutines;
 import org.openRealmOfStars.gui.util.GuiFonts;
 import org.openRealmOfStars.gui.util.GuiStatics;
+import org.openRealmOfStars.gui.util.ImageAssets;
 import org.openRealmOfStars.gui.util.UIScale;
 import org.openRealmOfStars.mapTiles.FleetTileInfo;
 import org.openRealmOfStars.mapTiles.Tile;
@@ -315,6 +315,18 @@ public class MapPanel extends JPanel {
    * Flag for redoing viewpoints.
    */
   private boolean redoViewPoints;
+  /**
+   * Cache for static star map layers.
+   */
+  private MapRenderCache renderCache;
+  /**
+   * Is static layer cache used when drawing star map.
+   */
+  private boolean layerCache;
+  /**
+   * Is drawing currently done into static layer cache.
+   */
+  private boolean cacheDraw;
   /**
    * Constructor for Map Panel. This can be used for drawing star map
    * or battle map
@@ -360,6 +372,9 @@ public class MapPanel extends JPanel {
     highContrastGrid = false;
     lastCursorPosX = -1;
     lastCursorPosY = -1;
+    renderCache = new MapRenderCache();
+    layerCache = true;
+    cacheDraw = false;
     if (game != null) {
       improvedParallax = game.isImprovedParallax();
       highContrastGrid = game.isHighContrastGrid();
@@ -437,6 +452,8 @@ public class MapPanel extends JPanel {
       viewPointY = 1;
     }
     redrawTile = new boolean[viewPointX * 2 + 1][viewPointY * 2 + 1];
+    renderCache.setCapacity(viewPointX * 2 + 1, viewPointY * 2 + 1,
+        zoomLevel);
     if (battle) {
       viewPointOffsetX = screen.getWidth()
           - (2 * viewPointX * ShipImage.MAX_WIDTH + ShipImage.MAX_WIDTH);
@@ -697,14 +714,18 @@ public class MapPanel extends JPanel {
     if (tile == null) {
       return null;
     }
-    if (tile.getAnimationIndex() != tile.getIndex()) {
+    if (MapRenderCache.isAnimated(tile)) {
+      if (cacheDraw) {
+        // Animated tiles are drawn on top of static layer cache
+        return tile;
+      }
       if (updateAnimation) {
         // Change map tile for next drawing
         starMap.setTile(i + cx, j + cy,
             Tiles.getTileByIndex(tile.getAnimationIndex(),
                 starMap.getZoomLevel()));
       }
-      redrawTile[i + viewPointX][j + viewPointY] = true;
+      markRedraw(i, j);
     }
     // Draw only non empty tiles
     if (info != null && !tile.getName().equals(TileNames.EMPTY)
@@ -755,7 +776,7 @@ public class MapPanel extends JPanel {
         }
         icon.draw(gr, pixelX + offset, pixelY + offset);
       }
-      redrawTile[i + viewPointX][j + viewPointY] = true;
+      markRedraw(i, j);
     }
     return tile;
   }
@@ -824,10 +845,10 @@ public class MapPanel extends JPanel {
     if ((tile.getName().equals(TileNames.SUN_E)
         || tile.getName().equals(TileNames.BLUE_STAR_E)
         || tile.getName().equals(TileNames.STAR_E))
-        && i > -viewPointX + 1) {
+        && (cacheDraw || i > -viewPointX + 1)) {
       Sun sun = starMap.getSunByCoordinate(i + cx, j + cy);
       if (sun != null) {
-        redrawTile[i + viewPointX][j + viewPointY] = true;
+        markRedraw(i, j);
         Font font = GuiFonts.getFontCubellanSC();
         if (starMap.getZoomLevel() == Tile.ZOOM_OUT2) {
           font = GuiFonts.getFontCubellanVerySmall();
@@ -854,27 +875,28 @@ public class MapPanel extends JPanel {
 
     if (info != null && info.getSectorVisibility(new Coordinate(i + cx,
             j + cy)) != PlayerInfo.UNCHARTED && tile.isGasGiant()) {
-      redrawTile[i + viewPointX][j + viewPointY] = true;
+      markRedraw(i, j);
     }
+    boolean leftVisible = cacheDraw || i > -viewPointX;
     // Draw Gas giant text
     if ((tile.getName().equals(TileNames.GAS_GIANT_1_SE)
-        && i > -viewPointX
+        && leftVisible
         || tile.getName().equals(TileNames.GAS_GIANT_2_SE)
-            && i > -viewPointX
+            && leftVisible
         || tile.getName().equals(TileNames.GAS_GIANT_3_SE)
-            && i > -viewPointX
+            && leftVisible
         || tile.getName().equals(TileNames.JUPITER_SE)
-            && i > -viewPointX
+            && leftVisible
         || tile.getName().equals(TileNames.SATURN_SE)
-            && i > -viewPointX
+            && leftVisible
         || tile.getName().equals(TileNames.ICEGIANT1_SE)
-            && i > -viewPointX
+            && leftVisible
         || tile.getName().equals(TileNames.ICEGIANT2_SE)
-            && i > -viewPointX)
+            && leftVisible)
         && planet != null && info != null && info
             .getSectorVisibility(new Coordinate(i + cx,
                 j + cy)) != PlayerInfo.UNCHARTED) {
-      redrawTile[i + viewPointX][j + viewPointY] = true;
+      markRedraw(i, j);
       Font font = GuiFonts.getFontCubellanSC();
       if (starMap.getZoomLevel() == Tile.ZOOM_OUT2) {
         font = GuiFonts.getFontCubellanVerySmall();
@@ -930,12 +952,308 @@ public class MapPanel extends JPanel {
           Tile.getMaxHeight(starMap.getZoomLevel()), starMap.getZoomLevel());
     }
   }
+  /**
+   * Mark sector for redrawing on next frame. Nothing is marked when
+   * drawing into static layer cache.
+   * @param i  X coordinate modifier of center of screen
+   * @param j  Y coordinate modifier of center of screen
+   */
+  private void markRedraw(final int i, final int j) {
+    if (!cacheDraw) {
+      redrawTile[i + viewPointX][j + viewPointY] = true;
+    }
+  }
+
+  /**
+   * Create dashed stroke for sector grid.
+   * @param zoomLevel Zoom level
+   * @return Stroke
+   */
+  private static Stroke createGridStroke(final int zoomLevel) {
+    if (zoomLevel == Tile.ZOOM_IN2) {
+      return new BasicStroke(1, BasicStroke.CAP_SQUARE,
+          BasicStroke.JOIN_BEVEL, 1, new float[] {2.0f, 2.0f }, 0);
+    }
+    if (zoomLevel == Tile.ZOOM_OUT2) {
+      return new BasicStroke(1, BasicStroke.CAP_SQUARE,
+          BasicStroke.JOIN_MITER, 1, new float[] {0.5f, 4.0f }, 0);
+    }
+    return new BasicStroke(1, BasicStroke.CAP_SQUARE,
+        BasicStroke.JOIN_BEVEL, 1, new float[] {0.1f, 4.5f }, 0);
+  }
+
+  /**
+   * Get color for sector grid.
+   * @return Color
+   */
+  private Color getGridColor() {
+    if (highContrastGrid) {
+      return new Color(0, HIGH_FLICKER_GREEN, HIGH_FLICKER_BLUE);
+    }
+    return new Color(0, FLICKER_GREEN, FLICKER_BLUE);
+  }
+
+  /**
+   * Draw sector grid lines and culture border. Stroke and color for
+   * grid should be set before calling this.
+   * @param gr Graphics2D
+   * @param x Sector X coordinate
+   * @param y Sector Y coordinate
+   * @param starMap StarMap
+   * @param info Realm which is viewing the starmap
+   * @param pixelX Pixel X Coordinate in screen
+   * @param pixelY Pixel Y Coordinate in screen
+   * @param rightLine Draw right grid line
+   * @param bottomLine Draw bottom grid line
+   */
+  private static void drawGridAndCulture(final Graphics2D gr, final int x,
+      final int y, final StarMap starMap, final PlayerInfo info,
+      final int pixelX, final int pixelY, final boolean rightLine,
+      final boolean bottomLine) {
+    int tileWidth = Tile.getMaxWidth(starMap.getZoomLevel());
+    int tileHeight = Tile.getMaxHeight(starMap.getZoomLevel());
+    if (rightLine) {
+      // Right line
+      int tileRightEdge = pixelX + tileWidth - 1;
+      gr.drawLine(tileRightEdge, pixelY, tileRightEdge,
+          pixelY + tileHeight - 1);
+    }
+    if (bottomLine) {
+      // Bottom line
+      gr.drawLine(pixelX, pixelY + tileHeight - 1,
+          pixelX + tileWidth - 1, pixelY + tileHeight - 1);
+    }
+    if (info != null
+        && info.getSectorVisibility(x, y) != PlayerInfo.UNCHARTED) {
+      CulturePower culture = starMap.getSectorCulture(x, y);
+      if (culture != null) {
+        int index = culture.getHighestCulture();
+        if (index != -1) {
+          PlayerInfo cultureInfo = starMap.getPlayerByIndex(index);
+          Tile tile = Tiles.getTileByName(
+              cultureInfo.getColor().getCultureTile(),
+              starMap.getZoomLevel());
+          if (tile != null) {
+            tile.draw(gr, pixelX, pixelY);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Draw animated tile on top of static layer cache. Tile is changed
+   * to next animation frame when it is time and marked for redrawing.
+   * @param gr Graphics2D
+   * @param cx Center of screen
+   * @param cy Center of screen
+   * @param i  X coordinate modifier of center of screen
+   * @param j  Y coordinate modifier of center of screen
+   * @param starMap StarMap
+   * @param info Realm which is viewing the starmap
+   * @param pixelX Pixel X Coordinate in screen
+   * @param pixelY Pixel Y Coordinate in screen
+   */
+  private void drawAnimatedTile(final Graphics2D gr, final int cx,
+      final int cy, final int i, final int j, final StarMap starMap,
+      final PlayerInfo info, final int pixelX, final int pixelY) {
+    Tile tile = starMap.getTile(i + cx, j + cy);
+    if (tile != null && MapRenderCache.isAnimated(tile)) {
+      drawTile(gr, cx, cy, i, j, starMap, info, pixelX, pixelY, null);
+    }
+  }
+
+  /**
+   * Get static layer chunk which is up to date. Chunk is drawn if it
+   * is missing or its sectors have changed. Signature is checked only
+   * for stale chunks.
+   * @param starMap StarMap
+   * @param info Realm which is viewing the starmap
+   * @param chunkX Chunk X coordinate
+   * @param chunkY Chunk Y coordinate
+   * @return Chunk
+   */
+  private MapRenderCache.Chunk getStaticChunk(final StarMap starMap,
+      final PlayerInfo info, final int chunkX, final int chunkY) {
+    int zoomLevel = starMap.getZoomLevel();
+    MapRenderCache.Chunk chunk = renderCache.getChunk(zoomLevel, chunkX,
+        chunkY);
+    if (chunk != null && !chunk.isStale()) {
+      return chunk;
+    }
+    int size = MapRenderCache.getChunkSectors(zoomLevel);
+    int margin = MapRenderCache.getTextMargin(zoomLevel);
+    int startX = chunkX * size;
+    int startY = chunkY * size;
+    long signature = MapRenderCache.calculateSignature(starMap, info,
+        startX - margin, startY - 1, startX + size + margin,
+        startY + size + 1);
+    if (chunk == null) {
+      chunk = renderCache.createChunk(zoomLevel, chunkX, chunkY, signature);
+      drawStaticChunk(chunk.getImage(), starMap, info, startX, startY);
+    } else if (chunk.getSignature() != signature) {
+      chunk.setSignature(signature);
+      drawStaticChunk(chunk.getImage(), starMap, info, startX, startY);
+    }
+    chunk.setStale(false);
+    return chunk;
+  }
+
+  /**
+   * Draw static layers into chunk image. Sectors around the chunk are
+   * also drawn so that their texts reaching into chunk are visible.
+   * @param image Chunk image
+   * @param starMap StarMap
+   * @param info Realm which is viewing the starmap
+   * @param startX First sector X coordinate in chunk
+   * @param startY First sector Y coordinate in chunk
+   */
+  private void drawStaticChunk(final BufferedImage image,
+      final StarMap starMap, final PlayerInfo info, final int startX,
+      final int startY) {
+    int zoomLevel = starMap.getZoomLevel();
+    int size = MapRenderCache.getChunkSectors(zoomLevel);
+    int margin = MapRenderCache.getTextMargin(zoomLevel);
+    int tileWidth = Tile.getMaxWidth(zoomLevel);
+    int tileHeight = Tile.getMaxHeight(zoomLevel);
+    Graphics2D gr = image.createGraphics();
+    gr.setComposite(AlphaComposite.Clear);
+    gr.fillRect(0, 0, image.getWidth(), image.getHeight());
+    gr.setComposite(AlphaComposite.SrcOver);
+    Stroke dashed = createGridStroke(zoomLevel);
+    Color gridColor = getGridColor();
+    cacheDraw = true;
+    try {
+      for (int y = startY - 1; y < startY + size + 1; y++) {
+        for (int x = startX - margin; x < startX + size + margin; x++) {
+          if (!starMap.isValidCoordinate(x, y)) {
+            continue;
+          }
+          int pixelX = (x - startX) * tileWidth;
+          int pixelY = (y - startY) * tileHeight;
+          gr.setStroke(dashed);
+          gr.setColor(gridColor);
+          drawGridAndCulture(gr, x, y, starMap, info, pixelX, pixelY, true,
+              true);
+          Planet planet = starMap.getPlanetByCoordinate(x, y);
+          Tile tile = drawTile(gr, x, y, 0, 0, starMap, info, pixelX,
+              pixelY, planet);
+          if (tile != null) {
+            drawTileText(gr, x, y, 0, 0, starMap, info, pixelX, pixelY,
+                planet);
+          }
+        }
+      }
+    } finally {
+      cacheDraw = false;
+      gr.dispose();
+    }
+  }
+
+  /**
+   * Draw single sector from static layer cache.
+   * @param gr Graphics2D
+   * @param starMap StarMap
+   * @param info Realm which is viewing the starmap
+   * @param x Sector X coordinate
+   * @param y Sector Y coordinate
+   * @param pixelX Pixel X Coordinate in screen
+   * @param pixelY Pixel Y Coordinate in screen
+   */
+  private void drawCachedSector(final Graphics2D gr, final StarMap starMap,
+      final PlayerInfo info, final int x, final int y, final int pixelX,
+      final int pixelY) {
+    int zoomLevel = starMap.getZoomLevel();
+    int size = MapRenderCache.getChunkSectors(zoomLevel);
+    int tileWidth = Tile.getMaxWidth(zoomLevel);
+    int tileHeight = Tile.getMaxHeight(zoomLevel);
+    MapRenderCache.Chunk chunk = getStaticChunk(starMap, info, x / size,
+        y / size);
+    int sx = x % size * tileWidth;
+    int sy = y % size * tileHeight;
+    gr.drawImage(chunk.getImage(), pixelX, pixelY, pixelX + tileWidth,
+        pixelY + tileHeight, sx, sy, sx + tileWidth, sy + tileHeight, null);
+  }
+
+  /**
+   * Draw static layers for whole view from static layer cache.
+   * @param gr Graphics2D
+   * @param starMap StarMap
+   * @param info Realm which is viewing the starmap
+   * @param cx Center of screen
+   * @param cy Center of screen
+   */
+  private void drawStaticLayer(final Graphics2D gr, final StarMap starMap,
+      final PlayerInfo info, final int cx, final int cy) {
+    int zoomLevel = starMap.getZoomLevel();
+    int size = MapRenderCache.getChunkSectors(zoomLevel);
+    int tileWidth = Tile.getMaxWidth(zoomLevel);
+    int tileHeight = Tile.getMaxHeight(zoomLevel);
+    int firstX = cx - viewPointX;
+    int firstY = cy - viewPointY;
+    int startX = Math.max(0, firstX);
+    int startY = Math.max(0, firstY);
+    int endX = Math.min(starMap.getMaxX(), cx + viewPointX + 1);
+    int endY = Math.min(starMap.getMaxY(), cy + viewPointY + 1);
+    if (startX >= endX || startY >= endY) {
+      return;
+    }
+    for (int chunkY = startY / size; chunkY <= (endY - 1) / size;
+        chunkY++) {
+      for (int chunkX = startX / size; chunkX <= (endX - 1) / size;
+          chunkX++) {
+        MapRenderCache.Chunk chunk = getStaticChunk(starMap, info, chunkX,
+            chunkY);
+        int x0 = Math.max(startX, chunkX * size);
+        int y0 = Math.max(startY, chunkY * size);
+        int x1 = Math.min(endX, chunkX * size + size);
+        int y1 = Math.min(endY, chunkY * size + size);
+        int sx = (x0 - chunkX * size) * tileWidth;
+        int sy = (y0 - chunkY * size) * tileHeight;
+        int dx = viewPointOffsetX + (x0 - firstX) * tileWidth;
+        int dy = viewPointOffsetY + (y0 - firstY) * tileHeight;
+        int width = (x1 - x0) * tileWidth;
+        int height = (y1 - y0) * tileHeight;
+        gr.drawImage(chunk.getImage(), dx, dy, dx + width, dy + height,
+            sx, sy, sx + width, sy + height, null);
+      }
+    }
+  }
+
+  /**
+   * Is static layer cache used when drawing star map.
+   * @return True if static layer cache is used
+   */
+  public boolean isLayerCache() {
+    return layerCache;
+  }
+
+  /**
+   * Set static layer cache used when drawing star map. When cache
+   * is not used every sector is drawn separately.
+   * @param layerCache True to use static layer cache
+   */
+  public void setLayerCache(final boolean layerCache) {
+    this.layerCache = layerCache;
+    renderCache.clear();
+  }
+
+  /**
+   * Get cache for static star map layers.
+   * @return MapRenderCache
+   */
+  public MapRenderCache getRenderCache() {
+    return renderCache;
+  }
+
   /**
    * Draw star map to Map panel
    * @param starMap Star map to draw
    */
   public void drawMap(final StarMap starMap) {
     PlayerInfo info = starMap.getCurrentPlayerInfo();
+    renderCache.setViewer(info);
+    renderCache.update(starMap, info);
     updateAnimationCount++;
     if (updateAnimationCount >= ANIMATION_COUNT_MAX) {
       if (updateAnimation) {
@@ -1085,6 +1403,9 @@ public class MapPanel extends JPanel {
           redrawTile[i][j] = false;
         }
       }
+      if (layerCache) {
+        drawStaticLayer(gr, starMap, info, cx, cy);
+      }
     }
     lastDrawnCenterX = cx;
     lastDrawnCenterY = cy;
@@ -1123,16 +1444,7 @@ public class MapPanel extends JPanel {
         if (!starMap.isValidCoordinate(i + cx, j + cy)) {
           continue;
         }
-        Stroke dashed = new BasicStroke(1, BasicStroke.CAP_SQUARE,
-            BasicStroke.JOIN_BEVEL, 1, new float[] {0.1f, 4.5f }, 0);
-        if (starMap.getZoomLevel() == Tile.ZOOM_IN2) {
-          dashed = new BasicStroke(1, BasicStroke.CAP_SQUARE,
-              BasicStroke.JOIN_BEVEL, 1, new float[] {2.0f, 2.0f }, 0);
-        }
-        if (starMap.getZoomLevel() == Tile.ZOOM_OUT2) {
-          dashed = new BasicStroke(1, BasicStroke.CAP_SQUARE,
-              BasicStroke.JOIN_MITER, 1, new float[] {0.5f, 4.0f }, 0);
-        }
+        Stroke dashed = createGridStroke(starMap.getZoomLevel());
         Stroke full = new BasicStroke(1, BasicStroke.CAP_SQUARE,
             BasicStroke.JOIN_BEVEL, 1, new float[] {1f }, 0);
         gr.setStroke(dashed);
@@ -1155,72 +1467,56 @@ public class MapPanel extends JPanel {
                 Tile.getMaxHeight(starMap.getZoomLevel())), null, pixelX,
                 pixelY);
           }
-          if (i != viewPointX) {
-            // Right line
-            int tileRightEdge = pixelX
-                + Tile.getMaxWidth(starMap.getZoomLevel()) - 1;
-            gr.drawLine(tileRightEdge, pixelY, tileRightEdge,
-                pixelY + Tile.getMaxHeight(starMap.getZoomLevel()) - 1);
-          }
-          if (j != viewPointY) {
-            // Bottom line
-            gr.drawLine(pixelX,
-                pixelY + Tile.getMaxHeight(starMap.getZoomLevel()) - 1,
-                pixelX + Tile.getMaxWidth(starMap.getZoomLevel()) - 1,
-                pixelY + Tile.getMaxHeight(starMap.getZoomLevel()) - 1);
-          }
-          if (info != null && info.getSectorVisibility(new Coordinate(i + cx,
-              j + cy)) != PlayerInfo.UNCHARTED) {
-            CulturePower culture = starMap.getSectorCulture(i + cx, j + cy);
-            if (culture != null) {
-              int index = culture.getHighestCulture();
-              if (index != -1) {
-                PlayerInfo cultureInfo = starMap.getPlayerByIndex(index);
-                Tile tile = Tiles.getTileByName(
-                    cultureInfo.getColor().getCultureTile(),
-                    starMap.getZoomLevel());
-                if (tile != null) {
-                  tile.draw(gr, pixelX, pixelY);
-                }
+          if (layerCache) {
+            if (!fullDraw) {
+              drawCachedSector(gr, starMap, info, i + cx, j + cy, pixelX,
+                  pixelY);
+            }
+            drawAnimatedTile(gr, cx, cy, i, j, starMap, info, pixelX,
+                pixelY);
+            drawFleet(gr, fleetMap, cx, cy, i, j, starMap, info, pixelX,
+                pixelY);
+            drawFogOfWar(gr, cx, cy, i, j, starMap, info, pixelX, pixelY);
+          } else {
+            drawGridAndCulture(gr, cx + i, cy + j, starMap, info, pixelX,
+                pixelY, i != viewPointX, j != viewPointY);
+            Planet planet = starMap.getPlanetByCoordinate(i + cx, j + cy);
+            // Draw tile
+            Tile tile = drawTile(gr, cx, cy, i, j, starMap, info, pixelX,
+                pixelY, planet);
+            Tile tile2 = starMap.getTile(i + cx - 1, j + cy);
+            if (tile2 != null && (tile2.getName().equals(TileNames.SUN_E)
+                || tile2.getName().equals(TileNames.BLUE_STAR_E)
+                || tile2.getName().equals(TileNames.STAR_E))) {
+              redrawTile[i + viewPointX][j + viewPointY] = false;
+              if (i > -viewPointX) {
+                redrawTile[i + viewPointX - 1][j + viewPointY] = true;
               }
             }
-          }
-          Planet planet = starMap.getPlanetByCoordinate(i + cx, j + cy);
-          // Draw tile
-          Tile tile = drawTile(gr, cx, cy, i, j, starMap, info, pixelX,
-              pixelY, planet);
-          Tile tile2 = starMap.getTile(i + cx - 1, j + cy);
-          if (tile2 != null && (tile2.getName().equals(TileNames.SUN_E)
-              || tile2.getName().equals(TileNames.BLUE_STAR_E)
-              || tile2.getName().equals(TileNames.STAR_E))) {
-            redrawTile[i + viewPointX][j + viewPointY] = false;
-            if (i > -viewPointX) {
-              redrawTile[i + viewPointX - 1][j + viewPointY] = true;
+            if (starMap.getZoomLevel() == Tile.ZOOM_OUT2 && tile != null
+                && tile.getName().equals(TileNames.EMPTY)) {
+              Tile tile3 = starMap.getTile(i + cx - 2, j + cy);
+              if (tile3 != null && (tile3.getName().equals(TileNames.SUN_E)
+                  || tile3.getName().equals(TileNames.BLUE_STAR_E)
+                  || tile3.getName().equals(TileNames.STAR_E))) {
+                redrawTile[i + viewPointX][j + viewPointY] = false;
+              }
             }
-          }
-          if (starMap.getZoomLevel() == Tile.ZOOM_OUT2 && tile != null
-              && tile.getName().equals(TileNames.EMPTY)) {
-            Tile tile3 = starMap.getTile(i + cx - 2, j + cy);
-            if (tile3 != null && (tile3.getName().equals(TileNames.SUN_E)
-                || tile3.getName().equals(TileNames.BLUE_STAR_E)
-                || tile3.getName().equals(TileNames.STAR_E))) {
-              redrawTile[i + viewPointX][j + viewPointY] = false;
+            if (tile == null) {
+              continue;
             }
-          }
-          if (tile == null) {
-            continue;
-          }
 
-          // Draw Tile text
-          drawTileText(gr, cx, cy, i, j, starMap, info, pixelX,
-              pixelY, planet);
-
-          // Draw fleet
-          drawFleet(gr, fleetMap, cx, cy, i, j, starMap, info, pixelX, pixelY);
+            // Draw Tile text
+            drawTileText(gr, cx, cy, i, j, starMap, info, pixelX,
+                pixelY, planet);
 
-          // Draw fog of war and uncharted tiles
-          drawFogOfWar(gr, cx, cy, i, j, starMap, info, pixelX, pixelY);
+            // Draw fleet
+            drawFleet(gr, fleetMap, cx, cy, i, j, starMap, info, pixelX,
+                pixelY);
 
+            // Draw fog of war and uncharted tiles
+            drawFogOfWar(gr, cx, cy, i, j, starMap, info, pixelX, pixelY);
+          }
 
           if (routeData != null && routeData[i + cx][j + cy] == 1) {
             int offsetX = 0;
@@ -1896,21 +2192,15 @@ public class MapPanel extends JPanel {
           BufferedImage img = ShipImageFactor.create(
               ship.getShip().getHull().getRace().getSpaceShipId())
               .getShipImage(ship.getShip().getHull().getImageIndex());
+          if (ship.isFlipY()) {
+            img = ImageAssets.getFlippedY(img);
+          }
           if (ship.isCloakOverloaded()) {
             img = GraphRoutines.greyTransparent(img, transparency);
           } else if (ship.isCloaked()) {
             img = GraphRoutines.transparent(img, transparency);
           }
-          if (ship.isFlipY()) {
-            AffineTransform at = AffineTransform.getScaleInstance(1, -1);
-            at.translate(0, -img.getHeight(null));
-            AffineTransformOp ato = new AffineTransformOp(at,
-                AffineTransformOp.TYPE_NEAREST_NEIGHBOR);
-            BufferedImage flipImg = ato.filter(img, null);
-            gr.drawImage(flipImg, pixelX, pixelY, null);
-          } else {
-            gr.drawImage(img, pixelX, pixelY, null);
-          }
+          gr.drawImage(img, pixelX, pixelY, null);
         }
 
         if (i == combat.getCursorX() && j == combat.getCursorY()
@@ -0,0 +1,477 @@
+package org.openRealmOfStars.gui.mapPanel;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.openRealmOfStars.mapTiles.Tile;
+import org.openRealmOfStars.mapTiles.Tiles;
+import org.openRealmOfStars.player.PlayerInfo;
+import org.openRealmOfStars.player.VisibilityMap;
+import org.openRealmOfStars.starMap.Coordinate;
+import org.openRealmOfStars.starMap.CulturePower;
+import org.openRealmOfStars.starMap.StarMap;
+import org.openRealmOfStars.starMap.planet.Planet;
+
+/**
+*
+* Cache for static star map layers. Map is split into square chunks
+* of sectors and each chunk is drawn into its own image for each zoom
+* level. Chunk image contains grid, culture borders, map tiles and
+* texts. Animated tiles are not drawn into chunks, those are drawn
+* separately after chunks with fleets, fog of war, route and cursor
+* every frame. Each chunk remembers signature of the sectors it
+* was drawn from, so chunk is drawn again only when sectors change.
+* Signature is calculated again only for stale chunks. Chunks become
+* stale when viewer's visibility journal has changes in their sectors
+* or when star map tiles or culture change.
+* Least recently used chunks are dropped when cache is full.
+*
+*/
+public class MapRenderCache {
+
+  /**
+   * Approximate chunk size in pixels.
+   */
+  public static final int CHUNK_PIXELS = 512;
+
+  /**
+   * Minimum chunk size in sectors.
+   */
+  private static final int MIN_CHUNK_SECTORS = 4;
+
+  /**
+   * Minimum number of chunks in cache.
+   */
+  private static final int MIN_CAPACITY = 16;
+
+  /**
+   * Extra sectors on left and right side which texts may overlap
+   * in pixels.
+   */
+  private static final int TEXT_MARGIN_PIXELS = 96;
+
+  /**
+   * Tile value used in signature for animated tiles. Animation frame
+   * does not change the signature.
+   */
+  private static final int ANIMATED_TILE = -1;
+
+  /**
+   * No changed sectors.
+   */
+  private static final int[] NO_CHANGES = new int[0];
+
+  /**
+   * Single cached chunk.
+   */
+  public static final class Chunk {
+    /**
+     * Chunk image.
+     */
+    private final BufferedImage image;
+    /**
+     * Signature of sectors when chunk was drawn.
+     */
+    private long signature;
+    /**
+     * Is signature needed to check again.
+     */
+    private boolean stale;
+    /**
+     * First X coordinate of sectors drawn into chunk.
+     */
+    private final int startX;
+    /**
+     * First Y coordinate of sectors drawn into chunk.
+     */
+    private final int startY;
+    /**
+     * End X coordinate of sectors drawn into chunk, exclusive.
+     */
+    private final int endX;
+    /**
+     * End Y coordinate of sectors drawn into chunk, exclusive.
+     */
+    private final int endY;
+
+    /**
+     * Create chunk
+     * @param image Chunk image
+     * @param signature Signature of sectors in chunk
+     * @param start Coordinate of first sector drawn into chunk
+     * @param end End coordinate of sectors drawn into chunk, exclusive
+     */
+    Chunk(final BufferedImage image, final long signature,
+        final Coordinate start, final Coordinate end) {
+      this.image = image;
+      this.signature = signature;
+      this.startX = start.getX();
+      this.startY = start.getY();
+      this.endX = end.getX();
+      this.endY = end.getY();
+    }
+
+    /**
+     * Get chunk image.
+     * @return BufferedImage
+     */
+    public BufferedImage getImage() {
+      return image;
+    }
+
+    /**
+     * Get signature of sectors when chunk was drawn.
+     * @return Signature
+     */
+    public long getSignature() {
+      return signature;
+    }
+
+    /**
+     * Set signature of sectors in chunk.
+     * @param signature Signature
+     */
+    public void setSignature(final long signature) {
+      this.signature = signature;
+    }
+
+    /**
+     * Is signature needed to check again.
+     * @return True if sectors in chunk may have changed
+     */
+    public boolean isStale() {
+      return stale;
+    }
+
+    /**
+     * Set is signature needed to check again.
+     * @param stale True if sectors in chunk may have changed
+     */
+    public void setStale(final boolean stale) {
+      this.stale = stale;
+    }
+
+    /**
+     * Is sector drawn into chunk.
+     * @param x Sector X coordinate
+     * @param y Sector Y coordinate
+     * @return True if sector is drawn into chunk
+     */
+    boolean contains(final int x, final int y) {
+      return x >= startX && x < endX && y >= startY && y < endY;
+    }
+  }
+
+  /**
+   * Chunks in least recently used order.
+   */
+  private final LinkedHashMap<Long, Chunk> chunks;
+
+  /**
+   * Maximum number of chunks.
+   */
+  private int capacity;
+
+  /**
+   * Realm whose view is cached.
+   */
+  private PlayerInfo viewer;
+
+  /**
+   * Star map when chunks were last updated.
+   */
+  private StarMap map;
+
+  /**
+   * Visibility map of viewer when chunks were last updated.
+   */
+  private VisibilityMap visibility;
+
+  /**
+   * Position in visibility journal when chunks were last updated.
+   */
+  private long journalPosition;
+
+  /**
+   * Star map sector changes when chunks were last updated.
+   */
+  private int sectorChanges;
+
+  /**
+   * Create map render cache.
+   */
+  public MapRenderCache() {
+    capacity = MIN_CAPACITY;
+    chunks = new LinkedHashMap<Long, Chunk>(MIN_CAPACITY, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+      @Override
+      protected boolean removeEldestEntry(
+          final Map.Entry<Long, Chunk> eldest) {
+        return size() > capacity;
+      }
+    };
+  }
+
+  /**
+   * Get chunk size in sectors for zoom level.
+   * @param zoomLevel Zoom level
+   * @return Chunk width and height in sectors
+   */
+  public static int getChunkSectors(final int zoomLevel) {
+    return Math.max(MIN_CHUNK_SECTORS,
+        CHUNK_PIXELS / Tile.getMaxWidth(zoomLevel));
+  }
+
+  /**
+   * Get number of extra sectors on left and right side of chunk whose
+   * texts may be drawn into chunk.
+   * @param zoomLevel Zoom level
+   * @return Number of sectors
+   */
+  public static int getTextMargin(final int zoomLevel) {
+    int tileWidth = Tile.getMaxWidth(zoomLevel);
+    return (TEXT_MARGIN_PIXELS + tileWidth - 1) / tileWidth;
+  }
+
+  /**
+   * Set capacity for number of visible sectors. Cache holds twice
+   * the chunks needed for filling the view.
+   * @param sectorsX Visible sectors in X axel
+   * @param sectorsY Visible sectors in Y axel
+   * @param zoomLevel Zoom level
+   */
+  public void setCapacity(final int sectorsX, final int sectorsY,
+      final int zoomLevel) {
+    int size = getChunkSectors(zoomLevel);
+    int chunksX = sectorsX / size + 2;
+    int chunksY = sectorsY / size + 2;
+    capacity = Math.max(capacity, Math.max(MIN_CAPACITY,
+        chunksX * chunksY * 2));
+  }
+
+  /**
+   * Get maximum number of chunks.
+   * @return Capacity
+   */
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * Get number of cached chunks.
+   * @return Number of chunks
+   */
+  public int getNumberOfChunks() {
+    return chunks.size();
+  }
+
+  /**
+   * Make key for chunk.
+   * @param zoomLevel Zoom level
+   * @param chunkX Chunk X coordinate
+   * @param chunkY Chunk Y coordinate
+   * @return Key
+   */
+  private static Long makeKey(final int zoomLevel, final int chunkX,
+      final int chunkY) {
+    long key = zoomLevel + 16L;
+    key = (key << 24) | (chunkX & 0xffffff);
+    key = (key << 24) | (chunkY & 0xffffff);
+    return Long.valueOf(key);
+  }
+
+  /**
+   * Get cached chunk.
+   * @param zoomLevel Zoom level
+   * @param chunkX Chunk X coordinate
+   * @param chunkY Chunk Y coordinate
+   * @return Chunk or null if not cached
+   */
+  public Chunk getChunk(final int zoomLevel, final int chunkX,
+      final int chunkY) {
+    return chunks.get(makeKey(zoomLevel, chunkX, chunkY));
+  }
+
+  /**
+   * Create new chunk into cache. Chunk image is transparent.
+   * @param zoomLevel Zoom level
+   * @param chunkX Chunk X coordinate
+   * @param chunkY Chunk Y coordinate
+   * @param signature Signature of sectors in chunk
+   * @return Chunk
+   */
+  public Chunk createChunk(final int zoomLevel, final int chunkX,
+      final int chunkY, final long signature) {
+    int size = getChunkSectors(zoomLevel);
+    int margin = getTextMargin(zoomLevel);
+    int width = size * Tile.getMaxWidth(zoomLevel);
+    int height = size * Tile.getMaxHeight(zoomLevel);
+    BufferedImage image;
+    if (GraphicsEnvironment.isHeadless()) {
+      image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    } else {
+      image = GraphicsEnvironment.getLocalGraphicsEnvironment()
+          .getDefaultScreenDevice().getDefaultConfiguration()
+          .createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+    }
+    Coordinate start = new Coordinate(chunkX * size - margin,
+        chunkY * size - 1);
+    Coordinate end = new Coordinate(chunkX * size + size + margin,
+        chunkY * size + size + 1);
+    Chunk chunk = new Chunk(image, signature, start, end);
+    chunks.put(makeKey(zoomLevel, chunkX, chunkY), chunk);
+    return chunk;
+  }
+
+  /**
+   * Drop all cached chunks.
+   */
+  public void clear() {
+    chunks.clear();
+  }
+
+  /**
+   * Set realm whose view is cached. If realm changes all chunks are
+   * dropped.
+   * @param info Realm viewing the map
+   */
+  public void setViewer(final PlayerInfo info) {
+    if (viewer != info) {
+      clear();
+      viewer = info;
+    }
+  }
+
+  /**
+   * Mark chunks stale whose sectors have changed since last update.
+   * Changed sectors are read from viewer's visibility journal. Tile
+   * and culture changes in star map mark all chunks stale.
+   * @param starMap StarMap
+   * @param info Realm viewing the map, can be null
+   */
+  public void update(final StarMap starMap, final PlayerInfo info) {
+    VisibilityMap visibilityMap = null;
+    if (info != null) {
+      visibilityMap = info.getVisibilityMap();
+    }
+    int stamp = starMap.getSectorChanges();
+    boolean all = starMap != map || visibilityMap != visibility
+        || stamp != sectorChanges;
+    int[] changes = NO_CHANGES;
+    if (visibilityMap != null) {
+      if (!all) {
+        changes = visibilityMap.getChangesSince(journalPosition);
+      }
+      if (changes == null || all) {
+        all = true;
+        journalPosition = visibilityMap.getJournalPosition();
+      } else {
+        journalPosition = journalPosition + changes.length;
+      }
+    }
+    map = starMap;
+    visibility = visibilityMap;
+    sectorChanges = stamp;
+    if (all) {
+      for (Chunk chunk : chunks.values()) {
+        chunk.setStale(true);
+      }
+      return;
+    }
+    int maxX = starMap.getMaxX();
+    for (int sector : changes) {
+      int x = sector % maxX;
+      int y = sector / maxX;
+      for (Chunk chunk : chunks.values()) {
+        if (chunk.contains(x, y)) {
+          chunk.setStale(true);
+        }
+      }
+    }
+  }
+
+  /**
+   * Is tile animated. Animated tiles are not drawn into chunks.
+   * @param tile Tile
+   * @return True if tile has animation frames
+   */
+  public static boolean isAnimated(final Tile tile) {
+    return tile.getAnimationIndex() != tile.getIndex();
+  }
+
+  /**
+   * Calculate signature for sectors. Signature changes when tile,
+   * charted state, culture owner, home world status or planet order
+   * number changes in any of the sectors. Animated tiles have same
+   * signature in every animation frame.
+   * @param starMap StarMap
+   * @param info Realm viewing the map
+   * @param startX Start X coordinate
+   * @param startY Start Y coordinate
+   * @param endX End X coordinate, exclusive
+   * @param endY End Y coordinate, exclusive
+   * @return Signature
+   */
+  public static long calculateSignature(final StarMap starMap,
+      final PlayerInfo info, final int startX, final int startY,
+      final int endX, final int endY) {
+    long signature = 17;
+    int x0 = Math.max(0, startX);
+    int y0 = Math.max(0, startY);
+    int x1 = Math.min(starMap.getMaxX(), endX);
+    int y1 = Math.min(starMap.getMaxY(), endY);
+    for (int y = y0; y < y1; y++) {
+      for (int x = x0; x < x1; x++) {
+        int value = starMap.getTileIndex(x, y);
+        if (isAnimated(Tiles.getTileByIndex(value))) {
+          value = ANIMATED_TILE;
+        }
+        int charted = 0;
+        if (info != null
+            && info.getSectorVisibility(x, y) != PlayerInfo.UNCHARTED) {
+          charted = 1;
+        }
+        int cultureIndex = -1;
+        int planetValue = 0;
+        if (charted == 1) {
+          CulturePower culture = starMap.getSectorCulture(x, y);
+          if (culture != null) {
+            cultureIndex = culture.getHighestCulture();
+          }
+          Planet planet = starMap.getPlanetByCoordinate(x, y);
+          if (planet != null) {
+            planetValue = planet.getOrderNumber() * 2 + 1;
+            if (planet.isHomeWorld()) {
+              planetValue++;
+            }
+          }
+        }
+        value = value * 31 + charted;
+        value = value * 31 + cultureIndex;
+        value = value * 31 + planetValue;
+        signature = signature * 1000003 + value;
+      }
+    }
+    return signature;
+  }
+}
@@ -33,6 +33,7 @@ import org.openRealmOfStars.gui.mapPanel.PlanetAnimation;
 import org.openRealmOfStars.gui.util.GraphRoutines;
 import org.openRealmOfStars.gui.util.GuiFonts;
 import org.openRealmOfStars.gui.util.GuiStatics;
+import org.openRealmOfStars.gui.util.ImageAssets;
 import org.openRealmOfStars.gui.util.UIScale;
 import org.openRealmOfStars.mapTiles.Tile;
 import org.openRealmOfStars.mapTiles.TileNames;
@@ -419,7 +420,7 @@ public class BigImagePanel extends JPanel {
       orbitalX = Math.cos(Math.toRadians(orbitalAngle));
       orbitalZ = Math.sin(Math.toRadians(orbitalAngle));
       int newSize = (int) (5 + (orbitalZ + 1) * 42.5);
-      BufferedImage scaled = GraphRoutines.scaleImage(orbitalImage,
+      BufferedImage scaled = ImageAssets.getScaled(orbitalImage,
           newSize, newSize);
       int width = backgroundImg.getWidth() / 2;
       g2d.drawImage(scaled,
@@ -857,10 +858,10 @@ public class BigImagePanel extends JPanel {
       int imgWid = img.getWidth() / 2;
       int screenWid = this.getWidth() / 3;
       if (imgWid < screenWid) {
-        img = GraphRoutines.scaleImage(img, img.getWidth() / 2,
+        img = ImageAssets.getScaled(img, img.getWidth() / 2,
             img.getHeight() / 2);
       } else {
-        img = GraphRoutines.scaleImage(img, img.getWidth() / 3,
+        img = ImageAssets.getScaled(img, img.getWidth() / 3,
             img.getHeight() / 3);
       }
     }
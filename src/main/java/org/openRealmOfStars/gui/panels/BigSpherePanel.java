@@ -33,6 +33,8 @@ import org.openRealmOfStars.gui.mapPanel.PlanetAnimation;
 import org.openRealmOfStars.gui.util.GraphRoutines;
 import org.openRealmOfStars.gui.util.GuiFonts;
 import org.openRealmOfStars.gui.util.GuiStatics;
+import org.openRealmOfStars.gui.util.ImageAssets;
+import org.openRealmOfStars.gui.util.SphereRenderer;
 import org.openRealmOfStars.gui.util.UIScale;
 import org.openRealmOfStars.player.PlayerInfo;
 import org.openRealmOfStars.player.ship.ShipImage;
@@ -134,6 +136,10 @@ public class BigSpherePanel extends JPanel {
    * Planet's texture offset for rotation
    */
   private int planetTextureOffset = 0;
+  /**
+   * Renderer for rotating planet sphere.
+   */
+  private SphereRenderer sphereRenderer;
   /**
    * Create BigSpherePanel
    * @param starField Use star field or not
@@ -263,6 +269,7 @@ public class BigSpherePanel extends JPanel {
       g2d.drawImage(temp, 0, 0, null);
       g2d.drawImage(temp, backgroundImg.getWidth() / 2, 0, null);
     }
+    sphereRenderer = new SphereRenderer(backgroundImg);
     drawStarField = starField;
     this.title = title;
     this.shipImages = null;
@@ -412,34 +419,9 @@ public class BigSpherePanel extends JPanel {
    */
   private void paintSphere(final Graphics2D g2d,
        final int offsetX, final int offsetY) {
-    double westAngle = 0;
-    double northAngle = 0;
-    final int maxPixelSize = 8;
-    for (int i = 0; i < 360; i++) {
-      westAngle = 0;
-      for (int j = 0; j < 180; j++) {
-        double y = Math.sin(Math.toRadians(northAngle / 2.0));
-        double x = -Math.cos(Math.toRadians(westAngle)) * y
-            * backgroundImg.getWidth() / 4.0 + backgroundImg.getWidth() / 8.0;
-        double z = Math.sin(Math.toRadians(westAngle)) * y * maxPixelSize;
-        y = -Math.cos(Math.toRadians(northAngle / 2.0))
-            * backgroundImg.getHeight() / 2.0 + backgroundImg.getHeight() / 2.0;
-        int size = (int) z;
-        if (size < 0) {
-          size = 1;
-        }
-        if (size > maxPixelSize) {
-          size = maxPixelSize;
-        }
-        int color = backgroundImg.getRGB(planetTextureOffset + j, i);
-        g2d.setColor(new Color(color));
-        if (size > 0) {
-          g2d.fillOval(offsetX + (int) x, offsetY + (int) y, size, size);
-        }
-        westAngle++;
-      }
-      northAngle++;
-    }
+    g2d.drawImage(sphereRenderer.render(planetTextureOffset),
+        offsetX + sphereRenderer.getOriginX(),
+        offsetY + sphereRenderer.getOriginY(), null);
     planetTextureOffset++;
     if (planetTextureOffset >= backgroundImg.getWidth() / 2) {
       planetTextureOffset = 0;
@@ -458,7 +440,7 @@ public class BigSpherePanel extends JPanel {
       orbitalX = Math.cos(Math.toRadians(orbitalAngle));
       orbitalZ = Math.sin(Math.toRadians(orbitalAngle));
       int newSize = (int) (5 + (orbitalZ + 1) * 42.5);
-      BufferedImage scaled = GraphRoutines.scaleImage(orbitalImage,
+      BufferedImage scaled = ImageAssets.getScaled(orbitalImage,
           newSize, newSize);
       int width = backgroundImg.getWidth() / 2;
       g2d.drawImage(scaled,
@@ -772,10 +754,10 @@ public class BigSpherePanel extends JPanel {
       int imgWid = img.getWidth() / 2;
       int screenWid = this.getWidth() / 3;
       if (imgWid < screenWid) {
-        img = GraphRoutines.scaleImage(img, img.getWidth() / 2,
+        img = ImageAssets.getScaled(img, img.getWidth() / 2,
             img.getHeight() / 2);
       } else {
-        img = GraphRoutines.scaleImage(img, img.getWidth() / 3,
+        img = ImageAssets.getScaled(img, img.getWidth() / 3,
             img.getHeight() / 3);
       }
     }
@@ -33,8 +33,8 @@ import org.openRealmOfStars.gui.icons.Icons;
 import org.openRealmOfStars.gui.labels.BaseInfoTextArea;
 import org.openRealmOfStars.gui.labels.IconLabel;
 import org.openRealmOfStars.gui.labels.SpaceLabel;
-import org.openRealmOfStars.gui.util.GraphRoutines;
 import org.openRealmOfStars.gui.util.GuiStatics;
+import org.openRealmOfStars.gui.util.ImageAssets;
 import org.openRealmOfStars.gui.util.UIScale;
 import org.openRealmOfStars.player.message.Message;
 import org.openRealmOfStars.player.message.MmType;
@@ -122,7 +122,7 @@ public class MessagePanel extends JPanel {
     btnFilter = new IconButton(Icons.getIconByName(Icons.ICON_FILTER_OFF),
         Icons.getIconByName(Icons.ICON_FILTER_OFF), false,
         GameCommands.COMMAND_FILTER_MSG, pane);
-    btnFilter.setRollOverImage(GraphRoutines.addGlow(
+    btnFilter.setRollOverImage(ImageAssets.getGlow(
         Icons.getIconByName(Icons.ICON_FILTER_OFF).getIcon()));
     btnFilter.addActionListener(listener);
     pane.add(UIScale.scaledRigidArea(3, 20));
@@ -153,7 +153,7 @@ public class MessagePanel extends JPanel {
     btnShowAll = new IconButton(Icons.getIconByName(Icons.ICON_CLOSED),
         Icons.getIconByName(Icons.ICON_CLOSED), false,
         GameCommands.COMMAND_SHOW_MSG, pane);
-    btnShowAll.setRollOverImage(GraphRoutines.addGlow(
+    btnShowAll.setRollOverImage(ImageAssets.getGlow(
         Icons.getIconByName(Icons.ICON_CLOSED).getIcon()));
     btnShowAll.addActionListener(listener);
     showAll = false;
@@ -194,7 +194,7 @@ public class MessagePanel extends JPanel {
           .getIcon());
       btnFilter.setNotPressedImage(Icons.getIconByName(Icons.ICON_FILTER_ON)
           .getIcon());
-      btnFilter.setRollOverImage(GraphRoutines.addGlow(
+      btnFilter.setRollOverImage(ImageAssets.getGlow(
         Icons.getIconByName(Icons.ICON_FILTER_ON).getIcon()));
       btnFilter.setToolTipText("<HTML>Click to unfilter message type</HTML>");
     } else {
@@ -202,7 +202,7 @@ public class MessagePanel extends JPanel {
           .getIcon());
       btnFilter.setNotPressedImage(Icons.getIconByName(Icons.ICON_FILTER_OFF)
           .getIcon());
-      btnFilter.setRollOverImage(GraphRoutines.addGlow(
+      btnFilter.setRollOverImage(ImageAssets.getGlow(
         Icons.getIconByName(Icons.ICON_FILTER_OFF).getIcon()));
       btnFilter.setToolTipText("<HTML>Click to filter message type</HTML>");
     }
@@ -223,7 +223,7 @@ public class MessagePanel extends JPanel {
           .getIcon());
       btnShowAll.setNotPressedImage(Icons.getIconByName(Icons.ICON_CLOSED)
           .getIcon());
-      btnShowAll.setRollOverImage(GraphRoutines.addGlow(
+      btnShowAll.setRollOverImage(ImageAssets.getGlow(
         Icons.getIconByName(Icons.ICON_CLOSED).getIcon()));
       btnShowAll.setToolTipText("<HTML>Click to show all messages,"
           + " including filtered</HTML>");
@@ -233,7 +233,7 @@ public class MessagePanel extends JPanel {
           .getIcon());
       btnShowAll.setNotPressedImage(Icons.getIconByName(Icons.ICON_AIRLOCK_OPEN)
           .getIcon());
-      btnShowAll.setRollOverImage(GraphRoutines.addGlow(
+      btnShowAll.setRollOverImage(ImageAssets.getGlow(
         Icons.getIconByName(Icons.ICON_AIRLOCK_OPEN).getIcon()));
       btnShowAll.setToolTipText("<HTML>Click to hide filtered messages</HTML>");
     }
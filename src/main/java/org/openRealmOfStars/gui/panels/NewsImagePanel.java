@@ -31,7 +31,6 @@ import org.openRealmOfStars.gui.util.GraphRoutines;
 import org.openRealmOfStars.gui.util.GuiFonts;
 import org.openRealmOfStars.gui.util.GuiStatics;
 import org.openRealmOfStars.gui.util.UIScale;
-import org.openRealmOfStars.utilities.FileIo.IOUtilities;
 
 /**
  *
@@ -105,8 +104,7 @@ public class NewsImagePanel extends JPanel {
   public NewsImagePanel(final int width, final int height) {
     super();
     image = new BufferedImage(width, height, BufferedImage.TYPE_4BYTE_ABGR);
-    backgroundImage = IOUtilities.loadImage(
-        "/resources/images/news_room_in_action.png");
+    backgroundImage = GuiStatics.getNewsRoom();
     Dimension origSize = new Dimension(backgroundImage.getWidth(),
         backgroundImage.getHeight());
     backgroundImage = GraphRoutines.scaleImage(backgroundImage,
@@ -140,6 +138,26 @@ public class NewsImagePanel extends JPanel {
   public int getNewsImageHeight() {
     return newsImageHeight;
   }
+
+  /**
+   * Calculate news image size for frame size without creating panel.
+   * @param width frame width
+   * @param height frame height
+   * @return News image size or null if background cannot be loaded
+   */
+  public static Dimension getNewsImageSize(final int width,
+      final int height) {
+    BufferedImage background = GuiStatics.getNewsRoom();
+    if (background == null) {
+      return null;
+    }
+    int origWidth = background.getWidth();
+    Dimension scaledSize = GraphRoutines.getScaledSize(origWidth,
+        background.getHeight(), width, height);
+    return new Dimension(
+        ORIGINAL_NEWS_IMAGE_WIDTH * scaledSize.width / origWidth,
+        ORIGINAL_NEWS_IMAGE_HEIGHT * scaledSize.width / origWidth);
+  }
   /**
    * Change news image
    * @param picture News Picture to show
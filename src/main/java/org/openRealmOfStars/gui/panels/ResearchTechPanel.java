@@ -30,8 +30,8 @@ import javax.swing.event.ChangeListener;
 import org.openRealmOfStars.gui.buttons.IconButton;
 import org.openRealmOfStars.gui.icons.Icons;
 import org.openRealmOfStars.gui.labels.IconLabel;
-import org.openRealmOfStars.gui.util.GraphRoutines;
 import org.openRealmOfStars.gui.util.GuiStatics;
+import org.openRealmOfStars.gui.util.ImageAssets;
 
 /**
  *
@@ -99,7 +99,7 @@ public class ResearchTechPanel extends SpaceGreyPanel {
         Icons.getIconByName(Icons.ICON_MINUS_PRESSED), false, actionMinus,
         this);
     btnMinus.setRollOverImage(
-        GraphRoutines.addGlow(Icons.getIconByName(Icons.ICON_MINUS).getIcon()));
+        ImageAssets.getGlow(Icons.getIconByName(Icons.ICON_MINUS).getIcon()));
     btnMinus.addActionListener(listener);
     this.add(Box.createRigidArea(new Dimension(5, 5)));
     this.add(btnMinus);
@@ -141,7 +141,7 @@ public class ResearchTechPanel extends SpaceGreyPanel {
     btnUpgrade.setDisabledImage(
         Icons.getIconByName(Icons.ICON_ARROWUP_DISABLED).getIcon());
     btnUpgrade.setRollOverImage(
-        GraphRoutines.addGlow(Icons.getIconByName(Icons.ICON_ARROWUP)
+        ImageAssets.getGlow(Icons.getIconByName(Icons.ICON_ARROWUP)
             .getIcon()));
     btnUpgrade.addActionListener(listener);
     btnUpgrade.setEnabled(false);
@@ -151,7 +151,7 @@ public class ResearchTechPanel extends SpaceGreyPanel {
     btnPlus = new IconButton(Icons.getIconByName(Icons.ICON_PLUS),
         Icons.getIconByName(Icons.ICON_PLUS_PRESSED), false, actionPlus, this);
     btnPlus.setRollOverImage(
-        GraphRoutines.addGlow(Icons.getIconByName(Icons.ICON_PLUS)
+        ImageAssets.getGlow(Icons.getIconByName(Icons.ICON_PLUS)
             .getIcon()));
 
     btnPlus.addActionListener(listener);
@@ -17,6 +17,7 @@ package org.openRealmOfStars.gui.util;
  * along with this program; if not, see http://www.gnu.org/licenses/
  */
 
+import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
@@ -152,19 +153,15 @@ public final class GraphRoutines {
     return resizedImage;
   }
 /**
-   * Scale image and maintaing the aspect ration
-   * @param image Image to scale
+   * Calculate size of scaled image maintaining the aspect ratio.
+   * @param origWidth Original width
+   * @param origHeight Original height
    * @param maxWidth New maximum width
    * @param maxHeight New maximum height
-   * @return Scaled buffered image
+   * @return Scaled size
    */
-  public static BufferedImage scaleImage(final BufferedImage image,
-      final int maxWidth, final int maxHeight) {
-    if (image == null) {
-      return null;
-    }
-    int origWidth = image.getWidth();
-    int origHeight = image.getHeight();
+  public static Dimension getScaledSize(final int origWidth,
+      final int origHeight, final int maxWidth, final int maxHeight) {
     int width = origWidth;
     int height = origHeight;
     if (origWidth > maxWidth) {
@@ -185,6 +182,25 @@ public final class GraphRoutines {
         width = height * origWidth / origHeight;
       }
     }
+    return new Dimension(width, height);
+  }
+
+  /**
+   * Scale image and maintaing the aspect ration
+   * @param image Image to scale
+   * @param maxWidth New maximum width
+   * @param maxHeight New maximum height
+   * @return Scaled buffered image
+   */
+  public static BufferedImage scaleImage(final BufferedImage image,
+      final int maxWidth, final int maxHeight) {
+    if (image == null) {
+      return null;
+    }
+    Dimension size = getScaledSize(image.getWidth(), image.getHeight(),
+        maxWidth, maxHeight);
+    int width = size.width;
+    int height = size.height;
     BufferedImage resizedImage = new BufferedImage(width, height,
         image.getType());
     Graphics2D gr2D = resizedImage.createGraphics();
@@ -42,7 +42,6 @@ import org.openRealmOfStars.gui.scheme.YellowScheme;
 import org.openRealmOfStars.gui.scrollPanel.SpaceScrollBarUI;
 import org.openRealmOfStars.player.race.SpaceRace;
 import org.openRealmOfStars.utilities.FileIo.Folders;
-import org.openRealmOfStars.utilities.FileIo.IOUtilities;
 
 /**
  *
@@ -294,33 +293,379 @@ public final class GuiStatics {
   /** Player color sky. */
   public static final Color PLAYER_SKY = new Color(110, 127, 217);
 
+  /** Image file bigicons.png */
+  private static final String PATH_BIGICONS =
+      "/resources/images/bigicons.png";
+
+  /** Image file photon_torp.png */
+  private static final String PATH_PHOTON_TORP =
+      "/resources/images/photon_torp.png";
+
+  /** Image file plasma.png */
+  private static final String PATH_PLASMA =
+      "/resources/images/plasma.png";
+
+  /** Image file crosshair.png */
+  private static final String PATH_CROSSHAIR =
+      "/resources/images/crosshair.png";
+
+  /** Image file oros-logo32.png */
+  private static final String PATH_OROS_LOGO32 =
+      "/resources/images/oros-logo32.png";
+
+  /** Image file oros-logo48.png */
+  private static final String PATH_OROS_LOGO48 =
+      "/resources/images/oros-logo48.png";
+
+  /** Image file oros-logo64.png */
+  private static final String PATH_OROS_LOGO64 =
+      "/resources/images/oros-logo64.png";
+
+  /** Image file oros-logo128.png */
+  private static final String PATH_OROS_LOGO128 =
+      "/resources/images/oros-logo128.png";
+
+  /** Image file red_crosshair.png */
+  private static final String PATH_RED_CROSSHAIR =
+      "/resources/images/red_crosshair.png";
+
+  /** Image file rock1.png */
+  private static final String PATH_ROCK1 =
+      "/resources/images/rock1.png";
+
+  /** Image file waterworld1.png */
+  private static final String PATH_WATERWORLD1 =
+      "/resources/images/waterworld1.png";
+
+  /** Image file waterworld2.png */
+  private static final String PATH_WATERWORLD2 =
+      "/resources/images/waterworld2.png";
+
+  /** Image file waterworld3.png */
+  private static final String PATH_WATERWORLD3 =
+      "/resources/images/waterworld3.png";
+
+  /** Image file waterworld4.png */
+  private static final String PATH_WATERWORLD4 =
+      "/resources/images/waterworld4.png";
+
+  /** Image file waterworld5.png */
+  private static final String PATH_WATERWORLD5 =
+      "/resources/images/waterworld5.png";
+
+  /** Image file waterworld6.png */
+  private static final String PATH_WATERWORLD6 =
+      "/resources/images/waterworld6.png";
+
+  /** Image file waterworld7.png */
+  private static final String PATH_WATERWORLD7 =
+      "/resources/images/waterworld7.png";
+
+  /** Image file waterworld8.png */
+  private static final String PATH_WATERWORLD8 =
+      "/resources/images/waterworld8.png";
+
+  /** Image file waterworld9.png */
+  private static final String PATH_WATERWORLD9 =
+      "/resources/images/waterworld9.png";
+
+  /** Image file iceworld1.png */
+  private static final String PATH_ICEWORLD1 =
+      "/resources/images/iceworld1.png";
+
+  /** Image file iceworld2.png */
+  private static final String PATH_ICEWORLD2 =
+      "/resources/images/iceworld2.png";
+
+  /** Image file iceworld3.png */
+  private static final String PATH_ICEWORLD3 =
+      "/resources/images/iceworld3.png";
+
+  /** Image file iceworld4.png */
+  private static final String PATH_ICEWORLD4 =
+      "/resources/images/iceworld4.png";
+
+  /** Image file carbonworld1.png */
+  private static final String PATH_CARBONWORLD1 =
+      "/resources/images/carbonworld1.png";
+
+  /** Image file carbonworld2.png */
+  private static final String PATH_CARBONWORLD2 =
+      "/resources/images/carbonworld2.png";
+
+  /** Image file carbonworld3.png */
+  private static final String PATH_CARBONWORLD3 =
+      "/resources/images/carbonworld3.png";
+
+  /** Image file ironplanet1.png */
+  private static final String PATH_IRONPLANET1 =
+      "/resources/images/ironplanet1.png";
+
+  /** Image file ironplanet2.png */
+  private static final String PATH_IRONPLANET2 =
+      "/resources/images/ironplanet2.png";
+
+  /** Image file ironplanet3.png */
+  private static final String PATH_IRONPLANET3 =
+      "/resources/images/ironplanet3.png";
+
+  /** Image file ironplanet4.png */
+  private static final String PATH_IRONPLANET4 =
+      "/resources/images/ironplanet4.png";
+
+  /** Image file ironplanet5.png */
+  private static final String PATH_IRONPLANET5 =
+      "/resources/images/ironplanet5.png";
+
+  /** Image file ironplanet6.png */
+  private static final String PATH_IRONPLANET6 =
+      "/resources/images/ironplanet6.png";
+
+  /** Image file gasworld1.png */
+  private static final String PATH_GASWORLD1 =
+      "/resources/images/gasworld1.png";
+
+  /** Image file gasworld2.png */
+  private static final String PATH_GASWORLD2 =
+      "/resources/images/gasworld2.png";
+
+  /** Image file gasworld3.png */
+  private static final String PATH_GASWORLD3 =
+      "/resources/images/gasworld3.png";
+
+  /** Image file desertplanet1.png */
+  private static final String PATH_DESERTPLANET1 =
+      "/resources/images/desertplanet1.png";
+
+  /** Image file desertplanet2.png */
+  private static final String PATH_DESERTPLANET2 =
+      "/resources/images/desertplanet2.png";
+
+  /** Image file desertplanet3.png */
+  private static final String PATH_DESERTPLANET3 =
+      "/resources/images/desertplanet3.png";
+
+  /** Image file artificialworld1.png */
+  private static final String PATH_ARTIFICIALWORLD1 =
+      "/resources/images/artificialworld1.png";
+
+  /** Image file earth.png */
+  private static final String PATH_EARTH =
+      "/resources/images/earth.png";
+
+  /** Image file mars.png */
+  private static final String PATH_MARS =
+      "/resources/images/mars.png";
+
+  /** Image file jupiter.png */
+  private static final String PATH_JUPITER =
+      "/resources/images/jupiter.png";
+
+  /** Image file saturn.png */
+  private static final String PATH_SATURN =
+      "/resources/images/saturn.png";
+
+  /** Image file icegiant1.png */
+  private static final String PATH_ICEGIANT1 =
+      "/resources/images/icegiant1.png";
+
+  /** Image file icegiant2.png */
+  private static final String PATH_ICEGIANT2 =
+      "/resources/images/icegiant2.png";
+
+  /** Image file starfield.png */
+  private static final String PATH_STARFIELD =
+      "/resources/images/starfield.png";
+
+  /** Image file nebulae.png */
+  private static final String PATH_NEBULAE =
+      "/resources/images/nebulae.png";
+
+  /** Image file teuthidae_race.png */
+  private static final String PATH_TEUTHIDAE_RACE =
+      "/resources/images/teuthidae_race.png";
+
+  /** Image file fernid_race.png */
+  private static final String PATH_FERNID_RACE =
+      "/resources/images/fernid_race.png";
+
+  /** Image file scaurian_race.png */
+  private static final String PATH_SCAURIAN_RACE =
+      "/resources/images/scaurian_race.png";
+
+  /** Image file homarian_race.png */
+  private static final String PATH_HOMARIAN_RACE =
+      "/resources/images/homarian_race.png";
+
+  /** Image file mothoid_race.png */
+  private static final String PATH_MOTHOID_RACE =
+      "/resources/images/mothoid_race.png";
+
+  /** Image file centaur_race.png */
+  private static final String PATH_CENTAUR_RACE =
+      "/resources/images/centaur_race.png";
+
+  /** Image file greyan_race.png */
+  private static final String PATH_GREYAN_RACE =
+      "/resources/images/greyan_race.png";
+
+  /** Image file mechion_race.png */
+  private static final String PATH_MECHION_RACE =
+      "/resources/images/mechion_race.png";
+
+  /** Image file spork_race.png */
+  private static final String PATH_SPORK_RACE =
+      "/resources/images/spork_race.png";
+
+  /** Image file human_race.png */
+  private static final String PATH_HUMAN_RACE =
+      "/resources/images/human_race.png";
+
+  /** Image file chiraloid_race.png */
+  private static final String PATH_CHIRALOID_RACE =
+      "/resources/images/chiraloid_race.png";
+
+  /** Image file reborgian_race.png */
+  private static final String PATH_REBORGIAN_RACE =
+      "/resources/images/reborgian_race.png";
+
+  /** Image file lithorian_race.png */
+  private static final String PATH_LITHORIAN_RACE =
+      "/resources/images/lithorian_race.png";
+
+  /** Image file alteirian_race.png */
+  private static final String PATH_ALTEIRIAN_RACE =
+      "/resources/images/alteirian_race.png";
+
+  /** Image file smaugirian_race.png */
+  private static final String PATH_SMAUGIRIAN_RACE =
+      "/resources/images/smaugirian_race.png";
+
+  /** Image file synthdroid_race.png */
+  private static final String PATH_SYNTHDROID_RACE =
+      "/resources/images/synthdroid_race.png";
+
+  /** Image file privateer_race.png */
+  private static final String PATH_PRIVATEER_RACE =
+      "/resources/images/privateer_race.png";
+
+  /** Image file olddesk.png */
+  private static final String PATH_OLDDESK =
+      "/resources/images/olddesk.png";
+
+  /** Image file bridge1.png */
+  private static final String PATH_BRIDGE1 =
+      "/resources/images/bridge1.png";
+
+  /** Image file news_room_in_action.png */
+  private static final String PATH_NEWS_ROOM =
+      "/resources/images/news_room_in_action.png";
+
+  /**
+   * Images which are loaded when GuiStatics is initialized. These are
+   * loaded in parallel before image fields below are initialized.
+   */
+  private static final String[] STARTUP_IMAGES = {
+      PATH_BIGICONS,
+      PATH_PHOTON_TORP,
+      PATH_PLASMA,
+      PATH_CROSSHAIR,
+      PATH_OROS_LOGO32,
+      PATH_OROS_LOGO48,
+      PATH_OROS_LOGO64,
+      PATH_OROS_LOGO128,
+      PATH_RED_CROSSHAIR,
+      PATH_ROCK1,
+      PATH_WATERWORLD1,
+      PATH_WATERWORLD2,
+      PATH_WATERWORLD3,
+      PATH_WATERWORLD4,
+      PATH_WATERWORLD5,
+      PATH_WATERWORLD6,
+      PATH_WATERWORLD7,
+      PATH_WATERWORLD8,
+      PATH_WATERWORLD9,
+      PATH_ICEWORLD1,
+      PATH_ICEWORLD2,
+      PATH_ICEWORLD3,
+      PATH_ICEWORLD4,
+      PATH_CARBONWORLD1,
+      PATH_CARBONWORLD2,
+      PATH_CARBONWORLD3,
+      PATH_IRONPLANET1,
+      PATH_IRONPLANET2,
+      PATH_IRONPLANET3,
+      PATH_IRONPLANET4,
+      PATH_IRONPLANET5,
+      PATH_IRONPLANET6,
+      PATH_GASWORLD1,
+      PATH_GASWORLD2,
+      PATH_GASWORLD3,
+      PATH_DESERTPLANET1,
+      PATH_DESERTPLANET2,
+      PATH_DESERTPLANET3,
+      PATH_ARTIFICIALWORLD1,
+      PATH_EARTH,
+      PATH_MARS,
+      PATH_JUPITER,
+      PATH_SATURN,
+      PATH_ICEGIANT1,
+      PATH_ICEGIANT2,
+      PATH_STARFIELD,
+      PATH_NEBULAE,
+      PATH_TEUTHIDAE_RACE,
+      PATH_FERNID_RACE,
+      PATH_SCAURIAN_RACE,
+      PATH_HOMARIAN_RACE,
+      PATH_MOTHOID_RACE,
+      PATH_CENTAUR_RACE,
+      PATH_GREYAN_RACE,
+      PATH_MECHION_RACE,
+      PATH_SPORK_RACE,
+      PATH_HUMAN_RACE,
+      PATH_CHIRALOID_RACE,
+      PATH_REBORGIAN_RACE,
+      PATH_LITHORIAN_RACE,
+      PATH_ALTEIRIAN_RACE,
+      PATH_SMAUGIRIAN_RACE,
+      PATH_SYNTHDROID_RACE,
+      PATH_PRIVATEER_RACE,
+      PATH_OLDDESK,
+      PATH_BRIDGE1,
+      PATH_NEWS_ROOM
+  };
+
+  static {
+    ImageAssets.preload(STARTUP_IMAGES);
+  }
+
   /** Relation unknown icon */
   public static final BufferedImage RELATION_UNKNOWN = Icons.loadBigIcon(
-      "/resources/images/bigicons.png", 0, 0, 32, 32);
+      PATH_BIGICONS, 0, 0, 32, 32);
   /** Relation peace icon */
   public static final BufferedImage RELATION_PEACE = Icons.loadBigIcon(
-      "/resources/images/bigicons.png", 32, 0, 32, 32);
+      PATH_BIGICONS, 32, 0, 32, 32);
   /** Relation war icon */
   public static final BufferedImage RELATION_WAR = Icons.loadBigIcon(
-      "/resources/images/bigicons.png", 64, 0, 32, 32);
+      PATH_BIGICONS, 64, 0, 32, 32);
   /** Relation trade alliance icon */
   public static final BufferedImage RELATION_TRADE_ALLIANCE = Icons.loadBigIcon(
-      "/resources/images/bigicons.png", 96, 0, 32, 32);
+      PATH_BIGICONS, 96, 0, 32, 32);
   /** Relation trade embargo icon */
   public static final BufferedImage RELATION_TRADE_EMBARGO = Icons.loadBigIcon(
-      "/resources/images/bigicons.png", 96, 32, 32, 32);
+      PATH_BIGICONS, 96, 32, 32, 32);
   /** Relation alliance icon */
   public static final BufferedImage RELATION_ALLIANCE = Icons.loadBigIcon(
-      "/resources/images/bigicons.png", 64, 32, 32, 32);
+      PATH_BIGICONS, 64, 32, 32, 32);
   /** Defensive Pact icon */
   public static final BufferedImage DEFENSIVE_PACT = Icons.loadBigIcon(
-      "/resources/images/bigicons.png", 32, 32, 32, 32);
+      PATH_BIGICONS, 32, 32, 32, 32);
   /** Photon torpedo */
-  public static final BufferedImage PHOTON_TORPEDO = IOUtilities
-      .loadImage("/resources/images/photon_torp.png");
+  public static final BufferedImage PHOTON_TORPEDO = ImageAssets
+      .load(PATH_PHOTON_TORP);
   /** Plasma bullet */
-  public static final BufferedImage PLASMA_BULLET = IOUtilities
-      .loadImage("/resources/images/plasma.png");
+  public static final BufferedImage PLASMA_BULLET = ImageAssets
+      .load(PATH_PLASMA);
 
   /** Explosion animation */
   public static final AnimatedImage EXPLOSION1 = new AnimatedImage(64, 64,
@@ -378,154 +723,154 @@ public final class GuiStatics {
       "/resources/images/wormhole.png");
 
   /** Crosshair for combat */
-  public static final BufferedImage CROSSHAIR = IOUtilities
-      .loadImage("/resources/images/crosshair.png");
+  public static final BufferedImage CROSSHAIR = ImageAssets
+      .load(PATH_CROSSHAIR);
 
   /** ORoS icon 32x32 */
-  public static final BufferedImage LOGO32 = IOUtilities
-      .loadImage("/resources/images/oros-logo32.png");
+  public static final BufferedImage LOGO32 = ImageAssets
+      .load(PATH_OROS_LOGO32);
   /** ORoS icon 48x48 */
-  public static final BufferedImage LOGO48 = IOUtilities
-      .loadImage("/resources/images/oros-logo48.png");
+  public static final BufferedImage LOGO48 = ImageAssets
+      .load(PATH_OROS_LOGO48);
   /** ORoS icon 64x64 */
-  public static final BufferedImage LOGO64 = IOUtilities
-      .loadImage("/resources/images/oros-logo64.png");
+  public static final BufferedImage LOGO64 = ImageAssets
+      .load(PATH_OROS_LOGO64);
   /** ORoS icon 128x128 */
-  public static final BufferedImage LOGO128 = IOUtilities
-      .loadImage("/resources/images/oros-logo128.png");
+  public static final BufferedImage LOGO128 = ImageAssets
+      .load(PATH_OROS_LOGO128);
 
   /** Red Crosshair for combat */
-  public static final BufferedImage RED_CROSSHAIR = IOUtilities
-      .loadImage("/resources/images/red_crosshair.png");
+  public static final BufferedImage RED_CROSSHAIR = ImageAssets
+      .load(PATH_RED_CROSSHAIR);
 
   /** Big planet screen Rock 1 */
-  public static final BufferedImage BIG_PLANET_ROCK1 = IOUtilities
-      .loadImage("/resources/images/rock1.png");
+  public static final BufferedImage BIG_PLANET_ROCK1 = ImageAssets
+      .load(PATH_ROCK1);
 
   /** Big planet screen water world 1 */
-  public static final BufferedImage BIG_PLANET_WATERWORLD1 = IOUtilities
-      .loadImage("/resources/images/waterworld1.png");
+  public static final BufferedImage BIG_PLANET_WATERWORLD1 = ImageAssets
+      .load(PATH_WATERWORLD1);
 
   /** Big planet screen water world 2 */
-  public static final BufferedImage BIG_PLANET_WATERWORLD2 = IOUtilities
-      .loadImage("/resources/images/waterworld2.png");
+  public static final BufferedImage BIG_PLANET_WATERWORLD2 = ImageAssets
+      .load(PATH_WATERWORLD2);
 
   /** Big planet screen water world 3 */
-  public static final BufferedImage BIG_PLANET_WATERWORLD3 = IOUtilities
-      .loadImage("/resources/images/waterworld3.png");
+  public static final BufferedImage BIG_PLANET_WATERWORLD3 = ImageAssets
+      .load(PATH_WATERWORLD3);
 
   /** Big planet screen water world 4 */
-  public static final BufferedImage BIG_PLANET_WATERWORLD4 = IOUtilities
-      .loadImage("/resources/images/waterworld4.png");
+  public static final BufferedImage BIG_PLANET_WATERWORLD4 = ImageAssets
+      .load(PATH_WATERWORLD4);
   /** Big planet screen water world 5 */
-  public static final BufferedImage BIG_PLANET_WATERWORLD5 = IOUtilities
-      .loadImage("/resources/images/waterworld5.png");
+  public static final BufferedImage BIG_PLANET_WATERWORLD5 = ImageAssets
+      .load(PATH_WATERWORLD5);
   /** Big planet screen water world 6 */
-  public static final BufferedImage BIG_PLANET_WATERWORLD6 = IOUtilities
-      .loadImage("/resources/images/waterworld6.png");
+  public static final BufferedImage BIG_PLANET_WATERWORLD6 = ImageAssets
+      .load(PATH_WATERWORLD6);
   /** Big planet screen water world 7 */
-  public static final BufferedImage BIG_PLANET_WATERWORLD7 = IOUtilities
-      .loadImage("/resources/images/waterworld7.png");
+  public static final BufferedImage BIG_PLANET_WATERWORLD7 = ImageAssets
+      .load(PATH_WATERWORLD7);
   /** Big planet screen water world 8 */
-  public static final BufferedImage BIG_PLANET_WATERWORLD8 = IOUtilities
-      .loadImage("/resources/images/waterworld8.png");
+  public static final BufferedImage BIG_PLANET_WATERWORLD8 = ImageAssets
+      .load(PATH_WATERWORLD8);
   /** Big planet screen water world 9 */
-  public static final BufferedImage BIG_PLANET_WATERWORLD9 = IOUtilities
-      .loadImage("/resources/images/waterworld9.png");
+  public static final BufferedImage BIG_PLANET_WATERWORLD9 = ImageAssets
+      .load(PATH_WATERWORLD9);
 
   /** Big planet screen ice world 1 */
-  public static final BufferedImage BIG_PLANET_ICEWORLD1 = IOUtilities
-      .loadImage("/resources/images/iceworld1.png");
+  public static final BufferedImage BIG_PLANET_ICEWORLD1 = ImageAssets
+      .load(PATH_ICEWORLD1);
 
   /** Big planet screen ice world 2 */
-  public static final BufferedImage BIG_PLANET_ICEWORLD2 = IOUtilities
-      .loadImage("/resources/images/iceworld2.png");
+  public static final BufferedImage BIG_PLANET_ICEWORLD2 = ImageAssets
+      .load(PATH_ICEWORLD2);
   /** Big planet screen ice world 3 */
-  public static final BufferedImage BIG_PLANET_ICEWORLD3 = IOUtilities
-      .loadImage("/resources/images/iceworld3.png");
+  public static final BufferedImage BIG_PLANET_ICEWORLD3 = ImageAssets
+      .load(PATH_ICEWORLD3);
   /** Big planet screen ice world 4 */
-  public static final BufferedImage BIG_PLANET_ICEWORLD4 = IOUtilities
-      .loadImage("/resources/images/iceworld4.png");
+  public static final BufferedImage BIG_PLANET_ICEWORLD4 = ImageAssets
+      .load(PATH_ICEWORLD4);
 
   /** Big planet screen carbon world 1 */
-  public static final BufferedImage BIG_PLANET_SWAMPWORLD1 = IOUtilities
-      .loadImage("/resources/images/carbonworld1.png");
+  public static final BufferedImage BIG_PLANET_SWAMPWORLD1 = ImageAssets
+      .load(PATH_CARBONWORLD1);
   /** Big planet screen carbon world 2 */
-  public static final BufferedImage BIG_PLANET_SWAMPWORLD2 = IOUtilities
-      .loadImage("/resources/images/carbonworld2.png");
+  public static final BufferedImage BIG_PLANET_SWAMPWORLD2 = ImageAssets
+      .load(PATH_CARBONWORLD2);
   /** Big planet screen carbon world 3 */
-  public static final BufferedImage BIG_PLANET_SWAMPWORLD3 = IOUtilities
-      .loadImage("/resources/images/carbonworld3.png");
+  public static final BufferedImage BIG_PLANET_SWAMPWORLD3 = ImageAssets
+      .load(PATH_CARBONWORLD3);
 
   /** Big planet screen iron planet 1 */
-  public static final BufferedImage BIG_PLANET_VOLCANICPLANET1 = IOUtilities
-      .loadImage("/resources/images/ironplanet1.png");
+  public static final BufferedImage BIG_PLANET_VOLCANICPLANET1 = ImageAssets
+      .load(PATH_IRONPLANET1);
 
   /** Big planet screen iron planet 2 */
-  public static final BufferedImage BIG_PLANET_VOLCANICPLANET2 = IOUtilities
-      .loadImage("/resources/images/ironplanet2.png");
+  public static final BufferedImage BIG_PLANET_VOLCANICPLANET2 = ImageAssets
+      .load(PATH_IRONPLANET2);
 
   /** Big planet screen iron planet 3 */
-  public static final BufferedImage BIG_PLANET_VOLCANICPLANET3 = IOUtilities
-      .loadImage("/resources/images/ironplanet3.png");
+  public static final BufferedImage BIG_PLANET_VOLCANICPLANET3 = ImageAssets
+      .load(PATH_IRONPLANET3);
   /** Big planet screen iron planet 4 */
-  public static final BufferedImage BIG_PLANET_VOLCANICPLANET4 = IOUtilities
-      .loadImage("/resources/images/ironplanet4.png");
+  public static final BufferedImage BIG_PLANET_VOLCANICPLANET4 = ImageAssets
+      .load(PATH_IRONPLANET4);
   /** Big planet screen iron planet 5 */
-  public static final BufferedImage BIG_PLANET_VOLCANICPLANET5 = IOUtilities
-      .loadImage("/resources/images/ironplanet5.png");
+  public static final BufferedImage BIG_PLANET_VOLCANICPLANET5 = ImageAssets
+      .load(PATH_IRONPLANET5);
   /** Big planet screen iron planet 6 */
-  public static final BufferedImage BIG_PLANET_VOLCANICPLANET6 = IOUtilities
-      .loadImage("/resources/images/ironplanet6.png");
+  public static final BufferedImage BIG_PLANET_VOLCANICPLANET6 = ImageAssets
+      .load(PATH_IRONPLANET6);
 
   /** Big planet gas world */
-  public static final BufferedImage BIG_GASWORLD1 = IOUtilities
-      .loadImage("/resources/images/gasworld1.png");
+  public static final BufferedImage BIG_GASWORLD1 = ImageAssets
+      .load(PATH_GASWORLD1);
 
   /** Big planet screen gas world */
-  public static final BufferedImage BIG_GASWORLD2 = IOUtilities
-      .loadImage("/resources/images/gasworld2.png");
+  public static final BufferedImage BIG_GASWORLD2 = ImageAssets
+      .load(PATH_GASWORLD2);
   /** Big planet screen gas world */
-  public static final BufferedImage BIG_GASWORLD3 = IOUtilities
-      .loadImage("/resources/images/gasworld3.png");
+  public static final BufferedImage BIG_GASWORLD3 = ImageAssets
+      .load(PATH_GASWORLD3);
   /** Big planet screen desert planet 1 */
-  public static final BufferedImage BIG_PLANET_DESERTWORLD1 = IOUtilities
-      .loadImage("/resources/images/desertplanet1.png");
+  public static final BufferedImage BIG_PLANET_DESERTWORLD1 = ImageAssets
+      .load(PATH_DESERTPLANET1);
   /** Big planet screen desert planet 2 */
-  public static final BufferedImage BIG_PLANET_DESERTWORLD2 = IOUtilities
-      .loadImage("/resources/images/desertplanet2.png");
+  public static final BufferedImage BIG_PLANET_DESERTWORLD2 = ImageAssets
+      .load(PATH_DESERTPLANET2);
   /** Big planet screen desert planet 3 */
-  public static final BufferedImage BIG_PLANET_DESERTWORLD3 = IOUtilities
-      .loadImage("/resources/images/desertplanet3.png");
+  public static final BufferedImage BIG_PLANET_DESERTWORLD3 = ImageAssets
+      .load(PATH_DESERTPLANET3);
   /** Big planet screen artificial planet 1 */
-  public static final BufferedImage BIG_PLANET_ARTIFICIALPLANET1 = IOUtilities
-      .loadImage("/resources/images/artificialworld1.png");
+  public static final BufferedImage BIG_PLANET_ARTIFICIALPLANET1 = ImageAssets
+      .load(PATH_ARTIFICIALWORLD1);
   /** Big planet screen Earth */
-  public static final BufferedImage BIG_PLANET_EARTH = IOUtilities
-      .loadImage("/resources/images/earth.png");
+  public static final BufferedImage BIG_PLANET_EARTH = ImageAssets
+      .load(PATH_EARTH);
   /** Big planet screen Mars */
-  public static final BufferedImage BIG_PLANET_MARS = IOUtilities
-      .loadImage("/resources/images/mars.png");
+  public static final BufferedImage BIG_PLANET_MARS = ImageAssets
+      .load(PATH_MARS);
 
   /** Big planet screen Jupiter */
-  public static final BufferedImage BIG_PLANET_JUPITER = IOUtilities
-      .loadImage("/resources/images/jupiter.png");
+  public static final BufferedImage BIG_PLANET_JUPITER = ImageAssets
+      .load(PATH_JUPITER);
   /** Big planet screen Saturn */
-  public static final BufferedImage BIG_PLANET_SATURN = IOUtilities
-      .loadImage("/resources/images/saturn.png");
+  public static final BufferedImage BIG_PLANET_SATURN = ImageAssets
+      .load(PATH_SATURN);
   /** Big planet screen IceGiant1 */
-  public static final BufferedImage BIG_PLANET_ICEGIANT1 = IOUtilities
-      .loadImage("/resources/images/icegiant1.png");
+  public static final BufferedImage BIG_PLANET_ICEGIANT1 = ImageAssets
+      .load(PATH_ICEGIANT1);
   /** Big planet screen IceGiant2 */
-  public static final BufferedImage BIG_PLANET_ICEGIANT2 = IOUtilities
-      .loadImage("/resources/images/icegiant2.png");
+  public static final BufferedImage BIG_PLANET_ICEGIANT2 = ImageAssets
+      .load(PATH_ICEGIANT2);
 
   /** Big sports logo */
   public static final String BIG_SPORT_LOGO = "/resources/images/olympics.png";
 
   /** Star field image for parallax scrolling */
-  private static final BufferedImage STAR_FIELD_IMAGE = IOUtilities
-      .loadImage("/resources/images/starfield.png");
+  private static final BufferedImage STAR_FIELD_IMAGE = ImageAssets
+      .load(PATH_STARFIELD);
 
   /** Generated star field image. */
   private static BufferedImage starField = null;
@@ -535,8 +880,8 @@ public final class GuiStatics {
   /** Separate thread to generate background stars. */
   private static ProceduralRenderer proceduralRenderer = null;
   /** Nebula image for parallax scrolling */
-  public static final BufferedImage NEBULAE_IMAGE = IOUtilities
-      .loadImage("/resources/images/nebulae.png");
+  public static final BufferedImage NEBULAE_IMAGE = ImageAssets
+      .load(PATH_NEBULAE);
 
   /** Image used for calculation text width and heights. */
   private static final BufferedImage TEMP_IMAGE = new BufferedImage(100, 100,
@@ -568,64 +913,64 @@ public final class GuiStatics {
   };
 
   /** Teuthidae race selection image */
-  public static final BufferedImage IMAGE_TEUTHIDAE_RACE = IOUtilities
-      .loadImage("/resources/images/teuthidae_race.png");
+  public static final BufferedImage IMAGE_TEUTHIDAE_RACE = ImageAssets
+      .load(PATH_TEUTHIDAE_RACE);
   /** Teuthidae race selection image */
-  public static final BufferedImage IMAGE_FERNID_RACE = IOUtilities
-      .loadImage("/resources/images/fernid_race.png");
+  public static final BufferedImage IMAGE_FERNID_RACE = ImageAssets
+      .load(PATH_FERNID_RACE);
   /** Scaurian race selection image */
-  public static final BufferedImage IMAGE_SCAURIAN_RACE = IOUtilities
-      .loadImage("/resources/images/scaurian_race.png");
+  public static final BufferedImage IMAGE_SCAURIAN_RACE = ImageAssets
+      .load(PATH_SCAURIAN_RACE);
   /** Homarian race selection image */
-  public static final BufferedImage IMAGE_HOMARIAN_RACE = IOUtilities
-      .loadImage("/resources/images/homarian_race.png");
+  public static final BufferedImage IMAGE_HOMARIAN_RACE = ImageAssets
+      .load(PATH_HOMARIAN_RACE);
   /** Mothoid race selection image */
-  public static final BufferedImage IMAGE_MOTHOID_RACE = IOUtilities
-      .loadImage("/resources/images/mothoid_race.png");
+  public static final BufferedImage IMAGE_MOTHOID_RACE = ImageAssets
+      .load(PATH_MOTHOID_RACE);
   /** Centaur race selection image */
-  public static final BufferedImage IMAGE_CENTAUR_RACE = IOUtilities
-      .loadImage("/resources/images/centaur_race.png");
+  public static final BufferedImage IMAGE_CENTAUR_RACE = ImageAssets
+      .load(PATH_CENTAUR_RACE);
   /** Greyan race selection image */
-  public static final BufferedImage IMAGE_GREYAN_RACE = IOUtilities
-      .loadImage("/resources/images/greyan_race.png");
+  public static final BufferedImage IMAGE_GREYAN_RACE = ImageAssets
+      .load(PATH_GREYAN_RACE);
   /** Mechion race selection image */
-  public static final BufferedImage IMAGE_MECHION_RACE = IOUtilities
-      .loadImage("/resources/images/mechion_race.png");
+  public static final BufferedImage IMAGE_MECHION_RACE = ImageAssets
+      .load(PATH_MECHION_RACE);
   /** Spork race selection image */
-  public static final BufferedImage IMAGE_SPORK_RACE = IOUtilities
-      .loadImage("/resources/images/spork_race.png");
+  public static final BufferedImage IMAGE_SPORK_RACE = ImageAssets
+      .load(PATH_SPORK_RACE);
 
   /** Human race selection image */
-  public static final BufferedImage IMAGE_HUMAN_RACE = IOUtilities
-      .loadImage("/resources/images/human_race.png");
+  public static final BufferedImage IMAGE_HUMAN_RACE = ImageAssets
+      .load(PATH_HUMAN_RACE);
 
   /** Chiraloid race selection image */
-  public static final BufferedImage IMAGE_CHIRALOID_RACE = IOUtilities
-      .loadImage("/resources/images/chiraloid_race.png");
+  public static final BufferedImage IMAGE_CHIRALOID_RACE = ImageAssets
+      .load(PATH_CHIRALOID_RACE);
 
   /** Reborgian race selection image */
-  public static final BufferedImage IMAGE_REBORGIAN_RACE = IOUtilities
-      .loadImage("/resources/images/reborgian_race.png");
+  public static final BufferedImage IMAGE_REBORGIAN_RACE = ImageAssets
+      .load(PATH_REBORGIAN_RACE);
 
   /** Lithorian race selection image */
-  public static final BufferedImage IMAGE_LITHORIAN_RACE = IOUtilities
-      .loadImage("/resources/images/lithorian_race.png");
+  public static final BufferedImage IMAGE_LITHORIAN_RACE = ImageAssets
+      .load(PATH_LITHORIAN_RACE);
 
   /** Alteirian race selection image */
-  public static final BufferedImage IMAGE_ALTEIRIAN_RACE = IOUtilities
-      .loadImage("/resources/images/alteirian_race.png");
+  public static final BufferedImage IMAGE_ALTEIRIAN_RACE = ImageAssets
+      .load(PATH_ALTEIRIAN_RACE);
 
   /** Smaugirian race selection image */
-  public static final BufferedImage IMAGE_SMAUGIRIAN_RACE = IOUtilities
-      .loadImage("/resources/images/smaugirian_race.png");
+  public static final BufferedImage IMAGE_SMAUGIRIAN_RACE = ImageAssets
+      .load(PATH_SMAUGIRIAN_RACE);
 
   /** Synthdroid race selection image */
-  public static final BufferedImage IMAGE_SYNTHDROID_RACE = IOUtilities
-      .loadImage("/resources/images/synthdroid_race.png");
+  public static final BufferedImage IMAGE_SYNTHDROID_RACE = ImageAssets
+      .load(PATH_SYNTHDROID_RACE);
 
   /** Privateer race selection image */
-  public static final BufferedImage IMAGE_PRIVATEER_RACE = IOUtilities
-      .loadImage("/resources/images/privateer_race.png");
+  public static final BufferedImage IMAGE_PRIVATEER_RACE = ImageAssets
+      .load(PATH_PRIVATEER_RACE);
 
   /** Newsreader image for GBNC */
   public static final String IMAGE_NEWSREADER =
@@ -760,8 +1105,8 @@ public final class GuiStatics {
   /** Image desert planet image */
   public static final String IMAGE_DESERT = "/resources/images/desert.png";
   /** Image old table with book, lamp and court hammer */
-  public static final BufferedImage IMAGE_DESKTOP = IOUtilities
-      .loadImage("/resources/images/olddesk.png");
+  public static final BufferedImage IMAGE_DESKTOP = ImageAssets
+      .load(PATH_OLDDESK);
   /** Image paradise planet */
   public static final String IMAGE_PARADISE = "/resources/images/landscape.png";
   /** Image viruses */
@@ -850,8 +1195,8 @@ public final class GuiStatics {
       "/resources/images/bigexplosion.png";
 
   /** Ship bridge interior 1 */
-  public static final BufferedImage IMAGE_INTERIOR1 = IOUtilities
-      .loadImage("/resources/images/bridge1.png");
+  public static final BufferedImage IMAGE_INTERIOR1 = ImageAssets
+      .load(PATH_BRIDGE1);
 
   /**
    * Return image for specified race
@@ -860,9 +1205,9 @@ public final class GuiStatics {
    */
   public static BufferedImage getRaceImg(final SpaceRace race) {
     if (race.getImage().startsWith("resources/images")) {
-      return IOUtilities.loadImage(race.getImage());
+      return ImageAssets.load(race.getImage());
     }
-    return IOUtilities.loadImage(Folders.getCustomSpaceRaceImage()
+    return ImageAssets.load(Folders.getCustomSpaceRaceImage()
         + "/" + race.getImage());
   }
 
@@ -1192,6 +1537,15 @@ public final class GuiStatics {
     return schemeType.getSmallArrowIcon(name);
   }
 
+  /**
+   * Get news room background image. Image is loaded only once and
+   * shared, so it must not be drawn on.
+   * @return BufferedImage or null if image cannot be loaded
+   */
+  public static BufferedImage getNewsRoom() {
+    return ImageAssets.load(PATH_NEWS_ROOM);
+  }
+
   /**
    * Get arrow left based on scheme.
    * @return BufferedImage
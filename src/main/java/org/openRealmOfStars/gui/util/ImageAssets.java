@@ -0,0 +1,529 @@
+package org.openRealmOfStars.gui.util;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.HeadlessException;
+import java.awt.Transparency;
+import java.awt.geom.AffineTransform;
+import java.awt.image.AffineTransformOp;
+import java.awt.image.BufferedImage;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.openRealmOfStars.utilities.ErrorLogger;
+import org.openRealmOfStars.utilities.FileIo.IOUtilities;
+
+/**
+ *
+ * Image asset manager. Images are loaded only once per path and can be
+ * loaded in parallel before they are needed. Loaded opaque images are
+ * converted into screen compatible format when screen is available.
+ * Derived images like scaled, glowing, silhouette and flipped images are
+ * cached by source image and variant. Derived images and source images
+ * they keep alive are kept within memory budget and least recently used
+ * derived images are evicted.
+ * Derived images are shared and must not be drawn on.
+ *
+ */
+public final class ImageAssets {
+
+  /**
+   * Default memory budget for derived images in bytes.
+   */
+  public static final long DEFAULT_VARIANT_BUDGET = 64L * 1024 * 1024;
+
+  /**
+   * Key for derived image.
+   */
+  private static final class VariantKey {
+    /** Source image */
+    private final BufferedImage source;
+    /** Variant name */
+    private final String variant;
+    /** Variant width */
+    private final int width;
+    /** Variant height */
+    private final int height;
+
+    /**
+     * Create variant key.
+     * @param source Source image
+     * @param variant Variant name
+     * @param width Variant width
+     * @param height Variant height
+     */
+    VariantKey(final BufferedImage source, final String variant,
+        final int width, final int height) {
+      this.source = source;
+      this.variant = variant;
+      this.width = width;
+      this.height = height;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (!(obj instanceof VariantKey)) {
+        return false;
+      }
+      VariantKey other = (VariantKey) obj;
+      return source == other.source && width == other.width
+          && height == other.height && variant.equals(other.variant);
+    }
+
+    @Override
+    public int hashCode() {
+      int result = System.identityHashCode(source);
+      result = 31 * result + variant.hashCode();
+      result = 31 * result + width;
+      return 31 * result + height;
+    }
+  }
+
+  /**
+   * Images by path.
+   */
+  private static final ConcurrentHashMap<String, FutureTask<BufferedImage>>
+      IMAGES = new ConcurrentHashMap<>();
+
+  /**
+   * Derived images in least recently used order.
+   */
+  private static final LinkedHashMap<VariantKey, BufferedImage> VARIANTS =
+      new LinkedHashMap<>(64, 0.75f, true);
+
+  /**
+   * Number of derived images for each source image. Cache keys keep
+   * source images alive, so source image is counted in memory used by
+   * derived images while it has any derived image.
+   */
+  private static final IdentityHashMap<BufferedImage, Integer> SOURCES =
+      new IdentityHashMap<>();
+
+  /**
+   * Executor loading images in background.
+   */
+  private static final ExecutorService LOADER =
+      Executors.newFixedThreadPool(Math.max(2,
+          Runtime.getRuntime().availableProcessors()),
+          ImageAssets::createThread);
+
+  /**
+   * Time spent loading images in nanoseconds.
+   */
+  private static final AtomicLong LOAD_TIME = new AtomicLong();
+
+  /**
+   * Memory used by loaded images in bytes.
+   */
+  private static final AtomicLong LOADED_BYTES = new AtomicLong();
+
+  /**
+   * Memory budget for derived images in bytes.
+   */
+  private static long variantBudget = DEFAULT_VARIANT_BUDGET;
+
+  /**
+   * Memory used by derived images in bytes.
+   */
+  private static long variantBytes;
+
+  /**
+   * Number of derived images found from cache.
+   */
+  private static long variantHits;
+
+  /**
+   * Number of derived images which needed to be created.
+   */
+  private static long variantMisses;
+
+  /**
+   * Number of derived images evicted from cache.
+   */
+  private static long variantEvictions;
+
+  /**
+   * Hidden constructor.
+   */
+  private ImageAssets() {
+    // Nothing to do
+  }
+
+  /**
+   * Create daemon thread for loading images.
+   * @param runnable Runnable to run in thread
+   * @return Thread
+   */
+  private static Thread createThread(final Runnable runnable) {
+    Thread thread = new Thread(runnable, "Image loader");
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  /**
+   * Get task which loads image from path. Task is created only once
+   * per path.
+   * @param path Path to image inside of jar
+   * @return Load task
+   */
+  private static FutureTask<BufferedImage> getTask(final String path) {
+    return IMAGES.computeIfAbsent(path,
+        key -> new FutureTask<>(() -> readImage(key)));
+  }
+
+  /**
+   * Read image and convert it into screen compatible format.
+   * @param path Path to image inside of jar
+   * @return Image or null if image cannot be loaded
+   */
+  private static BufferedImage readImage(final String path) {
+    long start = System.nanoTime();
+    BufferedImage image = toCompatible(IOUtilities.loadImage(path));
+    LOAD_TIME.addAndGet(System.nanoTime() - start);
+    if (image != null) {
+      LOADED_BYTES.addAndGet(getBytes(image));
+    }
+    return image;
+  }
+
+  /**
+   * Convert opaque image into format which is fastest to draw on screen.
+   * Translucent images are kept as they are, since GraphRoutines effects
+   * expect 4 byte ABGR images. If there is no screen image is returned
+   * as is.
+   * @param image Image to convert, may be null
+   * @return Converted image
+   */
+  static BufferedImage toCompatible(final BufferedImage image) {
+    if (image == null || GraphicsEnvironment.isHeadless()
+        || image.getTransparency() != Transparency.OPAQUE) {
+      return image;
+    }
+    try {
+      GraphicsConfiguration config = GraphicsEnvironment
+          .getLocalGraphicsEnvironment().getDefaultScreenDevice()
+          .getDefaultConfiguration();
+      if (image.getColorModel().equals(config.getColorModel(
+          image.getTransparency()))) {
+        return image;
+      }
+      BufferedImage result = config.createCompatibleImage(image.getWidth(),
+          image.getHeight(), image.getTransparency());
+      Graphics2D g = result.createGraphics();
+      g.drawImage(image, 0, 0, null);
+      g.dispose();
+      return result;
+    } catch (HeadlessException e) {
+      return image;
+    }
+  }
+
+  /**
+   * Estimate memory used by image.
+   * @param image Image
+   * @return Bytes
+   */
+  private static long getBytes(final BufferedImage image) {
+    return (long) image.getWidth() * image.getHeight()
+        * Math.max(1, image.getColorModel().getPixelSize() / 8);
+  }
+
+  /**
+   * Start loading images in background. Images which are already
+   * loaded or being loaded are skipped.
+   * @param paths Paths to images inside of jar
+   */
+  public static void preload(final String... paths) {
+    for (String path : paths) {
+      if (!IMAGES.containsKey(path)) {
+        LOADER.execute(getTask(path));
+      }
+    }
+  }
+
+  /**
+   * Get image. If image is not yet loaded it is loaded in calling thread.
+   * If image is being loaded in background this waits for it.
+   * @param path Path to image inside of jar
+   * @return Image or null if image cannot be loaded
+   */
+  public static BufferedImage load(final String path) {
+    FutureTask<BufferedImage> task = getTask(path);
+    task.run();
+    try {
+      return task.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      ErrorLogger.log("Loading image " + path + " interrupted.");
+      return null;
+    } catch (ExecutionException e) {
+      ErrorLogger.log("Loading image " + path + " failed: "
+          + e.getCause().getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * Add derived image for source image. Source image memory is counted
+   * when its first derived image is added. Must be called while holding
+   * lock of VARIANTS.
+   * @param source Source image
+   */
+  private static void addSource(final BufferedImage source) {
+    Integer count = SOURCES.get(source);
+    if (count == null) {
+      variantBytes = variantBytes + getBytes(source);
+      count = 0;
+    }
+    SOURCES.put(source, count + 1);
+  }
+
+  /**
+   * Evict least recently used derived images until memory used is
+   * within budget. Must be called while holding lock of VARIANTS.
+   * @param keep Minimum number of derived images to keep
+   */
+  private static void evictVariants(final int keep) {
+    Iterator<Map.Entry<VariantKey, BufferedImage>> iterator =
+        VARIANTS.entrySet().iterator();
+    while (variantBytes > variantBudget && VARIANTS.size() > keep) {
+      Map.Entry<VariantKey, BufferedImage> eldest = iterator.next();
+      variantBytes = variantBytes - getBytes(eldest.getValue());
+      BufferedImage source = eldest.getKey().source;
+      int count = SOURCES.get(source) - 1;
+      if (count == 0) {
+        SOURCES.remove(source);
+        variantBytes = variantBytes - getBytes(source);
+      } else {
+        SOURCES.put(source, count);
+      }
+      variantEvictions++;
+      iterator.remove();
+    }
+  }
+
+  /**
+   * Get derived image from cache or create it.
+   * @param source Source image
+   * @param variant Variant name
+   * @param width Variant width
+   * @param height Variant height
+   * @param creator Creates variant if it is not in cache
+   * @return Derived image
+   */
+  private static BufferedImage getVariant(final BufferedImage source,
+      final String variant, final int width, final int height,
+      final Supplier<BufferedImage> creator) {
+    VariantKey key = new VariantKey(source, variant, width, height);
+    synchronized (VARIANTS) {
+      BufferedImage image = VARIANTS.get(key);
+      if (image != null) {
+        variantHits++;
+        return image;
+      }
+      variantMisses++;
+    }
+    BufferedImage image = creator.get();
+    synchronized (VARIANTS) {
+      BufferedImage old = VARIANTS.put(key, image);
+      if (old == null) {
+        addSource(source);
+      } else {
+        variantBytes = variantBytes - getBytes(old);
+      }
+      variantBytes = variantBytes + getBytes(image);
+      evictVariants(1);
+    }
+    return image;
+  }
+
+  /**
+   * Get scaled image.
+   * @param image Source image
+   * @param width New width
+   * @param height New height
+   * @return Scaled image
+   */
+  public static BufferedImage getScaled(final BufferedImage image,
+      final int width, final int height) {
+    return getVariant(image, "scaled", width, height,
+        () -> GraphRoutines.scaleImage(image, width, height));
+  }
+
+  /**
+   * Get image with glow.
+   * @param image Source image
+   * @return Glowing image
+   */
+  public static BufferedImage getGlow(final BufferedImage image) {
+    return getVariant(image, "glow", image.getWidth(), image.getHeight(),
+        () -> GraphRoutines.addGlow(image));
+  }
+
+  /**
+   * Get black silhouette of image.
+   * @param image Source image
+   * @return Black silhouette
+   */
+  public static BufferedImage getBlackSilhouette(final BufferedImage image) {
+    return getVariant(image, "black silhouette", image.getWidth(),
+        image.getHeight(), () -> GraphRoutines.blackSilhouette(image));
+  }
+
+  /**
+   * Get white silhouette of image.
+   * @param image Source image
+   * @return White silhouette
+   */
+  public static BufferedImage getWhiteSilhouette(final BufferedImage image) {
+    return getVariant(image, "white silhouette", image.getWidth(),
+        image.getHeight(), () -> GraphRoutines.whiteSilhouette(image));
+  }
+
+  /**
+   * Get image flipped on Y axel.
+   * @param image Source image
+   * @return Flipped image
+   */
+  public static BufferedImage getFlippedY(final BufferedImage image) {
+    return getVariant(image, "flip y", image.getWidth(), image.getHeight(),
+        () -> {
+          AffineTransform at = AffineTransform.getScaleInstance(1, -1);
+          at.translate(0, -image.getHeight());
+          AffineTransformOp ato = new AffineTransformOp(at,
+              AffineTransformOp.TYPE_NEAREST_NEIGHBOR);
+          return ato.filter(image, null);
+        });
+  }
+
+  /**
+   * Set memory budget for derived images. Images are evicted
+   * until budget is met.
+   * @param bytes Budget in bytes
+   */
+  public static void setVariantBudget(final long bytes) {
+    synchronized (VARIANTS) {
+      variantBudget = bytes;
+      evictVariants(0);
+    }
+  }
+
+  /**
+   * Get number of loaded images or images being loaded.
+   * @return Number of images
+   */
+  public static int getNumberOfImages() {
+    return IMAGES.size();
+  }
+
+  /**
+   * Get total time spent loading images. Images loaded in parallel
+   * are all counted.
+   * @return Load time in nanoseconds
+   */
+  public static long getLoadTime() {
+    return LOAD_TIME.get();
+  }
+
+  /**
+   * Get estimated memory used by loaded images.
+   * @return Bytes
+   */
+  public static long getLoadedBytes() {
+    return LOADED_BYTES.get();
+  }
+
+  /**
+   * Get number of derived images in cache.
+   * @return Number of images
+   */
+  public static int getNumberOfVariants() {
+    synchronized (VARIANTS) {
+      return VARIANTS.size();
+    }
+  }
+
+  /**
+   * Get estimated memory used by derived images and source images
+   * they keep alive.
+   * @return Bytes
+   */
+  public static long getVariantBytes() {
+    synchronized (VARIANTS) {
+      return variantBytes;
+    }
+  }
+
+  /**
+   * Get number of derived images found from cache.
+   * @return Number of hits
+   */
+  public static long getVariantHits() {
+    synchronized (VARIANTS) {
+      return variantHits;
+    }
+  }
+
+  /**
+   * Get number of derived images which needed to be created.
+   * @return Number of misses
+   */
+  public static long getVariantMisses() {
+    synchronized (VARIANTS) {
+      return variantMisses;
+    }
+  }
+
+  /**
+   * Get number of derived images evicted from cache.
+   * @return Number of evictions
+   */
+  public static long getVariantEvictions() {
+    synchronized (VARIANTS) {
+      return variantEvictions;
+    }
+  }
+
+  /**
+   * Clear derived images and reset variant budget and counters.
+   * Loaded images are kept.
+   */
+  public static void clearVariants() {
+    synchronized (VARIANTS) {
+      VARIANTS.clear();
+      SOURCES.clear();
+      variantBudget = DEFAULT_VARIANT_BUDGET;
+      variantBytes = 0;
+      variantHits = 0;
+      variantMisses = 0;
+      variantEvictions = 0;
+    }
+  }
+}
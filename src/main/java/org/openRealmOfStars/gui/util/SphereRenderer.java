@@ -0,0 +1,293 @@
+package org.openRealmOfStars.gui.util;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+*
+* Renderer for rotating textured sphere. Texture contains planet surface
+* twice side by side, so that rotation offset can go from zero to half
+* of texture width. Projection from texture to screen is calculated only
+* once per texture size. Projection tells for each screen pixel which
+* texel is drawn there, so rendering a frame is a single pass over
+* pixels of reusable image.
+*
+*/
+public class SphereRenderer {
+
+  /**
+   * Maximum size of single texel in pixels.
+   */
+  public static final int MAX_PIXEL_SIZE = 8;
+
+  /**
+   * Projection for sphere from texture of certain size.
+   */
+  private static final class Projection {
+    /**
+     * Screen X coordinate of first pixel.
+     */
+    private final int originX;
+    /**
+     * Screen Y coordinate of first pixel.
+     */
+    private final int originY;
+    /**
+     * Width of projected sphere in pixels.
+     */
+    private final int width;
+    /**
+     * Height of projected sphere in pixels.
+     */
+    private final int height;
+    /**
+     * Texel index for each pixel or -1 if pixel is not on sphere.
+     */
+    private final int[] texels;
+
+    /**
+     * Create projection.
+     * @param originX Screen X coordinate of first pixel
+     * @param originY Screen Y coordinate of first pixel
+     * @param width Width in pixels
+     * @param height Height in pixels
+     * @param texels Texel index for each pixel
+     */
+    private Projection(final int originX, final int originY,
+        final int width, final int height, final int[] texels) {
+      this.originX = originX;
+      this.originY = originY;
+      this.width = width;
+      this.height = height;
+      this.texels = texels;
+    }
+  }
+
+  /**
+   * Calculated projections. Key is texture width and height.
+   */
+  private static final ConcurrentHashMap<Long, Projection> PROJECTIONS =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Projection used for rendering.
+   */
+  private final Projection projection;
+
+  /**
+   * Texture pixels.
+   */
+  private final int[] texture;
+
+  /**
+   * Rendered image.
+   */
+  private final BufferedImage image;
+
+  /**
+   * Pixels of rendered image.
+   */
+  private final int[] pixels;
+
+  /**
+   * Create sphere renderer for texture. Texture is copied so changes
+   * into texture image after this are not visible.
+   * @param textureImage Texture containing surface twice side by side.
+   */
+  public SphereRenderer(final BufferedImage textureImage) {
+    int textureWidth = textureImage.getWidth();
+    int textureHeight = textureImage.getHeight();
+    texture = textureImage.getRGB(0, 0, textureWidth, textureHeight, null,
+        0, textureWidth);
+    for (int i = 0; i < texture.length; i++) {
+      texture[i] = texture[i] | 0xff000000;
+    }
+    projection = getProjection(textureWidth, textureHeight);
+    image = new BufferedImage(projection.width, projection.height,
+        BufferedImage.TYPE_INT_ARGB);
+    pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+  }
+
+  /**
+   * Get projection for texture size. Projection is calculated if
+   * it does not exist yet.
+   * @param width Texture width
+   * @param height Texture height
+   * @return Projection
+   */
+  private static Projection getProjection(final int width,
+      final int height) {
+    Long key = Long.valueOf(((long) width << 32) | height);
+    return PROJECTIONS.computeIfAbsent(key,
+        k -> calculateProjection(width, height));
+  }
+
+  /**
+   * Calculate projection for texture size. Each visible texel is a small
+   * circle which size depends on how much texel faces the viewer. Texels
+   * are placed in same order as they would be drawn one by one so later
+   * texel covers earlier ones.
+   * @param width Texture width
+   * @param height Texture height
+   * @return Projection
+   */
+  private static Projection calculateProjection(final int width,
+      final int height) {
+    int rows = height;
+    int columns = width / 4;
+    int[] posX = new int[rows * columns];
+    int[] posY = new int[rows * columns];
+    int[] sizes = new int[rows * columns];
+    int minX = Integer.MAX_VALUE;
+    int minY = Integer.MAX_VALUE;
+    int maxX = Integer.MIN_VALUE;
+    int maxY = Integer.MIN_VALUE;
+    for (int i = 0; i < rows; i++) {
+      double northAngle = i * 360.0 / rows;
+      for (int j = 0; j < columns; j++) {
+        double westAngle = j * 180.0 / columns;
+        double y = Math.sin(Math.toRadians(northAngle / 2.0));
+        double x = -Math.cos(Math.toRadians(westAngle)) * y
+            * width / 4.0 + width / 8.0;
+        double z = Math.sin(Math.toRadians(westAngle)) * y * MAX_PIXEL_SIZE;
+        y = -Math.cos(Math.toRadians(northAngle / 2.0))
+            * height / 2.0 + height / 2.0;
+        int size = (int) z;
+        if (size < 0) {
+          size = 1;
+        }
+        if (size > MAX_PIXEL_SIZE) {
+          size = MAX_PIXEL_SIZE;
+        }
+        int index = i * columns + j;
+        posX[index] = (int) x;
+        posY[index] = (int) y;
+        sizes[index] = size;
+        if (size > 0) {
+          minX = Math.min(minX, posX[index]);
+          minY = Math.min(minY, posY[index]);
+          maxX = Math.max(maxX, posX[index] + size);
+          maxY = Math.max(maxY, posY[index] + size);
+        }
+      }
+    }
+    if (minX > maxX) {
+      return new Projection(0, 0, 1, 1, new int[] {-1});
+    }
+    int projectionWidth = maxX - minX;
+    int projectionHeight = maxY - minY;
+    int[] texels = new int[projectionWidth * projectionHeight];
+    for (int i = 0; i < texels.length; i++) {
+      texels[i] = -1;
+    }
+    for (int i = 0; i < rows; i++) {
+      for (int j = 0; j < columns; j++) {
+        int index = i * columns + j;
+        int size = sizes[index];
+        if (size == 0) {
+          continue;
+        }
+        int texel = i * width + j;
+        int px = posX[index] - minX;
+        int py = posY[index] - minY;
+        for (int dy = 0; dy < size; dy++) {
+          for (int dx = 0; dx < size; dx++) {
+            if (isInCircle(dx, dy, size)) {
+              texels[(py + dy) * projectionWidth + px + dx] = texel;
+            }
+          }
+        }
+      }
+    }
+    return new Projection(minX, minY, projectionWidth, projectionHeight,
+        texels);
+  }
+
+  /**
+   * Is pixel inside circle which is drawn into square of certain size.
+   * @param dx Pixel X coordinate in square
+   * @param dy Pixel Y coordinate in square
+   * @param size Square size
+   * @return True if pixel is inside circle
+   */
+  private static boolean isInCircle(final int dx, final int dy,
+      final int size) {
+    if (size <= 2) {
+      return true;
+    }
+    double radius = size / 2.0;
+    double cx = dx + 0.5 - radius;
+    double cy = dy + 0.5 - radius;
+    return cx * cx + cy * cy <= radius * radius;
+  }
+
+  /**
+   * Render sphere with rotation offset into image. Same image is
+   * returned every time.
+   * @param offset Rotation offset in texels, from zero to half of
+   *        texture width.
+   * @return Rendered image
+   */
+  public BufferedImage render(final int offset) {
+    int[] texels = projection.texels;
+    for (int i = 0; i < texels.length; i++) {
+      int texel = texels[i];
+      if (texel < 0) {
+        pixels[i] = 0;
+      } else {
+        pixels[i] = texture[texel + offset];
+      }
+    }
+    return image;
+  }
+
+  /**
+   * Get X coordinate where rendered image should be drawn relative
+   * to sphere drawing position.
+   * @return X offset in pixels
+   */
+  public int getOriginX() {
+    return projection.originX;
+  }
+
+  /**
+   * Get Y coordinate where rendered image should be drawn relative
+   * to sphere drawing position.
+   * @return Y offset in pixels
+   */
+  public int getOriginY() {
+    return projection.originY;
+  }
+
+  /**
+   * Get number of pixels on sphere.
+   * @return Number of pixels
+   */
+  public int getNumberOfSpherePixels() {
+    int count = 0;
+    for (int texel : projection.texels) {
+      if (texel >= 0) {
+        count++;
+      }
+    }
+    return count;
+  }
+}
@@ -99,6 +99,21 @@ public class Tile {
    */
   private int zoomLevel;
 
+  /**
+   * Tileset or atlas image where tile is drawn from.
+   */
+  private BufferedImage source;
+
+  /**
+   * Tile X coordinate in source image.
+   */
+  private int sourceX;
+
+  /**
+   * Tile Y coordinate in source image.
+   */
+  private int sourceY;
+
 
   /**
    * Get tile from tileset image, where x is number of tiles in X axel and
@@ -120,6 +135,9 @@ public class Tile {
       img = tilesetImage.getSubimage(x * getMaxWidth(zoomLevel),
           y * getMaxHeight(zoomLevel), getMaxWidth(zoomLevel),
           getMaxHeight(zoomLevel));
+      source = tilesetImage;
+      sourceX = x * getMaxWidth(zoomLevel);
+      sourceY = y * getMaxHeight(zoomLevel);
       this.name = name;
       this.tileDescription = "";
     } else {
@@ -137,6 +155,25 @@ public class Tile {
       final String name) {
     this.zoomLevel = zoomLevel;
     img = tileImage;
+    source = tileImage;
+    this.name = name;
+    this.tileDescription = "";
+  }
+
+  /**
+   * Create tile from tile atlas.
+   * @param atlas Tile atlas
+   * @param atlasIndex Tile index in atlas
+   * @param zoomLevel Zoom level
+   * @param name Tilename
+   */
+  public Tile(final TileAtlas atlas, final int atlasIndex,
+      final int zoomLevel, final String name) {
+    this.zoomLevel = zoomLevel;
+    img = atlas.getTileImage(atlasIndex);
+    source = atlas.getImage();
+    sourceX = atlas.getSourceX(atlasIndex);
+    sourceY = atlas.getSourceY(atlasIndex);
     this.name = name;
     this.tileDescription = "";
   }
@@ -188,13 +225,17 @@ public class Tile {
     return TILE_NORMAL_SIZE;
   }
   /**
-   * Draw tile to coordinates
+   * Draw tile to coordinates. Tile is copied straight from tileset
+   * or atlas image.
    * @param g Graphics2D using for drawing
    * @param x Coordinates on x axel
    * @param y Coordinates on y axel
    */
   public void draw(final Graphics2D g, final int x, final int y) {
-    g.drawImage(img, x, y, null);
+    int width = img.getWidth();
+    int height = img.getHeight();
+    g.drawImage(source, x, y, x + width, y + height, sourceX, sourceY,
+        sourceX + width, sourceY + height, null);
   }
 
   /**
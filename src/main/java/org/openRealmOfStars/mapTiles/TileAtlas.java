@@ -0,0 +1,230 @@
+package org.openRealmOfStars.mapTiles;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+
+import org.openRealmOfStars.utilities.ErrorLogger;
+
+/**
+ *
+ * Tile atlas contains all tiles of one zoom level packed into single
+ * image. Tiles are placed in rows of COLUMNS tiles in index order.
+ * Atlas can be saved into cache folder and loaded back, so that
+ * scaled tiles do not need to be baked again on next start.
+ *
+ */
+public final class TileAtlas {
+
+  /**
+   * Number of tiles in single atlas row.
+   */
+  public static final int COLUMNS = 16;
+
+  /**
+   * Atlas image.
+   */
+  private final BufferedImage image;
+
+  /**
+   * Tile width in pixels.
+   */
+  private final int tileWidth;
+
+  /**
+   * Tile height in pixels.
+   */
+  private final int tileHeight;
+
+  /**
+   * Number of tiles in atlas.
+   */
+  private final int numberOfTiles;
+
+  /**
+   * Create empty tile atlas.
+   * @param tileWidth Tile width in pixels
+   * @param tileHeight Tile height in pixels
+   * @param numberOfTiles Number of tiles in atlas
+   */
+  public TileAtlas(final int tileWidth, final int tileHeight,
+      final int numberOfTiles) {
+    this(new BufferedImage(tileWidth * COLUMNS,
+        tileHeight * getRows(numberOfTiles), BufferedImage.TYPE_4BYTE_ABGR),
+        tileWidth, tileHeight, numberOfTiles);
+  }
+
+  /**
+   * Create tile atlas from atlas image.
+   * @param image Atlas image
+   * @param tileWidth Tile width in pixels
+   * @param tileHeight Tile height in pixels
+   * @param numberOfTiles Number of tiles in atlas
+   */
+  private TileAtlas(final BufferedImage image, final int tileWidth,
+      final int tileHeight, final int numberOfTiles) {
+    this.image = image;
+    this.tileWidth = tileWidth;
+    this.tileHeight = tileHeight;
+    this.numberOfTiles = numberOfTiles;
+  }
+
+  /**
+   * Get number of atlas rows needed for tiles.
+   * @param numberOfTiles Number of tiles
+   * @return Number of rows
+   */
+  private static int getRows(final int numberOfTiles) {
+    return Math.max(1, (numberOfTiles + COLUMNS - 1) / COLUMNS);
+  }
+
+  /**
+   * Copy tile pixels into atlas.
+   * @param index Tile index
+   * @param tile Tile image, must be tile width x tile height
+   */
+  public void setTile(final int index, final BufferedImage tile) {
+    int[] pixels = tile.getRGB(0, 0, tileWidth, tileHeight, null, 0,
+        tileWidth);
+    image.setRGB(getSourceX(index), getSourceY(index), tileWidth,
+        tileHeight, pixels, 0, tileWidth);
+  }
+
+  /**
+   * Get tile X coordinate in atlas image.
+   * @param index Tile index
+   * @return X coordinate in pixels
+   */
+  public int getSourceX(final int index) {
+    return index % COLUMNS * tileWidth;
+  }
+
+  /**
+   * Get tile Y coordinate in atlas image.
+   * @param index Tile index
+   * @return Y coordinate in pixels
+   */
+  public int getSourceY(final int index) {
+    return index / COLUMNS * tileHeight;
+  }
+
+  /**
+   * Get tile image which shares pixels with atlas.
+   * @param index Tile index
+   * @return Tile image
+   */
+  public BufferedImage getTileImage(final int index) {
+    return image.getSubimage(getSourceX(index), getSourceY(index),
+        tileWidth, tileHeight);
+  }
+
+  /**
+   * Get atlas image.
+   * @return Atlas image
+   */
+  public BufferedImage getImage() {
+    return image;
+  }
+
+  /**
+   * Get tile width.
+   * @return Width in pixels
+   */
+  public int getTileWidth() {
+    return tileWidth;
+  }
+
+  /**
+   * Get tile height.
+   * @return Height in pixels
+   */
+  public int getTileHeight() {
+    return tileHeight;
+  }
+
+  /**
+   * Get number of tiles in atlas.
+   * @return Number of tiles
+   */
+  public int getNumberOfTiles() {
+    return numberOfTiles;
+  }
+
+  /**
+   * Save atlas as PNG file. Folder is created if needed.
+   * Atlas is first written into temporary file, so that partially
+   * written atlas is never loaded.
+   * @param file File where to save
+   * @throws IOException If writing fails
+   */
+  public void save(final File file) throws IOException {
+    File folder = file.getParentFile();
+    if (folder != null && !folder.isDirectory() && !folder.mkdirs()) {
+      throw new IOException("Could not create folder " + folder);
+    }
+    File tmpFile = new File(folder, file.getName() + ".tmp");
+    if (!ImageIO.write(image, "png", tmpFile)) {
+      throw new IOException("No PNG writer available.");
+    }
+    if ((file.exists() && !file.delete()) || !tmpFile.renameTo(file)) {
+      if (!tmpFile.delete()) {
+        ErrorLogger.debug("Could not delete " + tmpFile);
+      }
+      throw new IOException("Could not replace " + file);
+    }
+  }
+
+  /**
+   * Load atlas from PNG file.
+   * @param file File to load
+   * @param tileWidth Tile width in pixels
+   * @param tileHeight Tile height in pixels
+   * @param numberOfTiles Number of tiles in atlas
+   * @return Tile atlas or null if file is missing or does not match
+   */
+  public static TileAtlas load(final File file, final int tileWidth,
+      final int tileHeight, final int numberOfTiles) {
+    if (!file.isFile()) {
+      return null;
+    }
+    try {
+      BufferedImage loaded = ImageIO.read(file);
+      if (loaded == null || loaded.getWidth() != tileWidth * COLUMNS
+          || loaded.getHeight() != tileHeight * getRows(numberOfTiles)) {
+        return null;
+      }
+      if (loaded.getType() != BufferedImage.TYPE_4BYTE_ABGR) {
+        BufferedImage converted = new BufferedImage(loaded.getWidth(),
+            loaded.getHeight(), BufferedImage.TYPE_4BYTE_ABGR);
+        converted.setRGB(0, 0, loaded.getWidth(), loaded.getHeight(),
+            loaded.getRGB(0, 0, loaded.getWidth(), loaded.getHeight(), null,
+                0, loaded.getWidth()), 0, loaded.getWidth());
+        loaded = converted;
+      }
+      return new TileAtlas(loaded, tileWidth, tileHeight, numberOfTiles);
+    } catch (IOException e) {
+      ErrorLogger.debug("Could not read tile atlas " + file + ": "
+          + e.getMessage());
+      return null;
+    }
+  }
+}
@@ -18,11 +18,17 @@ package org.openRealmOfStars.mapTiles;
  */
 
 import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 
 import org.openRealmOfStars.gui.util.GraphRoutines;
 import org.openRealmOfStars.starMap.SunType;
+import org.openRealmOfStars.utilities.ErrorLogger;
 import org.openRealmOfStars.utilities.FileIo.IOUtilities;
 
 /**
@@ -90,7 +96,7 @@ public final class Tiles {
    * returned.
    */
   public static Tile getTileByIndex(final int index) {
-    if (listOfTiles32 == null) {
+    if (!tilesReady) {
       initTiles();
     }
     if (index > 0 && index < listOfTiles32.size()) {
@@ -106,9 +112,12 @@ public final class Tiles {
    * returned.
    */
   public static Tile getTileByIndex(final int index, final int zoomLevel) {
-    if (listOfTiles32 == null) {
+    if (!tilesReady) {
       initTiles();
     }
+    if (zoomLevel == Tile.ZOOM_IN1 || zoomLevel == Tile.ZOOM_OUT1) {
+      waitForAtlases();
+    }
     if (index >= 0 && index < listOfTiles32.size()
         && zoomLevel == Tile.ZOOM_NORMAL) {
       return listOfTiles32.get(index);
@@ -139,7 +148,7 @@ public final class Tiles {
    * returned.
    */
   public static Tile getTileByName(final String name) {
-    if (hashOfTiles32 == null) {
+    if (!tilesReady) {
       initTiles();
     }
     Tile tile = hashOfTiles32.get(name);
@@ -157,9 +166,12 @@ public final class Tiles {
    * returned.
    */
   public static Tile getTileByName(final String name, final int zoomLevel) {
-    if (hashOfTiles32 == null) {
+    if (!tilesReady) {
       initTiles();
     }
+    if (zoomLevel == Tile.ZOOM_IN1 || zoomLevel == Tile.ZOOM_OUT1) {
+      waitForAtlases();
+    }
     Tile tile = null;
     if (zoomLevel == Tile.ZOOM_NORMAL) {
       tile = hashOfTiles32.get(name);
@@ -190,7 +202,7 @@ public final class Tiles {
    * returned.
    */
   public static Tile getSunTile(final String name, final SunType type) {
-    if (hashOfTiles32 == null) {
+    if (!tilesReady) {
       initTiles();
     }
     Tile tile = null;
@@ -263,7 +275,7 @@ public final class Tiles {
    * @return Maximum count of tiles
    */
   public static int getMaxTiles() {
-    if (listOfTiles32 == null) {
+    if (!tilesReady) {
       initTiles();
     }
     return listOfTiles32.size();
@@ -402,9 +414,184 @@ public final class Tiles {
   private static int bhSecondEnd;
 
   /**
-   * Initialize tiles
+   * Are tiles initialized.
+   */
+  private static volatile boolean tilesReady;
+
+  /**
+   * Task which bakes tile atlases for scaled zoom levels.
+   */
+  private static FutureTask<Void> atlasTask;
+
+  /**
+   * Folder for baked tile atlases, null if atlases are not cached.
+   */
+  private static volatile File atlasCacheFolder;
+
+  /**
+   * Tile atlas for zoom level ZOOM_IN1.
+   */
+  private static TileAtlas atlas48;
+
+  /**
+   * Tile atlas for zoom level ZOOM_OUT1.
+   */
+  private static TileAtlas atlas24;
+
+  /**
+   * Set folder where baked tile atlases are saved and loaded.
+   * @param folder Cache folder or null to disable cache
+   */
+  public static void setAtlasCacheFolder(final File folder) {
+    atlasCacheFolder = folder;
+  }
+
+  /**
+   * Initialize tiles and start baking tile atlases for scaled zoom
+   * levels in background. If atlases are needed before they are ready
+   * then caller waits for them.
+   */
+  public static void prepareAtlases() {
+    if (!tilesReady) {
+      initTiles();
+    }
+    Thread thread = new Thread(atlasTask, "Tile atlas baker");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * Wait until tile atlases for scaled zoom levels are baked. If baking
+   * has not been started it is done in calling thread.
+   */
+  private static void waitForAtlases() {
+    atlasTask.run();
+    try {
+      atlasTask.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Baking tile atlases interrupted.", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Baking tile atlases failed.",
+          e.getCause());
+    }
+  }
+
+  /**
+   * Get tile atlas for zoom level which is baked from other zoom level.
+   * @param zoomLevel ZOOM_IN1 or ZOOM_OUT1
+   * @return Tile atlas or null for other zoom levels
+   */
+  static TileAtlas getAtlas(final int zoomLevel) {
+    if (!tilesReady) {
+      initTiles();
+    }
+    waitForAtlases();
+    if (zoomLevel == Tile.ZOOM_IN1) {
+      return atlas48;
+    }
+    if (zoomLevel == Tile.ZOOM_OUT1) {
+      return atlas24;
+    }
+    return null;
+  }
+
+  /**
+   * Calculate signature for tileset images. Signature changes if
+   * tilesets or number of tiles change.
+   * @param tilesets Tileset images
+   * @return Signature as hex string
+   */
+  private static String getSignature(final BufferedImage... tilesets) {
+    int hash = listOfTiles32.size();
+    for (BufferedImage tileset : tilesets) {
+      hash = 31 * hash + Arrays.hashCode(tileset.getRGB(0, 0,
+          tileset.getWidth(), tileset.getHeight(), null, 0,
+          tileset.getWidth()));
+    }
+    return Integer.toHexString(hash);
+  }
+
+  /**
+   * Bake tile atlas by scaling tiles from other zoom level. Atlas is
+   * loaded from cache folder if it has been baked before.
+   * @param zoomLevel ZOOM_IN1 or ZOOM_OUT1
+   * @param sourceTiles Tiles to scale
+   * @param signature Tileset signature
+   * @return Tile atlas
+   */
+  private static TileAtlas bakeAtlas(final int zoomLevel,
+      final ArrayList<Tile> sourceTiles, final String signature) {
+    int width = Tile.getMaxWidth(zoomLevel);
+    int height = Tile.getMaxHeight(zoomLevel);
+    File folder = atlasCacheFolder;
+    File file = null;
+    if (folder != null) {
+      file = new File(folder, "tiles" + width + "-" + signature + ".png");
+      TileAtlas atlas = TileAtlas.load(file, width, height,
+          sourceTiles.size());
+      if (atlas != null) {
+        return atlas;
+      }
+    }
+    TileAtlas atlas = new TileAtlas(width, height, sourceTiles.size());
+    for (int i = 0; i < sourceTiles.size(); i++) {
+      BufferedImage raw = sourceTiles.get(i).getRawTile();
+      if (zoomLevel == Tile.ZOOM_IN1) {
+        atlas.setTile(i, GraphRoutines.scaleTile64to48(raw, true));
+      } else {
+        atlas.setTile(i, GraphRoutines.scaleTile32to24(raw, true));
+      }
+    }
+    if (file != null) {
+      try {
+        atlas.save(file);
+      } catch (IOException e) {
+        ErrorLogger.debug("Could not save tile atlas " + file + ": "
+            + e.getMessage());
+      }
+    }
+    return atlas;
+  }
+
+  /**
+   * Bake tile atlases for zoom levels ZOOM_IN1 and ZOOM_OUT1 and create
+   * tiles for them.
+   * @param tilesImage32 Image for 32x32 tiles
+   * @param tilesImage64 Image for 64x64 tiles
    */
-  private static void initTiles() {
+  private static void bakeAtlases(final BufferedImage tilesImage32,
+      final BufferedImage tilesImage64) {
+    String signature = getSignature(tilesImage32, tilesImage64);
+    atlas48 = bakeAtlas(Tile.ZOOM_IN1, listOfTiles64, signature);
+    atlas24 = bakeAtlas(Tile.ZOOM_OUT1, listOfTiles32, signature);
+    for (int i = 0; i < listOfTiles32.size(); i++) {
+      Tile tile = listOfTiles64.get(i);
+      Tile newTile = new Tile(atlas48, i, Tile.ZOOM_IN1, tile.getName());
+      newTile.setDescription(tile.getDescription());
+      newTile.setIndex(tile.getIndex());
+      newTile.setAnimationIndex(tile.getAnimationIndex());
+      listOfTiles48.add(newTile);
+      hashOfTiles48.put(newTile.getName(), newTile);
+      tile = listOfTiles32.get(i);
+      newTile = new Tile(atlas24, i, Tile.ZOOM_OUT1, tile.getName());
+      newTile.setDescription(tile.getDescription());
+      newTile.setIndex(tile.getIndex());
+      newTile.setAnimationIndex(tile.getAnimationIndex());
+      listOfTiles24.add(newTile);
+      hashOfTiles24.put(newTile.getName(), newTile);
+    }
+  }
+
+  /**
+   * Initialize tiles. Tiles for zoom levels ZOOM_IN1 and ZOOM_OUT1
+   * are baked separately into tile atlases.
+   */
+  private static synchronized void initTiles() {
+    if (listOfTiles32 != null) {
+      // Already initialized or being initialized by this thread
+      return;
+    }
     BufferedImage tilesImage32 = IOUtilities
         .loadImage("/resources/images/maptiles.png");
     BufferedImage tilesImage16 = IOUtilities
@@ -452,26 +639,11 @@ public final class Tiles {
         TileNames.DESTROYED_PLANET_DESCRIPTION);
     readAscensionTiles(tilesImage32, tilesImage64, tilesImage16);
     readRiftPortalTiles(tilesImage32, tilesImage64, tilesImage16);
-    for (int i = 0; i < getMaxTiles(); i++) {
-      Tile tile = getTileByIndex(i, Tile.ZOOM_IN2);
-      Tile newTile = new Tile(
-          GraphRoutines.scaleTile64to48(tile.getRawTile(), true),
-          Tile.ZOOM_IN1, tile.getName());
-      newTile.setDescription(tile.getDescription());
-      newTile.setIndex(tile.getIndex());
-      newTile.setAnimationIndex(tile.getAnimationIndex());
-      listOfTiles48.add(newTile);
-      hashOfTiles48.put(newTile.getName(), newTile);
-      tile = getTileByIndex(i, Tile.ZOOM_NORMAL);
-      newTile = new Tile(
-          GraphRoutines.scaleTile32to24(tile.getRawTile(), true),
-          Tile.ZOOM_OUT1, tile.getName());
-      newTile.setDescription(tile.getDescription());
-      newTile.setIndex(tile.getIndex());
-      newTile.setAnimationIndex(tile.getAnimationIndex());
-      listOfTiles24.add(newTile);
-      hashOfTiles24.put(newTile.getName(), newTile);
-    }
+    atlasTask = new FutureTask<>(() -> {
+      bakeAtlases(tilesImage32, tilesImage64);
+      return null;
+    });
+    tilesReady = true;
   }
 
   /**
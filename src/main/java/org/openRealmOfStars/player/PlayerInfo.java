@@ -23,6 +23,7 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.openRealmOfStars.ai.mission.MissionList;
 import org.openRealmOfStars.ai.pathfinding.PathPoint;
@@ -68,6 +69,7 @@ import org.openRealmOfStars.starMap.planet.enums.WorldType;
 import org.openRealmOfStars.utilities.DiceGenerator;
 import org.openRealmOfStars.utilities.ErrorLogger;
 import org.openRealmOfStars.utilities.FileIo.IOUtilities;
+import org.openRealmOfStars.utilities.NameIndex;
 import org.openRealmOfStars.utilities.repository.DiplomacyRepository;
 
 /**
@@ -115,23 +117,34 @@ public class PlayerInfo {
    */
   private ArrayList<ShipStat> shipStatList;
 
+  /**
+   * Ship stats by design name.
+   */
+  private NameIndex<ShipStat> shipStatIndex;
+
   /**
    * Player fleets
    */
   private FleetList fleets;
 
   /**
-   * Map Data
+   * Map visibility and cloaking detection per sector
    * 0: Uncharted only suns are drawn
    * 1: Fog of war, no fleets are drawn
    * 2: Visible everything is drawn
    */
-  private byte[][] mapData;
+  private VisibilityMap visibilityMap;
 
   /**
-   * Cloaking detection per sector
+   * Map visibility as it is written into save, one byte per sector.
+   * Only sectors changed since last save are updated from journal.
    */
-  private int[][] mapCloakDetection;
+  private byte[] savedMapData;
+
+  /**
+   * Journal position of visibility map when saved map data was updated.
+   */
+  private long savedMapPosition;
 
   /**
    * Map size
@@ -238,6 +251,12 @@ public class PlayerInfo {
    */
   private ArtifactLists artifactLists;
 
+  /**
+   * Number of marked production changes. Production ledger calculates
+   * realm's production again when this changes.
+   */
+  private final AtomicInteger productionChanges = new AtomicInteger();
+
   /**
    * Flag if realm has been lost from the game.
    * No more planets or colony ships with colonists left.
@@ -319,12 +338,15 @@ public class PlayerInfo {
     strategy = WinningStrategy.GENERIC;
     this.msgList = new MessageList();
     shipStatList = new ArrayList<>();
+    shipStatIndex = new NameIndex<>(stat -> stat.getDesign().getName());
     enemyShipsDetected = false;
     fleets = new FleetList();
+    fleets.setRealm(this);
     elderRealm = false;
     leaderPool = new ArrayList<>();
     leaderRecruitPool = new ArrayList<>();
     artifactLists = new ArtifactLists();
+    artifactLists.setRealm(this);
     ruler = null;
     setRealmLost(false);
     color = PlayerColor.getByIndex(index);
@@ -598,6 +620,19 @@ public class PlayerInfo {
    * @throws IOException if there is any problem with DataInputStream
    */
   public PlayerInfo(final DataInputStream dis) throws IOException {
+    this(dis, dis, dis);
+  }
+
+  /**
+   * Read PlayerInfo from DataInputStreams. Fleets and map visibility
+   * are read from their own streams.
+   * @param dis DataInputStream
+   * @param fleetDis DataInputStream for fleets
+   * @param mapDis DataInputStream for map visibility
+   * @throws IOException if there is any problem with DataInputStream
+   */
+  public PlayerInfo(final DataInputStream dis, final DataInputStream fleetDis,
+      final DataInputStream mapDis) throws IOException {
     setRandomEventOccured(null);
     setRealmLost(false);
     strategy = WinningStrategy.GENERIC;
@@ -611,6 +646,7 @@ public class PlayerInfo {
       elderRealm = false;
     }
     artifactLists = new ArtifactLists(dis);
+    artifactLists.setRealm(this);
     color = PlayerColor.getByIndex(dis.read());
     String scenarioId = IOUtilities.readString(dis);
     startingScenario = StartingScenarioFactory.create(scenarioId);
@@ -634,6 +670,7 @@ public class PlayerInfo {
     for (int i = 0; i < poolSize; i++) {
       Leader leader = new Leader(dis);
       leaderPool.add(leader);
+      leader.setRealm(this);
     }
     for (int i = 0; i < leaderPool.size(); i++) {
       Leader leader = leaderPool.get(i);
@@ -647,7 +684,7 @@ public class PlayerInfo {
     } else {
       setRuler(null);
     }
-    techList = new TechList(dis, race);
+    setTechList(new TechList(dis, race));
     elderRealm = false;
     msgList = new MessageList(dis);
     int count = dis.readInt();
@@ -655,19 +692,25 @@ public class PlayerInfo {
     for (int i = 0; i < count; i++) {
       ShipStat ship = new ShipStat(dis);
       shipStatList.add(ship);
+      ship.getDesign().setDesignOwner(this);
     }
-    fleets = new FleetList(dis, this);
-    int xSize = dis.readInt();
-    int ySize = dis.readInt();
+    shipStatIndex = new NameIndex<>(stat -> stat.getDesign().getName());
+    fleets = new FleetList(fleetDis, this);
+    int xSize = mapDis.readInt();
+    int ySize = mapDis.readInt();
     initMapData(xSize, ySize);
+    byte[] mapData = new byte[xSize * ySize];
     int mapOffset = 0;
     try {
       for (int y = 0; y < maxCoordinate.getY(); y++) {
         for (int x = 0; x < maxCoordinate.getX(); x++) {
-          mapData[x][y] = dis.readByte();
+          mapData[mapOffset] = mapDis.readByte();
+          visibilityMap.setVisibility(x, y, mapData[mapOffset]);
           mapOffset++;
         }
       }
+      savedMapData = mapData;
+      savedMapPosition = visibilityMap.getJournalPosition();
     } catch (IOException e) {
       throw new IOException("Reading failed at player mapdata! MapOffset:"
           + mapOffset + " " + e.getMessage());
@@ -729,6 +772,20 @@ public class PlayerInfo {
    * @throws IOException if there is any problem with DataOutputStream
    */
   public void savePlayerInfo(final DataOutputStream dos) throws IOException {
+    savePlayerInfo(dos, dos, dos);
+  }
+
+  /**
+   * Save Player Info to DataOutputStreams. Fleets and map visibility
+   * are written into their own streams.
+   * @param dos DataOutputStream
+   * @param fleetDos DataOutputStream for fleets
+   * @param mapDos DataOutputStream for map visibility
+   * @throws IOException if there is any problem with DataOutputStream
+   */
+  public void savePlayerInfo(final DataOutputStream dos,
+      final DataOutputStream fleetDos, final DataOutputStream mapDos)
+      throws IOException {
     IOUtilities.writeString(dos, empireName);
     IOUtilities.writeString(dos, race.getId());
     if (elderRealm) {
@@ -762,17 +819,13 @@ public class PlayerInfo {
     for (int i = 0; i < shipStatList.size(); i++) {
       shipStatList.get(i).saveShipStat(dos);
     }
-    fleets.saveFleetList(dos, this);
-    dos.writeInt(maxCoordinate.getX());
-    dos.writeInt(maxCoordinate.getY());
-    if (mapData == null) {
+    fleets.saveFleetList(fleetDos, this);
+    mapDos.writeInt(maxCoordinate.getX());
+    mapDos.writeInt(maxCoordinate.getY());
+    if (visibilityMap == null) {
       throw new IOException("Map data is not initialized yet!");
     }
-    for (int y = 0; y < maxCoordinate.getY(); y++) {
-      for (int x = 0; x < maxCoordinate.getX(); x++) {
-        dos.writeByte(mapData[x][y]);
-      }
-    }
+    mapDos.write(updateSavedMapData());
     DiplomacyRepository.saveDiplomacy(dos, diplomacy);
     dos.writeByte(espionage.getSize());
     for (int i = 0; i < espionage.getSize(); i++) {
@@ -993,6 +1046,22 @@ public class PlayerInfo {
   public ArtifactLists getArtifactLists() {
     return artifactLists;
   }
+
+  /**
+   * Mark that something affecting realm's production has changed.
+   * Production ledger calculates realm's production again on next query.
+   */
+  public void markProductionChanged() {
+    productionChanges.incrementAndGet();
+  }
+
+  /**
+   * Get number of marked production changes.
+   * @return Production change count
+   */
+  public int getProductionChanges() {
+    return productionChanges.get();
+  }
   /**
    * Set Attitude for AI
    * @param attitude the attitude to set
@@ -1038,7 +1107,7 @@ public class PlayerInfo {
       int nx = (int) Math.round(startX);
       int ny = (int) Math.round(startY);
       if (new Coordinate(nx, ny).isValidCoordinate(maxCoordinate)
-          && mapData[nx][ny] == UNCHARTED) {
+          && visibilityMap.getVisibility(nx, ny) == UNCHARTED) {
         result++;
       }
     }
@@ -1061,8 +1130,8 @@ public class PlayerInfo {
             sun.getCenterY() + y);
         if (coordinate.isValidCoordinate(maxCoordinate)
             && (x > 1 || x < -1 || y > 1 || y < -1)) {
-          if (mapData[sun.getCenterX() + x][sun.getCenterY()
-              + y] == UNCHARTED) {
+          if (visibilityMap.getVisibility(sun.getCenterX() + x,
+              sun.getCenterY() + y) == UNCHARTED) {
             unCharted++;
           } else {
             charted++;
@@ -1155,8 +1224,8 @@ public class PlayerInfo {
             sun.getCenterY() + y);
         if (coordinate.isValidCoordinate(maxCoordinate)
             && (x > 1 || x < -1 || y > 1 || y < -1)
-            && mapData[sun.getCenterX() + x][sun.getCenterY()
-              + y] == UNCHARTED) {
+            && visibilityMap.getVisibility(sun.getCenterX() + x,
+                sun.getCenterY() + y) == UNCHARTED) {
           double dist = coordinate.calculateDistance(fleet.getCoordinate());
           if (dist < bestDistance) {
             double sundist = coordinate.calculateDistance(
@@ -1201,8 +1270,8 @@ public class PlayerInfo {
             sun.getCenterY() + y);
         if (coordinate.isValidCoordinate(maxCoordinate)
             && (x > 1 || x < -1 || y > 1 || y < -1)
-            && mapData[sun.getCenterX() + x][sun.getCenterY()
-              + y] == UNCHARTED) {
+            && visibilityMap.getVisibility(sun.getCenterX() + x,
+                sun.getCenterY() + y) == UNCHARTED) {
           double dist = coordinate.calculateDistance(fleet.getCoordinate());
           if (dist <= bestDistance) {
             double sundist = coordinate.calculateDistance(
@@ -1302,8 +1371,8 @@ public class PlayerInfo {
             sun.getCenterY() + y);
         if (coordinate.isValidCoordinate(maxCoordinate)
             && (x > 1 || x < -1 || y > 1 || y < -1)
-            && mapData[sun.getCenterX() + x][sun.getCenterY()
-              + y] == UNCHARTED) {
+            && visibilityMap.getVisibility(sun.getCenterX() + x,
+                sun.getCenterY() + y) == UNCHARTED) {
           double dist = coordinate.calculateDistance(fleet.getCoordinate());
           if (dist < distance) {
             distance = dist;
@@ -1350,8 +1419,8 @@ public class PlayerInfo {
             new Coordinate(sun.getCenterX() + x, sun.getCenterY() + y);
         if (sectorCoordinate.isValidCoordinate(maxCoordinate)
             && (x > 1 || x < -1 || y > 1 || y < -1)) {
-          if (mapData[sun.getCenterX() + x][sun.getCenterY()
-              + y] == UNCHARTED) {
+          if (visibilityMap.getVisibility(sun.getCenterX() + x,
+              sun.getCenterY() + y) == UNCHARTED) {
             unCharted[sector]++;
             Coordinate fleetCoordinate =
                 new Coordinate(fleet.getX(), fleet.getY());
@@ -1425,7 +1494,8 @@ public class PlayerInfo {
           Coordinate coordinate = new Coordinate(nx, ny);
           double distance = fleetCoordinate.calculateDistance(coordinate);
           if (coordinate.isValidCoordinate(maxCoordinate) && i >= scan
-              && distance > 1 && mapData[nx][ny] == UNCHARTED) {
+              && distance > 1
+              && visibilityMap.getVisibility(nx, ny) == UNCHARTED) {
             temp = new PathPoint(nx, ny, distance);
             pathValue = calculateUnchartedLine(fleet.getX(), fleet.getY(), nx,
                 ny);
@@ -1435,7 +1505,8 @@ public class PlayerInfo {
           distance = fleetCoordinate.calculateDistance(coordinate);
           if (temp == null && coordinate.isValidCoordinate(maxCoordinate)
               && i >= scan && distance > 1
-              && mapData[sun.getCenterX()][ny] == UNCHARTED) {
+              && visibilityMap.getVisibility(sun.getCenterX(), ny)
+              == UNCHARTED) {
             temp = new PathPoint(sun.getCenterX(), ny, distance);
             pathValue = calculateUnchartedLine(fleet.getX(), fleet.getY(),
                 sun.getCenterX(), ny);
@@ -1445,7 +1516,8 @@ public class PlayerInfo {
           distance = fleetCoordinate.calculateDistance(coordinate);
           if (temp == null && coordinate.isValidCoordinate(maxCoordinate)
               && i >= scan && distance > 1
-              && mapData[nx][sun.getCenterY()] == UNCHARTED) {
+              && visibilityMap.getVisibility(nx, sun.getCenterY())
+              == UNCHARTED) {
             temp = new PathPoint(nx, sun.getCenterY(), distance);
             pathValue = calculateUnchartedLine(fleet.getX(), fleet.getY(), nx,
                 sun.getCenterY());
@@ -1477,8 +1549,35 @@ public class PlayerInfo {
    */
   public void initMapData(final int maximumX, final int maximumY) {
     maxCoordinate = new Coordinate(maximumX, maximumY);
-    mapData = new byte[maximumX][maximumY];
-    mapCloakDetection = new int[maximumX][maximumY];
+    visibilityMap = new VisibilityMap(maximumX, maximumY);
+    savedMapData = null;
+  }
+
+  /**
+   * Update map visibility written into save. Only sectors changed
+   * since previous save are read from visibility map. Whole map is read
+   * if journal no longer reaches previous save.
+   * @return Map visibility, one byte per sector
+   */
+  private byte[] updateSavedMapData() {
+    int[] changes = null;
+    if (savedMapData != null) {
+      changes = visibilityMap.getChangesSince(savedMapPosition);
+    }
+    int maxX = maxCoordinate.getX();
+    if (changes == null) {
+      savedMapData = new byte[maxX * maxCoordinate.getY()];
+      for (int i = 0; i < savedMapData.length; i++) {
+        savedMapData[i] = visibilityMap.getVisibility(i % maxX, i / maxX);
+      }
+    } else {
+      for (int sector : changes) {
+        savedMapData[sector] = visibilityMap.getVisibility(sector % maxX,
+            sector / maxX);
+      }
+    }
+    savedMapPosition = visibilityMap.getJournalPosition();
+    return savedMapData;
   }
 
   /**
@@ -1489,7 +1588,8 @@ public class PlayerInfo {
   public byte getSectorVisibility(final Coordinate coordinate) {
     byte result = UNCHARTED;
     try {
-      result = mapData[coordinate.getX()][coordinate.getY()];
+      result = visibilityMap.getVisibility(coordinate.getX(),
+          coordinate.getY());
     } catch (ArrayIndexOutOfBoundsException e) {
       ErrorLogger.log(e);
     }
@@ -1507,7 +1607,7 @@ public class PlayerInfo {
     try {
       if (x >= 0 && x < maxCoordinate.getX() && y >= 0
           && y < maxCoordinate.getY()) {
-        result = mapData[x][y];
+        result = visibilityMap.getVisibility(x, y);
       }
     } catch (ArrayIndexOutOfBoundsException e) {
       ErrorLogger.log(e);
@@ -1525,7 +1625,7 @@ public class PlayerInfo {
       final byte visibility) {
     if (visibility >= 0 && visibility <= VISIBLE_VEINS) {
       try {
-        mapData[x][y] = visibility;
+        visibilityMap.setVisibility(x, y, visibility);
       } catch (ArrayIndexOutOfBoundsException e) {
         ErrorLogger.log(e);
       }
@@ -1541,8 +1641,7 @@ public class PlayerInfo {
   public int getSectorCloakDetection(final int x, final int y) {
     int result = 0;
     try {
-      result = mapCloakDetection[x][y];
-
+      result = visibilityMap.getCloakDetection(x, y);
     } catch (ArrayIndexOutOfBoundsException e) {
       ErrorLogger.log(e);
     }
@@ -1558,7 +1657,7 @@ public class PlayerInfo {
   public void setSectorCloakingDetection(final int x, final int y,
       final int value) {
     try {
-      mapCloakDetection[x][y] = value;
+      visibilityMap.setCloakDetection(x, y, value);
     } catch (ArrayIndexOutOfBoundsException e) {
       ErrorLogger.log(e);
     }
@@ -1566,17 +1665,69 @@ public class PlayerInfo {
 
   /**
    * Clear visibility data after turn. These needs to be recalculated for
-   * each turn.
+   * each turn. Only sectors which were visible are touched.
    */
   public void resetVisibilityDataAfterTurn() {
-    for (int y = 0; y < maxCoordinate.getY(); y++) {
-      for (int x = 0; x < maxCoordinate.getX(); x++) {
-        mapCloakDetection[x][y] = 0;
-        if (mapData[x][y] >= VISIBLE) {
-          mapData[x][y] = FOG_OF_WAR;
-        }
-      }
+    visibilityMap.nextEpoch();
+  }
+
+  /**
+   * Get visibility map for the realm. Save writer uses its journal
+   * to find sectors changed since previous save.
+   * @return VisibilityMap or null if map data is not initialized yet
+   */
+  public VisibilityMap getVisibilityMap() {
+    return visibilityMap;
+  }
+
+  /**
+   * Get charted sectors as bitplane. Bit is set for each sector
+   * which is not uncharted.
+   * @return Charted bitplane or null if map data is not initialized yet
+   */
+  public long[] getChartedPlane() {
+    if (visibilityMap == null) {
+      return null;
     }
+    return visibilityMap.getChartedPlane();
+  }
+
+  /**
+   * Get visible sectors as bitplane. Bit is set for each sector
+   * which is currently visible.
+   * @return Visible bitplane or null if map data is not initialized yet
+   */
+  public long[] getVisiblePlane() {
+    if (visibilityMap == null) {
+      return null;
+    }
+    return visibilityMap.getVisiblePlane();
+  }
+
+  /**
+   * Count sectors which other realm has charted but which are
+   * uncharted for this realm.
+   * @param other Other realm
+   * @return Number of sectors
+   */
+  public int countSectorsChartedOnlyBy(final PlayerInfo other) {
+    if (visibilityMap == null || other.getVisibilityMap() == null) {
+      return 0;
+    }
+    return visibilityMap.countChartedOnlyIn(other.getVisibilityMap());
+  }
+
+  /**
+   * Chart sectors which other realm has charted. Sectors which are
+   * uncharted for this realm turn into fog of war.
+   * @param other Other realm
+   * @return Number of charted sectors
+   */
+  public int chartSectorsFrom(final PlayerInfo other) {
+    if (visibilityMap == null || other.getVisibilityMap() == null) {
+      return 0;
+    }
+    return visibilityMap.chartFrom(other.getVisibilityMap());
   }
 
   /**
@@ -1618,12 +1769,18 @@ public class PlayerInfo {
    * @return ShipStat if found otherwise null
    */
   public ShipStat getShipStatByName(final String name) {
-    for (ShipStat stat : shipStatList) {
-      if (stat.getDesign().getName().equals(name)) {
-        return stat;
-      }
+    return getShipStatIndex().getFirst(name);
+  }
+
+  /**
+   * Get ship stat name index. Index is built again if it is out of date.
+   * @return Name index
+   */
+  private NameIndex<ShipStat> getShipStatIndex() {
+    if (!shipStatIndex.isValid(shipStatList.size())) {
+      shipStatIndex.build(shipStatList);
     }
-    return null;
+    return shipStatIndex;
   }
 
   /**
@@ -1659,13 +1816,7 @@ public class PlayerInfo {
    * @return Number of ship stats which start with that
    */
   public int getShipStatStartsWith(final String name) {
-    int result = 0;
-    for (ShipStat stat : shipStatList) {
-      if (stat.getDesign().getName().startsWith(name)) {
-        result++;
-      }
-    }
-    return result;
+    return getShipStatIndex().countStartingWith(name);
   }
 
   /**
@@ -1675,17 +1826,15 @@ public class PlayerInfo {
    */
   public int getShipStatHighestNumber(final String name) {
     int result = 0;
-    for (ShipStat stat : shipStatList) {
-      if (stat.getDesign().getName().startsWith(name)) {
-        String[] parts = stat.getDesign().getName().split(" Mk");
-        if (parts.length == 2) {
-          try {
-            result = Integer.valueOf(parts[1]);
-          } catch (NumberFormatException e) {
-            // Just ignore this one
-            ErrorLogger.log("Not an number after Mk in design name:"
-               + stat.getDesign().getName());
-          }
+    for (ShipStat stat : getShipStatIndex().getStartingWith(name)) {
+      String[] parts = stat.getDesign().getName().split(" Mk");
+      if (parts.length == 2) {
+        try {
+          result = Integer.valueOf(parts[1]);
+        } catch (NumberFormatException e) {
+          // Just ignore this one
+          ErrorLogger.log("Not an number after Mk in design name:"
+             + stat.getDesign().getName());
         }
       }
     }
@@ -1718,16 +1867,26 @@ public class PlayerInfo {
   public void addShipStat(final ShipStat stat) {
     if (stat != null) {
       shipStatList.add(stat);
+      shipStatIndex.add(stat);
+      stat.getDesign().setDesignOwner(this);
     }
   }
 
+  /**
+   * Mark that design in ship stat list has been renamed. Ship stat name
+   * index is built again before next search.
+   */
+  public void markDesignRenamed() {
+    shipStatIndex.invalidate();
+  }
+
   /**
    * remove Ship Stat from list
    * @param index Index to remove
    */
   public void removeShipStat(final int index) {
     if (shipStatList.size() > 0 && index >= 0 && index < shipStatList.size()) {
-      shipStatList.remove(index);
+      shipStatIndex.remove(shipStatList.remove(index));
     }
   }
 
@@ -1762,15 +1921,10 @@ public class PlayerInfo {
    * @param toDelete ShipStat to delete
    */
   public void removeShipStat(final ShipStat toDelete) {
-    int i = 0;
-    for (ShipStat stat : shipStatList) {
-      if (stat.getDesign().getName().equals(toDelete.getDesign().getName())) {
-        break;
-      }
-      i++;
-    }
-    if (shipStatList.size() > 0) {
-      removeShipStat(i);
+    ShipStat stat = getShipStatIndex().getFirst(
+        toDelete.getDesign().getName());
+    if (stat != null) {
+      removeShipStat(shipStatList.indexOf(stat));
     }
   }
 
@@ -1803,6 +1957,7 @@ public class PlayerInfo {
    * @param government Government
    */
   public void setGovernment(final Government government) {
+    markProductionChanged();
     this.government = government;
   }
   /**
@@ -1884,6 +2039,9 @@ public class PlayerInfo {
    */
   public void setTechList(final TechList techList) {
     this.techList = techList;
+    if (techList != null) {
+      techList.setRealm(this);
+    }
   }
 
   /**
@@ -1964,6 +2122,7 @@ public class PlayerInfo {
   public void reInit() {
     msgList.clearMessages();
     fleets = new FleetList();
+    fleets.setRealm(this);
   }
 
   /**
@@ -1972,12 +2131,7 @@ public class PlayerInfo {
    * @return True if duplicate found, otherwise false
    */
   public boolean duplicateShipDesignName(final String name) {
-    for (ShipStat stat : shipStatList) {
-      if (stat.getDesign().getName().equals(name)) {
-        return true;
-      }
-    }
-    return false;
+    return getShipStatIndex().contains(name);
   }
 
   /**
@@ -2096,6 +2250,7 @@ public class PlayerInfo {
    * @param ruler the ruler to set
    */
   public void setRuler(final Leader ruler) {
+    markProductionChanged();
     this.ruler = ruler;
     if (this.ruler != null) {
       this.ruler.assignJob(Job.RULER, this);
@@ -1,7 +1,7 @@
 package org.openRealmOfStars.player;
 /*
  * Open Realm of Stars game project
- * Copyright (C) 2016-2024 Tuomo Untinen
+ * Copyright (C) 2016-2026 Tuomo Untinen
  *
  * This program is free software; you can redistribute it and/or
  * modify it under the terms of the GNU General Public License
@@ -82,11 +82,24 @@ public class PlayerList {
    * @throws IOException if there is any problem with DataInputStream
    */
   public PlayerList(final DataInputStream dis) throws IOException {
+    this(dis, dis, dis);
+  }
+
+  /**
+   * Read PlayerList from DataInputStreams. Fleets and map visibility
+   * of every player are read from their own streams.
+   * @param dis DataInputStream
+   * @param fleetDis DataInputStream for fleets
+   * @param mapDis DataInputStream for map visibility
+   * @throws IOException if there is any problem with DataInputStream
+   */
+  public PlayerList(final DataInputStream dis, final DataInputStream fleetDis,
+      final DataInputStream mapDis) throws IOException {
     currentPlayer = dis.readInt();
     int count = dis.readInt();
     list = new ArrayList<>();
     for (int i = 0; i < count; i++) {
-      list.add(new PlayerInfo(dis));
+      list.add(new PlayerInfo(dis, fleetDis, mapDis));
     }
   }
 
@@ -298,10 +311,24 @@ public class PlayerList {
    * @throws IOException if there is any problem with DataOutputStream
    */
   public void savePlayerList(final DataOutputStream dos) throws IOException {
+    savePlayerList(dos, dos, dos);
+  }
+
+  /**
+   * Save Player List to DataOutputStreams. Fleets and map visibility
+   * of every player are written into their own streams.
+   * @param dos DataOutputStream
+   * @param fleetDos DataOutputStream for fleets
+   * @param mapDos DataOutputStream for map visibility
+   * @throws IOException if there is any problem with DataOutputStream
+   */
+  public void savePlayerList(final DataOutputStream dos,
+      final DataOutputStream fleetDos, final DataOutputStream mapDos)
+      throws IOException {
     dos.writeInt(currentPlayer);
     dos.writeInt(list.size());
     for (int i = 0; i < list.size(); i++) {
-      list.get(i).savePlayerInfo(dos);
+      list.get(i).savePlayerInfo(dos, fleetDos, mapDos);
     }
   }
 
@@ -0,0 +1,527 @@
+package org.openRealmOfStars.player;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import java.util.Arrays;
+
+/**
+ *
+ * Visibility map for one realm. Visibility state of each sector is
+ * packed into two bits. Cloaking detection is stored only for sectors
+ * which have detection. Visibility is reset after each turn by starting
+ * new epoch: only sectors which were visible are turned into fog of war
+ * and cloaking detection from earlier epochs is ignored.
+ * Changed sectors are written into journal, so that readers can
+ * check what has changed since they last looked. Charted and visible
+ * sectors can be read as bitplanes with one bit per sector, and map
+ * trades compare and merge packed states word by word.
+ *
+ */
+public final class VisibilityMap {
+
+  /**
+   * Sectors in single long.
+   */
+  private static final int SECTORS_PER_WORD = 32;
+
+  /**
+   * Bit mask for single sector state.
+   */
+  private static final long STATE_MASK = 3L;
+
+  /**
+   * Lowest bit of each sector state in packed word.
+   */
+  private static final long LOW_BITS = 0x5555555555555555L;
+
+  /**
+   * Sectors in single bitplane word.
+   */
+  private static final int BITS_PER_WORD = 64;
+
+  /**
+   * Minimum journal size before journal is restarted.
+   */
+  private static final int MIN_JOURNAL_SIZE = 1024;
+
+  /**
+   * Initial size for cloaking detection table.
+   */
+  private static final int INITIAL_DETECTION_SIZE = 64;
+
+  /**
+   * Map size in X axel.
+   */
+  private final int maxX;
+
+  /**
+   * Map size in Y axel.
+   */
+  private final int maxY;
+
+  /**
+   * Sector states packed two bits per sector.
+   */
+  private final long[] states;
+
+  /**
+   * Current epoch.
+   */
+  private int epoch;
+
+  /**
+   * Sectors which have turned visible in current epoch.
+   */
+  private int[] visibleSectors;
+
+  /**
+   * Number of sectors in visible sectors.
+   */
+  private int visibleCount;
+
+  /**
+   * Sector indexes in cloaking detection table.
+   */
+  private int[] detectionSectors;
+
+  /**
+   * Cloaking detection values.
+   */
+  private int[] detectionValues;
+
+  /**
+   * Epoch when cloaking detection value was set.
+   */
+  private int[] detectionEpochs;
+
+  /**
+   * Number of cloaking detection values in current epoch.
+   */
+  private int detectionCount;
+
+  /**
+   * Changed sectors.
+   */
+  private int[] journal;
+
+  /**
+   * Number of changed sectors in journal.
+   */
+  private int journalLength;
+
+  /**
+   * Journal position of first sector in journal.
+   */
+  private long journalStart;
+
+  /**
+   * Create visibility map where all sectors are uncharted.
+   * @param maxX Map size in X axel
+   * @param maxY Map size in Y axel
+   */
+  public VisibilityMap(final int maxX, final int maxY) {
+    this.maxX = maxX;
+    this.maxY = maxY;
+    states = new long[(maxX * maxY + SECTORS_PER_WORD - 1)
+        / SECTORS_PER_WORD];
+    epoch = 1;
+    visibleSectors = new int[INITIAL_DETECTION_SIZE];
+    detectionSectors = new int[INITIAL_DETECTION_SIZE];
+    detectionValues = new int[INITIAL_DETECTION_SIZE];
+    detectionEpochs = new int[INITIAL_DETECTION_SIZE];
+    journal = new int[MIN_JOURNAL_SIZE];
+  }
+
+  /**
+   * Get map size in X axel.
+   * @return Map width
+   */
+  public int getMaxX() {
+    return maxX;
+  }
+
+  /**
+   * Get map size in Y axel.
+   * @return Map height
+   */
+  public int getMaxY() {
+    return maxY;
+  }
+
+  /**
+   * Get current epoch.
+   * @return Epoch
+   */
+  public int getEpoch() {
+    return epoch;
+  }
+
+  /**
+   * Calculate sector index.
+   * @param x X coordinate
+   * @param y Y coordinate
+   * @return Sector index
+   * @throws ArrayIndexOutOfBoundsException If coordinate is outside of map
+   */
+  private int getSector(final int x, final int y) {
+    if (x < 0 || y < 0 || x >= maxX || y >= maxY) {
+      throw new ArrayIndexOutOfBoundsException("Sector " + x + ", " + y
+          + " is outside of " + maxX + "x" + maxY + " map.");
+    }
+    return x + y * maxX;
+  }
+
+  /**
+   * Read state of sector.
+   * @param sector Sector index
+   * @return State
+   */
+  private byte readState(final int sector) {
+    int shift = (sector % SECTORS_PER_WORD) * 2;
+    return (byte) ((states[sector / SECTORS_PER_WORD] >>> shift)
+        & STATE_MASK);
+  }
+
+  /**
+   * Write state of sector.
+   * @param sector Sector index
+   * @param state New state
+   */
+  private void writeState(final int sector, final byte state) {
+    int shift = (sector % SECTORS_PER_WORD) * 2;
+    int word = sector / SECTORS_PER_WORD;
+    states[word] = (states[word] & ~(STATE_MASK << shift))
+        | ((state & STATE_MASK) << shift);
+  }
+
+  /**
+   * Get sector visibility.
+   * @param x X coordinate
+   * @param y Y coordinate
+   * @return UNCHARTED, FOG_OF_WAR, VISIBLE or VISIBLE_VEINS
+   * @throws ArrayIndexOutOfBoundsException If coordinate is outside of map
+   */
+  public byte getVisibility(final int x, final int y) {
+    return readState(getSector(x, y));
+  }
+
+  /**
+   * Set sector visibility.
+   * @param x X coordinate
+   * @param y Y coordinate
+   * @param visibility UNCHARTED, FOG_OF_WAR, VISIBLE or VISIBLE_VEINS
+   * @throws ArrayIndexOutOfBoundsException If coordinate is outside of map
+   */
+  public void setVisibility(final int x, final int y,
+      final byte visibility) {
+    int sector = getSector(x, y);
+    byte old = readState(sector);
+    if (old == visibility) {
+      return;
+    }
+    writeState(sector, visibility);
+    if (old < PlayerInfo.VISIBLE && visibility >= PlayerInfo.VISIBLE) {
+      if (visibleCount == visibleSectors.length) {
+        visibleSectors = Arrays.copyOf(visibleSectors, visibleCount * 2);
+      }
+      visibleSectors[visibleCount] = sector;
+      visibleCount++;
+    }
+    addToJournal(sector);
+  }
+
+  /**
+   * Find slot for sector in cloaking detection table.
+   * @param sector Sector index
+   * @return Slot which contains the sector or free slot
+   */
+  private int findDetectionSlot(final int sector) {
+    int mask = detectionSectors.length - 1;
+    int slot = ((sector * 0x9E3779B9) >>> 8) & mask;
+    while (detectionEpochs[slot] == epoch) {
+      if (detectionSectors[slot] == sector) {
+        return slot;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  /**
+   * Get sector cloaking detection.
+   * @param x X coordinate
+   * @param y Y coordinate
+   * @return Cloaking detection value
+   * @throws ArrayIndexOutOfBoundsException If coordinate is outside of map
+   */
+  public int getCloakDetection(final int x, final int y) {
+    int slot = findDetectionSlot(getSector(x, y));
+    if (detectionEpochs[slot] == epoch) {
+      return detectionValues[slot];
+    }
+    return 0;
+  }
+
+  /**
+   * Set sector cloaking detection.
+   * @param x X coordinate
+   * @param y Y coordinate
+   * @param value Cloaking detection value
+   * @throws ArrayIndexOutOfBoundsException If coordinate is outside of map
+   */
+  public void setCloakDetection(final int x, final int y,
+      final int value) {
+    int sector = getSector(x, y);
+    int slot = findDetectionSlot(sector);
+    if (detectionEpochs[slot] != epoch) {
+      if (value == 0) {
+        return;
+      }
+      if ((detectionCount + 1) * 2 > detectionSectors.length) {
+        growDetectionTable();
+        slot = findDetectionSlot(sector);
+      }
+      detectionEpochs[slot] = epoch;
+      detectionSectors[slot] = sector;
+      detectionCount++;
+    }
+    detectionValues[slot] = value;
+  }
+
+  /**
+   * Double the size of cloaking detection table. Only values from
+   * current epoch are kept.
+   */
+  private void growDetectionTable() {
+    int[] oldSectors = detectionSectors;
+    int[] oldValues = detectionValues;
+    int[] oldEpochs = detectionEpochs;
+    detectionSectors = new int[oldSectors.length * 2];
+    detectionValues = new int[oldSectors.length * 2];
+    detectionEpochs = new int[oldSectors.length * 2];
+    for (int i = 0; i < oldSectors.length; i++) {
+      if (oldEpochs[i] == epoch) {
+        int slot = findDetectionSlot(oldSectors[i]);
+        detectionEpochs[slot] = epoch;
+        detectionSectors[slot] = oldSectors[i];
+        detectionValues[slot] = oldValues[i];
+      }
+    }
+  }
+
+  /**
+   * Get number of sectors with cloaking detection in current epoch.
+   * @return Number of sectors
+   */
+  public int getNumberOfDetectionSectors() {
+    return detectionCount;
+  }
+
+  /**
+   * Start new epoch. Visible sectors turn into fog of war and all
+   * cloaking detection is cleared. Only sectors which were visible
+   * are touched.
+   */
+  public void nextEpoch() {
+    for (int i = 0; i < visibleCount; i++) {
+      int sector = visibleSectors[i];
+      if (readState(sector) >= PlayerInfo.VISIBLE) {
+        writeState(sector, PlayerInfo.FOG_OF_WAR);
+        addToJournal(sector);
+      }
+    }
+    visibleCount = 0;
+    detectionCount = 0;
+    epoch++;
+  }
+
+  /**
+   * Add changed sector into journal. If journal is full it is restarted
+   * and readers which are behind need to read everything again.
+   * @param sector Sector index
+   */
+  private void addToJournal(final int sector) {
+    if (journalLength == journal.length) {
+      int maxSize = Math.max(MIN_JOURNAL_SIZE, maxX * maxY / 2);
+      if (journal.length < maxSize) {
+        journal = Arrays.copyOf(journal, Math.min(maxSize,
+            journal.length * 2));
+      } else {
+        journalStart = journalStart + journalLength;
+        journalLength = 0;
+      }
+    }
+    journal[journalLength] = sector;
+    journalLength++;
+  }
+
+  /**
+   * Get current journal position. Reader should remember this and
+   * later ask changes since this position.
+   * @return Journal position
+   */
+  public long getJournalPosition() {
+    return journalStart + journalLength;
+  }
+
+  /**
+   * Get sectors changed since journal position. Sector index is
+   * x + y * maxX and same sector can be multiple times in the result.
+   * @param position Journal position from getJournalPosition()
+   * @return Changed sectors or null if journal no longer reaches
+   *         that position and whole map needs to be read again.
+   */
+  public int[] getChangesSince(final long position) {
+    if (position < journalStart || position > getJournalPosition()) {
+      return null;
+    }
+    int from = (int) (position - journalStart);
+    return Arrays.copyOfRange(journal, from, journalLength);
+  }
+
+  /**
+   * Get charted bits of packed word. Lowest bit of sector state is set
+   * if sector is not uncharted.
+   * @param word Packed sector states
+   * @return Charted bits
+   */
+  private static long chartedBits(final long word) {
+    return (word | (word >>> 1)) & LOW_BITS;
+  }
+
+  /**
+   * Get visible bits of packed word. Lowest bit of sector state is set
+   * if sector is visible.
+   * @param word Packed sector states
+   * @return Visible bits
+   */
+  private static long visibleBits(final long word) {
+    return (word >>> 1) & LOW_BITS;
+  }
+
+  /**
+   * Gather every second bit of word into lowest 32 bits.
+   * @param bits Bits in even positions
+   * @return Gathered bits
+   */
+  private static long gatherBits(final long bits) {
+    long result = bits & LOW_BITS;
+    result = (result | (result >>> 1)) & 0x3333333333333333L;
+    result = (result | (result >>> 2)) & 0x0F0F0F0F0F0F0F0FL;
+    result = (result | (result >>> 4)) & 0x00FF00FF00FF00FFL;
+    result = (result | (result >>> 8)) & 0x0000FFFF0000FFFFL;
+    result = (result | (result >>> 16)) & 0x00000000FFFFFFFFL;
+    return result;
+  }
+
+  /**
+   * Build bitplane from packed states.
+   * @param visible True for visible plane, false for charted plane
+   * @return Bitplane
+   */
+  private long[] getPlane(final boolean visible) {
+    long[] plane = new long[(maxX * maxY + BITS_PER_WORD - 1)
+        / BITS_PER_WORD];
+    for (int i = 0; i < states.length; i++) {
+      long bits;
+      if (visible) {
+        bits = visibleBits(states[i]);
+      } else {
+        bits = chartedBits(states[i]);
+      }
+      plane[i / 2] = plane[i / 2] | (gatherBits(bits) << (i % 2 * 32));
+    }
+    return plane;
+  }
+
+  /**
+   * Get charted sectors as bitplane. Sector index is x + y * maxX
+   * and sector is in bit (index % 64) of word (index / 64). Bit is set
+   * if sector is not uncharted.
+   * @return Charted bitplane
+   */
+  public long[] getChartedPlane() {
+    return getPlane(false);
+  }
+
+  /**
+   * Get visible sectors as bitplane. Sector index is x + y * maxX
+   * and sector is in bit (index % 64) of word (index / 64). Bit is set
+   * if sector is visible or visible with veins.
+   * @return Visible bitplane
+   */
+  public long[] getVisiblePlane() {
+    return getPlane(true);
+  }
+
+  /**
+   * Check that other map has same size.
+   * @param other Other visibility map
+   * @throws IllegalArgumentException If maps have different size
+   */
+  private void checkSameSize(final VisibilityMap other) {
+    if (other.maxX != maxX || other.maxY != maxY) {
+      throw new IllegalArgumentException("Map " + other.maxX + "x"
+          + other.maxY + " does not match " + maxX + "x" + maxY + " map.");
+    }
+  }
+
+  /**
+   * Count sectors which are charted in other map but uncharted
+   * in this map.
+   * @param other Other visibility map with same size
+   * @return Number of sectors
+   * @throws IllegalArgumentException If maps have different size
+   */
+  public int countChartedOnlyIn(final VisibilityMap other) {
+    checkSameSize(other);
+    int count = 0;
+    for (int i = 0; i < states.length; i++) {
+      count = count + Long.bitCount(chartedBits(other.states[i])
+          & ~chartedBits(states[i]));
+    }
+    return count;
+  }
+
+  /**
+   * Chart sectors which are charted in other map. Uncharted sectors
+   * in this map turn into fog of war, other sectors are not touched.
+   * Changed sectors are written into journal.
+   * @param other Other visibility map with same size
+   * @return Number of charted sectors
+   * @throws IllegalArgumentException If maps have different size
+   */
+  public int chartFrom(final VisibilityMap other) {
+    checkSameSize(other);
+    int count = 0;
+    for (int i = 0; i < states.length; i++) {
+      long added = chartedBits(other.states[i]) & ~chartedBits(states[i]);
+      if (added != 0) {
+        // FOG_OF_WAR is lowest bit of sector state
+        states[i] = states[i] | added;
+        count = count + Long.bitCount(added);
+        while (added != 0) {
+          addToJournal(i * SECTORS_PER_WORD
+              + Long.numberOfTrailingZeros(added) / 2);
+          added = added & (added - 1);
+        }
+      }
+    }
+    return count;
+  }
+}
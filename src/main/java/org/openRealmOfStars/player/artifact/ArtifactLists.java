@@ -61,6 +61,13 @@ public class ArtifactLists {
    */
   private int artifactResearchPoints;
 
+  /**
+   * Realm who has these artifact lists. Realm is told when discovered
+   * artifacts change, since they affect artifact research production.
+   * Can be null.
+   */
+  private PlayerInfo realm;
+
   /**
    * Constructor for artifact lists.
    */
@@ -152,6 +159,24 @@ public class ArtifactLists {
    */
   public void addDiscoveredArtifact(final Artifact artifact) {
     discoveredArtifacts.add(artifact);
+    discoveredChanged();
+  }
+
+  /**
+   * Set realm who has these artifact lists.
+   * @param realm PlayerInfo or null
+   */
+  public void setRealm(final PlayerInfo realm) {
+    this.realm = realm;
+  }
+
+  /**
+   * Tell realm that discovered artifacts have changed.
+   */
+  private void discoveredChanged() {
+    if (realm != null) {
+      realm.markProductionChanged();
+    }
   }
 
   /**
@@ -164,6 +189,7 @@ public class ArtifactLists {
       Artifact artifact = DiceGenerator.pickRandom(discoveredArtifacts);
       researchedArtifacts.add(artifact);
       discoveredArtifacts.remove(artifact);
+      discoveredChanged();
       return artifact;
     }
     return null;
@@ -230,6 +256,7 @@ public class ArtifactLists {
     if (discoveredArtifacts.size() > 0) {
       Artifact artifact = DiceGenerator.pickRandom(discoveredArtifacts);
       discoveredArtifacts.remove(artifact);
+      discoveredChanged();
       return artifact;
     }
     return null;
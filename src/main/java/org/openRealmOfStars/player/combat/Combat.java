@@ -1,7 +1,7 @@
 package org.openRealmOfStars.player.combat;
 /*
  * Open Realm of Stars game project
- * Copyright (C) 2016-2021 Tuomo Untinen
+ * Copyright (C) 2016-2026 Tuomo Untinen
  *
  * This program is free software; you can redistribute it and/or
  * modify it under the terms of the GNU General Public License
@@ -26,6 +26,8 @@ import org.openRealmOfStars.ai.mission.MissionType;
 import org.openRealmOfStars.ai.pathfinding.AStarSearch;
 import org.openRealmOfStars.ai.pathfinding.PathPoint;
 import org.openRealmOfStars.audio.soundeffect.SoundPlayer;
+import org.openRealmOfStars.game.simulation.TurnPhase;
+import org.openRealmOfStars.game.simulation.TurnPhaseTimer;
 import org.openRealmOfStars.gui.icons.Icons;
 import org.openRealmOfStars.gui.infopanel.BattleInfoPanel;
 import org.openRealmOfStars.player.PlayerInfo;
@@ -1627,33 +1629,38 @@ public boolean launchIntercept(final int distance,
   public void doFastCombat(final boolean debug) {
     Logger logger = null;
     if (!isCombatOver()) {
-      while (!isCombatOver()) {
-        if (debug) {
-          logger = new Logger();
-          logger.addLog("Turn starts...");
-          logger.addLog(getCurrentShip().getShip().getName() + " X:"
-              + getCurrentShip().getX() + " Y:" + getCurrentShip().getY());
-        }
-        boolean endRound = handleAI(logger, null);
-        if (logger != null) {
-          if (endRound && debug) {
-            logger.addLog("Round ended...");
+      TurnPhaseTimer.enter(TurnPhase.COMBAT);
+      try {
+        while (!isCombatOver()) {
+          if (debug) {
+            logger = new Logger();
+            logger.addLog("Turn starts...");
+            logger.addLog(getCurrentShip().getShip().getName() + " X:"
+                + getCurrentShip().getX() + " Y:" + getCurrentShip().getY());
           }
-          for (int i = logger.size() - 1; i >= 0; i--) {
-            String msg = logger.getMessage(i);
-            if (!msg.isEmpty()) {
-              ErrorLogger.log(msg);
+          boolean endRound = handleAI(logger, null);
+          if (logger != null) {
+            if (endRound && debug) {
+              logger.addLog("Round ended...");
+            }
+            for (int i = logger.size() - 1; i >= 0; i--) {
+              String msg = logger.getMessage(i);
+              if (!msg.isEmpty()) {
+                ErrorLogger.log(msg);
+              }
             }
           }
+          if (animation != null
+              && animation.getTarget().getShip().getHullPoints() <= 0) {
+            // Ship has no more hull points so destroying it
+            destroyShip(animation.getTarget());
+          }
+          setAnimation(null);
         }
-        if (animation != null
-            && animation.getTarget().getShip().getHullPoints() <= 0) {
-          // Ship has no more hull points so destroying it
-          destroyShip(animation.getTarget());
-        }
-        setAnimation(null);
+        handleEndCombat();
+      } finally {
+        TurnPhaseTimer.exit();
       }
-      handleEndCombat();
     }
   }
 
@@ -0,0 +1,170 @@
+package org.openRealmOfStars.player.combat;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+/**
+ *
+ * Predicted outcome of combat between two fleets. Prediction is
+ * calculated from several simulated combats.
+ *
+ */
+public final class CombatPrediction {
+
+  /**
+   * Number of simulated combats.
+   */
+  private final int simulations;
+  /**
+   * Number of combats attacker won.
+   */
+  private final int attackerWins;
+  /**
+   * Number of combats defender won.
+   */
+  private final int defenderWins;
+  /**
+   * Total number of attacker ships destroyed in all combats.
+   */
+  private final long attackerLost;
+  /**
+   * Total number of defender ships destroyed in all combats.
+   */
+  private final long defenderLost;
+  /**
+   * Total military power of attacker ships destroyed in all combats.
+   */
+  private final long attackerPowerLost;
+  /**
+   * Total military power of defender ships destroyed in all combats.
+   */
+  private final long defenderPowerLost;
+
+  /**
+   * Create combat prediction from simulation results.
+   * @param results Results in format of CombatSimulation result fields
+   * @param simulations Number of simulations in results
+   */
+  public CombatPrediction(final int[] results, final int simulations) {
+    this.simulations = simulations;
+    int attacker = 0;
+    int defender = 0;
+    long lostAttacker = 0;
+    long lostDefender = 0;
+    long powerAttacker = 0;
+    long powerDefender = 0;
+    for (int i = 0; i < simulations; i++) {
+      int offset = i * CombatSimulation.RESULT_FIELDS;
+      int winner = results[offset + CombatSimulation.RESULT_WINNER];
+      if (winner == CombatSimulation.ATTACKER) {
+        attacker++;
+      } else if (winner == CombatSimulation.DEFENDER) {
+        defender++;
+      }
+      lostAttacker = lostAttacker
+          + results[offset + CombatSimulation.RESULT_ATTACKER_LOST];
+      lostDefender = lostDefender
+          + results[offset + CombatSimulation.RESULT_DEFENDER_LOST];
+      powerAttacker = powerAttacker
+          + results[offset + CombatSimulation.RESULT_ATTACKER_POWER_LOST];
+      powerDefender = powerDefender
+          + results[offset + CombatSimulation.RESULT_DEFENDER_POWER_LOST];
+    }
+    attackerWins = attacker;
+    defenderWins = defender;
+    attackerLost = lostAttacker;
+    defenderLost = lostDefender;
+    attackerPowerLost = powerAttacker;
+    defenderPowerLost = powerDefender;
+  }
+
+  /**
+   * Get number of simulated combats.
+   * @return Number of simulations
+   */
+  public int getSimulations() {
+    return simulations;
+  }
+
+  /**
+   * Get average of total over simulations.
+   * @param total Total value
+   * @return Average or zero if there are no simulations
+   */
+  private double average(final long total) {
+    if (simulations == 0) {
+      return 0;
+    }
+    return (double) total / simulations;
+  }
+
+  /**
+   * Get probability that attacker wins the combat.
+   * @return Probability between 0.0 and 1.0
+   */
+  public double getWinProbability() {
+    return average(attackerWins);
+  }
+
+  /**
+   * Get probability that defender wins the combat.
+   * @return Probability between 0.0 and 1.0
+   */
+  public double getLossProbability() {
+    return average(defenderWins);
+  }
+
+  /**
+   * Get probability that combat ends without winner.
+   * @return Probability between 0.0 and 1.0
+   */
+  public double getDrawProbability() {
+    return average(simulations - attackerWins - defenderWins);
+  }
+
+  /**
+   * Get expected number of attacker ships destroyed.
+   * @return Expected number of ships
+   */
+  public double getExpectedAttackerLosses() {
+    return average(attackerLost);
+  }
+
+  /**
+   * Get expected number of defender ships destroyed.
+   * @return Expected number of ships
+   */
+  public double getExpectedDefenderLosses() {
+    return average(defenderLost);
+  }
+
+  /**
+   * Get expected military power of attacker ships destroyed.
+   * @return Expected military power
+   */
+  public double getExpectedAttackerPowerLost() {
+    return average(attackerPowerLost);
+  }
+
+  /**
+   * Get expected military power of defender ships destroyed.
+   * @return Expected military power
+   */
+  public double getExpectedDefenderPowerLost() {
+    return average(defenderPowerLost);
+  }
+}
@@ -0,0 +1,236 @@
+package org.openRealmOfStars.player.combat;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.LongFunction;
+import java.util.stream.IntStream;
+
+import org.openRealmOfStars.player.combat.CombatSimulation.CombatRandom;
+import org.openRealmOfStars.player.fleet.Fleet;
+import org.openRealmOfStars.player.ship.Ship;
+
+/**
+ *
+ * Monte Carlo prediction for combat between two fleets. Same combat is
+ * simulated several times with CombatSimulation and predictions are
+ * cached by composition hashes of fleets. Simulations are run
+ * concurrently in common fork join pool unless serial simulation is set.
+ * Each star map has its own predictor, which follows star map's serial
+ * planning setting.
+ * Each simulation has its own random number source seeded from fleet
+ * compositions, so predictions do not use game's dice and same fleets
+ * always get same prediction.
+ *
+ */
+public class CombatPredictor {
+
+  /**
+   * Default number of simulations for single prediction.
+   */
+  public static final int DEFAULT_SIMULATIONS = 200;
+
+  /**
+   * Maximum number of cached predictions.
+   */
+  private static final int MAX_CACHED = 256;
+
+  /**
+   * Difference between seeds of two simulations.
+   */
+  private static final long SEED_STEP = 0x9E3779B97F4A7C15L;
+
+  /**
+   * Number of simulations for single prediction.
+   */
+  private int simulations;
+
+  /**
+   * Are simulations run in single thread.
+   */
+  private boolean serialSimulation;
+
+  /**
+   * Random number source factory. Factory gets seed for single
+   * simulation.
+   */
+  private LongFunction<CombatRandom> randomFactory;
+
+  /**
+   * Cached predictions by combined composition hash. Least recently
+   * used predictions are removed first.
+   */
+  private final Map<Long, CombatPrediction> cache;
+
+  /**
+   * Create combat predictor with default number of simulations.
+   */
+  public CombatPredictor() {
+    simulations = DEFAULT_SIMULATIONS;
+    randomFactory = seed -> new SplittableRandom(seed)::nextInt;
+    cache = new LinkedHashMap<Long, CombatPrediction>(MAX_CACHED, 0.75f,
+        true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(
+          final Map.Entry<Long, CombatPrediction> eldest) {
+        return size() > MAX_CACHED;
+      }
+    };
+  }
+
+  /**
+   * Get number of simulations for single prediction.
+   * @return Number of simulations
+   */
+  public int getSimulations() {
+    return simulations;
+  }
+
+  /**
+   * Set number of simulations for single prediction. This clears
+   * cached predictions.
+   * @param count Number of simulations, at least one
+   */
+  public void setSimulations(final int count) {
+    if (count > 0) {
+      simulations = count;
+      clearCache();
+    }
+  }
+
+  /**
+   * Are simulations run in single thread.
+   * @return True if simulations are run in single thread
+   */
+  public boolean isSerialSimulation() {
+    return serialSimulation;
+  }
+
+  /**
+   * Set simulations to be run in single thread.
+   * This is mainly for reproducing bugs.
+   * @param serial True for single thread simulation
+   */
+  public void setSerialSimulation(final boolean serial) {
+    serialSimulation = serial;
+  }
+
+  /**
+   * Set random number source factory for simulations. Factory gets
+   * seed for single simulation and it is called from several threads
+   * unless serial simulation is set. This clears cached predictions.
+   * @param factory Random number source factory
+   */
+  public void setRandomFactory(
+      final LongFunction<CombatRandom> factory) {
+    randomFactory = factory;
+    clearCache();
+  }
+
+  /**
+   * Clear cached predictions.
+   */
+  public void clearCache() {
+    synchronized (cache) {
+      cache.clear();
+    }
+  }
+
+  /**
+   * Get number of cached predictions.
+   * @return Number of cached predictions
+   */
+  public int getCacheSize() {
+    synchronized (cache) {
+      return cache.size();
+    }
+  }
+
+  /**
+   * Predict combat between two fleets. Cached prediction is used if
+   * same compositions have been predicted before.
+   * @param attacker Attacking fleet
+   * @param defender Defending fleet
+   * @return Combat prediction
+   */
+  public CombatPrediction predict(final Fleet attacker,
+      final Fleet defender) {
+    long key = getCompositionHash(attacker) * 31
+        + getCompositionHash(defender);
+    CombatPrediction prediction;
+    synchronized (cache) {
+      prediction = cache.get(key);
+    }
+    if (prediction == null) {
+      prediction = simulate(new CombatSimulation(attacker, defender), key);
+      synchronized (cache) {
+        cache.put(key, prediction);
+      }
+    }
+    return prediction;
+  }
+
+  /**
+   * Predict combat by running simulations. This does not use cache.
+   * @param simulation Combat simulation
+   * @param seed Seed for first simulation
+   * @return Combat prediction
+   */
+  public CombatPrediction simulate(final CombatSimulation simulation,
+      final long seed) {
+    int count = simulations;
+    LongFunction<CombatRandom> factory = randomFactory;
+    int[] results = new int[count * CombatSimulation.RESULT_FIELDS];
+    IntStream indexes = IntStream.range(0, count);
+    if (!serialSimulation) {
+      indexes = indexes.parallel();
+    }
+    indexes.forEach(i -> simulation.simulate(
+        factory.apply(seed + i * SEED_STEP), results, i));
+    return new CombatPrediction(results, count);
+  }
+
+  /**
+   * Calculate hash of fleet composition. Hash covers ship hulls,
+   * components, component hull points, shields, armor, experience
+   * and deployed starbases.
+   * @param fleet Fleet
+   * @return Composition hash
+   */
+  public static long getCompositionHash(final Fleet fleet) {
+    long hash = 17;
+    for (Ship ship : fleet.getShips()) {
+      hash = hash * 31 + ship.getHull().getName().hashCode();
+      hash = hash * 31 + ship.getShield();
+      hash = hash * 31 + ship.getArmor();
+      hash = hash * 31 + ship.getExperience();
+      if (ship.getFlag(Ship.FLAG_STARBASE_DEPLOYED)) {
+        hash = hash * 31 + 1;
+      }
+      for (int i = 0; i < ship.getNumberOfComponents(); i++) {
+        hash = hash * 31 + ship.getComponent(i).getName().hashCode();
+        hash = hash * 31 + ship.getHullPointForComponent(i);
+      }
+    }
+    return hash;
+  }
+}
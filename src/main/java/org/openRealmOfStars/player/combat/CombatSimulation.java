@@ -0,0 +1,694 @@
+package org.openRealmOfStars.player.combat;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import java.util.Arrays;
+
+import org.openRealmOfStars.player.fleet.Fleet;
+import org.openRealmOfStars.player.ship.Ship;
+import org.openRealmOfStars.player.ship.ShipComponent;
+import org.openRealmOfStars.player.ship.ShipComponentType;
+
+/**
+ *
+ * Lightweight combat simulation between two fleets. Ship state is copied
+ * to flat int arrays, one block of fields per ship, so same battle can be
+ * simulated many times without touching actual ships. Simulation has no
+ * combat map, animations or logging. Ships act in initiative order and
+ * fire all working weapons to random enemy ships. Damage is resolved with
+ * same rules as Ship.damageBy(). Movement, escaping, orbital defenses,
+ * leader perks, tractor beams and privateering are not simulated.
+ * Single simulation object can be used by several threads at the same
+ * time, since each simulation works on its own copy of the state.
+ *
+ */
+public final class CombatSimulation {
+
+  /**
+   * Random number source for simulation.
+   */
+  @FunctionalInterface
+  public interface CombatRandom {
+    /**
+     * Get random number.
+     * @param bound Upper bound, exclusive. Must be positive.
+     * @return Random number between 0 and bound - 1
+     */
+    int nextInt(int bound);
+  }
+
+  /**
+   * Attacker side and winner.
+   */
+  public static final int ATTACKER = 0;
+  /**
+   * Defender side and winner.
+   */
+  public static final int DEFENDER = 1;
+  /**
+   * Winner when combat ends as draw.
+   */
+  public static final int DRAW = -1;
+
+  /**
+   * Result field for winner.
+   */
+  public static final int RESULT_WINNER = 0;
+  /**
+   * Result field for number of attacker ships destroyed.
+   */
+  public static final int RESULT_ATTACKER_LOST = 1;
+  /**
+   * Result field for number of defender ships destroyed.
+   */
+  public static final int RESULT_DEFENDER_LOST = 2;
+  /**
+   * Result field for military power of destroyed attacker ships.
+   */
+  public static final int RESULT_ATTACKER_POWER_LOST = 3;
+  /**
+   * Result field for military power of destroyed defender ships.
+   */
+  public static final int RESULT_DEFENDER_POWER_LOST = 4;
+  /**
+   * Number of result fields for single simulation.
+   */
+  public static final int RESULT_FIELDS = 5;
+
+  /**
+   * Maximum number of rounds before combat is draw.
+   */
+  private static final int MAX_ROUNDS = 100;
+  /**
+   * Rounds without hull damage before combat is draw. Same as in Combat.
+   */
+  private static final int MAX_ROUNDS_NO_DAMAGE = 15;
+  /**
+   * Minimum accuracy for weapon. Same as in Combat.
+   */
+  private static final int MIN_ACCURACY = 10;
+  /**
+   * Dice size for accuracy and critical rolls.
+   */
+  private static final int DICE = 100;
+
+  /** Ship field: Side of the ship */
+  private static final int SIDE = 0;
+  /** Ship field: Defense value */
+  private static final int DEFENSE = 1;
+  /** Ship field: Experience */
+  private static final int EXPERIENCE = 2;
+  /** Ship field: Maximum shield */
+  private static final int MAX_SHIELD = 3;
+  /** Ship field: Maximum armor */
+  private static final int MAX_ARMOR = 4;
+  /** Ship field: 1 if ship has working shield */
+  private static final int SHIELD_UP = 5;
+  /** Ship field: Shield generator value */
+  private static final int GENERATOR = 6;
+  /** Ship field: 1 if ship has working organic armor */
+  private static final int ARMOR_UP = 7;
+  /** Ship field: 1 if ship has working multi dimension shield */
+  private static final int MULTI_DIMENSION = 8;
+  /** Ship field: Military power */
+  private static final int MILITARY_POWER = 9;
+  /** Ship field: Index of first component in component arrays */
+  private static final int FIRST_COMPONENT = 10;
+  /** Ship field: Number of components */
+  private static final int COMPONENTS = 11;
+  /** Ship field: Index of ship's block in state */
+  private static final int STATE = 12;
+  /** Number of fields for single ship */
+  private static final int SHIP_FIELDS = 13;
+
+  /** State field: Current shield */
+  private static final int SHIELD = 0;
+  /** State field: Current armor */
+  private static final int ARMOR = 1;
+  /** State field: Current hull points */
+  private static final int HULL = 2;
+  /** State fields before component hull points */
+  private static final int STATE_FIELDS = 3;
+
+  /**
+   * Number of ships in simulation.
+   */
+  private final int numberOfShips;
+  /**
+   * Ship fields for each ship in initiative order.
+   */
+  private final int[] ships;
+  /**
+   * Component types for all components.
+   */
+  private final ShipComponentType[] types;
+  /**
+   * Component damage values for all components.
+   */
+  private final int[] damages;
+  /**
+   * Hit chances for weapons, including targeting computers.
+   */
+  private final int[] hitChances;
+  /**
+   * Is component weapon which ship can use.
+   */
+  private final boolean[] weapons;
+  /**
+   * State at the beginning of combat. Each ship has current shield,
+   * armor and hull points followed by hull points of each component.
+   */
+  private final int[] template;
+  /**
+   * Number of ships for each side.
+   */
+  private final int[] shipsOnSide;
+  /**
+   * Military power for each side.
+   */
+  private final int[] powerOnSide;
+
+  /**
+   * Create combat simulation from current state of fleets.
+   * Ships without hull points are ignored.
+   * @param attacker Attacking fleet
+   * @param defender Defending fleet
+   */
+  public CombatSimulation(final Fleet attacker, final Fleet defender) {
+    Ship[] all = new Ship[attacker.getNumberOfShip()
+        + defender.getNumberOfShip()];
+    int[] sides = new int[all.length];
+    int count = 0;
+    int totalComponents = 0;
+    for (int side = ATTACKER; side <= DEFENDER; side++) {
+      Fleet fleet = attacker;
+      if (side == DEFENDER) {
+        fleet = defender;
+      }
+      for (Ship ship : fleet.getShips()) {
+        if (ship.getHullPoints() > 0) {
+          all[count] = ship;
+          sides[count] = side;
+          totalComponents = totalComponents + ship.getNumberOfComponents();
+          count++;
+        }
+      }
+    }
+    numberOfShips = count;
+    Integer[] order = new Integer[count];
+    for (int i = 0; i < count; i++) {
+      order[i] = i;
+    }
+    // Stable sort keeps attacker first when initiatives are equal
+    Arrays.sort(order, (first, second) -> all[second].getInitiative()
+        - all[first].getInitiative());
+    ships = new int[count * SHIP_FIELDS];
+    types = new ShipComponentType[totalComponents];
+    damages = new int[totalComponents];
+    hitChances = new int[totalComponents];
+    weapons = new boolean[totalComponents];
+    template = new int[count * STATE_FIELDS + totalComponents];
+    shipsOnSide = new int[2];
+    powerOnSide = new int[2];
+    int component = 0;
+    int state = 0;
+    for (int i = 0; i < count; i++) {
+      Ship ship = all[order[i]];
+      int side = sides[order[i]];
+      int base = i * SHIP_FIELDS;
+      ships[base + SIDE] = side;
+      ships[base + DEFENSE] = ship.getDefenseValue();
+      ships[base + EXPERIENCE] = ship.getExperience();
+      ships[base + MAX_SHIELD] = ship.getTotalShield();
+      ships[base + MAX_ARMOR] = ship.getTotalArmor();
+      if (ship.hasMultiDimensionShield()) {
+        ships[base + MULTI_DIMENSION] = 1;
+      }
+      ships[base + MILITARY_POWER] = ship.getTotalMilitaryPower();
+      ships[base + FIRST_COMPONENT] = component;
+      ships[base + COMPONENTS] = ship.getNumberOfComponents();
+      ships[base + STATE] = state;
+      template[state + SHIELD] = ship.getShield();
+      template[state + ARMOR] = ship.getArmor();
+      template[state + HULL] = ship.getHullPoints();
+      boolean canShoot = !ship.isStarBase()
+          || ship.getFlag(Ship.FLAG_STARBASE_DEPLOYED);
+      for (int j = 0; j < ship.getNumberOfComponents(); j++) {
+        ShipComponent comp = ship.getComponent(j);
+        boolean working = ship.componentIsWorking(j);
+        types[component] = comp.getType();
+        damages[component] = comp.getDamage();
+        template[state + STATE_FIELDS + j] = ship.getHullPointForComponent(j);
+        if (comp.isWeapon() && working && canShoot) {
+          weapons[component] = true;
+          hitChances[component] = ship.getHitChance(comp);
+        }
+        if (working) {
+          setDefenseFields(base, comp);
+        }
+        component++;
+      }
+      state = state + STATE_FIELDS + ship.getNumberOfComponents();
+      shipsOnSide[side]++;
+      powerOnSide[side] = powerOnSide[side] + ships[base + MILITARY_POWER];
+    }
+  }
+
+  /**
+   * Set shield and armor regeneration fields for working component.
+   * @param base Ship's base index in ship fields
+   * @param comp Working component
+   */
+  private void setDefenseFields(final int base, final ShipComponent comp) {
+    switch (comp.getType()) {
+    case SHIELD:
+    case SHADOW_SHIELD:
+    case DISTORTION_SHIELD:
+    case MULTIDIMENSION_SHIELD: {
+      ships[base + SHIELD_UP] = 1;
+      break;
+    }
+    case SHIELD_GENERATOR: {
+      if (ships[base + GENERATOR] == 0) {
+        ships[base + GENERATOR] = comp.getDefenseValue();
+      }
+      break;
+    }
+    case ORGANIC_ARMOR: {
+      ships[base + ARMOR_UP] = 1;
+      break;
+    }
+    default:
+      /* No regeneration */break;
+    }
+  }
+
+  /**
+   * Get number of ships in simulation.
+   * @return Number of ships
+   */
+  public int getNumberOfShips() {
+    return numberOfShips;
+  }
+
+  /**
+   * Get number of ships for side.
+   * @param side ATTACKER or DEFENDER
+   * @return Number of ships
+   */
+  public int getNumberOfShips(final int side) {
+    return shipsOnSide[side];
+  }
+
+  /**
+   * Get military power for side.
+   * @param side ATTACKER or DEFENDER
+   * @return Military power
+   */
+  public int getMilitaryPower(final int side) {
+    return powerOnSide[side];
+  }
+
+  /**
+   * Simulate single combat. Result is written to results array starting
+   * from index * RESULT_FIELDS.
+   * @param random Random number source
+   * @param results Result array
+   * @param index Simulation index
+   */
+  public void simulate(final CombatRandom random, final int[] results,
+      final int index) {
+    int[] state = template.clone();
+    int[] alive = {shipsOnSide[ATTACKER], shipsOnSide[DEFENDER]};
+    if (powerOnSide[ATTACKER] > 0 || powerOnSide[DEFENDER] > 0) {
+      int roundsNoDamage = 0;
+      for (int round = 0; round < MAX_ROUNDS
+          && roundsNoDamage < MAX_ROUNDS_NO_DAMAGE
+          && alive[ATTACKER] > 0 && alive[DEFENDER] > 0; round++) {
+        boolean damaged = false;
+        for (int i = 0; i < numberOfShips && alive[ATTACKER] > 0
+            && alive[DEFENDER] > 0; i++) {
+          if (state[ships[i * SHIP_FIELDS + STATE] + HULL] > 0) {
+            regenerateShield(state, i);
+            if (shoot(state, i, alive, random)) {
+              damaged = true;
+            }
+          }
+        }
+        if (damaged) {
+          roundsNoDamage = 0;
+        } else {
+          roundsNoDamage++;
+        }
+      }
+    }
+    int winner = DRAW;
+    if (alive[ATTACKER] > 0 && alive[DEFENDER] == 0) {
+      winner = ATTACKER;
+    } else if (alive[DEFENDER] > 0 && alive[ATTACKER] == 0) {
+      winner = DEFENDER;
+    }
+    int offset = index * RESULT_FIELDS;
+    results[offset + RESULT_WINNER] = winner;
+    results[offset + RESULT_ATTACKER_LOST] = 0;
+    results[offset + RESULT_DEFENDER_LOST] = 0;
+    results[offset + RESULT_ATTACKER_POWER_LOST] = 0;
+    results[offset + RESULT_DEFENDER_POWER_LOST] = 0;
+    for (int i = 0; i < numberOfShips; i++) {
+      int base = i * SHIP_FIELDS;
+      if (state[ships[base + STATE] + HULL] == 0) {
+        int side = ships[base + SIDE];
+        results[offset + RESULT_ATTACKER_LOST + side]++;
+        results[offset + RESULT_ATTACKER_POWER_LOST + side] +=
+            ships[base + MILITARY_POWER];
+      }
+    }
+  }
+
+  /**
+   * Regenerate shield and armor for ship at the beginning of its turn.
+   * This follows Ship.regenerateShield().
+   * @param state Combat state
+   * @param ship Ship index
+   */
+  private void regenerateShield(final int[] state, final int ship) {
+    int base = ship * SHIP_FIELDS;
+    int block = ships[base + STATE];
+    int shield = state[block + SHIELD];
+    if (ships[base + SHIELD_UP] == 0) {
+      shield = 0;
+    } else {
+      if (shield < ships[base + MAX_SHIELD]) {
+        shield++;
+      }
+      if (shield + ships[base + GENERATOR] <= ships[base + MAX_SHIELD]) {
+        shield = shield + ships[base + GENERATOR];
+      }
+    }
+    state[block + SHIELD] = shield;
+    if (ships[base + ARMOR_UP] == 1
+        && state[block + ARMOR] < ships[base + MAX_ARMOR]) {
+      state[block + ARMOR]++;
+    }
+  }
+
+  /**
+   * Fire all working weapons of ship to random enemy ships.
+   * @param state Combat state
+   * @param ship Ship index
+   * @param alive Number of ships alive for each side
+   * @param random Random number source
+   * @return True if any hull damage was done
+   */
+  private boolean shoot(final int[] state, final int ship, final int[] alive,
+      final CombatRandom random) {
+    int base = ship * SHIP_FIELDS;
+    int block = ships[base + STATE];
+    int enemy = DEFENDER - ships[base + SIDE];
+    boolean damaged = false;
+    for (int j = 0; j < ships[base + COMPONENTS]; j++) {
+      int comp = ships[base + FIRST_COMPONENT] + j;
+      if (!weapons[comp] || state[block + STATE_FIELDS + j] == 0) {
+        continue;
+      }
+      int target = pickTarget(state, enemy, alive[enemy], random);
+      int accuracy = hitChances[comp]
+          - ships[target * SHIP_FIELDS + DEFENSE];
+      if (accuracy < MIN_ACCURACY) {
+        accuracy = MIN_ACCURACY;
+      }
+      if (random.nextInt(DICE) < accuracy
+          && damageBy(state, target, comp, random)) {
+        damaged = true;
+        if (state[ships[target * SHIP_FIELDS + STATE] + HULL] == 0) {
+          alive[enemy]--;
+          if (alive[enemy] == 0) {
+            break;
+          }
+        }
+      }
+    }
+    return damaged;
+  }
+
+  /**
+   * Pick random alive ship from side.
+   * @param state Combat state
+   * @param side Side where to pick
+   * @param alive Number of alive ships on side, must be positive
+   * @param random Random number source
+   * @return Ship index
+   */
+  private int pickTarget(final int[] state, final int side, final int alive,
+      final CombatRandom random) {
+    int pick = 0;
+    if (alive > 1) {
+      pick = random.nextInt(alive);
+    }
+    int target = 0;
+    for (int i = 0; i < numberOfShips; i++) {
+      int base = i * SHIP_FIELDS;
+      if (ships[base + SIDE] == side
+          && state[ships[base + STATE] + HULL] > 0) {
+        if (pick == 0) {
+          target = i;
+          break;
+        }
+        pick--;
+      }
+    }
+    return target;
+  }
+
+  /**
+   * Lower value but not under zero.
+   * @param value Value to lower
+   * @param amount Amount to lower
+   * @return Lowered value
+   */
+  private static int lower(final int value, final int amount) {
+    if (value - amount < 0) {
+      return 0;
+    }
+    return value - amount;
+  }
+
+  /**
+   * Damage target ship by weapon. This follows Ship.damageBy() with
+   * no critical bonus.
+   * @param state Combat state
+   * @param target Target ship index
+   * @param comp Weapon component index
+   * @param random Random number source
+   * @return True if hull was damaged
+   */
+  private boolean damageBy(final int[] state, final int target,
+      final int comp, final CombatRandom random) {
+    int base = target * SHIP_FIELDS;
+    int block = ships[base + STATE];
+    int shield = state[block + SHIELD];
+    int armor = state[block + ARMOR];
+    int weaponDamage = damages[comp];
+    int chance = 5 + ships[base + EXPERIENCE];
+    int damage = 0;
+    switch (types[comp]) {
+    case WEAPON_BEAM:
+    case WEAPON_PHOTON_TORPEDO: {
+      damage = weaponDamage - shield;
+      if (types[comp] == ShipComponentType.WEAPON_BEAM) {
+        chance = chance + 5;
+      }
+      if (damage > 0) {
+        shield = lower(shield, 1);
+      } else {
+        if (shield / 2 <= weaponDamage || random.nextInt(DICE) < chance) {
+          shield = lower(shield, 1);
+        }
+        damage = 0;
+        break;
+      }
+      damage = damage - armor / 2;
+      if (damage >= 0) {
+        armor = lower(armor, 1);
+      } else {
+        damage = damage + armor / 2;
+        if (armor / 4 <= damage || random.nextInt(DICE) < chance) {
+          armor = lower(armor, 1);
+        }
+        damage = 0;
+      }
+      break;
+    }
+    case PLASMA_BEAM:
+    case PLASMA_SPIT:
+    case PLASMA_CANNON: {
+      damage = weaponDamage - shield;
+      shield = lower(shield, 1);
+      if (damage <= 0) {
+        damage = 0;
+        break;
+      }
+      damage = damage - armor;
+      armor = lower(armor, 1);
+      if (damage < 0) {
+        damage = 0;
+      }
+      break;
+    }
+    case GRAVITY_RIPPER: {
+      if (ships[base + MULTI_DIMENSION] == 1) {
+        damage = 0;
+        break;
+      } else if (shield == weaponDamage) {
+        shield = lower(shield, 2);
+        damage = 0;
+        break;
+      }
+      damage = weaponDamage - shield;
+      shield = lower(shield, 2);
+      if (damage <= armor && damage > 0) {
+        armor = lower(armor, damage);
+        damage = 0;
+        break;
+      }
+      armor = 0;
+      break;
+    }
+    case BITE:
+    case ARM_SPIKE:
+    case TENTACLE: {
+      damage = weaponDamage - shield / 3;
+      if (damage >= 0) {
+        shield = lower(shield, 1);
+        damage = damage - armor;
+        if (damage > 0) {
+          armor = lower(armor, 1);
+        } else {
+          if (armor / 2 <= weaponDamage || random.nextInt(DICE) < chance) {
+            armor = lower(armor, 1);
+          }
+          damage = 0;
+        }
+      } else {
+        damage = damage + shield / 3;
+        if (shield / 4 <= damage || random.nextInt(DICE) < chance) {
+          shield = lower(shield, 1);
+        }
+        damage = 0;
+      }
+      break;
+    }
+    case MULTICANNON:
+    case WEAPON_RAILGUN:
+    case WEAPON_HE_MISSILE: {
+      damage = weaponDamage - shield / 2;
+      if (damage >= 0) {
+        shield = lower(shield, 1);
+        damage = damage - armor;
+        if (damage > 0) {
+          armor = lower(armor, 1);
+        } else {
+          if (armor / 2 <= weaponDamage || random.nextInt(DICE) < chance) {
+            armor = lower(armor, 1);
+          }
+          damage = 0;
+        }
+      } else {
+        damage = damage + shield / 2;
+        if (shield / 4 <= damage || random.nextInt(DICE) < chance) {
+          shield = lower(shield, 1);
+        }
+        damage = 0;
+      }
+      break;
+    }
+    case ION_CANNON: {
+      damage = weaponDamage;
+      if (damage <= shield) {
+        shield = shield - damage;
+        damage = 0;
+        break;
+      }
+      shield = 0;
+      if (armor > 0) {
+        damage = 0;
+        break;
+      }
+      damage = 1;
+      break;
+    }
+    case WEAPON_ECM_TORPEDO: {
+      shield = lower(shield, weaponDamage);
+      damage = 0;
+      break;
+    }
+    default:
+      /* Not a weapon */break;
+    }
+    state[block + SHIELD] = shield;
+    state[block + ARMOR] = armor;
+    boolean damaged = damage > 0;
+    while (damage > 0) {
+      damage = damageComponent(state, target, damage, random);
+    }
+    return damaged;
+  }
+
+  /**
+   * Damage random component which still has hull points.
+   * This follows Ship.damageComponent().
+   * @param state Combat state
+   * @param target Target ship index
+   * @param damage Amount of damage
+   * @param random Random number source
+   * @return Amount of damage which pierced the component
+   */
+  private int damageComponent(final int[] state, final int target,
+      final int damage, final CombatRandom random) {
+    int base = target * SHIP_FIELDS;
+    int block = ships[base + STATE];
+    int components = ships[base + COMPONENTS];
+    int positions = 0;
+    for (int j = 0; j < components; j++) {
+      if (state[block + STATE_FIELDS + j] > 0) {
+        positions++;
+      }
+    }
+    if (positions == 0) {
+      return 0;
+    }
+    int pick = 0;
+    if (positions > 1) {
+      pick = random.nextInt(positions);
+    }
+    for (int j = 0; j < components; j++) {
+      int index = block + STATE_FIELDS + j;
+      if (state[index] > 0) {
+        if (pick == 0) {
+          int hp = state[index];
+          int left = lower(hp, damage);
+          state[index] = left;
+          state[block + HULL] = state[block + HULL] - (hp - left);
+          return damage - hp;
+        }
+        pick--;
+      }
+    }
+    return 0;
+  }
+}
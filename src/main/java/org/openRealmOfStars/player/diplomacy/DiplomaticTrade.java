@@ -46,7 +46,6 @@ import org.openRealmOfStars.player.race.trait.TraitIds;
 import org.openRealmOfStars.player.tech.Tech;
 import org.openRealmOfStars.player.tech.TechList;
 import org.openRealmOfStars.player.tech.TechType;
-import org.openRealmOfStars.starMap.Coordinate;
 import org.openRealmOfStars.starMap.StarMap;
 import org.openRealmOfStars.starMap.StarMapUtilities;
 import org.openRealmOfStars.starMap.planet.Planet;
@@ -2666,19 +2665,7 @@ public class DiplomaticTrade {
   private void doMapTrade(final PlayerInfo mapReceiver,
       final PlayerInfo mapGiver, final int mapType) {
     if (mapType == MAP_FULLMAP) {
-      for (int y = 0; y < starMap.getMaxY(); y++) {
-        for (int x = 0; x < starMap.getMaxX(); x++) {
-          Coordinate coord = new Coordinate(x, y);
-          byte visibility = mapGiver.getSectorVisibility(coord);
-          if (visibility == PlayerInfo.FOG_OF_WAR
-              || visibility >= PlayerInfo.VISIBLE) {
-            byte origVisiblity = mapReceiver.getSectorVisibility(coord);
-            if (origVisiblity == PlayerInfo.UNCHARTED) {
-              mapReceiver.setSectorVisibility(x, y, PlayerInfo.FOG_OF_WAR);
-            }
-         }
-        }
-      }
+      mapReceiver.chartSectorsFrom(mapGiver);
     } else if (mapType == MAP_ONLYPLANETS) {
       for (Planet planet : starMap.getPlanetList()) {
         if (planet.getPlanetPlayerInfo() == mapGiver) {
@@ -2742,19 +2729,7 @@ public class DiplomaticTrade {
       final int mapType) {
     int value = 0;
     if (mapType == MAP_FULLMAP) {
-      for (int y = 0; y < starMap.getMaxY(); y++) {
-        for (int x = 0; x < starMap.getMaxX(); x++) {
-          Coordinate coord = new Coordinate(x, y);
-          byte visibility = mapGiver.getSectorVisibility(coord);
-          if (visibility == PlayerInfo.FOG_OF_WAR
-              || visibility >= PlayerInfo.VISIBLE) {
-            byte origVisiblity = mapReceiver.getSectorVisibility(coord);
-            if (origVisiblity == PlayerInfo.UNCHARTED) {
-              value = value + 1;
-            }
-         }
-        }
-      }
+      value = mapReceiver.countSectorsChartedOnlyBy(mapGiver);
     } else if (mapType == MAP_ONLYPLANETS) {
       for (Planet planet : starMap.getPlanetList()) {
         if (planet.getPlanetPlayerInfo() == mapGiver) {
@@ -88,10 +88,7 @@ public final class SpeechFactory {
    * @return Array of speeches ID.
    */
   public static String[] getAllIds() {
-    if (!SINGLETON.initialized) {
-      SINGLETON.init();
-      SINGLETON.initialized = true;
-    }
+    SINGLETON.loadIfNeeded();
     return SINGLETON.speechSets.keySet().toArray(new String[0]);
   }
 
@@ -114,10 +111,7 @@ public final class SpeechFactory {
    */
   public SpeechLine create(final SpeechType type, final String ssetId,
       final String dynamicContent) {
-    if (!initialized) {
-      initialized = true;
-      init();
-    }
+    loadIfNeeded();
 
     if (!speechSets.containsKey(ssetId)) {
       return new SpeechLine(type, type.toString());
@@ -131,6 +125,24 @@ public final class SpeechFactory {
     return new SpeechLine(type, text);
   }
 
+  /**
+   * Load data into factory if not yet loaded. Loading is synchronized
+   * so that factory can be initialized from several threads.
+   */
+  private synchronized void loadIfNeeded() {
+    if (!initialized) {
+      init();
+      initialized = true;
+    }
+  }
+
+  /**
+   * Initialize factory by loading its data if not yet loaded.
+   */
+  public static void initialize() {
+    SINGLETON.loadIfNeeded();
+  }
+
   /** (Re)Initialize the factory */
   private void init() {
     speechSets.clear();
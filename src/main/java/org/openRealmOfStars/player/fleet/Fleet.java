@@ -61,6 +61,9 @@ public class Fleet {
   /** Fleet's coordinate */
   private Coordinate coordinate;
 
+  /** Fleet list where fleet belongs, null if not in any list */
+  private FleetList fleetList;
+
   /** Fleet name */
   private String name;
 
@@ -79,6 +82,12 @@ public class Fleet {
    */
   private AStarSearch aStarSearch;
 
+  /**
+   * Military value of fleet calculated from ship stats. -1 if ships
+   * or their stats have changed since calculation.
+   */
+  private volatile int militaryValue = -1;
+
   /**
    * Constructor for fleet
    * @param firstShip The first ship in the fleet
@@ -88,6 +97,9 @@ public class Fleet {
   public Fleet(final Ship firstShip, final int x, final int y) {
     ships = new ArrayList<>();
     ships.add(firstShip);
+    if (firstShip != null) {
+      firstShip.setFleet(this);
+    }
     setPos(new Coordinate(x, y));
     setName("Fleet #0");
     setRoute(null);
@@ -123,6 +135,7 @@ public class Fleet {
     for (int i = 0; i < count; i++) {
       Ship ship = new Ship(dis);
       ships.add(ship);
+      ship.setFleet(this);
     }
   }
 
@@ -157,8 +170,14 @@ public class Fleet {
    * @param ship to add
    */
   public void addShip(final Ship ship) {
+    markProductionChanged();
     if (ship != null) {
       ships.add(ship);
+      ship.setFleet(this);
+      militaryValue = -1;
+      if (fleetList != null) {
+        fleetList.fleetChanged(coordinate);
+      }
     }
   }
 
@@ -167,8 +186,16 @@ public class Fleet {
    * @param ship to remove
    */
   public void removeShip(final Ship ship) {
+    markProductionChanged();
     if (ship != null) {
       ships.remove(ship);
+      if (ship.getFleet() == this) {
+        ship.setFleet(null);
+      }
+      militaryValue = -1;
+      if (fleetList != null) {
+        fleetList.fleetChanged(coordinate);
+      }
     }
   }
 
@@ -286,7 +313,56 @@ public class Fleet {
    * @param pos Fleet's coordinate
    */
   public void setPos(final Coordinate pos) {
+    Coordinate from = coordinate;
     this.coordinate = pos;
+    if (fleetList != null) {
+      fleetList.fleetMoved(this, from);
+      if (hasColonyShip()) {
+        // Colony ships in deep space give research
+        markProductionChanged();
+      }
+    }
+  }
+
+  /**
+   * Tell realm who owns the fleet that its production has changed.
+   */
+  public void markProductionChanged() {
+    if (fleetList != null) {
+      fleetList.markProductionChanged();
+    }
+  }
+
+  /**
+   * Ship's stats in fleet have changed. Fleet's military value is
+   * calculated again. Ship may have become visible, cloaked or deployed
+   * as starbase, so fleet's sector needs to be resolved again.
+   * @param ship Ship which changed
+   */
+  public void shipChanged(final Ship ship) {
+    if (ships.contains(ship)) {
+      militaryValue = -1;
+      if (fleetList != null) {
+        fleetList.fleetChanged(coordinate);
+      }
+    }
+  }
+
+  /**
+   * Get fleet list where fleet belongs.
+   * @return FleetList or null
+   */
+  FleetList getFleetList() {
+    return fleetList;
+  }
+
+  /**
+   * Set fleet list where fleet belongs. Fleet list is informed when fleet
+   * moves or its ships change.
+   * @param list FleetList or null
+   */
+  void setFleetList(final FleetList list) {
+    fleetList = list;
   }
 
   /**
@@ -363,6 +439,9 @@ public class Fleet {
    */
   public void setName(final String name) {
     this.name = name;
+    if (fleetList != null) {
+      fleetList.markRenamed();
+    }
   }
 
   /**
@@ -1008,12 +1087,17 @@ public class Fleet {
    * @return Total military value for fleet
    */
   public int getMilitaryValue() {
+    int current = militaryValue;
+    if (current != -1) {
+      return current;
+    }
     int result = 0;
     for (Ship ship : ships) {
       if (!ship.isStarBase() || ship.getFlag(Ship.FLAG_STARBASE_DEPLOYED)) {
         result = result + ship.getTotalMilitaryPower();
       }
     }
+    militaryValue = result;
     return result;
   }
 
@@ -1319,8 +1403,16 @@ public class Fleet {
    * @param commander the commander to set
    */
   public void setCommander(final Leader commander) {
+    markProductionChanged();
+    if (fleetList != null) {
+      // Commander perks affect fleet's cloaking
+      fleetList.fleetChanged(coordinate);
+    }
     this.commander = commander;
     if (this.commander != null) {
+      if (fleetList != null && fleetList.getRealm() != null) {
+        this.commander.setRealm(fleetList.getRealm());
+      }
       this.commander.setJob(Job.COMMANDER);
     }
   }
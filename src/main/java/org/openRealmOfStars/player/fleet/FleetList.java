@@ -1,7 +1,7 @@
 package org.openRealmOfStars.player.fleet;
 /*
  * Open Realm of Stars game project
- * Copyright (C) 2016-2020 Tuomo Untinen
+ * Copyright (C) 2016-2026 Tuomo Untinen
  *
  * This program is free software; you can redistribute it and/or
  * modify it under the terms of the GNU General Public License
@@ -24,6 +24,8 @@ import java.util.ArrayList;
 
 import org.openRealmOfStars.player.PlayerInfo;
 import org.openRealmOfStars.starMap.Coordinate;
+import org.openRealmOfStars.starMap.FleetTileIndex;
+import org.openRealmOfStars.utilities.NameIndex;
 
 /**
  * Fleet for handling list of ships
@@ -42,12 +44,34 @@ public class FleetList {
    */
   private int index;
 
+  /**
+   * Realm who has this fleet list. Realm is told when fleets change its
+   * production. Can be null.
+   */
+  private PlayerInfo realm;
+
+  /**
+   * Fleet tile index where changed sectors are marked. Can be null.
+   */
+  private FleetTileIndex fleetTileIndex;
+
+  /**
+   * Fleets by name.
+   */
+  private NameIndex<Fleet> nameIndex;
+
+  /**
+   * Fleets by case folded name for checking unique names.
+   */
+  private NameIndex<Fleet> foldedNameIndex;
+
   /**
    * Constructor for FleetList. Empty fleet list is created.
    */
   public FleetList() {
     fleetList = new ArrayList<>();
     index = -1;
+    createNameIndexes();
   }
 
   /**
@@ -58,13 +82,73 @@ public class FleetList {
    */
   public FleetList(final DataInputStream dis,
       final PlayerInfo info) throws IOException {
+    realm = info;
     int count = dis.readInt();
     fleetList = new ArrayList<>();
     for (int i = 0; i < count; i++) {
       Fleet fleet = new Fleet(dis, info);
+      fleet.setFleetList(this);
       fleetList.add(fleet);
     }
     index = 0;
+    createNameIndexes();
+  }
+
+  /**
+   * Create name indexes. Indexes are built when first needed.
+   */
+  private void createNameIndexes() {
+    nameIndex = new NameIndex<>(Fleet::getName);
+    foldedNameIndex = new NameIndex<>(fleet -> foldCase(fleet.getName()));
+  }
+
+  /**
+   * Mark that fleet in this list has been renamed. Name indexes are
+   * built again before next search.
+   */
+  void markRenamed() {
+    nameIndex.invalidate();
+    foldedNameIndex.invalidate();
+  }
+
+  /**
+   * Fold name so that names equal ignoring case have same folded name.
+   * Each character is folded same way as in String.equalsIgnoreCase().
+   * @param name Name to fold
+   * @return Folded name or null if name is null
+   */
+  private static String foldCase(final String name) {
+    if (name == null) {
+      return null;
+    }
+    char[] chars = name.toCharArray();
+    for (int i = 0; i < chars.length; i++) {
+      chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+    }
+    return new String(chars);
+  }
+
+  /**
+   * Get fleet name index. Index is built again if it is out of date.
+   * @return Name index
+   */
+  private NameIndex<Fleet> getNameIndex() {
+    if (!nameIndex.isValid(fleetList.size())) {
+      nameIndex.build(fleetList);
+    }
+    return nameIndex;
+  }
+
+  /**
+   * Get case folded fleet name index. Index is built again if it is
+   * out of date.
+   * @return Case folded name index
+   */
+  private NameIndex<Fleet> getFoldedNameIndex() {
+    if (!foldedNameIndex.isValid(fleetList.size())) {
+      foldedNameIndex.build(fleetList);
+    }
+    return foldedNameIndex;
   }
 
   /**
@@ -86,6 +170,7 @@ public class FleetList {
    * @param fleet Fleet to add to the list
    */
   public void add(final Fleet fleet) {
+    markProductionChanged();
     if (fleetList.size() == 0) {
       index = 0;
     }
@@ -93,6 +178,87 @@ public class FleetList {
       fleet.setName(generateUniqueName());
     }
     fleetList.add(fleet);
+    nameIndex.add(fleet);
+    foldedNameIndex.add(fleet);
+    fleet.setFleetList(this);
+    if (fleetTileIndex != null) {
+      fleetTileIndex.fleetAdded(this, fleet);
+    }
+  }
+
+  /**
+   * Set fleet tile index where sectors are marked as changed when fleets
+   * are added, moved or removed.
+   * @param fleetTileIndex FleetTileIndex or null
+   */
+  public void setFleetTileIndex(final FleetTileIndex fleetTileIndex) {
+    this.fleetTileIndex = fleetTileIndex;
+  }
+
+  /**
+   * Set realm who has this fleet list.
+   * @param realm PlayerInfo or null
+   */
+  public void setRealm(final PlayerInfo realm) {
+    this.realm = realm;
+  }
+
+  /**
+   * Get realm who has this fleet list.
+   * @return PlayerInfo or null
+   */
+  public PlayerInfo getRealm() {
+    return realm;
+  }
+
+  /**
+   * Tell realm that its production has changed.
+   */
+  void markProductionChanged() {
+    if (realm != null) {
+      realm.markProductionChanged();
+    }
+  }
+
+  /**
+   * Mark sector as changed in fleet tile index.
+   * @param coordinate Sector coordinate
+   */
+  void fleetChanged(final Coordinate coordinate) {
+    if (fleetTileIndex != null && coordinate != null) {
+      fleetTileIndex.markChanged(coordinate.getX(), coordinate.getY());
+    }
+  }
+
+  /**
+   * Inform fleet tile index that fleet has moved.
+   * @param fleet Fleet which moved
+   * @param from Previous coordinate
+   */
+  void fleetMoved(final Fleet fleet, final Coordinate from) {
+    if (fleetTileIndex != null) {
+      fleetTileIndex.fleetMoved(this, fleet, from);
+    }
+  }
+
+  /**
+   * Remove fleet from the list by index. Fleets after removed one
+   * get new indexes so their sectors are marked changed too.
+   * @param indexToRemove Index to remove
+   */
+  private void removeAt(final int indexToRemove) {
+    Fleet fleet = fleetList.remove(indexToRemove);
+    nameIndex.remove(fleet);
+    foldedNameIndex.remove(fleet);
+    if (fleet.getFleetList() == this) {
+      fleet.setFleetList(null);
+    }
+    if (fleetTileIndex != null) {
+      fleetTileIndex.fleetRemoved(this, fleet);
+    }
+    for (int i = indexToRemove; i < fleetList.size(); i++) {
+      fleetChanged(fleetList.get(i).getCoordinate());
+    }
   }
 
   /**
@@ -101,14 +267,7 @@ public class FleetList {
    * @return number of fleet containing same starting name
    */
   public int howManyFleetWithStartingNames(final String name) {
-    int fleetNum = 0;
-    for (Fleet ite : fleetList) {
-      // Gets the next fleet number
-      if (ite.getName().startsWith(name)) {
-        fleetNum++;
-      }
-    }
-    return fleetNum;
+    return getNameIndex().countStartingWith(name);
   }
 
   /**
@@ -119,19 +278,12 @@ public class FleetList {
    * @return True if name is unique.
    */
   public boolean isUniqueName(final String name, final Fleet toIgnore) {
-    boolean unique = true;
-    for (Fleet ite : fleetList) {
-      if (toIgnore == null && ite.getName().equalsIgnoreCase(name)) {
-        unique = false;
-        break;
-      }
-      if (toIgnore != null && toIgnore != ite
-          && ite.getName().equalsIgnoreCase(name)) {
-        unique = false;
-        break;
+    for (Fleet ite : getFoldedNameIndex().get(foldCase(name))) {
+      if (toIgnore != ite) {
+        return false;
       }
     }
-    return unique;
+    return true;
   }
 
   /**
@@ -164,13 +316,14 @@ public class FleetList {
    * @param indexToRemove to remove
    */
   public void remove(final int indexToRemove) {
+    markProductionChanged();
     if (indexToRemove <= index) {
       index--;
       if (index < 0) {
         index = 0;
       }
     }
-    fleetList.remove(indexToRemove);
+    removeAt(indexToRemove);
   }
 
   /**
@@ -258,15 +411,7 @@ public class FleetList {
    * @return Fleet or null if list contains no fleets
    */
   public Fleet getByName(final String name) {
-      Fleet getFleetByName = null;
-    if (fleetList.size() > 0) {
-      for (Fleet fleet : fleetList) {
-        if (fleet.getName().equals(name)) {
-            getFleetByName = fleet;
-        }
-      }
-    }
-    return getFleetByName;
+    return getNameIndex().getLast(name);
   }
 
   /**
@@ -275,16 +420,25 @@ public class FleetList {
    * @return index number or -1 if not found
    */
   public int getIndexByName(final String name) {
-      int fleetIndex = -1;
-    if (fleetList.size() > 0) {
-      for (int i = 0; i < fleetList.size(); i++) {
-        Fleet fleet = fleetList.get(i);
-        if (fleet.getName().equals(name)) {
-            fleetIndex = i;
-        }
+    Fleet fleet = getByName(name);
+    if (fleet == null) {
+      return -1;
+    }
+    return fleetList.lastIndexOf(fleet);
+  }
+
+  /**
+   * Get index of fleet in the list.
+   * @param fleet Fleet to search
+   * @return index number or -1 if not found
+   */
+  public int indexOf(final Fleet fleet) {
+    for (int i = 0; i < fleetList.size(); i++) {
+      if (fleetList.get(i) == fleet) {
+        return i;
       }
     }
-    return fleetIndex;
+    return -1;
   }
 
   /**
@@ -302,7 +456,7 @@ public class FleetList {
     for (int i = 0; i < fleetList.size(); i++) {
       Fleet fleet = fleetList.get(i);
       if (fleet.getNumberOfShip() == 0) {
-        fleetList.remove(i);
+        removeAt(i);
         break;
       }
     }
@@ -313,12 +467,10 @@ public class FleetList {
    * @param toRemove Fleet to remove
    */
   public void removeFleet(final Fleet toRemove) {
-    for (int i = 0; i < fleetList.size(); i++) {
-      Fleet fleet = fleetList.get(i);
-      if (fleet.getName().equals(toRemove.getName())) {
-        fleetList.remove(i);
-        break;
-      }
+    markProductionChanged();
+    Fleet fleet = getNameIndex().getFirst(toRemove.getName());
+    if (fleet != null) {
+      removeAt(fleetList.indexOf(fleet));
     }
   }
 
@@ -85,10 +85,7 @@ public final class GovernmentFactory {
    * @return Government or Democracy by default
    */
   private Government makeById(final String governmentId) {
-    if (!initialized) {
-      initialized = true;
-      init();
-    }
+    loadIfNeeded();
 
     Government government = governments.get(governmentId);
     if (government == null) {
@@ -102,6 +99,24 @@ public final class GovernmentFactory {
     return government;
   }
 
+  /**
+   * Load data into factory if not yet loaded. Loading is synchronized
+   * so that factory can be initialized from several threads.
+   */
+  private synchronized void loadIfNeeded() {
+    if (!initialized) {
+      initialized = true;
+      init();
+    }
+  }
+
+  /**
+   * Initialize factory by loading its data if not yet loaded.
+   */
+  public static void initialize() {
+    SINGLETON.loadIfNeeded();
+  }
+
   /** (Re)Initialize the factory */
   private void init() {
     governments.clear();
@@ -120,10 +135,7 @@ public final class GovernmentFactory {
    * @return Governments array
    */
   private Government[] getAll() {
-    if (!initialized) {
-      initialized = true;
-      init();
-    }
+    loadIfNeeded();
     return governments.values().toArray(new Government[0]);
   }
 }
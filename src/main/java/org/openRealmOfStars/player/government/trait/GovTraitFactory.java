@@ -80,10 +80,7 @@ public final class GovTraitFactory {
    * @return GovTrait or empty
    */
   private Optional<GovTrait> createById(final String traitId) {
-    if (!initialized) {
-      initialized = true;
-      init();
-    }
+    loadIfNeeded();
 
     final var cachedTrait = govTraits.get(traitId);
     return Optional.ofNullable(cachedTrait);
@@ -94,10 +91,7 @@ public final class GovTraitFactory {
    * @return Array of GovTrait.
    */
   private GovTrait[] createAll() {
-    if (!initialized) {
-      initialized = true;
-      init();
-    }
+    loadIfNeeded();
 
     return SINGLETON.govTraits.values().toArray(new GovTrait[0]);
   }
@@ -116,6 +110,24 @@ public final class GovTraitFactory {
     return true;
   }
 
+  /**
+   * Load data into factory if not yet loaded. Loading is synchronized
+   * so that factory can be initialized from several threads.
+   */
+  private synchronized void loadIfNeeded() {
+    if (!initialized) {
+      initialized = true;
+      init();
+    }
+  }
+
+  /**
+   * Initialize factory by loading its data if not yet loaded.
+   */
+  public static void initialize() {
+    SINGLETON.loadIfNeeded();
+  }
+
   /** (Re)Initialize the factory */
   private void init() {
     govTraits.clear();
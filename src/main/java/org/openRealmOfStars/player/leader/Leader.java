@@ -121,6 +121,12 @@ public class Leader {
    * Leader stats.
    */
   private LeaderStats stats;
+
+  /**
+   * Realm where leader works. Realm is told when leader's job or perks
+   * change its production. Can be null.
+   */
+  private PlayerInfo employer;
   /**
    * Constructor for leader. Leader must have name.
    * @param name Leader name
@@ -506,6 +512,7 @@ public class Leader {
    * @param job the job to set
    */
   public void setJob(final Job job) {
+    markProductionChanged();
     if (job != this.job) {
       setTimeInJob(0);
     }
@@ -518,9 +525,27 @@ public class Leader {
    * @param realm Realm which leader belongs.
    */
   public void assignJob(final Job work, final PlayerInfo realm) {
+    setRealm(realm);
     setJob(work);
     setTitle(LeaderUtility.createTitleForLeader(this, realm));
   }
+  /**
+   * Set realm where leader works.
+   * @param realm PlayerInfo or null
+   */
+  public void setRealm(final PlayerInfo realm) {
+    employer = realm;
+  }
+
+  /**
+   * Tell realm where leader works that its production has changed.
+   */
+  private void markProductionChanged() {
+    if (employer != null) {
+      employer.markProductionChanged();
+    }
+  }
+
   /**
    * Get the leader parent. This will be set
    * only for heirs. Regular leaders this will be null.
@@ -582,6 +607,7 @@ public class Leader {
    * @param perk New perk to add
    */
   public void addPerk(final Perk perk) {
+    markProductionChanged();
     if (!hasPerk(perk)) {
       perkList.add(perk);
     }
@@ -649,6 +675,7 @@ public class Leader {
    * Remove corruption perk from the list.
    */
   public void removeCorruption() {
+    markProductionChanged();
     perkList.remove(Perk.CORRUPTED);
   }
 
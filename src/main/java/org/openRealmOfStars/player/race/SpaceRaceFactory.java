@@ -183,10 +183,7 @@ public final class SpaceRaceFactory {
    * @return SpaceRace or empty
    */
   private Optional<SpaceRace> createById(final String spaceRaceId) {
-    if (!initialized) {
-      initialized = true;
-      init();
-    }
+    loadIfNeeded();
 
     final var spaceRace = spaceRaces.get(spaceRaceId);
     return Optional.ofNullable(spaceRace);
@@ -198,10 +195,7 @@ public final class SpaceRaceFactory {
    * @return SpaceRace or humans by default
    */
   private SpaceRace makeById(final String spaceRaceId) {
-    if (!initialized) {
-      initialized = true;
-      init();
-    }
+    loadIfNeeded();
 
     SpaceRace spaceRace = spaceRaces.get(spaceRaceId);
     if (spaceRace == null) {
@@ -220,11 +214,26 @@ public final class SpaceRaceFactory {
    * @return SpaceRaces array
    */
   private SpaceRace[] getAll() {
+    loadIfNeeded();
+    return spaceRaces.values().toArray(new SpaceRace[0]);
+  }
+
+  /**
+   * Load data into factory if not yet loaded. Loading is synchronized
+   * so that factory can be initialized from several threads.
+   */
+  private synchronized void loadIfNeeded() {
     if (!initialized) {
       initialized = true;
       init();
     }
-    return spaceRaces.values().toArray(new SpaceRace[0]);
+  }
+
+  /**
+   * Initialize factory by loading its data if not yet loaded.
+   */
+  public static void initialize() {
+    SINGLETON.loadIfNeeded();
   }
 
   /** (Re)Initialize the factory */
@@ -78,10 +78,7 @@ public final class TraitFactory {
    * @return RaceTrait or empty
    */
   private Optional<RaceTrait> createById(final String traitId) {
-    if (!initialized) {
-      initialized = true;
-      init();
-    }
+    loadIfNeeded();
 
     final var cachedTrait = raceTraits.get(traitId);
     return Optional.ofNullable(cachedTrait);
@@ -92,10 +89,7 @@ public final class TraitFactory {
    * @return Array of traits
    */
   private RaceTrait[] createAll() {
-    if (!initialized) {
-      initialized = true;
-      init();
-    }
+    loadIfNeeded();
     return raceTraits.values().toArray(new RaceTrait[0]);
   }
 
@@ -113,6 +107,24 @@ public final class TraitFactory {
     return true;
   }
 
+  /**
+   * Load data into factory if not yet loaded. Loading is synchronized
+   * so that factory can be initialized from several threads.
+   */
+  private synchronized void loadIfNeeded() {
+    if (!initialized) {
+      initialized = true;
+      init();
+    }
+  }
+
+  /**
+   * Initialize factory by loading its data if not yet loaded.
+   */
+  public static void initialize() {
+    SINGLETON.loadIfNeeded();
+  }
+
   /** (Re)Initialize the factory */
   private void init() {
     raceTraits.clear();
@@ -113,10 +113,7 @@ public final class StartingScenarioFactory {
    * @return StartingScenario
    */
   private StartingScenario makeById(final String id) {
-    if (!initialized) {
-      initialized = true;
-      init();
-    }
+    loadIfNeeded();
 
     StartingScenario scenario = startingScenarios.get(id);
     if (scenario == null) {
@@ -134,6 +131,24 @@ public final class StartingScenarioFactory {
     this.loader = new StartingScenarioLoader();
   }
 
+  /**
+   * Load data into factory if not yet loaded. Loading is synchronized
+   * so that factory can be initialized from several threads.
+   */
+  private synchronized void loadIfNeeded() {
+    if (!initialized) {
+      initialized = true;
+      init();
+    }
+  }
+
+  /**
+   * Initialize factory by loading its data if not yet loaded.
+   */
+  public static void initialize() {
+    SINGLETON.loadIfNeeded();
+  }
+
   /** (Re)Initialize the factory */
   private void init() {
     startingScenarios.clear();
@@ -168,10 +183,7 @@ public final class StartingScenarioFactory {
    * @return StartingScenario array
    */
   private StartingScenario[] getAll() {
-    if (!initialized) {
-      initialized = true;
-      init();
-    }
+    loadIfNeeded();
     return startingScenarios.values().toArray(new StartingScenario[0]);
   }
 }
@@ -28,6 +28,7 @@ import java.util.ArrayList;
 import org.openRealmOfStars.gui.icons.Icons;
 import org.openRealmOfStars.gui.util.GuiStatics;
 import org.openRealmOfStars.player.PlayerInfo;
+import org.openRealmOfStars.player.fleet.Fleet;
 import org.openRealmOfStars.player.race.SpaceRaceFactory;
 import org.openRealmOfStars.player.race.trait.TraitIds;
 import org.openRealmOfStars.player.ship.shipdesign.ShipDesign;
@@ -111,6 +112,24 @@ public class Ship extends Construction {
    */
   private Coordinate tradeCoordinates;
 
+  /**
+   * Derived stats of the ship. Null when stats need to be calculated
+   * again.
+   */
+  private ShipStats stats;
+
+  /**
+   * Total energy of the ship. Negative when energy needs to be
+   * calculated again.
+   */
+  private int totalEnergy = -1;
+
+  /**
+   * Fleet where ship belongs. Fleet is informed when ship stats change.
+   * Can be null.
+   */
+  private Fleet fleet;
+
   /**
    * Starbase has been deployed
    */
@@ -471,6 +490,49 @@ public class Ship extends Construction {
     return 0;
   }
 
+  /**
+   * Get derived stats of the ship. Stats are calculated again if
+   * components, hull points or flags have changed.
+   * @return Ship stats
+   */
+  private ShipStats getStats() {
+    ShipStats current = stats;
+    if (current == null) {
+      current = new ShipStats(this);
+      stats = current;
+    }
+    return current;
+  }
+
+  /**
+   * Mark that components, hull points or flags have changed so
+   * derived stats need to be calculated again.
+   */
+  private void statsChanged() {
+    totalEnergy = -1;
+    stats = null;
+    if (fleet != null) {
+      fleet.shipChanged(this);
+    }
+  }
+
+  /**
+   * Get fleet where ship belongs.
+   * @return Fleet or null
+   */
+  public Fleet getFleet() {
+    return fleet;
+  }
+
+  /**
+   * Set fleet where ship belongs. Fleet is informed when ship stats,
+   * like military power, cloaking or deployed starbase flag, change.
+   * @param fleet Fleet or null
+   */
+  public void setFleet(final Fleet fleet) {
+    this.fleet = fleet;
+  }
+
 /**
  * @param index Component index
  * @return true if index is valid value
@@ -677,6 +739,19 @@ private int getRemainingEnergy(final int index) {
    * @return Total energy
    */
   public int getTotalEnergy() {
+    int energy = totalEnergy;
+    if (energy < 0) {
+      energy = calculateTotalEnergy();
+      totalEnergy = energy;
+    }
+    return energy;
+  }
+
+  /**
+   * Calculate total energy form current component status
+   * @return Total energy
+   */
+  private int calculateTotalEnergy() {
     int energy = 0;
     for (int i = 0; i < components.size(); i++) {
       ShipComponent comp = components.get(i);
@@ -709,6 +784,15 @@ private int getRemainingEnergy(final int index) {
    * @return Speed
    */
   public int getSpeed() {
+    return getStats().getSpeed();
+  }
+
+  /**
+   * Calculate Speed depending on hull points and energy level
+   * This is uncached value for ship stats.
+   * @return Speed
+   */
+  int calculateSpeed() {
     int speed = 0;
     int thrusters = 0;
     for (int i = 0; i < components.size(); i++) {
@@ -741,6 +825,15 @@ private int getRemainingEnergy(final int index) {
    * @return Speed
    */
   public int getTacticSpeed() {
+    return getStats().getTacticSpeed();
+  }
+
+  /**
+   * Calculate tactic Speed depending on hull points and energy level
+   * This is uncached value for ship stats.
+   * @return Speed
+   */
+  int calculateTacticSpeed() {
     int speed = 0;
     boolean thrusters = false;
     for (int i = 0; i < components.size(); i++) {
@@ -814,6 +907,15 @@ private int getRemainingEnergy(final int index) {
    * @return Speed
    */
   public int getFtlSpeed() {
+    return getStats().getFtlSpeed();
+  }
+
+  /**
+   * Calculate FTL Speed depending on hull points and energy level
+   * This is uncached value for ship stats.
+   * @return Speed
+   */
+  int calculateFtlSpeed() {
     int ftlSpeed = 0;
     for (int i = 0; i < components.size(); i++) {
       ShipComponent comp = components.get(i);
@@ -838,6 +940,15 @@ private int getRemainingEnergy(final int index) {
    * @return Initiative
    */
   public int getInitiative() {
+    return getStats().getInitiative();
+  }
+
+  /**
+   * Calculate ship' initiative for combat.
+   * This is uncached value for ship stats.
+   * @return Initiative
+   */
+  int calculateInitiative() {
     int initiative = getInitivativeByHullSize();
     initiative += increaseInitivativeByComponent();
     initiative += increaseInitivativeByEmptySpace();
@@ -946,6 +1057,15 @@ private int getRemainingEnergy(final int index) {
    * @return scanner Lvl
    */
   public int getScannerLvl() {
+    return getStats().getScannerLvl();
+  }
+
+  /**
+   * Calculate Scanner level
+   * This is uncached value for ship stats.
+   * @return scanner Lvl
+   */
+  int calculateScannerLvl() {
     int scannerLvl = 0;
     for (int i = 0; i < components.size(); i++) {
       ShipComponent comp = components.get(i);
@@ -962,6 +1082,15 @@ private int getRemainingEnergy(final int index) {
    * @return scanner detection level
    */
   public int getScannerDetectionLvl() {
+    return getStats().getScannerDetectionLvl();
+  }
+
+  /**
+   * Calculate Scanner cloak detection level
+   * This is uncached value for ship stats.
+   * @return scanner detection level
+   */
+  int calculateScannerDetectionLvl() {
     int scannerDetectionLvl = 0;
     for (int i = 0; i < components.size(); i++) {
       ShipComponent comp = components.get(i);
@@ -980,6 +1109,15 @@ private int getRemainingEnergy(final int index) {
    * @return cloaking value
    */
   public int getCloakingValue() {
+    return getStats().getCloakingValue();
+  }
+
+  /**
+   * Calculate cloaking value
+   * This is uncached value for ship stats.
+   * @return cloaking value
+   */
+  int calculateCloakingValue() {
     int cloak = 0;
     for (int i = 0; i < components.size(); i++) {
       ShipComponent comp = components.get(i);
@@ -1062,6 +1200,9 @@ private int increaseHitChanceByComponent() {
       // No negative hull points to components
       hullPoints[componentPos[target]] = 0;
     }
+    if (hp != hullPoints[componentPos[target]]) {
+      statsChanged();
+    }
     if (compList[target] != null) {
       if (hullPoints[componentPos[target]] == 0) {
         shipDamage.addText(compList[target].getName() + " is destroyed!");
@@ -1084,19 +1225,27 @@ private int increaseHitChanceByComponent() {
    */
   public void fixShip(final boolean fullFix, final boolean initShield) {
     int maxHPperSlot = getHull().getSlotHull();
+    boolean fixed = false;
     if (fullFix) {
       for (int i = 0; i < hullPoints.length; i++) {
-        hullPoints[i] = maxHPperSlot;
+        if (hullPoints[i] != maxHPperSlot) {
+          hullPoints[i] = maxHPperSlot;
+          fixed = true;
+        }
       }
     } else {
       for (int i = 0; i < hullPoints.length; i++) {
         if (hullPoints[i] < maxHPperSlot) {
           // Repair one point
           hullPoints[i] = hullPoints[i] + 1;
+          fixed = true;
           break;
         }
       }
     }
+    if (fixed) {
+      statsChanged();
+    }
     if (initShield) {
       initializeShieldAndArmor();
     }
@@ -1322,6 +1471,7 @@ private int increaseHitChanceByComponent() {
   public void oneDamage(final int index) {
     if (index >= 0 && index < hullPoints.length && hullPoints[index] > 0) {
       hullPoints[index]--;
+      statsChanged();
     }
   }
   /**
@@ -1329,9 +1479,19 @@ private int increaseHitChanceByComponent() {
    * @return defense value for ship
    */
   public int getDefenseValue() {
+    return getStats().getDefenseValue();
+  }
+
+  /**
+   * Calculate defense value for ship
+   * This is uncached value for ship stats.
+   * @param tacticSpeed Tactic speed of the ship
+   * @return defense value for ship
+   */
+  int calculateDefenseValue(final int tacticSpeed) {
     int defenseValue = hull.getDefenseValueByShipHullSize();
     defenseValue += increaseDefenseValueWithJammer();
-    if (getTacticSpeed() == 0) {
+    if (tacticSpeed == 0) {
         defenseValue = defenseValue - 15;
     }
     boolean thrusters = false;
@@ -1659,6 +1819,7 @@ private int increaseHitChanceByComponent() {
       components.add(newComponents[i]);
       hullPoints[i] = getHull().getSlotHull();
     }
+    statsChanged();
   }
   /**
    * Get ship's hull
@@ -1682,6 +1843,15 @@ private int increaseHitChanceByComponent() {
    * @return Maximum shield
    */
   public int getTotalShield() {
+    return getStats().getTotalShield();
+  }
+
+  /**
+   * Calculate maximum shield for ship.
+   * This is uncached value for ship stats.
+   * @return Maximum shield
+   */
+  int calculateTotalShield() {
     int totalShield = 0;
     for (int i = 0; i < components.size(); i++) {
       ShipComponent comp = components.get(i);
@@ -1802,6 +1972,15 @@ private int increaseHitChanceByComponent() {
    * @return Maximum armor
    */
   public int getTotalArmor() {
+    return getStats().getTotalArmor();
+  }
+
+  /**
+   * Calculate maximum armor for ship.
+   * This is uncached value for ship stats.
+   * @return Maximum armor
+   */
+  int calculateTotalArmor() {
     int totalArmor = 0;
     for (int i = 0; i < components.size(); i++) {
       ShipComponent comp = components.get(i);
@@ -1976,6 +2155,15 @@ private int increaseHitChanceByComponent() {
    * @return Theoretical military power
    */
   public int getTheoreticalMilitaryPower() {
+    return getStats().getTheoreticalMilitaryPower();
+  }
+
+  /**
+   * Calculate theoretical military power if all systems were running.
+   * This is uncached value for ship stats.
+   * @return Theoretical military power
+   */
+  int calculateTheoreticalMilitaryPower() {
     double power = 0;
     boolean militaryShip = false;
     power = getHull().getSlotHull() * getHull().getMaxSlot();
@@ -2054,6 +2242,16 @@ private int increaseHitChanceByComponent() {
    * @return Military power
    */
   public int getTotalMilitaryPower() {
+    return getStats().getTotalMilitaryPower();
+  }
+
+  /**
+   * Calculate military power of ship. Ship needs to have at least single
+   * working weapon to be a military ship.
+   * This is uncached value for ship stats.
+   * @return Military power
+   */
+  int calculateTotalMilitaryPower() {
     double power = 0;
     boolean militaryShip = false;
     power = getHull().getSlotHull() * getHull().getMaxSlot();
@@ -2163,6 +2361,7 @@ private int increaseHitChanceByComponent() {
    * @param value True to set and false to disable
    */
   public void setFlag(final int flag, final boolean value) {
+    int oldFlags = specialFlags;
     if (value) {
       int bitmask = flag;
       specialFlags = specialFlags | bitmask;
@@ -2170,6 +2369,15 @@ private int increaseHitChanceByComponent() {
       int bitmask = ~flag;
       specialFlags = specialFlags & bitmask;
     }
+    if (oldFlags != specialFlags) {
+      statsChanged();
+      if (flag == FLAG_STARBASE_DEPLOYED) {
+        // Deployed starbases give research, credits and culture
+        if (fleet != null) {
+          fleet.markProductionChanged();
+        }
+      }
+    }
   }
 
   /**
@@ -66,10 +66,7 @@ public final class ShipComponentFactory {
    * @return ShipComponent or empty
    */
   private Optional<ShipComponent> createByNameImpl(final String name) {
-    if (!initialized) {
-      init();
-      this.initialized = true;
-    }
+    loadIfNeeded();
 
     final var cachedTrait = shipComponents.get(name);
     if (cachedTrait == null && name != null) {
@@ -78,6 +75,24 @@ public final class ShipComponentFactory {
     return Optional.ofNullable(cachedTrait);
   }
 
+  /**
+   * Load data into factory if not yet loaded. Loading is synchronized
+   * so that factory can be initialized from several threads.
+   */
+  private synchronized void loadIfNeeded() {
+    if (!initialized) {
+      init();
+      initialized = true;
+    }
+  }
+
+  /**
+   * Initialize factory by loading its data if not yet loaded.
+   */
+  public static void initialize() {
+    SINGLETON.loadIfNeeded();
+  }
+
   /** Initialize the factory */
   private void init() {
     final var dataFilesBase = "resources/data/ship_component/";
@@ -52,10 +52,7 @@ public final class ShipImageFactor {
    * @return Found ship image or default.
    */
   public static ShipImage create(final String name) {
-    if (!initialized) {
-      SINGLETON.init();
-      initialized = true;
-    }
+    loadIfNeeded();
     ShipImage image = SINGLETON.createById(name);
     if (image == null) {
       ErrorLogger.log("Could not find ship image with ID " + name
@@ -70,10 +67,7 @@ public final class ShipImageFactor {
    * @return Array of strings
    */
   public static String[] getAllIds() {
-    if (!initialized) {
-      SINGLETON.init();
-      initialized = true;
-    }
+    loadIfNeeded();
     return SINGLETON.mapForShipImages.keySet().toArray(new String[0]);
   }
 
@@ -102,6 +96,24 @@ public final class ShipImageFactor {
   private ShipImage createById(final String id) {
     return mapForShipImages.get(id);
   }
+  /**
+   * Load data into factory if not yet loaded. Loading is synchronized
+   * so that factory can be initialized from several threads.
+   */
+  private static synchronized void loadIfNeeded() {
+    if (!initialized) {
+      SINGLETON.init();
+      initialized = true;
+    }
+  }
+
+  /**
+   * Initialize factory by loading its data if not yet loaded.
+   */
+  public static void initialize() {
+    loadIfNeeded();
+  }
+
   /** Init bridges by loading from JSON */
   private void init() {
     final var basePath = "resources/data/graphset/";
@@ -0,0 +1,200 @@
+package org.openRealmOfStars.player.ship;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+/**
+ *
+ * Derived stats of a ship. Stats depend only on ship's hull,
+ * components, component hull points and flags. Each stat is calculated
+ * when it is first needed. Ship replaces stats with new ones when any
+ * of those have changed.
+ *
+ */
+final class ShipStats {
+
+  /** Value for stat which has not been calculated yet */
+  private static final int UNKNOWN = Integer.MIN_VALUE;
+
+  /** Ship whose stats these are */
+  private final Ship ship;
+
+  /** Regular speed */
+  private int speed = UNKNOWN;
+  /** Tactical speed */
+  private int tacticSpeed = UNKNOWN;
+  /** FTL speed */
+  private int ftlSpeed = UNKNOWN;
+  /** Combat initiative */
+  private int initiative = UNKNOWN;
+  /** Defense value */
+  private int defenseValue = UNKNOWN;
+  /** Maximum shield */
+  private int totalShield = UNKNOWN;
+  /** Maximum armor */
+  private int totalArmor = UNKNOWN;
+  /** Military power with working components */
+  private int totalMilitaryPower = UNKNOWN;
+  /** Military power if all components were working */
+  private int theoreticalMilitaryPower = UNKNOWN;
+  /** Scanner level */
+  private int scannerLvl = UNKNOWN;
+  /** Scanner cloak detection level */
+  private int scannerDetectionLvl = UNKNOWN;
+  /** Cloaking value */
+  private int cloakingValue = UNKNOWN;
+
+  /**
+   * Create stats for ship. Stats are calculated when needed.
+   * @param ship Ship whose stats these are
+   */
+  ShipStats(final Ship ship) {
+    this.ship = ship;
+  }
+
+  /**
+   * Get regular speed.
+   * @return Speed
+   */
+  int getSpeed() {
+    if (speed == UNKNOWN) {
+      speed = ship.calculateSpeed();
+    }
+    return speed;
+  }
+
+  /**
+   * Get tactical speed.
+   * @return Tactical speed
+   */
+  int getTacticSpeed() {
+    if (tacticSpeed == UNKNOWN) {
+      tacticSpeed = ship.calculateTacticSpeed();
+    }
+    return tacticSpeed;
+  }
+
+  /**
+   * Get FTL speed.
+   * @return FTL speed
+   */
+  int getFtlSpeed() {
+    if (ftlSpeed == UNKNOWN) {
+      ftlSpeed = ship.calculateFtlSpeed();
+    }
+    return ftlSpeed;
+  }
+
+  /**
+   * Get combat initiative.
+   * @return Initiative
+   */
+  int getInitiative() {
+    if (initiative == UNKNOWN) {
+      initiative = ship.calculateInitiative();
+    }
+    return initiative;
+  }
+
+  /**
+   * Get defense value.
+   * @return Defense value
+   */
+  int getDefenseValue() {
+    if (defenseValue == UNKNOWN) {
+      defenseValue = ship.calculateDefenseValue(getTacticSpeed());
+    }
+    return defenseValue;
+  }
+
+  /**
+   * Get maximum shield.
+   * @return Maximum shield
+   */
+  int getTotalShield() {
+    if (totalShield == UNKNOWN) {
+      totalShield = ship.calculateTotalShield();
+    }
+    return totalShield;
+  }
+
+  /**
+   * Get maximum armor.
+   * @return Maximum armor
+   */
+  int getTotalArmor() {
+    if (totalArmor == UNKNOWN) {
+      totalArmor = ship.calculateTotalArmor();
+    }
+    return totalArmor;
+  }
+
+  /**
+   * Get military power with working components.
+   * @return Military power
+   */
+  int getTotalMilitaryPower() {
+    if (totalMilitaryPower == UNKNOWN) {
+      totalMilitaryPower = ship.calculateTotalMilitaryPower();
+    }
+    return totalMilitaryPower;
+  }
+
+  /**
+   * Get military power if all components were working.
+   * @return Theoretical military power
+   */
+  int getTheoreticalMilitaryPower() {
+    if (theoreticalMilitaryPower == UNKNOWN) {
+      theoreticalMilitaryPower = ship.calculateTheoreticalMilitaryPower();
+    }
+    return theoreticalMilitaryPower;
+  }
+
+  /**
+   * Get scanner level.
+   * @return Scanner level
+   */
+  int getScannerLvl() {
+    if (scannerLvl == UNKNOWN) {
+      scannerLvl = ship.calculateScannerLvl();
+    }
+    return scannerLvl;
+  }
+
+  /**
+   * Get scanner cloak detection level.
+   * @return Scanner detection level
+   */
+  int getScannerDetectionLvl() {
+    if (scannerDetectionLvl == UNKNOWN) {
+      scannerDetectionLvl = ship.calculateScannerDetectionLvl();
+    }
+    return scannerDetectionLvl;
+  }
+
+  /**
+   * Get cloaking value.
+   * @return Cloaking value
+   */
+  int getCloakingValue() {
+    if (cloakingValue == UNKNOWN) {
+      cloakingValue = ship.calculateCloakingValue();
+    }
+    return cloakingValue;
+  }
+}
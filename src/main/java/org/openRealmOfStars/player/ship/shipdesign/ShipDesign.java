@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 
+import org.openRealmOfStars.player.PlayerInfo;
 import org.openRealmOfStars.player.race.SpaceRace;
 import org.openRealmOfStars.player.race.SpaceRaceFactory;
 import org.openRealmOfStars.player.ship.ShipComponent;
@@ -49,6 +50,12 @@ public class ShipDesign {
    */
   private ShipHull hull;
 
+  /**
+   * Realm whose ship stat list has this design. Realm is told when
+   * design is renamed. Null if design is not in ship stat list.
+   */
+  private PlayerInfo designOwner;
+
   /**
    * Ship's component list
    */
@@ -175,6 +182,17 @@ public class ShipDesign {
    */
   public void setName(final String name) {
     this.name = name;
+    if (designOwner != null) {
+      designOwner.markDesignRenamed();
+    }
+  }
+
+  /**
+   * Set realm whose ship stat list has this design.
+   * @param designOwner PlayerInfo or null
+   */
+  public void setDesignOwner(final PlayerInfo designOwner) {
+    this.designOwner = designOwner;
   }
 
   /**
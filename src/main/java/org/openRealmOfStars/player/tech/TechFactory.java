@@ -855,13 +855,27 @@ public final class TechFactory {
      "Planetary scanner Mk10", "Cloaking device Mk10" };
 
   /**
-   * Find technology with certain name.
+   * Highest tech level searched by findTech().
+   */
+  private static final int FIND_TECH_MAX_LEVEL = 10;
+
+  /**
+   * Find technology with certain name. Technologies are searched from
+   * levels 1 - 10.
    * @param name Technology name look for.
    * @return Tech if found or null.
    */
   public static Tech findTech(final String name) {
     Tech tech = null;
-    for (int i = 1; i < 11; i++) {
+    int registeredLevel = TechRegistry.getLevel(name);
+    if (registeredLevel > 0 && registeredLevel <= FIND_TECH_MAX_LEVEL) {
+      // Registry has lowest level and type in same search order
+      tech = createTech(TechRegistry.getType(name), registeredLevel, name);
+      if (tech != null) {
+        return tech;
+      }
+    }
+    for (int i = 1; i <= FIND_TECH_MAX_LEVEL; i++) {
       tech = createCombatTech(name, i);
       if (tech != null) {
         return tech;
@@ -2339,15 +2353,13 @@ public final class TechFactory {
   }
 
   /**
-   * Get String list of tech by type and level.
-   * This will now depend on space race.
+   * Get names of all non rare techs by type and level. This does not
+   * depend on space race.
    * @param type The tech type
    * @param level The tech level
-   * @param race SpaceRace Unique tech tree based on race
-   * @return String array of tech
+   * @return String array of tech names
    */
-  public static String[] getListByTechLevel(final TechType type,
-      final int level, final SpaceRace race) {
+  static String[] getTechNames(final TechType type, final int level) {
     String[] possibleTechs = new String[0];
     switch (type) {
     case Combat:
@@ -2749,6 +2761,20 @@ public final class TechFactory {
     default:
       throw new IllegalArgumentException("Illegal tech type!");
     }
+    return possibleTechs;
+  }
+
+  /**
+   * Get String list of tech by type and level.
+   * This will now depend on space race.
+   * @param type The tech type
+   * @param level The tech level
+   * @param race SpaceRace Unique tech tree based on race
+   * @return String array of tech
+   */
+  public static String[] getListByTechLevel(final TechType type,
+      final int level, final SpaceRace race) {
+    String[] possibleTechs = getTechNames(type, level);
     if (possibleTechs.length > 0) {
       ArrayList<String> techList = new ArrayList<>();
       for (String techName : possibleTechs) {
@@ -22,6 +22,8 @@ import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.function.Function;
 
 import org.openRealmOfStars.game.Game;
@@ -60,6 +62,11 @@ public class TechList {
    */
   private TechListForLevel[][] techList;
 
+  /**
+   * Known tech ids from TechRegistry for each tech type.
+   */
+  private BitSet[] knownTechs;
+
   /**
    * Tech Levels
    */
@@ -81,6 +88,12 @@ public class TechList {
    */
   private SpaceRace race;
 
+  /**
+   * Realm who has this tech list. Realm is told when new tech
+   * changes production. Can be null.
+   */
+  private PlayerInfo realm;
+
   /**
    * Constructor for TechList
    * @param race SpaceRace for correct tech tree
@@ -93,6 +106,7 @@ public class TechList {
         techList[i][j] = new TechListForLevel(j + 1);
       }
     }
+    initKnownTechs();
     techLevels[TechType.Combat.getIndex()] = 1;
     techLevels[TechType.Defense.getIndex()] = 1;
     techLevels[TechType.Hulls.getIndex()] = 1;
@@ -166,6 +180,7 @@ public class TechList {
         techList[i][j] = new TechListForLevel(j + 1, TechType.values()[i], dis);
       }
     }
+    initKnownTechs();
     for (int i = 0; i < MAX_TECH_TYPES; i++) {
       techLevels[i] = dis.readInt();
       techFocus[i] = dis.readInt();
@@ -174,28 +189,76 @@ public class TechList {
 
   }
 
+  /**
+   * Initialize known tech ids from tech lists.
+   */
+  private void initKnownTechs() {
+    knownTechs = new BitSet[MAX_TECH_TYPES];
+    for (int i = 0; i < MAX_TECH_TYPES; i++) {
+      knownTechs[i] = new BitSet(TechRegistry.size());
+      for (int j = 0; j < MAX_TECH_LEVEL; j++) {
+        for (Tech tech : techList[i][j].getList()) {
+          knownTechs[i].set(TechRegistry.getId(tech.getName()));
+        }
+      }
+    }
+  }
+
+  /**
+   * Get known tech ids from TechRegistry.
+   * @return Copy of known tech ids
+   */
+  public BitSet getKnownTechs() {
+    BitSet result = new BitSet(TechRegistry.size());
+    for (int i = 0; i < MAX_TECH_TYPES; i++) {
+      result.or(knownTechs[i]);
+    }
+    return result;
+  }
+
+  /**
+   * Get known tech ids from TechRegistry for tech type.
+   * @param type Tech type
+   * @return Copy of known tech ids
+   */
+  public BitSet getKnownTechs(final TechType type) {
+    return (BitSet) knownTechs[type.getIndex()].clone();
+  }
+
   /**
    * Check if certain tech is in tech list
    * @param techName Tech name to search
    * @return True if found, otherwise false
    */
   public boolean isTech(final String techName) {
+    int id = TechRegistry.findId(techName);
+    if (id == TechRegistry.UNKNOWN) {
+      return false;
+    }
     for (int i = 0; i < MAX_TECH_TYPES; i++) {
-      for (int j = 0; j < MAX_TECH_LEVEL; j++) {
-        TechListForLevel tech = techList[i][j];
-        if (tech.isTech(techName)) {
-          return true;
-        }
+      if (knownTechs[i].get(id)) {
+        return true;
       }
     }
     return false;
   }
 
+  /**
+   * Set realm who has this tech list.
+   * @param realm PlayerInfo or null
+   */
+  public void setRealm(final PlayerInfo realm) {
+    this.realm = realm;
+  }
+
   /**
    * Add new tech to tech list if it is not in list yet.
    * @param tech Tech to add
    */
   public void addTech(final Tech tech) {
+    if (realm != null) {
+      realm.markProductionChanged();
+    }
     if (tech == null) {
       return;
     }
@@ -207,6 +270,7 @@ public class TechList {
     }
 
     listForLevel.addTech(tech);
+    knownTechs[index].set(TechRegistry.getId(tech.getName()));
 
     if (isTechListForLevelFull(tech.getType(), lvl + 1)
         && lvl + 1 >= techLevels[index]) {
@@ -265,6 +329,10 @@ public class TechList {
    * @return 0 if not found otherwise mark level.
    */
   public static int getMarkLevel(final String techName) {
+    int mark = TechRegistry.getMarkLevel(techName);
+    if (mark != TechRegistry.UNKNOWN) {
+      return mark;
+    }
     String[] temp = techName.split(" ");
     for (String buf : temp) {
       if (buf.startsWith("Mk") && buf.length() > 2) {
@@ -308,6 +376,15 @@ public class TechList {
    * @return True if tech is in list otherwise false.
    */
   public boolean hasTechForMk(final String techName) {
+    int family = TechRegistry.findFamily(techName);
+    if (family != TechRegistry.UNKNOWN) {
+      for (int i = 0; i < MAX_TECH_TYPES; i++) {
+        if (TechRegistry.intersectsFamily(family, knownTechs[i])) {
+          return true;
+        }
+      }
+      return false;
+    }
     for (var techType : TechType.values()) {
       Tech[] list = getListForType(techType);
       for (int i = 0; i < list.length; i++) {
@@ -325,12 +402,7 @@ public class TechList {
    * @return True if tech is in list otherwise false.
    */
   public boolean hasTech(final String techName) {
-    for (var techType : TechType.values()) {
-      if (hasTech(techType, techName)) {
-        return true;
-      }
-    }
-    return false;
+    return isTech(techName);
   }
 
   /**
@@ -340,13 +412,9 @@ public class TechList {
    * @return True if tech is in the list otherwise false
    */
   public boolean hasTech(final TechType type, final String techName) {
-    Tech[] list = getListForType(type);
-    for (int i = 0; i < list.length; i++) {
-      if (list[i].getName().equals(techName)) {
-        return true;
-      }
-    }
-    return false;
+    int id = TechRegistry.findId(techName);
+    return id != TechRegistry.UNKNOWN
+        && knownTechs[type.getIndex()].get(id);
   }
 
   /**
@@ -357,6 +425,17 @@ public class TechList {
    * @return Highest Mk found or zero
    */
   public int getHighestMk(final TechType type, final String techName) {
+    int family = TechRegistry.findFamily(techName);
+    if (family != TechRegistry.UNKNOWN) {
+      BitSet members = TechRegistry.getFamilyMembers(family);
+      members.and(knownTechs[type.getIndex()]);
+      int highest = 0;
+      for (int id = members.nextSetBit(0); id >= 0;
+          id = members.nextSetBit(id + 1)) {
+        highest = Math.max(highest, TechRegistry.getMarkLevel(id));
+      }
+      return highest;
+    }
     Tech[] list = getListForType(type);
     int highest = 0;
     for (int i = 0; i < list.length; i++) {
@@ -379,93 +458,96 @@ public class TechList {
     return highest;
   }
   /**
-   * Get component difference in techs
-   * @param tech Tech that other one owns
-   * @param ownTech Tech we own
-   * @return True if we got better component
+   * Get ship component type for tech's component.
+   * @param tech Tech
+   * @return Component type or null if tech has no component
    */
-  protected static boolean getComponentDifference(final Tech tech,
-      final Tech ownTech) {
-    if (ownTech.getComponent() != null && tech.getComponent() != null) {
-      // Check if we already have better component
-      ShipComponent ownComponent = ShipComponentFactory.createByName(
-          ownTech.getComponent());
-      if (ownComponent != null) {
-        ShipComponent component = ShipComponentFactory.createByName(
-            tech.getComponent());
-        if (component != null
-            && component.getType() == ownComponent.getType()
-            && ownTech.getLevel() > tech.getLevel()) {
-          return true;
-        }
+  private static ShipComponentType getComponentType(final Tech tech) {
+    if (tech.getComponent() != null) {
+      ShipComponent component = ShipComponentFactory.createByName(
+          tech.getComponent());
+      if (component != null) {
+        return component.getType();
       }
     }
-    return false;
+    return null;
   }
 
   /**
-   * Get hull difference. Checks if we have better hull tech than other player.
-   * @param tech Tech that other one owns
-   * @param ownTech Tech we own
-   * @return True if we got better hull
-   */
-  protected static boolean getHullDifference(final Tech tech,
-      final Tech ownTech) {
-    // Check if we already have better hull
-    if (ownTech.getHull() != null && tech.getHull() != null) {
-      String[] ownHull = ownTech.getHull().split("Mk");
-      String[] hull = tech.getHull().split("Mk");
-      if (ownHull.length == 2 && hull.length == 2) {
-        int ownHullMk = 0;
-        int hullMk = 0;
-        try {
-          ownHullMk = Integer.valueOf(ownHull[1]);
-        } catch (NumberFormatException e) {
-          ownHullMk = 0;
-        }
-        try {
-          hullMk = Integer.valueOf(hull[1]);
-        } catch (NumberFormatException e) {
-          hullMk = 0;
-        }
-        if (ownHull[0].equals(hull[0]) && ownHullMk > hullMk) {
-          return true;
-        }
+   * Split hull name into name and Mk level.
+   * @param hull Hull name
+   * @return Hull name before Mk and Mk level as a text
+   *         or null if hull has no Mk level.
+   */
+  private static String[] splitHull(final String hull) {
+    if (hull != null) {
+      String[] parts = hull.split("Mk");
+      if (parts.length == 2) {
+        return parts;
       }
     }
-    return false;
+    return null;
   }
 
   /**
-   * Check which trade techs are missing from own tech list
+   * Parse hull Mk level.
+   * @param mark Mk level as a text
+   * @return Mk level or zero if it is not a number
+   */
+  private static int parseHullMk(final String mark) {
+    try {
+      return Integer.valueOf(mark);
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  /**
+   * Check which trade techs are missing from own tech list. Tech is not
+   * missing if there is already tech with same name, same type of
+   * component with higher level or same hull with higher Mk level.
    * @param tradeTechs Tradeable techs from another player
    * @param ownTechs Techs that player already has
    * @return Tech list which are new techs for player
    */
   public static Tech[] getTechDifference(final Tech[] tradeTechs,
       final Tech[] ownTechs) {
+    BitSet ownIds = new BitSet(TechRegistry.size());
+    int[] bestComponentLevel = new int[ShipComponentType.values().length];
+    HashMap<String, Integer> bestHullMk = new HashMap<>();
+    for (Tech ownTech : ownTechs) {
+      ownIds.set(TechRegistry.getId(ownTech.getName()));
+      ShipComponentType type = getComponentType(ownTech);
+      if (type != null
+          && ownTech.getLevel() > bestComponentLevel[type.ordinal()]) {
+        bestComponentLevel[type.ordinal()] = ownTech.getLevel();
+      }
+      String[] hull = splitHull(ownTech.getHull());
+      if (hull != null) {
+        bestHullMk.merge(hull[0], parseHullMk(hull[1]), Math::max);
+      }
+    }
     ArrayList<Tech> techList = new ArrayList<>();
     for (Tech tech : tradeTechs) {
-      boolean found = false;
-      if (!tech.isTradeable()) {
+      if (!tech.isTradeable()
+          || ownIds.get(TechRegistry.getId(tech.getName()))) {
         continue;
       }
-      for (Tech ownTech : ownTechs) {
-        if (tech.getName().equals(ownTech.getName())) {
-          found = true;
-        }
-        // Check if we already have better component
-        if (getComponentDifference(tech, ownTech)) {
-          found = true;
-        }
-        // Check if we already have better hull
-        if (getHullDifference(tech, ownTech)) {
-          found = true;
-        }
+      // Check if we already have better component
+      ShipComponentType type = getComponentType(tech);
+      if (type != null
+          && bestComponentLevel[type.ordinal()] > tech.getLevel()) {
+        continue;
       }
-      if (!found) {
-        techList.add(tech);
+      // Check if we already have better hull
+      String[] hull = splitHull(tech.getHull());
+      if (hull != null) {
+        Integer best = bestHullMk.get(hull[0]);
+        if (best != null && best > parseHullMk(hull[1])) {
+          continue;
+        }
       }
+      techList.add(tech);
     }
     return techList.toArray(new Tech[techList.size()]);
   }
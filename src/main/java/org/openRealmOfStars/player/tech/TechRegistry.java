@@ -0,0 +1,344 @@
+package org.openRealmOfStars.player.tech;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ *
+ * Registry which gives each tech name dense integer id. All techs from
+ * TechFactory are registered when registry is loaded, in same order as
+ * TechFactory.findTech() searches them. Other names, like space monster
+ * techs, get their id when they are first needed. Techs which have Mk
+ * level in their name are grouped into Mk families, for example
+ * "Laser Mk1" and "Laser Mk2" are in family "Laser Mk".
+ *
+ */
+public final class TechRegistry {
+
+  /**
+   * Id for unknown tech or family.
+   */
+  public static final int UNKNOWN = -1;
+
+  /**
+   * Tech types in same order as TechFactory.findTech() searches them.
+   */
+  private static final TechType[] FIND_ORDER = {TechType.Combat,
+      TechType.Defense, TechType.Hulls, TechType.Propulsion,
+      TechType.Improvements, TechType.Electrics};
+
+  /**
+   * Registered tech name.
+   */
+  private static final class Entry {
+    /** Tech id */
+    private final int id;
+    /** Tech type in TechFactory or null */
+    private final TechType type;
+    /** Tech level in TechFactory or zero */
+    private final int level;
+    /** Mk level or zero */
+    private final int mark;
+    /** Mk family id or UNKNOWN */
+    private final int family;
+
+    /**
+     * Create entry.
+     * @param id Tech id
+     * @param type Tech type or null
+     * @param level Tech level or zero
+     * @param mark Mk level
+     * @param family Mk family id
+     */
+    private Entry(final int id, final TechType type, final int level,
+        final int mark, final int family) {
+      this.id = id;
+      this.type = type;
+      this.level = level;
+      this.mark = mark;
+      this.family = family;
+    }
+  }
+
+  /**
+   * Entries by tech name.
+   */
+  private static final Map<String, Entry> ENTRIES = new ConcurrentHashMap<>();
+
+  /**
+   * Tech names by id.
+   */
+  private static final ArrayList<String> NAMES = new ArrayList<>();
+
+  /**
+   * Mk family ids by family name.
+   */
+  private static final Map<String, Integer> FAMILIES = new HashMap<>();
+
+  /**
+   * Tech ids in each Mk family, index is family id.
+   */
+  private static final ArrayList<BitSet> FAMILY_MEMBERS = new ArrayList<>();
+
+  static {
+    for (int level = 1; level <= TechList.MAX_TECH_LEVEL; level++) {
+      for (TechType type : FIND_ORDER) {
+        for (String name : TechFactory.getTechNames(type, level)) {
+          register(name, type, level);
+        }
+        for (String name : TechFactory.getAllRareTechNames(type, level)) {
+          register(name, type, level);
+        }
+      }
+    }
+  }
+
+  /**
+   * Hidden constructor.
+   */
+  private TechRegistry() {
+    // Nothing to do
+  }
+
+  /**
+   * Register tech name if it is not registered yet.
+   * @param name Tech name
+   * @param type Tech type in TechFactory or null
+   * @param level Tech level in TechFactory or zero
+   * @return Entry for tech name
+   */
+  private static synchronized Entry register(final String name,
+      final TechType type, final int level) {
+    Entry entry = ENTRIES.get(name);
+    if (entry == null) {
+      int family = UNKNOWN;
+      String familyName = getFamilyName(name);
+      if (familyName != null) {
+        Integer familyId = FAMILIES.get(familyName);
+        if (familyId == null) {
+          familyId = FAMILY_MEMBERS.size();
+          FAMILIES.put(familyName, familyId);
+          FAMILY_MEMBERS.add(new BitSet());
+        }
+        family = familyId;
+      }
+      entry = new Entry(NAMES.size(), type, level, parseMarkLevel(name),
+          family);
+      NAMES.add(name);
+      if (family != UNKNOWN) {
+        FAMILY_MEMBERS.get(family).set(entry.id);
+      }
+      ENTRIES.put(name, entry);
+    }
+    return entry;
+  }
+
+  /**
+   * Get Mk family name for tech name. Family name is tech name up to
+   * Mk, for example "Laser Mk" for "Laser Mk3".
+   * @param name Tech name
+   * @return Family name or null if tech name does not end with Mk level
+   */
+  private static String getFamilyName(final String name) {
+    int index = name.indexOf("Mk");
+    if (index > 0 && index + 2 < name.length()) {
+      for (int i = index + 2; i < name.length(); i++) {
+        if (!Character.isDigit(name.charAt(i))) {
+          return null;
+        }
+      }
+      return name.substring(0, index + 2);
+    }
+    return null;
+  }
+
+  /**
+   * Parse Mk level from tech name same way as TechList.getMarkLevel()
+   * but without logging errors.
+   * @param name Tech name
+   * @return Mk level or zero
+   */
+  private static int parseMarkLevel(final String name) {
+    for (String buf : name.split(" ")) {
+      if (buf.startsWith("Mk") && buf.length() > 2) {
+        try {
+          return Integer.parseInt(buf.substring(2));
+        } catch (NumberFormatException e) {
+          return 0;
+        }
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Get tech id. Tech name is registered if it is not registered yet.
+   * @param name Tech name
+   * @return Tech id
+   */
+  public static int getId(final String name) {
+    Entry entry = ENTRIES.get(name);
+    if (entry == null) {
+      entry = register(name, null, 0);
+    }
+    return entry.id;
+  }
+
+  /**
+   * Find tech id without registering the name.
+   * @param name Tech name
+   * @return Tech id or UNKNOWN
+   */
+  public static int findId(final String name) {
+    Entry entry = ENTRIES.get(name);
+    if (entry == null) {
+      return UNKNOWN;
+    }
+    return entry.id;
+  }
+
+  /**
+   * Get number of registered techs. Tech ids are from zero to size - 1.
+   * @return Number of registered techs
+   */
+  public static synchronized int size() {
+    return NAMES.size();
+  }
+
+  /**
+   * Get tech name by id.
+   * @param id Tech id
+   * @return Tech name or null if id is not registered
+   */
+  public static synchronized String getName(final int id) {
+    if (id >= 0 && id < NAMES.size()) {
+      return NAMES.get(id);
+    }
+    return null;
+  }
+
+  /**
+   * Get tech type in TechFactory.
+   * @param name Tech name
+   * @return Tech type or null if tech is not in TechFactory
+   */
+  public static TechType getType(final String name) {
+    Entry entry = ENTRIES.get(name);
+    if (entry == null) {
+      return null;
+    }
+    return entry.type;
+  }
+
+  /**
+   * Get lowest tech level in TechFactory.
+   * @param name Tech name
+   * @return Tech level or zero if tech is not in TechFactory
+   */
+  public static int getLevel(final String name) {
+    Entry entry = ENTRIES.get(name);
+    if (entry == null) {
+      return 0;
+    }
+    return entry.level;
+  }
+
+  /**
+   * Get Mk level of registered tech.
+   * @param name Tech name
+   * @return Mk level, zero if name has no Mk level or UNKNOWN if
+   *         name is not registered.
+   */
+  public static int getMarkLevel(final String name) {
+    Entry entry = ENTRIES.get(name);
+    if (entry == null) {
+      return UNKNOWN;
+    }
+    return entry.mark;
+  }
+
+  /**
+   * Get Mk level by tech id.
+   * @param id Tech id
+   * @return Mk level or zero
+   */
+  public static int getMarkLevel(final int id) {
+    String name = getName(id);
+    if (name == null) {
+      return 0;
+    }
+    return ENTRIES.get(name).mark;
+  }
+
+  /**
+   * Find Mk family by family name.
+   * @param familyName Family name, for example "Gravity ripper Mk"
+   * @return Family id or UNKNOWN
+   */
+  public static synchronized int findFamily(final String familyName) {
+    Integer familyId = FAMILIES.get(familyName);
+    if (familyId == null) {
+      return UNKNOWN;
+    }
+    return familyId;
+  }
+
+  /**
+   * Get Mk family of tech.
+   * @param name Tech name
+   * @return Family id or UNKNOWN
+   */
+  public static int getFamily(final String name) {
+    Entry entry = ENTRIES.get(name);
+    if (entry == null) {
+      return UNKNOWN;
+    }
+    return entry.family;
+  }
+
+  /**
+   * Get tech ids in Mk family.
+   * @param family Family id
+   * @return Copy of tech ids in family
+   */
+  public static synchronized BitSet getFamilyMembers(final int family) {
+    if (family >= 0 && family < FAMILY_MEMBERS.size()) {
+      return (BitSet) FAMILY_MEMBERS.get(family).clone();
+    }
+    return new BitSet();
+  }
+
+  /**
+   * Does any tech in Mk family belong to tech ids.
+   * @param family Family id
+   * @param ids Tech ids
+   * @return True if at least one tech in family is in ids
+   */
+  public static synchronized boolean intersectsFamily(final int family,
+      final BitSet ids) {
+    if (family >= 0 && family < FAMILY_MEMBERS.size()) {
+      return FAMILY_MEMBERS.get(family).intersects(ids);
+    }
+    return false;
+  }
+}
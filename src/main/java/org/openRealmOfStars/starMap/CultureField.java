@@ -0,0 +1,162 @@
+package org.openRealmOfStars.starMap;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ *
+ * Culture field keeps track of culture sources which have added culture
+ * into star map. Culture is updated in rounds: each source which still
+ * spreads culture is reported during the round and only sources whose
+ * position, realm or culture value has changed are applied again.
+ * Sources which were not reported during the round are removed from
+ * the map when round is finished.
+ *
+ */
+public final class CultureField {
+
+  /**
+   * Culture which source has added into map.
+   */
+  private static final class Source {
+    /** X coordinate */
+    private int x;
+    /** Y coordinate */
+    private int y;
+    /** Culture value */
+    private int value;
+    /** Realm index */
+    private int index;
+    /** Round when source was last reported */
+    private int round;
+  }
+
+  /**
+   * Star map where culture is added.
+   */
+  private final StarMap map;
+
+  /**
+   * Culture sources which have added culture into map.
+   */
+  private final IdentityHashMap<Object, Source> sources;
+
+  /**
+   * Current update round.
+   */
+  private int round;
+
+  /**
+   * Number of culture stencils applied into map.
+   */
+  private int appliedStencils;
+
+  /**
+   * Create culture field.
+   * @param map Star map where culture is added
+   */
+  public CultureField(final StarMap map) {
+    this.map = map;
+    sources = new IdentityHashMap<>();
+  }
+
+  /**
+   * Start new update round.
+   */
+  public void startUpdate() {
+    round++;
+  }
+
+  /**
+   * Report culture source during update round.
+   * @param source Planet, fleet or other object spreading culture
+   * @param x X coordinate
+   * @param y Y coordinate
+   * @param value Culture value
+   * @param index Realm index
+   */
+  public void updateSource(final Object source, final int x, final int y,
+      final int value, final int index) {
+    Source old = sources.get(source);
+    if (old == null) {
+      old = new Source();
+      sources.put(source, old);
+      map.calculateCulture(x, y, value, index);
+      appliedStencils++;
+    } else if (old.x == x && old.y == y && old.index == index) {
+      if (old.value != value) {
+        map.changeCulture(x, y, old.value, value, index);
+        appliedStencils++;
+      }
+    } else {
+      map.removeCulture(old.x, old.y, old.value, old.index);
+      map.calculateCulture(x, y, value, index);
+      appliedStencils = appliedStencils + 2;
+    }
+    old.x = x;
+    old.y = y;
+    old.value = value;
+    old.index = index;
+    old.round = round;
+  }
+
+  /**
+   * Finish update round. Culture from sources which were not reported
+   * is removed.
+   */
+  public void finishUpdate() {
+    Iterator<Map.Entry<Object, Source>> iterator =
+        sources.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Source source = iterator.next().getValue();
+      if (source.round != round) {
+        map.removeCulture(source.x, source.y, source.value, source.index);
+        appliedStencils++;
+        iterator.remove();
+      }
+    }
+  }
+
+  /**
+   * Forget all sources. This should be called when culture on map
+   * has been reset.
+   */
+  public void clear() {
+    sources.clear();
+  }
+
+  /**
+   * Get number of culture sources.
+   * @return Number of sources
+   */
+  public int getNumberOfSources() {
+    return sources.size();
+  }
+
+  /**
+   * Get number of culture stencils applied into map since field was
+   * created.
+   * @return Number of stencils
+   */
+  public int getAppliedStencils() {
+    return appliedStencils;
+  }
+}
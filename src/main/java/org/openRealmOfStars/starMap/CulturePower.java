@@ -58,6 +58,18 @@ public class CulturePower {
     }
   }
 
+  /**
+   * Get culture for certain player
+   * @param playerIndex PlayerIndex
+   * @return Culture value or 0 if player index is invalid
+   */
+  public int getCulture(final int playerIndex) {
+    if (playerIndex >= 0 && playerIndex < culture.length) {
+      return culture[playerIndex];
+    }
+    return 0;
+  }
+
   /**
    * Get player index for highest culture
    * @return Player index or -1 if no culture at all
@@ -0,0 +1,425 @@
+package org.openRealmOfStars.starMap;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+/**
+ *
+ * Culture stencil tells which sectors around the culture source get
+ * culture and how much. Stencils are compiled once from text masks.
+ * In mask X gets full culture, 1 gets half, 2 gets two thirds and
+ * 3 gets three quarters of culture value.
+ *
+ */
+public final class CultureStencil {
+
+  /**
+   * Culture level 0
+   */
+  private static final int CULTURE_LEVEL_0 = 1;
+  /**
+   * Culture level 1
+   */
+  private static final int CULTURE_LEVEL_1 = 5;
+  /**
+   * Culture level 2
+   */
+  private static final int CULTURE_LEVEL_2 = 10;
+  /**
+   * Culture level 3
+   */
+  private static final int CULTURE_LEVEL_3 = 20;
+  /**
+   * Culture level 4
+   */
+  private static final int CULTURE_LEVEL_4 = 40;
+  /**
+   * Culture level 5
+   */
+  private static final int CULTURE_LEVEL_5 = 80;
+  /**
+   * Culture level 6
+   */
+  private static final int CULTURE_LEVEL_6 = 160;
+  /**
+   * Culture level 7
+   */
+  private static final int CULTURE_LEVEL_7 = 320;
+  /**
+   * Culture level 8
+   */
+  private static final int CULTURE_LEVEL_8 = 640;
+  /**
+   * Culture level 9
+   */
+  private static final int CULTURE_LEVEL_9 = 1280;
+
+  /**
+   * Culture values where stencil changes to next bigger one.
+   */
+  private static final int[] LEVEL_LIMITS = {CULTURE_LEVEL_1,
+      CULTURE_LEVEL_2, CULTURE_LEVEL_3, CULTURE_LEVEL_4, CULTURE_LEVEL_5,
+      CULTURE_LEVEL_6, CULTURE_LEVEL_7, CULTURE_LEVEL_8, CULTURE_LEVEL_9};
+
+  /**
+   * Maximum culture radius
+   */
+  public static final int MAX_CULTURE_RADIUS = 7;
+
+  /** Sector gets full culture */
+  private static final int WEIGHT_FULL = 0;
+  /** Sector gets half of culture */
+  private static final int WEIGHT_HALF = 1;
+  /** Sector gets two thirds of culture */
+  private static final int WEIGHT_TWO_THIRDS = 2;
+  /** Sector gets three quarters of culture */
+  private static final int WEIGHT_THREE_QUARTERS = 3;
+
+  /**
+   * Culture masks from smallest culture to biggest.
+   */
+  private static final String[] MASKS = {
+      // Culture value is exactly culture level 0
+      //        765432101234567
+      /* 7 */"...............\n"
+      + /* 6 */"...............\n"
+      + /* 5 */"...............\n"
+      + /* 4 */"...............\n"
+      + /* 3 */"...............\n"
+      + /* 2 */"...............\n"
+      + /* 1 */"...............\n"
+      + /* 0 */".......X.......\n"
+      + /* 1 */"...............\n"
+      + /* 2 */"...............\n"
+      + /* 3 */"...............\n"
+      + /* 4 */"...............\n"
+      + /* 5 */"...............\n"
+      + /* 6 */"...............\n"
+      + /* 7 */"...............\n",
+      // Culture value is below culture level 1
+      //        765432101234567
+      /* 7 */"...............\n"
+      + /* 6 */"...............\n"
+      + /* 5 */"...............\n"
+      + /* 4 */"...............\n"
+      + /* 3 */"...............\n"
+      + /* 2 */"...............\n"
+      + /* 1 */".......X.......\n"
+      + /* 0 */"......XXX......\n"
+      + /* 1 */".......X.......\n"
+      + /* 2 */"...............\n"
+      + /* 3 */"...............\n"
+      + /* 4 */"...............\n"
+      + /* 5 */"...............\n"
+      + /* 6 */"...............\n"
+      + /* 7 */"...............\n",
+      // Culture value is below culture level 2
+      //        765432101234567
+      /* 7 */"...............\n"
+      + /* 6 */"...............\n"
+      + /* 5 */"...............\n"
+      + /* 4 */"...............\n"
+      + /* 3 */"...............\n"
+      + /* 2 */"...............\n"
+      + /* 1 */"......1X1......\n"
+      + /* 0 */"......XXX......\n"
+      + /* 1 */"......1X1......\n"
+      + /* 2 */"...............\n"
+      + /* 3 */"...............\n"
+      + /* 4 */"...............\n"
+      + /* 5 */"...............\n"
+      + /* 6 */"...............\n"
+      + /* 7 */"...............\n",
+      // Culture value is below culture level 3
+      //        765432101234567
+      /* 7 */"...............\n"
+      + /* 6 */"...............\n"
+      + /* 5 */"...............\n"
+      + /* 4 */"...............\n"
+      + /* 3 */"...............\n"
+      + /* 2 */".......1.......\n"
+      + /* 1 */"......1X1......\n"
+      + /* 0 */".....1XXX1.....\n"
+      + /* 1 */"......1X1......\n"
+      + /* 2 */".......1.......\n"
+      + /* 3 */"...............\n"
+      + /* 4 */"...............\n"
+      + /* 5 */"...............\n"
+      + /* 6 */"...............\n"
+      + /* 7 */"...............\n",
+      // Culture value is below culture level 4
+      //        765432101234567
+      /* 7 */"...............\n"
+      + /* 6 */"...............\n"
+      + /* 5 */"...............\n"
+      + /* 4 */"...............\n"
+      + /* 3 */".......1.......\n"
+      + /* 2 */"......1X1......\n"
+      + /* 1 */".....1XXX1.....\n"
+      + /* 0 */"....1XXXXX1....\n"
+      + /* 1 */".....1XXX1.....\n"
+      + /* 2 */"......1X1......\n"
+      + /* 3 */".......1.......\n"
+      + /* 4 */"...............\n"
+      + /* 5 */"...............\n"
+      + /* 6 */"...............\n"
+      + /* 7 */"...............\n",
+      // Culture value is below culture level 5
+      //        765432101234567
+      /* 7 */"...............\n"
+      + /* 6 */"...............\n"
+      + /* 5 */"...............\n"
+      + /* 4 */".......1.......\n"
+      + /* 3 */"......121......\n"
+      + /* 2 */".....12X21.....\n"
+      + /* 1 */"....12XXX21....\n"
+      + /* 0 */"...12XXXXX21...\n"
+      + /* 1 */"....12XXX21....\n"
+      + /* 2 */".....12X21.....\n"
+      + /* 3 */"......121......\n"
+      + /* 4 */".......1.......\n"
+      + /* 5 */"...............\n"
+      + /* 6 */"...............\n"
+      + /* 7 */"...............\n",
+      // Culture value is below culture level 6
+      //        765432101234567
+      /* 7 */"...............\n"
+      + /* 6 */"...............\n"
+      + /* 5 */"...............\n"
+      + /* 4 */"......121......\n"
+      + /* 3 */".....12X21.....\n"
+      + /* 2 */"....12XXX21....\n"
+      + /* 1 */"...12XXXXX21...\n"
+      + /* 0 */"...2XXXXXXX2...\n"
+      + /* 1 */"...12XXXXX21...\n"
+      + /* 2 */"....12XXX21....\n"
+      + /* 3 */".....12X21.....\n"
+      + /* 4 */"......121......\n"
+      + /* 5 */"...............\n"
+      + /* 6 */"...............\n"
+      + /* 7 */"...............\n",
+      // Culture value is below culture level 7
+      //        765432101234567
+      /* 7 */"...............\n"
+      + /* 6 */"...............\n"
+      + /* 5 */"......121......\n"
+      + /* 4 */".....12X21.....\n"
+      + /* 3 */"....12XXX21....\n"
+      + /* 2 */"...12XXXXX21...\n"
+      + /* 1 */"..12XXXXXXX21..\n"
+      + /* 0 */"..2XXXXXXXXX2..\n"
+      + /* 1 */"..12XXXXXXX21..\n"
+      + /* 2 */"...12XXXXX21...\n"
+      + /* 3 */"....12XXX21....\n"
+      + /* 4 */".....12X21.....\n"
+      + /* 5 */"......121......\n"
+      + /* 6 */"...............\n"
+      + /* 7 */"...............\n",
+      // Culture value is below culture level 8
+      //        765432101234567
+      /* 7 */"...............\n"
+      + /* 6 */"......121......\n"
+      + /* 5 */".....12321.....\n"
+      + /* 4 */"....123X321....\n"
+      + /* 3 */"...123XXX321...\n"
+      + /* 2 */"..123XXXXX321..\n"
+      + /* 1 */".123XXXXXXX321.\n"
+      + /* 0 */".23XXXXXXXXX32.\n"
+      + /* 1 */".123XXXXXXX321.\n"
+      + /* 2 */"..123XXXXX321..\n"
+      + /* 3 */"...123XXX321...\n"
+      + /* 4 */"....123X321....\n"
+      + /* 5 */".....12321.....\n"
+      + /* 6 */"......121......\n"
+      + /* 7 */"...............\n",
+      // Culture value is below culture level 9
+      //        765432101234567
+      /* 7 */".......1.......\n"
+      + /* 6 */"......121......\n"
+      + /* 5 */"....123X321....\n"
+      + /* 4 */"....2XXXXX2....\n"
+      + /* 3 */"..123XXXXX321..\n"
+      + /* 2 */"..23XXXXXXX32..\n"
+      + /* 1 */".12XXXXXXXXX21.\n"
+      + /* 0 */"123XXXXXXXXX321\n"
+      + /* 1 */".12XXXXXXXXX21.\n"
+      + /* 2 */"..23XXXXXXX32..\n"
+      + /* 3 */"..123XXXXX321..\n"
+      + /* 4 */"....2XXXXX2....\n"
+      + /* 5 */"....123X321....\n"
+      + /* 6 */"......121......\n"
+      + /* 7 */".......1.......\n",
+      // Culture value is culture level 9 or more
+      //        765432101234567
+      /* 7 */"......121......\n"
+      + /* 6 */".....12321.....\n"
+      + /* 5 */"...123XXX321...\n"
+      + /* 4 */"...123XXX321...\n"
+      + /* 3 */".123XXXXXXX321.\n"
+      + /* 2 */".123XXXXXXX321.\n"
+      + /* 1 */"123XXXXXXXXX321\n"
+      + /* 0 */"23XXXXXXXXXXX32\n"
+      + /* 1 */"123XXXXXXXXX321\n"
+      + /* 2 */".123XXXXXXX321.\n"
+      + /* 3 */".123XXXXXXX321.\n"
+      + /* 4 */"...123XXX321...\n"
+      + /* 5 */"...123XXX321...\n"
+      + /* 6 */".....12321.....\n"
+      + /* 7 */"......121......\n"
+  };
+
+  /**
+   * Compiled stencils in same order as masks.
+   */
+  private static final CultureStencil[] STENCILS = compileAll();
+
+  /**
+   * X offsets of sectors.
+   */
+  private final int[] offsetX;
+  /**
+   * Y offsets of sectors.
+   */
+  private final int[] offsetY;
+  /**
+   * Weights of sectors.
+   */
+  private final int[] weights;
+
+  /**
+   * Compile stencil from mask.
+   * @param mask Mask where each line is one row of sectors
+   */
+  private CultureStencil(final String mask) {
+    String[] lines = mask.split("\n");
+    int count = 0;
+    for (String line : lines) {
+      for (int col = 0; col < line.length(); col++) {
+        if (line.charAt(col) != '.') {
+          count++;
+        }
+      }
+    }
+    offsetX = new int[count];
+    offsetY = new int[count];
+    weights = new int[count];
+    int index = 0;
+    for (int row = 0; row < lines.length; row++) {
+      for (int col = 0; col < lines[row].length(); col++) {
+        char ch = lines[row].charAt(col);
+        if (ch != '.') {
+          offsetX[index] = col - MAX_CULTURE_RADIUS;
+          offsetY[index] = row - MAX_CULTURE_RADIUS;
+          weights[index] = WEIGHT_FULL;
+          if (ch == '1') {
+            weights[index] = WEIGHT_HALF;
+          }
+          if (ch == '2') {
+            weights[index] = WEIGHT_TWO_THIRDS;
+          }
+          if (ch == '3') {
+            weights[index] = WEIGHT_THREE_QUARTERS;
+          }
+          index++;
+        }
+      }
+    }
+  }
+
+  /**
+   * Compile all masks.
+   * @return Array of stencils
+   */
+  private static CultureStencil[] compileAll() {
+    CultureStencil[] result = new CultureStencil[MASKS.length];
+    for (int i = 0; i < MASKS.length; i++) {
+      result[i] = new CultureStencil(MASKS[i]);
+    }
+    return result;
+  }
+
+  /**
+   * Get stencil level for culture value.
+   * @param value Culture value
+   * @return Stencil level
+   */
+  public static int getLevel(final int value) {
+    if (value == CULTURE_LEVEL_0) {
+      return 0;
+    }
+    for (int i = 0; i < LEVEL_LIMITS.length; i++) {
+      if (value < LEVEL_LIMITS[i]) {
+        return i + 1;
+      }
+    }
+    return LEVEL_LIMITS.length + 1;
+  }
+
+  /**
+   * Get stencil for culture value.
+   * @param value Culture value
+   * @return CultureStencil
+   */
+  public static CultureStencil getStencil(final int value) {
+    return STENCILS[getLevel(value)];
+  }
+
+  /**
+   * Get number of sectors in stencil.
+   * @return Number of sectors
+   */
+  public int getSize() {
+    return offsetX.length;
+  }
+
+  /**
+   * Get X offset of sector from culture source.
+   * @param index Sector index in stencil
+   * @return X offset
+   */
+  public int getOffsetX(final int index) {
+    return offsetX[index];
+  }
+
+  /**
+   * Get Y offset of sector from culture source.
+   * @param index Sector index in stencil
+   * @return Y offset
+   */
+  public int getOffsetY(final int index) {
+    return offsetY[index];
+  }
+
+  /**
+   * Get culture which sector gets from culture value.
+   * @param index Sector index in stencil
+   * @param value Culture value of the source
+   * @return Culture for sector
+   */
+  public int getCulture(final int index, final int value) {
+    switch (weights[index]) {
+      case WEIGHT_HALF:
+        return value / 2;
+      case WEIGHT_TWO_THIRDS:
+        return value * 2 / 3;
+      case WEIGHT_THREE_QUARTERS:
+        return value * 3 / 4;
+      default:
+        return value;
+    }
+  }
+}
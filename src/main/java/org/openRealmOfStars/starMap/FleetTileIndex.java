@@ -0,0 +1,560 @@
+package org.openRealmOfStars.starMap;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+
+import org.openRealmOfStars.mapTiles.FleetTileInfo;
+import org.openRealmOfStars.player.PlayerInfo;
+import org.openRealmOfStars.player.PlayerList;
+import org.openRealmOfStars.player.fleet.Fleet;
+import org.openRealmOfStars.player.fleet.FleetList;
+import org.openRealmOfStars.player.ship.Ship;
+import org.openRealmOfStars.starMap.planet.Planet;
+
+/**
+ *
+ * Fleet tiles on star map which are updated only for changed sectors.
+ * Fleet lists tell when fleets are added, moved or removed and fleets
+ * mark their sector changed when their ships change. Planets mark their
+ * sector changed when orbital is built or destroyed. Index keeps track
+ * which fleets are in each sector, so fleet stacking is resolved again
+ * only for changed sectors without going through all the fleets.
+ *
+ */
+public final class FleetTileIndex {
+
+  /**
+   * Star map where fleet tiles are.
+   */
+  private final StarMap map;
+
+  /**
+   * Map X size
+   */
+  private final int maxX;
+
+  /**
+   * Map Y size
+   */
+  private final int maxY;
+
+  /**
+   * Fleet tiles on map.
+   */
+  private final FleetTileInfo[][] tiles;
+
+  /**
+   * Sectors which have fleet tile, indexed with x + y * maxX.
+   */
+  private final BitSet occupied;
+
+  /**
+   * Changed sectors, indexed with x + y * maxX.
+   */
+  private final BitSet changed;
+
+  /**
+   * Are all sectors resolved on next update.
+   */
+  private boolean changedAll;
+
+  /**
+   * Fleet lists which are marking changes to this index.
+   * Index is realm index.
+   */
+  private FleetList[] fleetLists;
+
+  /**
+   * Fleets in sector for each realm. Key is realm index * maxX * maxY
+   * plus sector index.
+   */
+  private final HashMap<Integer, ArrayList<Fleet>> sectorFleets;
+
+  /**
+   * Planet index for each sector with planet. Key is sector index.
+   */
+  private final HashMap<Integer, Integer> planetSectors;
+
+  /**
+   * Number of planets in map's planet list which are marking their
+   * orbital changes to this index.
+   */
+  private int attachedPlanets;
+
+  /**
+   * Navigation grid which is told about changed sectors. Can be null.
+   */
+  private NavigationGrid navigationGrid;
+
+  /**
+   * Create fleet tile index for star map. All the sectors are resolved
+   * when tiles are received first time.
+   * @param map StarMap
+   */
+  public FleetTileIndex(final StarMap map) {
+    this.map = map;
+    maxX = map.getMaxX();
+    maxY = map.getMaxY();
+    tiles = new FleetTileInfo[maxX][maxY];
+    occupied = new BitSet(maxX * maxY);
+    changed = new BitSet(maxX * maxY);
+    changedAll = true;
+    fleetLists = new FleetList[0];
+    sectorFleets = new HashMap<>();
+    planetSectors = new HashMap<>();
+    attachedPlanets = 0;
+  }
+
+  /**
+   * Mark sector as changed.
+   * @param x X coordinate
+   * @param y Y coordinate
+   */
+  public void markChanged(final int x, final int y) {
+    if (x >= 0 && y >= 0 && x < maxX && y < maxY) {
+      changed.set(x + y * maxX);
+      if (navigationGrid != null) {
+        navigationGrid.updateFleetSector(this, x, y);
+      }
+    }
+  }
+
+  /**
+   * Get navigation grid which is told about changed sectors.
+   * @return NavigationGrid or null if fleet lists have changed since
+   *         grid was set
+   */
+  NavigationGrid getNavigationGrid() {
+    return navigationGrid;
+  }
+
+  /**
+   * Set navigation grid which is told about changed sectors.
+   * @param grid NavigationGrid
+   */
+  void setNavigationGrid(final NavigationGrid grid) {
+    navigationGrid = grid;
+  }
+
+  /**
+   * Fleet has been added into realm's fleet list.
+   * @param list Realm's fleet list
+   * @param fleet Fleet which was added
+   */
+  public void fleetAdded(final FleetList list, final Fleet fleet) {
+    int realm = getRealmIndex(list);
+    if (realm != -1) {
+      addFleet(realm, fleet);
+      markChanged(fleet.getX(), fleet.getY());
+    }
+  }
+
+  /**
+   * Fleet has been removed from realm's fleet list.
+   * @param list Realm's fleet list
+   * @param fleet Fleet which was removed
+   */
+  public void fleetRemoved(final FleetList list, final Fleet fleet) {
+    int realm = getRealmIndex(list);
+    if (realm != -1) {
+      removeFleet(realm, fleet, fleet.getX(), fleet.getY());
+      markChanged(fleet.getX(), fleet.getY());
+    }
+  }
+
+  /**
+   * Fleet in realm's fleet list has moved. Only old and new sector
+   * are resolved again.
+   * @param list Realm's fleet list
+   * @param fleet Fleet which moved
+   * @param from Previous coordinate, can be null
+   */
+  public void fleetMoved(final FleetList list, final Fleet fleet,
+      final Coordinate from) {
+    int realm = getRealmIndex(list);
+    if (realm == -1) {
+      return;
+    }
+    if (from != null) {
+      removeFleet(realm, fleet, from.getX(), from.getY());
+      markChanged(from.getX(), from.getY());
+    }
+    addFleet(realm, fleet);
+    markChanged(fleet.getX(), fleet.getY());
+  }
+
+  /**
+   * Get realm index for fleet list.
+   * @param list Fleet list
+   * @return Realm index or -1 if list is not attached
+   */
+  private int getRealmIndex(final FleetList list) {
+    for (int i = 0; i < fleetLists.length; i++) {
+      if (fleetLists[i] == list) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Get key for realm's fleets in sector.
+   * @param realm Realm index
+   * @param x X coordinate
+   * @param y Y coordinate
+   * @return Key or -1 if sector is outside of map
+   */
+  private int getKey(final int realm, final int x, final int y) {
+    if (x < 0 || y < 0 || x >= maxX || y >= maxY) {
+      return -1;
+    }
+    return realm * maxX * maxY + x + y * maxX;
+  }
+
+  /**
+   * Add fleet into sector where it is.
+   * @param realm Realm index
+   * @param fleet Fleet
+   */
+  private void addFleet(final int realm, final Fleet fleet) {
+    int key = getKey(realm, fleet.getX(), fleet.getY());
+    if (key == -1) {
+      return;
+    }
+    ArrayList<Fleet> fleets = sectorFleets.get(key);
+    if (fleets == null) {
+      fleets = new ArrayList<>();
+      sectorFleets.put(key, fleets);
+    }
+    fleets.add(fleet);
+  }
+
+  /**
+   * Remove fleet from sector.
+   * @param realm Realm index
+   * @param fleet Fleet
+   * @param x X coordinate
+   * @param y Y coordinate
+   */
+  private void removeFleet(final int realm, final Fleet fleet, final int x,
+      final int y) {
+    int key = getKey(realm, x, y);
+    ArrayList<Fleet> fleets = sectorFleets.get(key);
+    if (fleets == null) {
+      return;
+    }
+    for (int i = 0; i < fleets.size(); i++) {
+      if (fleets.get(i) == fleet) {
+        fleets.remove(i);
+        break;
+      }
+    }
+    if (fleets.isEmpty()) {
+      sectorFleets.remove(key);
+    }
+  }
+
+  /**
+   * Get realm's fleets in sector.
+   * @param realm Realm index
+   * @param x X coordinate
+   * @param y Y coordinate
+   * @return Fleets or null if there are none
+   */
+  ArrayList<Fleet> getFleets(final int realm, final int x, final int y) {
+    return sectorFleets.get(getKey(realm, x, y));
+  }
+
+  /**
+   * Mark all sectors as changed.
+   */
+  public void markAllChanged() {
+    changedAll = true;
+  }
+
+  /**
+   * Get fleet tiles. Changed sectors are resolved before returning.
+   * @param refresh If true all sectors with fleets or orbitals are
+   *        resolved
+   * @return Fleet tiles
+   */
+  public FleetTileInfo[][] getTiles(final boolean refresh) {
+    attachFleetLists();
+    attachPlanets();
+    if (refresh) {
+      changedAll = true;
+    }
+    if (changedAll) {
+      changed.or(occupied);
+    }
+    if (changedAll || !changed.isEmpty()) {
+      resolveChanged();
+    }
+    changedAll = false;
+    return tiles;
+  }
+
+  /**
+   * Make sure that planets added into map's planet list mark their
+   * orbital changes into this index. Sectors of newly attached planets
+   * are resolved on next update. Planets are never removed from the list.
+   */
+  private void attachPlanets() {
+    ArrayList<Planet> planets = map.getPlanetList();
+    for (int i = attachedPlanets; i < planets.size(); i++) {
+      Planet planet = planets.get(i);
+      int x = planet.getX();
+      int y = planet.getY();
+      if (x >= 0 && y >= 0 && x < maxX && y < maxY) {
+        planetSectors.put(x + y * maxX, i);
+        changed.set(x + y * maxX);
+      }
+      planet.setFleetTileIndex(this);
+    }
+    attachedPlanets = planets.size();
+  }
+
+  /**
+   * Make sure that every realm's fleet list marks its changes into
+   * this index. If new list is attached all sectors are resolved and
+   * navigation grid is no longer told about changes.
+   */
+  void attachFleetLists() {
+    PlayerList players = map.getPlayerList();
+    int count = 0;
+    if (players != null) {
+      count = players.getCurrentMaxPlayers();
+    }
+    boolean attached = false;
+    if (count != fleetLists.length) {
+      fleetLists = Arrays.copyOf(fleetLists, count);
+      attached = true;
+    }
+    for (int i = 0; i < count; i++) {
+      PlayerInfo info = players.getPlayerInfoByIndex(i);
+      FleetList list = null;
+      if (info != null) {
+        list = info.getFleets();
+      }
+      if (list != fleetLists[i]) {
+        fleetLists[i] = list;
+        if (list != null) {
+          list.setFleetTileIndex(this);
+        }
+        attached = true;
+      }
+    }
+    if (attached) {
+      changedAll = true;
+      navigationGrid = null;
+      collectAllFleets();
+    }
+  }
+
+  /**
+   * Resolve fleet stacking for all changed sectors. If all sectors
+   * have changed, fleets in sectors are collected again from fleet
+   * lists.
+   */
+  private void resolveChanged() {
+    HashMap<Integer, ArrayList<int[]>> sectors = null;
+    if (changedAll) {
+      sectors = collectAllFleets();
+    }
+    for (int sector = changed.nextSetBit(0); sector >= 0;
+        sector = changed.nextSetBit(sector + 1)) {
+      int y = sector / maxX;
+      int x = sector - y * maxX;
+      tiles[x][y] = null;
+      ArrayList<int[]> fleets;
+      if (sectors != null) {
+        fleets = sectors.get(sector);
+      } else {
+        fleets = collectSector(x, y);
+      }
+      if (fleets != null) {
+        resolveSector(x, y, fleets);
+      }
+      if (tiles[x][y] == null) {
+        resolveOrbital(x, y, sector);
+      }
+      occupied.set(sector, tiles[x][y] != null);
+    }
+    changed.clear();
+  }
+
+  /**
+   * Collect fleets of all realms into sectors. Sectors with fleets are
+   * marked as changed.
+   * @return Realm and fleet index pairs for each sector
+   */
+  private HashMap<Integer, ArrayList<int[]>> collectAllFleets() {
+    HashMap<Integer, ArrayList<int[]>> sectors = new HashMap<>();
+    sectorFleets.clear();
+    for (int i = 0; i < fleetLists.length; i++) {
+      FleetList list = fleetLists[i];
+      if (list == null) {
+        continue;
+      }
+      for (int j = 0; j < list.getNumberOfFleets(); j++) {
+        Fleet fleet = list.getByIndex(j);
+        if (fleet == null) {
+          continue;
+        }
+        addFleet(i, fleet);
+        int sector = fleet.getX() + fleet.getY() * maxX;
+        changed.set(sector);
+        ArrayList<int[]> fleets = sectors.get(sector);
+        if (fleets == null) {
+          fleets = new ArrayList<>();
+          sectors.put(sector, fleets);
+        }
+        fleets.add(new int[] {i, j});
+      }
+    }
+    return sectors;
+  }
+
+  /**
+   * Collect fleets in single sector.
+   * @param x X coordinate
+   * @param y Y coordinate
+   * @return Realm and fleet index pairs in realm and fleet index order
+   *         or null if there are no fleets
+   */
+  private ArrayList<int[]> collectSector(final int x, final int y) {
+    ArrayList<int[]> result = null;
+    for (int i = 0; i < fleetLists.length; i++) {
+      ArrayList<Fleet> fleets = getFleets(i, x, y);
+      if (fleets == null) {
+        continue;
+      }
+      if (result == null) {
+        result = new ArrayList<>();
+      }
+      int start = result.size();
+      for (Fleet fleet : fleets) {
+        int j = fleetLists[i].indexOf(fleet);
+        if (j != -1) {
+          result.add(new int[] {i, j});
+        }
+      }
+      result.subList(start, result.size()).sort(
+          (a, b) -> Integer.compare(a[1], b[1]));
+    }
+    return result;
+  }
+
+  /**
+   * Resolve which fleet is shown in sector. Fleets are in realm and
+   * fleet index order.
+   * @param x X coordinate
+   * @param y Y coordinate
+   * @param fleets Realm and fleet index pairs for fleets in sector
+   */
+  private void resolveSector(final int x, final int y,
+      final ArrayList<int[]> fleets) {
+    for (int[] entry : fleets) {
+      int i = entry[0];
+      int j = entry[1];
+      Fleet fleet = fleetLists[i].getByIndex(j);
+      if (tiles[x][y] == null && fleet.getFirstShip() != null) {
+        setTile(x, y, fleet, i, j);
+        continue;
+      }
+      for (int[] other : fleets) {
+        int k = other[1];
+        if (other[0] != i || k == j) {
+          continue;
+        }
+        Fleet fleet2 = fleetLists[i].getByIndex(k);
+        if (fleet2.getNumberOfShip() == 0) {
+          continue;
+        }
+        if (fleet2.getFleetCloackingValue()
+            < fleet.getFleetCloackingValue()) {
+          setTile(x, y, fleet2, i, k);
+        } else if (fleet2.getFleetCloackingValue()
+            > fleet.getFleetCloackingValue()) {
+          setTile(x, y, fleet, i, j);
+        } else if (fleet2.getMilitaryValue() > fleet.getMilitaryValue()) {
+          setTile(x, y, fleet2, i, k);
+        } else {
+          setTile(x, y, fleet, i, j);
+        }
+        if (fleet2.isStarBaseDeployed()) {
+          setTile(x, y, fleet2, i, k);
+        } else if (fleet.isStarBaseDeployed()) {
+          setTile(x, y, fleet, i, j);
+        }
+      }
+    }
+  }
+
+  /**
+   * Set fleet tile for sector. If sector already contains fleet tile
+   * and realm is different then tile is being marked as conflict.
+   * Nothing is set if fleet has no ships.
+   * @param x X coordinate
+   * @param y Y coordinate
+   * @param fleet Fleet to show
+   * @param realmIndex Realm index
+   * @param fleetIndex Fleet index in realm's fleet list
+   */
+  private void setTile(final int x, final int y, final Fleet fleet,
+      final int realmIndex, final int fleetIndex) {
+    Ship ship = fleet.getBiggestShip();
+    if (ship == null) {
+      return;
+    }
+    FleetTileInfo info = new FleetTileInfo(ship.getHull().getRace(),
+        ship.getHull().getImageIndex(), realmIndex, fleetIndex);
+    if (tiles[x][y] != null) {
+      int oldIndex = tiles[x][y].getConflictIndex();
+      if (oldIndex == -1) {
+        oldIndex = tiles[x][y].getPlayerIndex();
+      }
+      if (info.getPlayerIndex() != oldIndex) {
+        info.setConflict(oldIndex);
+      }
+    }
+    tiles[x][y] = info;
+  }
+
+  /**
+   * Show orbital in sector which does not have fleets.
+   * @param x X coordinate
+   * @param y Y coordinate
+   * @param sector Sector index
+   */
+  private void resolveOrbital(final int x, final int y, final int sector) {
+    Integer index = planetSectors.get(sector);
+    if (index == null) {
+      return;
+    }
+    Ship orbital = map.getPlanetList().get(index).getOrbital();
+    if (orbital != null) {
+      tiles[x][y] = new FleetTileInfo(orbital.getHull().getRace(),
+          orbital.getHull().getImageIndex(), index);
+    }
+  }
+}
@@ -0,0 +1,345 @@
+package org.openRealmOfStars.starMap;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import java.util.ArrayList;
+import java.util.BitSet;
+
+import org.openRealmOfStars.player.PlayerInfo;
+import org.openRealmOfStars.player.PlayerList;
+import org.openRealmOfStars.player.fleet.Fleet;
+import org.openRealmOfStars.starMap.planet.Planet;
+
+/**
+ *
+ * Navigation grid for path searching on star map. Grid contains
+ * blocked and dangerous sectors and sectors occupied by fleets.
+ * Grid is calculated once per turn. After that fleet tile index tells
+ * which sectors have changed and only those are updated, so queries
+ * never go through fleets. Sectors are indexed with x + y * maxX.
+ *
+ */
+public final class NavigationGrid {
+
+  /**
+   * Realm index when fleets are not blocking the way.
+   */
+  public static final int NO_REALM = -1;
+
+  /**
+   * Star map where grid is calculated.
+   */
+  private final StarMap map;
+
+  /**
+   * Map X size
+   */
+  private final int maxX;
+
+  /**
+   * Map Y size
+   */
+  private final int maxY;
+
+  /**
+   * Turn when grid was calculated.
+   */
+  private final int turn;
+
+  /**
+   * Blocked sectors.
+   */
+  private final BitSet blockedSectors;
+
+  /**
+   * Dangerous sectors.
+   */
+  private final BitSet dangerousSectors;
+
+  /**
+   * Sectors which contain fleets for each realm.
+   */
+  private final BitSet[] fleetSectors;
+
+  /**
+   * Sectors which contain orbital.
+   */
+  private final BitSet orbitalSectors;
+
+  /**
+   * Blocked sectors for each realm. Index is
+   * (realm index + 1) * 2 and plus one if dangerous sectors are blocked.
+   * These are calculated when first time needed.
+   */
+  private final BitSet[] realmBlocked;
+
+  /**
+   * Has realm blocked bitset been given to search. Shared bitset is
+   * copied before it is modified.
+   */
+  private final boolean[] shared;
+
+  /**
+   * Calculate navigation grid for star map.
+   * @param map StarMap
+   */
+  public NavigationGrid(final StarMap map) {
+    this.map = map;
+    maxX = map.getMaxX();
+    maxY = map.getMaxY();
+    turn = map.getTurn();
+    blockedSectors = new BitSet(maxX * maxY);
+    dangerousSectors = new BitSet(maxX * maxY);
+    for (int y = 0; y < maxY; y++) {
+      for (int x = 0; x < maxX; x++) {
+        if (map.isBlocked(x, y)) {
+          blockedSectors.set(x + y * maxX);
+        }
+        if (map.isDangerous(x, y)) {
+          dangerousSectors.set(x + y * maxX);
+        }
+      }
+    }
+    PlayerList players = map.getPlayerList();
+    int realms = 0;
+    if (players != null) {
+      realms = players.getCurrentMaxPlayers();
+    }
+    fleetSectors = new BitSet[realms];
+    for (int i = 0; i < realms; i++) {
+      fleetSectors[i] = collectFleetSectors(players.getPlayerInfoByIndex(i));
+    }
+    orbitalSectors = collectOrbitalSectors();
+    realmBlocked = new BitSet[(realms + 1) * 2];
+    shared = new boolean[realmBlocked.length];
+  }
+
+  /**
+   * Get turn when grid was calculated.
+   * @return Turn
+   */
+  public int getTurn() {
+    return turn;
+  }
+
+  /**
+   * Get realm index which has fleet in sector. If several realms
+   * have fleet in same sector, then lowest realm index is returned.
+   * @param x X coordinate
+   * @param y Y coordinate
+   * @return Realm index or NO_REALM
+   */
+  public synchronized int getRealmAt(final int x, final int y) {
+    int sector = x + y * maxX;
+    for (int i = 0; i < fleetSectors.length; i++) {
+      if (fleetSectors[i].get(sector)) {
+        return i;
+      }
+    }
+    return NO_REALM;
+  }
+
+  /**
+   * Get blocked sectors for realm. Sectors containing fleets of other
+   * realms or orbitals without fleet are blocked too.
+   * Returned bitset is shared and it must not be modified. Grid itself
+   * copies it before making any changes so bitset stays as it was
+   * when received.
+   * @param realmIndex Realm index or NO_REALM if fleets are not blocking
+   * @param dangerousBlocked are dangerous sectors considered as blocked
+   * @return Blocked sectors, indexed with x + y * maxX
+   */
+  public synchronized BitSet getBlocked(final int realmIndex,
+      final boolean dangerousBlocked) {
+    int index = (realmIndex + 1) * 2;
+    if (dangerousBlocked) {
+      index++;
+    }
+    if (realmBlocked[index] == null) {
+      realmBlocked[index] = calculateBlocked(realmIndex, dangerousBlocked);
+    }
+    shared[index] = true;
+    return realmBlocked[index];
+  }
+
+  /**
+   * Calculate blocked sectors for realm.
+   * @param realmIndex Realm index or NO_REALM
+   * @param dangerousBlocked are dangerous sectors considered as blocked
+   * @return Blocked sectors
+   */
+  private BitSet calculateBlocked(final int realmIndex,
+      final boolean dangerousBlocked) {
+    BitSet result = (BitSet) blockedSectors.clone();
+    if (dangerousBlocked) {
+      result.or(dangerousSectors);
+    }
+    if (realmIndex == NO_REALM) {
+      return result;
+    }
+    BitSet fleets = new BitSet(maxX * maxY);
+    for (int i = 0; i < fleetSectors.length; i++) {
+      fleets.or(fleetSectors[i]);
+      if (i != realmIndex) {
+        result.or(fleetSectors[i]);
+      }
+    }
+    BitSet orbitals = (BitSet) orbitalSectors.clone();
+    orbitals.andNot(fleets);
+    result.or(orbitals);
+    return result;
+  }
+
+  /**
+   * Is sector blocked for realm.
+   * @param realmIndex Realm index or NO_REALM
+   * @param dangerousBlocked are dangerous sectors considered as blocked
+   * @param sector Sector index
+   * @return True if sector is blocked
+   */
+  private boolean isBlocked(final int realmIndex,
+      final boolean dangerousBlocked, final int sector) {
+    if (blockedSectors.get(sector)
+        || dangerousBlocked && dangerousSectors.get(sector)) {
+      return true;
+    }
+    if (realmIndex == NO_REALM) {
+      return false;
+    }
+    boolean fleet = false;
+    for (int i = 0; i < fleetSectors.length; i++) {
+      if (fleetSectors[i].get(sector)) {
+        if (i != realmIndex) {
+          return true;
+        }
+        fleet = true;
+      }
+    }
+    return !fleet && orbitalSectors.get(sector);
+  }
+
+  /**
+   * Update blocked and dangerous information for single sector
+   * after tile or square info has been changed.
+   * @param x X coordinate
+   * @param y Y coordinate
+   */
+  public synchronized void updateSector(final int x, final int y) {
+    if (x < 0 || y < 0 || x >= maxX || y >= maxY) {
+      return;
+    }
+    int sector = x + y * maxX;
+    blockedSectors.set(sector, map.isBlocked(x, y));
+    dangerousSectors.set(sector, map.isDangerous(x, y));
+    refreshSector(sector);
+  }
+
+  /**
+   * Update fleets and orbital in single sector after fleet tile index
+   * has marked it changed.
+   * @param index Fleet tile index which knows fleets in sector
+   * @param x X coordinate
+   * @param y Y coordinate
+   */
+  synchronized void updateFleetSector(final FleetTileIndex index,
+      final int x, final int y) {
+    if (x < 0 || y < 0 || x >= maxX || y >= maxY) {
+      return;
+    }
+    int sector = x + y * maxX;
+    for (int i = 0; i < fleetSectors.length; i++) {
+      fleetSectors[i].set(sector, hasShips(index.getFleets(i, x, y)));
+    }
+    Planet planet = map.getPlanetByCoordinate(x, y);
+    orbitalSectors.set(sector, planet != null
+        && planet.getOrbital() != null);
+    refreshSector(sector);
+  }
+
+  /**
+   * Does any of the fleets have ships.
+   * @param fleets Fleets, can be null
+   * @return True if at least one fleet has ship
+   */
+  private static boolean hasShips(final ArrayList<Fleet> fleets) {
+    if (fleets != null) {
+      for (Fleet fleet : fleets) {
+        if (fleet.getFirstShip() != null) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Refresh single sector in all calculated realm blocked bitsets.
+   * @param sector Sector index
+   */
+  private void refreshSector(final int sector) {
+    for (int i = 0; i < realmBlocked.length; i++) {
+      if (realmBlocked[i] == null) {
+        continue;
+      }
+      boolean value = isBlocked(i / 2 - 1, i % 2 == 1, sector);
+      if (realmBlocked[i].get(sector) != value) {
+        if (shared[i]) {
+          realmBlocked[i] = (BitSet) realmBlocked[i].clone();
+          shared[i] = false;
+        }
+        realmBlocked[i].set(sector, value);
+      }
+    }
+  }
+
+  /**
+   * Collect sectors where realm has fleets with ships.
+   * @param info Realm
+   * @return Sectors with fleets
+   */
+  private BitSet collectFleetSectors(final PlayerInfo info) {
+    BitSet sectors = new BitSet(maxX * maxY);
+    if (info == null || info.getFleets() == null) {
+      return sectors;
+    }
+    for (int i = 0; i < info.getFleets().getNumberOfFleets(); i++) {
+      Fleet fleet = info.getFleets().getByIndex(i);
+      if (fleet != null && fleet.getFirstShip() != null) {
+        sectors.set(fleet.getX() + fleet.getY() * maxX);
+      }
+    }
+    return sectors;
+  }
+
+  /**
+   * Collect sectors where planet has orbital.
+   * @return Sectors with orbitals
+   */
+  private BitSet collectOrbitalSectors() {
+    BitSet sectors = new BitSet(maxX * maxY);
+    if (map.getPlanetList() == null) {
+      return sectors;
+    }
+    for (Planet planet : map.getPlanetList()) {
+      if (planet.getOrbital() != null) {
+        sectors.set(planet.getX() + planet.getY() * maxX);
+      }
+    }
+    return sectors;
+  }
+}
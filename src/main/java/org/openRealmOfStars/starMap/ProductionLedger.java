@@ -0,0 +1,222 @@
+package org.openRealmOfStars.starMap;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import java.util.ArrayList;
+
+import org.openRealmOfStars.starMap.newsCorp.GalaxyStat;
+import org.openRealmOfStars.starMap.planet.Planet;
+
+/**
+ *
+ * Production ledger for realms. Planet production of every production
+ * type is collected for all realms with single pass over planet list.
+ * Realm totals with fleet and leader bonuses are calculated when realm
+ * is first asked. Ledger is valid during one turn. Planets, fleets,
+ * ships, leaders, techs and artifacts mark changes into realm which
+ * owns them, and only changed realms are collected again. Taxation
+ * of richest realm is checked on every query, since vote results and
+ * credit statistics are changed outside of the ledger.
+ *
+ */
+public final class ProductionLedger {
+
+  /**
+   * Production types which are collected into ledger. Research must be
+   * before artifact research since artifact research depends on it.
+   */
+  private static final int[] PRODUCTIONS = {Planet.PRODUCTION_FOOD,
+      Planet.PRODUCTION_METAL, Planet.PRODUCTION_PRODUCTION,
+      Planet.PRODUCTION_RESEARCH, Planet.PRODUCTION_CULTURE,
+      Planet.PRODUCTION_CREDITS, Planet.PRODUCTION_POPULATION,
+      Planet.PRODUCTION_ARTIFACT_RESEARCH };
+
+  /**
+   * Number of production slots per realm.
+   */
+  private static final int SLOTS = Planet.PRODUCTION_ARTIFACT_RESEARCH + 1;
+
+  /**
+   * Star map where production is calculated.
+   */
+  private final StarMap map;
+
+  /**
+   * Turn when ledger was created.
+   */
+  private final int turn;
+
+  /**
+   * Realm's production changes when realm's planet production was
+   * collected.
+   */
+  private int[] realmChanges;
+
+  /**
+   * Taxation key when realm totals were calculated.
+   */
+  private int taxation;
+
+  /**
+   * Planet production for each realm and production type. Null if not
+   * collected yet.
+   */
+  private int[][] planetTotals;
+
+  /**
+   * Total production for each realm and production type. Realm row is
+   * null if realm has not been calculated yet.
+   */
+  private int[][] totals;
+
+  /**
+   * Create production ledger for current turn.
+   * @param map StarMap
+   */
+  public ProductionLedger(final StarMap map) {
+    this.map = map;
+    this.turn = map.getTurn();
+  }
+
+  /**
+   * Is production type collected into ledger.
+   * @param production See Planet.PRODUCTION_*
+   * @return True if production is collected
+   */
+  public static boolean isCollected(final int production) {
+    for (int type : PRODUCTIONS) {
+      if (type == production) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Get turn when ledger was created.
+   * @return Turn
+   */
+  public int getTurn() {
+    return turn;
+  }
+
+  /**
+   * Get total production for realm per turn.
+   * @param production See Planet.PRODUCTION_*, must be collected type
+   * @param realmIndex Realm index
+   * @return Total production per turn
+   */
+  public synchronized int getTotal(final int production,
+      final int realmIndex) {
+    int realms = map.getPlayerList().getCurrentMaxRealms();
+    if (planetTotals == null || planetTotals.length != realms) {
+      planetTotals = new int[realms][SLOTS];
+      totals = new int[realms][];
+      realmChanges = new int[realms];
+      boolean[] changed = new boolean[realms];
+      for (int i = 0; i < realms; i++) {
+        changed[i] = true;
+      }
+      collectPlanets(changed);
+      taxation = calculateTaxation();
+    } else {
+      collectPlanets(findChangedRealms());
+      int key = calculateTaxation();
+      if (key != taxation) {
+        taxation = key;
+        totals = new int[totals.length][];
+      }
+    }
+    if (totals[realmIndex] == null) {
+      int[] realm = new int[SLOTS];
+      for (int type : PRODUCTIONS) {
+        realm[type] = map.calculateRealmProduction(type, realmIndex,
+            planetTotals[realmIndex][type],
+            realm[Planet.PRODUCTION_RESEARCH]);
+      }
+      totals[realmIndex] = realm;
+    }
+    return totals[realmIndex][production];
+  }
+
+  /**
+   * Find realms whose production has changed since their planet
+   * production was collected.
+   * @return Changed flag for each realm, null if nothing has changed
+   */
+  private boolean[] findChangedRealms() {
+    boolean[] changed = null;
+    for (int i = 0; i < realmChanges.length; i++) {
+      int stamp = map.getPlayerList().getPlayerInfoByIndex(i)
+          .getProductionChanges();
+      if (stamp != realmChanges[i]) {
+        if (changed == null) {
+          changed = new boolean[realmChanges.length];
+        }
+        changed[i] = true;
+      }
+    }
+    return changed;
+  }
+
+  /**
+   * Collect planet production of changed realms for all production types
+   * with single pass over planet list.
+   * @param changed Changed flag for each realm, null if nothing changed
+   */
+  private void collectPlanets(final boolean[] changed) {
+    if (changed == null) {
+      return;
+    }
+    int realms = changed.length;
+    for (int i = 0; i < realms; i++) {
+      if (changed[i]) {
+        realmChanges[i] = map.getPlayerList().getPlayerInfoByIndex(i)
+            .getProductionChanges();
+        planetTotals[i] = new int[SLOTS];
+        totals[i] = null;
+      }
+    }
+    ArrayList<Planet> planets = map.getPlanetList();
+    for (int i = 0; i < planets.size(); i++) {
+      Planet planet = planets.get(i);
+      int owner = planet.getPlanetOwnerIndex();
+      if (planet.getPlanetPlayerInfo() != null && owner >= 0
+          && owner < realms && changed[owner]) {
+        for (int type : PRODUCTIONS) {
+          planetTotals[owner][type] = planetTotals[owner][type]
+              + planet.getTotalProduction(type);
+        }
+      }
+    }
+  }
+
+  /**
+   * Calculate key for taxation of richest realm. Key changes when vote
+   * result or richest or poorest realm changes.
+   * @return Taxation key, -1 if taxation is not enabled.
+   */
+  private int calculateTaxation() {
+    if (!map.getVotes().isTaxationOfRichestEnabled()) {
+      return -1;
+    }
+    GalaxyStat credit = map.getNewsCorpData().getCredit();
+    int realms = credit.getMaxPlayers() + 1;
+    return (credit.getBiggest() + 1) * realms + credit.getSmallest() + 1;
+  }
+}
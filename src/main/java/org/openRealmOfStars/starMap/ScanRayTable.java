@@ -0,0 +1,246 @@
+package org.openRealmOfStars.starMap;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ *
+ * Precomputed scan rays for certain scanner radius. Rays go from scanner
+ * to every sector of square around the scanner and stop at scanner
+ * radius. Rays which share the beginning are merged into a tree, so
+ * shared part is walked only once. Tree is stored in depth first order:
+ * if ray is blocked at node then whole subtree of that node is skipped
+ * by jumping to subtree end.
+ *
+ */
+public final class ScanRayTable {
+
+  /**
+   * Calculated tables by radius.
+   */
+  private static final ConcurrentHashMap<Integer, ScanRayTable> TABLES =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Node while building the tree.
+   */
+  private static final class Node {
+    /** X offset from scanner */
+    private final int x;
+    /** Y offset from scanner */
+    private final int y;
+    /** Child nodes in order of creation */
+    private final ArrayList<Node> children = new ArrayList<>();
+
+    /**
+     * Create node.
+     * @param x X offset from scanner
+     * @param y Y offset from scanner
+     */
+    private Node(final int x, final int y) {
+      this.x = x;
+      this.y = y;
+    }
+
+    /**
+     * Get child with offset or create it if not found.
+     * @param childX X offset from scanner
+     * @param childY Y offset from scanner
+     * @return Child node
+     */
+    private Node getChild(final int childX, final int childY) {
+      for (Node child : children) {
+        if (child.x == childX && child.y == childY) {
+          return child;
+        }
+      }
+      Node child = new Node(childX, childY);
+      children.add(child);
+      return child;
+    }
+  }
+
+  /**
+   * Scanner radius.
+   */
+  private final int radius;
+  /**
+   * X offsets of nodes.
+   */
+  private final int[] offsetX;
+  /**
+   * Y offsets of nodes.
+   */
+  private final int[] offsetY;
+  /**
+   * Number of steps from scanner to node.
+   */
+  private final int[] steps;
+  /**
+   * Index after subtree of node.
+   */
+  private final int[] subtreeEnd;
+
+  /**
+   * Create scan ray table.
+   * @param radius Scanner radius
+   */
+  private ScanRayTable(final int radius) {
+    this.radius = radius;
+    Node root = new Node(0, 0);
+    for (int y = -radius; y < radius + 1; y++) {
+      for (int x = -radius; x < radius + 1; x++) {
+        addRay(root, x, y);
+      }
+    }
+    int count = countNodes(root);
+    offsetX = new int[count];
+    offsetY = new int[count];
+    steps = new int[count];
+    subtreeEnd = new int[count];
+    flatten(root, 0, 0);
+  }
+
+  /**
+   * Get scan ray table for radius.
+   * @param radius Scanner radius
+   * @return ScanRayTable
+   */
+  public static ScanRayTable getTable(final int radius) {
+    return TABLES.computeIfAbsent(radius, ScanRayTable::new);
+  }
+
+  /**
+   * Calculate coordinate on ray. This is same as moving from scanner
+   * with equal steps and rounding to nearest sector.
+   * @param step Step number
+   * @param end End coordinate offset
+   * @param distance Number of steps to end
+   * @return Coordinate offset
+   */
+  private static int rayPosition(final int step, final int end,
+      final int distance) {
+    return Math.floorDiv(2 * step * end + distance, 2 * distance);
+  }
+
+  /**
+   * Add ray into tree.
+   * @param root Root node
+   * @param endX End X offset
+   * @param endY End Y offset
+   */
+  private void addRay(final Node root, final int endX, final int endY) {
+    int distance = Math.max(Math.abs(endX), Math.abs(endY));
+    Node node = root;
+    for (int i = 1; i <= distance; i++) {
+      int x = rayPosition(i, endX, distance);
+      int y = rayPosition(i, endY, distance);
+      if (x * x + y * y > radius * radius) {
+        // Ray has reached the maximum radius
+        break;
+      }
+      node = node.getChild(x, y);
+    }
+  }
+
+  /**
+   * Count nodes in tree.
+   * @param node Root node of the tree
+   * @return Number of nodes
+   */
+  private static int countNodes(final Node node) {
+    int count = 1;
+    for (Node child : node.children) {
+      count = count + countNodes(child);
+    }
+    return count;
+  }
+
+  /**
+   * Write tree into arrays in depth first order.
+   * @param node Node to write
+   * @param index Index for node
+   * @param step Steps from scanner to node
+   * @return Index after node's subtree
+   */
+  private int flatten(final Node node, final int index, final int step) {
+    offsetX[index] = node.x;
+    offsetY[index] = node.y;
+    steps[index] = step;
+    int next = index + 1;
+    for (Node child : node.children) {
+      next = flatten(child, next, step + 1);
+    }
+    subtreeEnd[index] = next;
+    return next;
+  }
+
+  /**
+   * Get scanner radius
+   * @return Radius
+   */
+  public int getRadius() {
+    return radius;
+  }
+
+  /**
+   * Get number of nodes including scanner itself at index 0.
+   * @return Number of nodes
+   */
+  public int getSize() {
+    return offsetX.length;
+  }
+
+  /**
+   * Get X offset of node from scanner.
+   * @param index Node index
+   * @return X offset
+   */
+  public int getOffsetX(final int index) {
+    return offsetX[index];
+  }
+
+  /**
+   * Get Y offset of node from scanner.
+   * @param index Node index
+   * @return Y offset
+   */
+  public int getOffsetY(final int index) {
+    return offsetY[index];
+  }
+
+  /**
+   * Get number of steps from scanner to node.
+   * @param index Node index
+   * @return Number of steps
+   */
+  public int getSteps(final int index) {
+    return steps[index];
+  }
+
+  /**
+   * Get index where walking continues when node blocks the ray.
+   * @param index Node index
+   * @return Index after node's subtree
+   */
+  public int getSubtreeEnd(final int index) {
+    return subtreeEnd[index];
+  }
+}
@@ -0,0 +1,391 @@
+package org.openRealmOfStars.starMap;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ *
+ * Uniform grid spatial index for items on star map. Map is divided into
+ * square cells and each item is stored into cell containing its
+ * coordinate. Nearest searches go through cells ring by ring starting
+ * from search coordinate and stop when no unvisited cell can contain
+ * closer item. Distances are calculated same way as in Coordinate.
+ * Items at same distance are returned in order they were added, so
+ * results match linear scans over original list.
+ *
+ * @param <T> Item type
+ */
+public final class SpatialGrid<T> {
+
+  /**
+   * Default cell size in sectors.
+   */
+  public static final int DEFAULT_CELL_SIZE = 8;
+
+  /**
+   * Cell width and height in sectors.
+   */
+  private final int cellSize;
+
+  /**
+   * Number of cell columns.
+   */
+  private final int columns;
+
+  /**
+   * Number of cell rows.
+   */
+  private final int rows;
+
+  /**
+   * Item indexes for each cell in order they were added.
+   */
+  private final int[][] cells;
+
+  /**
+   * Number of items in each cell.
+   */
+  private final int[] cellCounts;
+
+  /**
+   * Items in order they were added.
+   */
+  private final ArrayList<T> items;
+
+  /**
+   * Item X coordinates.
+   */
+  private int[] itemX;
+
+  /**
+   * Item Y coordinates.
+   */
+  private int[] itemY;
+
+  /**
+   * Create empty spatial grid.
+   * @param maxX Map width in sectors
+   * @param maxY Map height in sectors
+   * @param cellSize Cell width and height in sectors
+   */
+  public SpatialGrid(final int maxX, final int maxY, final int cellSize) {
+    if (cellSize < 1) {
+      throw new IllegalArgumentException("Cell size must be positive.");
+    }
+    this.cellSize = cellSize;
+    columns = Math.max(1, (maxX + cellSize - 1) / cellSize);
+    rows = Math.max(1, (maxY + cellSize - 1) / cellSize);
+    cells = new int[columns * rows][];
+    cellCounts = new int[columns * rows];
+    items = new ArrayList<>();
+    itemX = new int[16];
+    itemY = new int[16];
+  }
+
+  /**
+   * Get cell column for X coordinate. Coordinates outside of map
+   * are placed into border cells.
+   * @param x X coordinate
+   * @return Cell column
+   */
+  private int getColumn(final int x) {
+    return Math.min(columns - 1, Math.max(0, x / cellSize));
+  }
+
+  /**
+   * Get cell row for Y coordinate. Coordinates outside of map
+   * are placed into border cells.
+   * @param y Y coordinate
+   * @return Cell row
+   */
+  private int getRow(final int y) {
+    return Math.min(rows - 1, Math.max(0, y / cellSize));
+  }
+
+  /**
+   * Add item into grid.
+   * @param item Item to add
+   * @param x X coordinate
+   * @param y Y coordinate
+   */
+  public void add(final T item, final int x, final int y) {
+    int index = items.size();
+    if (index == itemX.length) {
+      itemX = Arrays.copyOf(itemX, index * 2);
+      itemY = Arrays.copyOf(itemY, index * 2);
+    }
+    items.add(item);
+    itemX[index] = x;
+    itemY[index] = y;
+    int cell = getColumn(x) + getRow(y) * columns;
+    if (cells[cell] == null) {
+      cells[cell] = new int[4];
+    } else if (cellCounts[cell] == cells[cell].length) {
+      cells[cell] = Arrays.copyOf(cells[cell], cellCounts[cell] * 2);
+    }
+    cells[cell][cellCounts[cell]] = index;
+    cellCounts[cell]++;
+  }
+
+  /**
+   * Get number of items in grid.
+   * @return Number of items
+   */
+  public int size() {
+    return items.size();
+  }
+
+  /**
+   * Calculate distance between coordinate and item.
+   * @param x X coordinate
+   * @param y Y coordinate
+   * @param index Item index
+   * @return Distance
+   */
+  private double getDistance(final int x, final int y, final int index) {
+    int xDistance = itemX[index] - x;
+    int yDistance = itemY[index] - y;
+    return Math.sqrt(xDistance * xDistance + yDistance * yDistance);
+  }
+
+  /**
+   * Does item pass the filter.
+   * @param filter Filter or null for accepting all items
+   * @param index Item index
+   * @return True if item passes
+   */
+  private boolean accept(final Predicate<T> filter, final int index) {
+    return filter == null || filter.test(items.get(index));
+  }
+
+  /**
+   * Get shortest possible distance to items in cells on ring.
+   * @param ring Ring number, ring zero is the cell of search coordinate
+   * @return Shortest possible distance
+   */
+  private int getRingDistance(final int ring) {
+    if (ring == 0) {
+      return 0;
+    }
+    return (ring - 1) * cellSize + 1;
+  }
+
+  /**
+   * Visit all cells on ring around cell and collect indexes of accepted
+   * items into list.
+   * @param column Center cell column
+   * @param row Center cell row
+   * @param ring Ring number
+   * @param filter Filter or null for accepting all items
+   * @param found List where item indexes are added
+   */
+  private void collectRing(final int column, final int row, final int ring,
+      final Predicate<T> filter, final List<Integer> found) {
+    for (int j = row - ring; j <= row + ring; j++) {
+      if (j < 0 || j >= rows) {
+        continue;
+      }
+      int step = 1;
+      if (j != row - ring && j != row + ring) {
+        step = Math.max(1, 2 * ring);
+      }
+      for (int i = column - ring; i <= column + ring; i = i + step) {
+        if (i < 0 || i >= columns) {
+          continue;
+        }
+        int cell = i + j * columns;
+        for (int k = 0; k < cellCounts[cell]; k++) {
+          int index = cells[cell][k];
+          if (accept(filter, index)) {
+            found.add(index);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Get nearest item for coordinate.
+   * @param x X coordinate
+   * @param y Y coordinate
+   * @param filter Filter which item must pass, null accepts all items
+   * @return Nearest item or null if no item passes the filter
+   */
+  public T getNearest(final int x, final int y, final Predicate<T> filter) {
+    return getNearest(x, y, Double.MAX_VALUE, filter);
+  }
+
+  /**
+   * Get nearest item for coordinate within maximum distance.
+   * @param x X coordinate
+   * @param y Y coordinate
+   * @param maxDistance Maximum distance, inclusive
+   * @param filter Filter which item must pass, null accepts all items
+   * @return Nearest item or null if no item is found
+   */
+  public T getNearest(final int x, final int y, final double maxDistance,
+      final Predicate<T> filter) {
+    List<T> result = getNearest(x, y, 1, maxDistance, filter);
+    if (result.isEmpty()) {
+      return null;
+    }
+    return result.get(0);
+  }
+
+  /**
+   * Get nearest items for coordinate.
+   * @param x X coordinate
+   * @param y Y coordinate
+   * @param count Maximum number of items to return
+   * @param filter Filter which items must pass, null accepts all items
+   * @return Items sorted by distance, nearest first
+   */
+  public List<T> getNearest(final int x, final int y, final int count,
+      final Predicate<T> filter) {
+    return getNearest(x, y, count, Double.MAX_VALUE, filter);
+  }
+
+  /**
+   * Get nearest items for coordinate within maximum distance.
+   * @param x X coordinate
+   * @param y Y coordinate
+   * @param count Maximum number of items to return
+   * @param maxDistance Maximum distance, inclusive
+   * @param filter Filter which items must pass, null accepts all items
+   * @return Items sorted by distance, nearest first
+   */
+  public List<T> getNearest(final int x, final int y, final int count,
+      final double maxDistance, final Predicate<T> filter) {
+    ArrayList<Integer> found = new ArrayList<>();
+    ArrayList<T> result = new ArrayList<>();
+    if (count < 1) {
+      return result;
+    }
+    int column = getColumn(x);
+    int row = getRow(y);
+    int maxRing = Math.max(columns, rows);
+    for (int ring = 0; ring <= maxRing; ring++) {
+      if (getRingDistance(ring) > maxDistance) {
+        break;
+      }
+      if (found.size() >= count) {
+        // Items on this ring might tie with already found ones,
+        // so ring can be skipped only if found ones are strictly closer.
+        double kth = getDistance(x, y, found.get(count - 1));
+        if (kth < getRingDistance(ring)) {
+          break;
+        }
+      }
+      collectRing(column, row, ring, filter, found);
+      found.removeIf(index -> getDistance(x, y, index) > maxDistance);
+      found.sort((first, second) -> {
+        int cmp = Double.compare(getDistance(x, y, first),
+            getDistance(x, y, second));
+        if (cmp == 0) {
+          cmp = Integer.compare(first, second);
+        }
+        return cmp;
+      });
+    }
+    for (int i = 0; i < found.size() && i < count; i++) {
+      result.add(items.get(found.get(i)));
+    }
+    return result;
+  }
+
+  /**
+   * Get all items within radius from coordinate.
+   * @param x X coordinate
+   * @param y Y coordinate
+   * @param radius Radius, inclusive
+   * @param filter Filter which items must pass, null accepts all items
+   * @return Items in order they were added
+   */
+  public List<T> getWithinRadius(final int x, final int y,
+      final double radius, final Predicate<T> filter) {
+    int reach = (int) Math.ceil(Math.min(radius, Integer.MAX_VALUE / 2));
+    ArrayList<T> result = new ArrayList<>();
+    for (int index : getIndexesWithinArea(x - reach, y - reach, x + reach,
+        y + reach)) {
+      if (getDistance(x, y, index) <= radius && accept(filter, index)) {
+        result.add(items.get(index));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Get all items within rectangle area.
+   * @param minX Minimum X coordinate, inclusive
+   * @param minY Minimum Y coordinate, inclusive
+   * @param maxX Maximum X coordinate, inclusive
+   * @param maxY Maximum Y coordinate, inclusive
+   * @param filter Filter which items must pass, null accepts all items
+   * @return Items in order they were added
+   */
+  public List<T> getWithinArea(final int minX, final int minY,
+      final int maxX, final int maxY, final Predicate<T> filter) {
+    ArrayList<T> result = new ArrayList<>();
+    for (int index : getIndexesWithinArea(minX, minY, maxX, maxY)) {
+      if (accept(filter, index)) {
+        result.add(items.get(index));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Get indexes of all items within rectangle area.
+   * @param minX Minimum X coordinate, inclusive
+   * @param minY Minimum Y coordinate, inclusive
+   * @param maxX Maximum X coordinate, inclusive
+   * @param maxY Maximum Y coordinate, inclusive
+   * @return Item indexes in order they were added
+   */
+  private int[] getIndexesWithinArea(final int minX, final int minY,
+      final int maxX, final int maxY) {
+    int[] found = new int[8];
+    int count = 0;
+    if (maxX < minX || maxY < minY) {
+      return new int[0];
+    }
+    for (int j = getRow(minY); j <= getRow(maxY); j++) {
+      for (int i = getColumn(minX); i <= getColumn(maxX); i++) {
+        int cell = i + j * columns;
+        for (int k = 0; k < cellCounts[cell]; k++) {
+          int index = cells[cell][k];
+          if (itemX[index] >= minX && itemX[index] <= maxX
+              && itemY[index] >= minY && itemY[index] <= maxY) {
+            if (count == found.length) {
+              found = Arrays.copyOf(found, count * 2);
+            }
+            found[count] = index;
+            count++;
+          }
+        }
+      }
+    }
+    found = Arrays.copyOf(found, count);
+    Arrays.sort(found);
+    return found;
+  }
+}
@@ -21,17 +21,23 @@ import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Predicate;
 
 import org.openRealmOfStars.ai.mission.Mission;
 import org.openRealmOfStars.ai.mission.MissionHandling;
 import org.openRealmOfStars.ai.mission.MissionPhase;
 import org.openRealmOfStars.ai.mission.MissionType;
+import org.openRealmOfStars.ai.mission.RealmPlan;
 import org.openRealmOfStars.ai.pathfinding.AStarSearch;
 import org.openRealmOfStars.ai.pathfinding.PathPoint;
 import org.openRealmOfStars.ai.planet.PlanetHandling;
 import org.openRealmOfStars.ai.research.Research;
 import org.openRealmOfStars.audio.soundeffect.SoundPlayer;
 import org.openRealmOfStars.game.Game;
+import org.openRealmOfStars.game.simulation.TurnPhase;
+import org.openRealmOfStars.game.simulation.TurnPhaseTimer;
 import org.openRealmOfStars.gui.icons.Icons;
 import org.openRealmOfStars.mapTiles.FleetTileInfo;
 import org.openRealmOfStars.mapTiles.Tile;
@@ -42,6 +48,7 @@ import org.openRealmOfStars.player.PlayerInfo;
 import org.openRealmOfStars.player.PlayerList;
 import org.openRealmOfStars.player.WinningStrategy;
 import org.openRealmOfStars.player.combat.Combat;
+import org.openRealmOfStars.player.combat.CombatPredictor;
 import org.openRealmOfStars.player.diplomacy.Attitude;
 import org.openRealmOfStars.player.diplomacy.Diplomacy;
 import org.openRealmOfStars.player.diplomacy.DiplomacyBonusList;
@@ -91,9 +98,11 @@ import org.openRealmOfStars.starMap.vote.Votes;
 import org.openRealmOfStars.utilities.DiceGenerator;
 import org.openRealmOfStars.utilities.ErrorLogger;
 import org.openRealmOfStars.utilities.FileIo.IOUtilities;
+import org.openRealmOfStars.utilities.NameIndex;
 import org.openRealmOfStars.utilities.namegenerators.UnrealPlanetNameGenerator;
 import org.openRealmOfStars.utilities.repository.NewsCorpRepository;
 import org.openRealmOfStars.utilities.repository.PlanetRepository;
+import org.openRealmOfStars.utilities.repository.SaveGameChunks;
 import org.openRealmOfStars.utilities.repository.SunRepository;
 
 /**
@@ -217,7 +226,66 @@ public class StarMap {
   /**
    * Fleet tiles on map
    */
-  private FleetTileInfo[][] fleetTiles;
+  private FleetTileIndex fleetTileIndex;
+
+  /**
+   * Navigation grid for path searching. Calculated once per turn.
+   */
+  private NavigationGrid navigationGrid;
+
+  /**
+   * Spatial index for suns. Built when first needed.
+   */
+  private SpatialGrid<Sun> sunGrid;
+
+  /**
+   * Spatial index for planets. Built when first needed.
+   */
+  private SpatialGrid<Planet> planetGrid;
+
+  /**
+   * Suns by name. Built when first needed.
+   */
+  private NameIndex<Sun> sunNames;
+
+  /**
+   * Planets by name. Built when first needed.
+   */
+  private NameIndex<Planet> planetNames;
+
+  /**
+   * Production ledger for realms. Calculated once per turn and after
+   * production affecting changes.
+   */
+  private ProductionLedger productionLedger;
+
+  /**
+   * Number of changes in sector tiles and culture. Views drawn from
+   * sectors stay valid while this does not change.
+   */
+  private int sectorChanges;
+
+  /**
+   * Culture sources which have added culture into map.
+   */
+  private CultureField cultureField;
+
+  /**
+   * Scan stamp for each sector. Sector is already handled in
+   * current scan if it has the current scan stamp.
+   */
+  private int[][] scanVisited;
+
+  /**
+   * Second scan stamp for each sector. Used for marking sectors
+   * revealed by telescope and tutorials checked during realm scan.
+   */
+  private int[][] scanMarked;
+
+  /**
+   * Latest scan stamp.
+   */
+  private int scanStamp;
 
   /**
    * AI turn number
@@ -229,6 +297,22 @@ public class StarMap {
    */
   private Fleet aiFleet;
 
+  /**
+   * Mission plans for AI realms for current AI turn.
+   */
+  private RealmPlan[] realmPlans;
+
+  /**
+   * Are AI realm plans and combat predictions calculated in single
+   * thread.
+   */
+  private boolean serialPlanning;
+
+  /**
+   * Combat predictor for AI fleet decisions. Created when first needed.
+   */
+  private CombatPredictor combatPredictor;
+
   /**
    * News corporation data
    */
@@ -622,6 +706,16 @@ public class StarMap {
    * @throws IOException if there is any problem with DataInputStream
    */
   public StarMap(final DataInputStream dis) throws IOException {
+    this(new SaveGameChunks(dis));
+  }
+
+  /**
+   * Initialize StarMap from save game chunks. If chunks are mapped
+   * into single stream then data is read in same order as it is written.
+   * @param chunks SaveGameChunks
+   * @throws IOException if there is any problem with reading chunks
+   */
+  public StarMap(final SaveGameChunks chunks) throws IOException {
     zoomLevel = Tile.ZOOM_NORMAL;
     setDebug(false);
     setHumanLost(false);
@@ -631,6 +725,7 @@ public class StarMap {
     tutorialEnabled = false;
     setPirateDifficulty(PirateDifficultLevel.NORMAL);
     karmaEvents = new KarmaEvents(KarmaType.DISABLED, 0);
+    DataInputStream dis = chunks.getInput(SaveGameChunks.HEADER);
     String str = IOUtilities.readString(dis);
     if (str.equals(MAGIC_STRING)) {
       turn = dis.readInt();
@@ -651,23 +746,32 @@ public class StarMap {
       culture = new CulturePower[maxX][maxY];
       sunList = new ArrayList<>();
       planetList = new ArrayList<>();
+      sunGrid = null;
+      planetGrid = null;
+      sunNames = null;
+      planetNames = null;
       tiles = new int[maxX][maxY];
       tileInfo = new SquareInfo[maxX][maxY];
 
       // Map data itself
+      DataInputStream tileDis = chunks.getInput(SaveGameChunks.TILES);
+      DataInputStream sectorDis = chunks.getInput(SaveGameChunks.SECTORS);
       for (int x = 0; x < maxX; x++) {
         for (int y = 0; y < maxY; y++) {
-          tiles[x][y] = dis.readInt();
-          tileInfo[x][y] = new SquareInfo(dis);
+          tiles[x][y] = tileDis.readInt();
+          tileInfo[x][y] = new SquareInfo(sectorDis);
         }
       }
       // Read suns
-      int count = dis.readInt();
+      DataInputStream planetDis = chunks.getInput(SaveGameChunks.PLANETS);
+      int count = planetDis.readInt();
       for (int i = 0; i < count; i++) {
-        sunList.add(new SunRepository().restoreSun(dis));
+        sunList.add(new SunRepository().restoreSun(planetDis));
       }
       // Players first
-      players = new PlayerList(dis);
+      players = new PlayerList(chunks.getInput(SaveGameChunks.REALMS),
+          chunks.getInput(SaveGameChunks.FLEETS),
+          chunks.getInput(SaveGameChunks.VISIBILITY));
       // Handle realm lost.
       for (int i = 0; i < players.getCurrentMaxRealms(); i++) {
         PlayerInfo info = players.getPlayerInfoByIndex(i);
@@ -687,18 +791,21 @@ public class StarMap {
           culture[x][y] = new CulturePower(players.getCurrentMaxPlayers());
         }
       }
-      count = dis.readInt();
+      count = planetDis.readInt();
       for (int i = 0; i < count; i++) {
-        Planet planet = new PlanetRepository().restorePlanet(dis, players);
+        Planet planet = new PlanetRepository().restorePlanet(planetDis,
+            players);
         planetList.add(planet);
       }
-      int ascensionX = dis.readInt();
-      int ascensionY = dis.readInt();
+      int ascensionX = planetDis.readInt();
+      int ascensionY = planetDis.readInt();
       ascensionPlanetCoordinate = new Coordinate(ascensionX, ascensionY);
+      dis = chunks.getInput(SaveGameChunks.NEWS);
       setAllNewsEnabled(dis.readBoolean());
       NewsCorpRepository newsCorpRepo = new NewsCorpRepository();
       newsCorpData = newsCorpRepo.restoreNewsCorp(dis,
           players.getCurrentMaxRealms());
+      dis = chunks.getInput(SaveGameChunks.GAME);
       votes = new Votes(dis, players.getCurrentMaxRealms());
       int value = dis.read();
       if (value == 1) {
@@ -713,7 +820,8 @@ public class StarMap {
         shownTutorialIndexes.add(intValue);
       }
       try {
-        history = History.readFromStream(dis);
+        history = History.readFromStream(
+            chunks.getInput(SaveGameChunks.HISTORY));
       } catch (IOException e) {
         ErrorLogger.log("Failed reading history data,"
             + " maybe save is missing it.");
@@ -737,6 +845,19 @@ public class StarMap {
    * @throws IOException if there is any problem with DataOutputStream
    */
   public void saveGame(final DataOutputStream dos) throws IOException {
+    saveGame(new SaveGameChunks(dos));
+  }
+
+  /**
+   * Save Game to save game chunks. If chunks are mapped into single
+   * stream then data is written in old single stream order.
+   * Before calling this remove to update shown tutorial indexes
+   * from tutorial.
+   * @param chunks SaveGameChunks
+   * @throws IOException if there is any problem with writing chunks
+   */
+  public void saveGame(final SaveGameChunks chunks) throws IOException {
+    DataOutputStream dos = chunks.getOutput(SaveGameChunks.HEADER);
     IOUtilities.writeString(dos, MAGIC_STRING);
     // Turn number
     dos.writeInt(turn);
@@ -754,29 +875,36 @@ public class StarMap {
     dos.writeInt(maxX);
     dos.writeInt(maxY);
     // Map data itself
+    DataOutputStream tileDos = chunks.getOutput(SaveGameChunks.TILES);
+    DataOutputStream sectorDos = chunks.getOutput(SaveGameChunks.SECTORS);
     for (int x = 0; x < maxX; x++) {
       for (int y = 0; y < maxY; y++) {
-        dos.writeInt(tiles[x][y]);
-        tileInfo[x][y].writeSquareInfo(dos);
+        tileDos.writeInt(tiles[x][y]);
+        tileInfo[x][y].writeSquareInfo(sectorDos);
       }
     }
     // Write suns
-    dos.writeInt(sunList.size());
+    DataOutputStream planetDos = chunks.getOutput(SaveGameChunks.PLANETS);
+    planetDos.writeInt(sunList.size());
     for (int i = 0; i < sunList.size(); i++) {
       Sun sun = sunList.get(i);
-      new SunRepository().saveSun(dos, sun);
+      new SunRepository().saveSun(planetDos, sun);
     }
     // Players first
-    players.savePlayerList(dos);
-    dos.writeInt(planetList.size());
+    players.savePlayerList(chunks.getOutput(SaveGameChunks.REALMS),
+        chunks.getOutput(SaveGameChunks.FLEETS),
+        chunks.getOutput(SaveGameChunks.VISIBILITY));
+    planetDos.writeInt(planetList.size());
     for (int i = 0; i < planetList.size(); i++) {
-      new PlanetRepository().savePlanet(dos, planetList.get(i));
+      new PlanetRepository().savePlanet(planetDos, planetList.get(i));
     }
-    dos.writeInt(getAscensionPlanetCoordinate().getX());
-    dos.writeInt(getAscensionPlanetCoordinate().getY());
+    planetDos.writeInt(getAscensionPlanetCoordinate().getX());
+    planetDos.writeInt(getAscensionPlanetCoordinate().getY());
+    dos = chunks.getOutput(SaveGameChunks.NEWS);
     dos.writeBoolean(allNewsEnabled);
     NewsCorpRepository newsCorpRepo = new NewsCorpRepository();
     newsCorpRepo.saveNewsCorp(dos, newsCorpData);
+    dos = chunks.getOutput(SaveGameChunks.GAME);
     votes.saveVotes(dos);
     if (tutorialEnabled) {
       dos.writeByte(1);
@@ -788,7 +916,7 @@ public class StarMap {
       Integer value = shownTutorialIndexes.get(i);
       dos.write(IOUtilities.convertIntTo16BitMsb(value.intValue()));
     }
-    history.writeToStream(dos);
+    history.writeToStream(chunks.getOutput(SaveGameChunks.HISTORY));
   }
 
   /**
@@ -900,6 +1028,22 @@ public class StarMap {
     }
     return type;
   }
+  /**
+   * Is sun in list of suns to ignore.
+   * @param sun Sun to check
+   * @param ignoreSuns Names of suns to ignore
+   * @return True if sun should be ignored
+   */
+  private static boolean isIgnoredSun(final Sun sun,
+      final String[] ignoreSuns) {
+    for (String ignoresun : ignoreSuns) {
+      if (sun.getName().equals(ignoresun)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * Get nearest uncharted Solar system for coordinate. This should never
    * return null. Unless there are no suns in galaxy. This might not always
@@ -934,21 +1078,29 @@ public class StarMap {
       yellowStarDistance = 0;
     }
 
+    // Star type penalties only increase distance, so two nearest
+    // uncharted suns and suns within penalty from those are enough
+    // for finding two best choices. All suns are needed only for finding
+    // least charted sun.
+    Predicate<Sun> uncharted50 = sun -> !isIgnoredSun(sun, ignoreSuns)
+        && info.getUnchartedValueSystem(sun) > 50;
+    List<Sun> nearest = getSunGrid().getNearest(x, y, 2, uncharted50);
+    List<Sun> candidates = sunList;
+    if (!nearest.isEmpty()) {
+      Sun furthest = nearest.get(nearest.size() - 1);
+      double range = new Coordinate(x, y).calculateDistance(
+          furthest.getCenterCoordinate())
+          + Math.max(blueStarDistance, yellowStarDistance);
+      candidates = getSunGrid().getWithinRadius(x, y, range, uncharted50);
+    }
     Sun result = null;
     Sun secondChoice = null;
     double secondDistance = LONGEST_DISTANCE;
     int leastChartedValue = 100;
     Sun leastCharted = null;
     double leastChartedDist = LONGEST_DISTANCE;
-    for (Sun sun : sunList) {
-      boolean ignore = false;
-      for (String ignoresun : ignoreSuns) {
-        if (sun.getName().equals(ignoresun)) {
-          ignore = true;
-          break;
-        }
-      }
-      if (ignore) {
+    for (Sun sun : candidates) {
+      if (isIgnoredSun(sun, ignoreSuns)) {
         continue;
       }
       Coordinate coordinate = new Coordinate(x, y);
@@ -1005,50 +1157,58 @@ public class StarMap {
   private Sun getNearestSolarSystem(final int x, final int y,
       final PlayerInfo info, final String ignoreSun,
       final boolean second) {
-    double distance = LONGEST_DISTANCE;
-    Sun result = null;
-    Sun secondChoice = null;
-    double secondDistance = LONGEST_DISTANCE;
+    boolean skipMissions = info.getAiDifficulty() == AiDifficulty.NORMAL
+        || info.getAiDifficulty() == AiDifficulty.CHALLENGING;
+    // Suns already being explored are skipped once any charted sun
+    // has been found in sun list order.
+    int[] firstCharted = {-1};
+    Predicate<Sun> skipped = sun -> {
+      if (!skipMissions
+          || info.getMissions().getExploringForSun(sun.getName()) == null) {
+        return false;
+      }
+      if (firstCharted[0] == -1) {
+        firstCharted[0] = getFirstChartedSun(info);
+      }
+      return sunList.indexOf(sun) > firstCharted[0];
+    };
+    List<Sun> nearest = getSunGrid().getNearest(x, y, 2,
+        sun -> !sun.getName().equals(ignoreSun) && !skipped.test(sun)
+        && info.getUnchartedValueSystem(sun) > 50);
+    if (!nearest.isEmpty()) {
+      if (nearest.size() > 1 && second && !DiceGenerator.getBoolean()) {
+        return nearest.get(1);
+      }
+      return nearest.get(0);
+    }
     int leastChartedValue = 100;
     Sun leastCharted = null;
-    Coordinate coordinate = new Coordinate(x, y);
     for (Sun sun : sunList) {
-      if (info.getAiDifficulty() == AiDifficulty.NORMAL
-          || info.getAiDifficulty() == AiDifficulty.CHALLENGING) {
-        Mission mission = info.getMissions().getExploringForSun(sun.getName());
-        if (mission != null && leastCharted != null) {
-          continue;
-        }
-      }
-      double dist = coordinate.calculateDistance(sun.getCenterCoordinate());
-      if (ignoreSun != null && ignoreSun.equals(sun.getName())) {
-        dist = LONGEST_DISTANCE;
-      }
-      if (dist < distance && info.getUnchartedValueSystem(sun) > 50) {
-        secondDistance = distance;
-        distance = dist;
-        secondChoice = result;
-        result = sun;
-      } else if (dist < secondDistance
-          && info.getUnchartedValueSystem(sun) > 50) {
-        secondDistance = dist;
-        secondChoice = sun;
+      if (skipMissions && leastCharted != null
+          && info.getMissions().getExploringForSun(sun.getName()) != null) {
+        continue;
       }
-      if (info.getUnchartedValueSystem(sun) < leastChartedValue) {
+      int uncharted = info.getUnchartedValueSystem(sun);
+      if (uncharted < leastChartedValue) {
         leastCharted = sun;
-        leastChartedValue = info.getUnchartedValueSystem(sun);
+        leastChartedValue = uncharted;
       }
     }
-    if (result != null && secondChoice != null && second) {
-      if (DiceGenerator.getBoolean()) {
-        return result;
+    return leastCharted;
+  }
+
+  /**
+   * Get index of first sun in sun list which is not completely uncharted.
+   * @param info Realm whose charting is checked
+   * @return Sun index or size of sun list if all suns are uncharted
+   */
+  private int getFirstChartedSun(final PlayerInfo info) {
+    for (int i = 0; i < sunList.size(); i++) {
+      if (info.getUnchartedValueSystem(sunList.get(i)) < 100) {
+        return i;
       }
-      return secondChoice;
     }
-    if (result != null) {
-      return result;
-    }
-    return leastCharted;
+    return sunList.size();
   }
 
   /**
@@ -1065,19 +1225,9 @@ public class StarMap {
    */
   public Sun getNearestSolarSystemForLeastLiked(final int x, final int y,
       final PlayerInfo info, final int leastLiked) {
-    double distance = LONGEST_DISTANCE;
-    Planet targetPlanet = null;
-    for (Planet planet : planetList) {
-      Coordinate coordinate = new Coordinate(x, y);
-      if (info.getSectorVisibility(planet.getCoordinate()) > 0
-          && planet.getPlanetOwnerIndex() == leastLiked) {
-        double dist = coordinate.calculateDistance(planet.getCoordinate());
-        if (dist < distance) {
-          distance = dist;
-          targetPlanet = planet;
-        }
-      }
-    }
+    Planet targetPlanet = getPlanetGrid().getNearest(x, y,
+        planet -> info.getSectorVisibility(planet.getCoordinate()) > 0
+        && planet.getPlanetOwnerIndex() == leastLiked);
     Sun result = null;
     if (targetPlanet != null) {
       result = locateSolarSystem(targetPlanet.getX(), targetPlanet.getY());
@@ -1099,20 +1249,7 @@ public class StarMap {
    * @return Sun or null if outside of solar systems.
    */
   public Sun getNearesetSolarSystem(final int x, final int y) {
-    Sun nearestStar = null;
-    double distance = 999.9;
-    Coordinate coord = new Coordinate(x, y);
-    for (Sun star : sunList) {
-      double dist = star.getCenterCoordinate().calculateDistance(coord);
-      if (dist < distance) {
-        distance = dist;
-        nearestStar = star;
-      }
-    }
-    if (nearestStar != null && distance > 10) {
-      nearestStar = null;
-    }
-    return nearestStar;
+    return getSunGrid().getNearest(x, y, 10.0, null);
   }
   /**
    * Get starmap maximum X coordinate
@@ -1172,6 +1309,8 @@ public class StarMap {
   public void setTile(final int x, final int y, final Tile tile) {
     if (isValidCoordinate(x, y)) {
       tiles[x][y] = tile.getIndex();
+      sectorChanges++;
+      updateNavigationSector(x, y);
     }
   }
 
@@ -1184,6 +1323,8 @@ public class StarMap {
   public void setTile(final int x, final int y, final int tileIndex) {
     if (isValidCoordinate(x, y)) {
       tiles[x][y] = tileIndex;
+      sectorChanges++;
+      updateNavigationSector(x, y);
     }
   }
 
@@ -1198,6 +1339,7 @@ public class StarMap {
       final int value) {
     if (isValidCoordinate(x, y)) {
       tileInfo[x][y] = new SquareInfo(squareType, value);
+      updateNavigationSector(x, y);
     }
   }
   /**
@@ -1209,46 +1351,55 @@ public class StarMap {
   public void setSquareInfo(final int x, final int y, final SquareInfo info) {
     if (isValidCoordinate(x, y)) {
       tileInfo[x][y] = info;
+      updateNavigationSector(x, y);
     }
   }
   /**
-   * Get the fleet tiles from the map.
-   * These fleet positions are always calculated.
-   * This method always refreshes fleet tiles
-   * @return FleetTiles
+   * Get navigation grid for path searching. Grid is calculated
+   * again when turn or realms' fleet lists have changed. Otherwise
+   * fleet tile index keeps grid up to date.
+   * @return NavigationGrid
    */
-  public FleetTileInfo[][] getFleetTiles() {
-    return getFleetTiles(true);
+  public synchronized NavigationGrid getNavigationGrid() {
+    if (fleetTileIndex == null) {
+      fleetTileIndex = new FleetTileIndex(this);
+    }
+    fleetTileIndex.attachFleetLists();
+    if (navigationGrid == null || navigationGrid.getTurn() != turn
+        || fleetTileIndex.getNavigationGrid() != navigationGrid) {
+      navigationGrid = new NavigationGrid(this);
+      fleetTileIndex.setNavigationGrid(navigationGrid);
+    }
+    return navigationGrid;
   }
 
   /**
-   * Clear fleet tiles and when next time received fleet tiles will
-   * be generated.
+   * Update single sector in navigation grid if grid has been calculated.
+   * @param x X coordinate
+   * @param y Y coordinate
    */
-  public void clearFleetTiles() {
-    fleetTiles = null;
+  private void updateNavigationSector(final int x, final int y) {
+    if (navigationGrid != null) {
+      navigationGrid.updateSector(x, y);
+    }
   }
 
   /**
-   * Set Fleet tile for certain position. If position already contains fleet
-   * tile and realm is different then tile is being marked as conflict.
-   * @param x X coordinate
-   * @param y Y Coordinate
-   * @param info FleetTileInfo
+   * Get the fleet tiles from the map.
+   * Sectors where fleets have been added, moved or removed are
+   * updated before returning.
+   * @return FleetTiles
    */
-  private void setFleetTile(final int x, final int y,
-      final FleetTileInfo info) {
-    if (fleetTiles[x][y] != null) {
-      int oldIndex = fleetTiles[x][y].getConflictIndex();
-      if (oldIndex == -1) {
-        oldIndex = fleetTiles[x][y].getPlayerIndex();
-      }
-      fleetTiles[x][y] = info;
-      if (fleetTiles[x][y].getPlayerIndex() != oldIndex) {
-        fleetTiles[x][y].setConflict(oldIndex);
-      }
-    } else {
-      fleetTiles[x][y] = info;
+  public FleetTileInfo[][] getFleetTiles() {
+    return getFleetTiles(false);
+  }
+
+  /**
+   * Mark all fleet tiles to be resolved again when next time received.
+   */
+  public void clearFleetTiles() {
+    if (fleetTileIndex != null) {
+      fleetTileIndex.markAllChanged();
     }
   }
 
@@ -1280,100 +1431,18 @@ public class StarMap {
   }
   /**
    * Get the fleet tiles from the map.
-   * These fleet positions are always calculated
-   * @param refresh If true new fleet tiles are always generated
+   * Sectors where fleets have been added, moved or removed are
+   * updated before returning.
+   * @param refresh If true fleet stacking is resolved again for all
+   *        sectors with fleets. This is needed if fleet's ships have
+   *        changed without fleet moving.
    * @return FleetTiles
    */
   public FleetTileInfo[][] getFleetTiles(final boolean refresh) {
-    if (refresh || fleetTiles == null) {
-      fleetTiles = new FleetTileInfo[maxX][maxY];
-      for (int x = 0; x < maxX; x++) {
-        for (int y = 0; y < maxY; y++) {
-          fleetTiles[x][y] = null;
-        }
-      }
-      for (int i = 0; i < players.getCurrentMaxPlayers(); i++) {
-        PlayerInfo player = players.getPlayerInfoByIndex(i);
-        for (int j = 0; j < player.getFleets().getNumberOfFleets(); j++) {
-          Fleet fleet = player.getFleets().getByIndex(j);
-          if (fleet != null && fleetTiles[fleet.getX()][fleet.getY()] == null
-              && fleet.getFirstShip() != null) {
-            Ship ship = fleet.getBiggestShip();
-            FleetTileInfo info = new FleetTileInfo(
-                ship.getHull().getRace(),
-                ship.getHull().getImageIndex(), i, j);
-            setFleetTile(fleet.getX(), fleet.getY(), info);
-          } else {
-            for (int k = 0; k < player.getFleets().getNumberOfFleets(); k++) {
-              if (j != k) {
-                Fleet fleet2 = player.getFleets().getByIndex(k);
-                if (fleet2 != null &&  fleet != null
-                    && fleet2.getX() == fleet.getX()
-                    && fleet2.getY() == fleet.getY()
-                    && fleet2.getNumberOfShip() > 0) {
-                  if (fleet2.getFleetCloackingValue()
-                      < fleet.getFleetCloackingValue()) {
-                    Ship ship = fleet2.getBiggestShip();
-                    FleetTileInfo info = new FleetTileInfo(
-                        ship.getHull().getRace(),
-                        ship.getHull().getImageIndex(), i, k);
-                    setFleetTile(fleet2.getX(), fleet2.getY(), info);
-                  } else if (fleet2.getFleetCloackingValue()
-                      > fleet.getFleetCloackingValue()) {
-                    Ship ship = fleet.getBiggestShip();
-                    if (ship != null) {
-                      FleetTileInfo info = new FleetTileInfo(
-                          ship.getHull().getRace(),
-                          ship.getHull().getImageIndex(), i, j);
-                      setFleetTile(fleet.getX(), fleet.getY(), info);
-                    }
-                  } else if (fleet2.getMilitaryValue()
-                      > fleet.getMilitaryValue()) {
-                    Ship ship = fleet2.getBiggestShip();
-                    FleetTileInfo info = new FleetTileInfo(
-                        ship.getHull().getRace(),
-                        ship.getHull().getImageIndex(), i, k);
-                    setFleetTile(fleet2.getX(), fleet2.getY(), info);
-                  } else {
-                    Ship ship = fleet.getBiggestShip();
-                    if (ship != null) {
-                      FleetTileInfo info = new FleetTileInfo(
-                          ship.getHull().getRace(),
-                          ship.getHull().getImageIndex(), i, j);
-                      setFleetTile(fleet.getX(), fleet.getY(), info);
-                    }
-                  }
-                  if (fleet2.isStarBaseDeployed()) {
-                    Ship ship = fleet2.getBiggestShip();
-                    FleetTileInfo info = new FleetTileInfo(
-                        ship.getHull().getRace(),
-                        ship.getHull().getImageIndex(), i, k);
-                    setFleetTile(fleet2.getX(), fleet2.getY(), info);
-                  } else if (fleet.isStarBaseDeployed()) {
-                    Ship ship = fleet.getBiggestShip();
-                    FleetTileInfo info = new FleetTileInfo(
-                        ship.getHull().getRace(),
-                        ship.getHull().getImageIndex(), i, j);
-                    setFleetTile(fleet.getX(), fleet.getY(), info);
-                  }
-                }
-              }
-            }
-          }
-        }
-      }
-      for (int i = 0; i < planetList.size(); i++) {
-        Planet planet = planetList.get(i);
-        if (fleetTiles[planet.getX()][planet.getY()] == null
-            && planet.getOrbital() != null) {
-          FleetTileInfo info = new FleetTileInfo(
-              planet.getOrbital().getHull().getRace(),
-              planet.getOrbital().getHull().getImageIndex(), i);
-          setFleetTile(planet.getX(), planet.getY(), info);
-        }
-      }
+    if (fleetTileIndex == null) {
+      fleetTileIndex = new FleetTileIndex(this);
     }
-    return fleetTiles;
+    return fleetTileIndex.getTiles(refresh);
   }
 
   /**
@@ -1468,12 +1537,13 @@ public class StarMap {
    * @return Sun or null
    */
   public Sun getSunByName(final String sunName) {
-    for (Sun sun : sunList) {
-      if (sun.getName().equals(sunName)) {
-        return sun;
-      }
+    if (sunNames == null) {
+      sunNames = new NameIndex<>(Sun::getName);
     }
-    return null;
+    if (!sunNames.isValid(sunList.size())) {
+      sunNames.build(sunList);
+    }
+    return sunNames.getFirst(sunName);
   }
 
   /**
@@ -1494,17 +1564,32 @@ public class StarMap {
   }
 
   /**
-   * Find planet by name
+   * Find planet by name. Name index is built on first search and AI
+   * realm plans search planets concurrently, so search is synchronized.
    * @param name Name to search
    * @return Planet or null if not found
    */
-  public Planet getPlanetByName(final String name) {
-    for (Planet planet : planetList) {
-      if (planet.getName().equals(name)) {
-        return planet;
+  public synchronized Planet getPlanetByName(final String name) {
+    if (planetNames == null) {
+      planetNames = new NameIndex<>(Planet::getName);
+    }
+    if (!planetNames.isValid(planetList.size())) {
+      planetNames.build(planetList);
+      for (Planet planet : planetList) {
+        planet.setNameIndexMap(this);
       }
     }
-    return null;
+    return planetNames.getFirst(name);
+  }
+
+  /**
+   * Mark that planet in planet list has been renamed. Planet name index
+   * is built again before next search.
+   */
+  public synchronized void markPlanetRenamed() {
+    if (planetNames != null) {
+      planetNames.invalidate();
+    }
   }
 
   /**
@@ -1514,11 +1599,8 @@ public class StarMap {
    * @return Fleet or null
    */
   public Fleet getFleetByCoordinate(final int x, final int y) {
-    if (fleetTiles == null) {
-      getFleetTiles();
-    }
-    if (isValidCoordinate(x, y) && fleetTiles != null
-        && fleetTiles[x][y] != null) {
+    FleetTileInfo[][] fleetTiles = getFleetTiles(false);
+    if (isValidCoordinate(x, y) && fleetTiles[x][y] != null) {
       int playerIndex = fleetTiles[x][y].getPlayerIndex();
       return getBiggestFleet(new Coordinate(x, y), playerIndex);
     }
@@ -1534,11 +1616,8 @@ public class StarMap {
     if (fleet != null) {
       int x = fleet.getX();
       int y = fleet.getY();
-      if (fleetTiles == null) {
-        getFleetTiles();
-      }
-      if (isValidCoordinate(x, y) && fleetTiles != null
-          && fleetTiles[x][y] != null) {
+      FleetTileInfo[][] fleetTiles = getFleetTiles(false);
+      if (isValidCoordinate(x, y) && fleetTiles[x][y] != null) {
         int playerIndex = fleetTiles[x][y].getPlayerIndex();
         return players.getPlayerInfoByIndex(playerIndex);
       }
@@ -1559,6 +1638,39 @@ public class StarMap {
    */
   public void setPlanetList(final ArrayList<Planet> list) {
     planetList = list;
+    planetGrid = null;
+    planetNames = null;
+  }
+
+  /**
+   * Get spatial index for suns. Index is built again if sun list has
+   * changed.
+   * @return Spatial grid of suns by center coordinate
+   */
+  public SpatialGrid<Sun> getSunGrid() {
+    if (sunGrid == null || sunGrid.size() != sunList.size()) {
+      sunGrid = new SpatialGrid<>(maxX, maxY, SpatialGrid.DEFAULT_CELL_SIZE);
+      for (Sun sun : sunList) {
+        sunGrid.add(sun, sun.getCenterX(), sun.getCenterY());
+      }
+    }
+    return sunGrid;
+  }
+
+  /**
+   * Get spatial index for planets. Planets are in same order as in
+   * planet list. Index is built again if planet list has changed.
+   * @return Spatial grid of planets
+   */
+  public SpatialGrid<Planet> getPlanetGrid() {
+    if (planetGrid == null || planetGrid.size() != planetList.size()) {
+      planetGrid = new SpatialGrid<>(maxX, maxY,
+          SpatialGrid.DEFAULT_CELL_SIZE);
+      for (Planet planet : planetList) {
+        planetGrid.add(planet, planet.getX(), planet.getY());
+      }
+    }
+    return planetGrid;
   }
 
   /**
@@ -1569,18 +1681,8 @@ public class StarMap {
    */
   public Planet getClosestHomePort(final PlayerInfo info,
       final Coordinate currentPos) {
-    double distance = 9999.0;
-    Planet result = null;
-    for (Planet planet : planetList) {
-      if (planet.getPlanetPlayerInfo() == info) {
-        double dist = currentPos.calculateDistance(planet.getCoordinate());
-        if (dist < distance) {
-          distance = dist;
-          result = planet;
-        }
-      }
-    }
-    return result;
+    return getPlanetGrid().getNearest(currentPos.getX(), currentPos.getY(),
+        planet -> planet.getPlanetPlayerInfo() == info);
   }
   /**
    * Get Fleet by fleetTile
@@ -1642,8 +1744,8 @@ public class StarMap {
    */
   public Combat fightWithFleet(final int x, final int y, final Fleet fleet1,
       final PlayerInfo info1) {
-    if (isValidCoordinate(x, y) && fleetTiles != null
-        && fleetTiles[x][y] != null) {
+    FleetTileInfo[][] fleetTiles = getFleetTiles(false);
+    if (isValidCoordinate(x, y) && fleetTiles[x][y] != null) {
       int playerIndex = fleetTiles[x][y].getPlayerIndex();
       PlayerInfo info2 = players.getPlayerInfoByIndex(playerIndex);
       if (info1 != info2) {
@@ -1683,6 +1785,14 @@ public class StarMap {
     return null;
   }
 
+  /**
+   * Get number of changes in sector tiles and culture.
+   * @return Number of sector changes
+   */
+  public int getSectorChanges() {
+    return sectorChanges;
+  }
+
   /**
    * Which turn is now going on?
    * @return the turn
@@ -1731,6 +1841,74 @@ public class StarMap {
     aiTurnNumber = 0;
     aiFleet = null;
     aiOrAutomateTakingMoves = false;
+    realmPlans = null;
+  }
+
+  /**
+   * Make mission plans for all AI realms if those have not been made
+   * yet for current AI turn.
+   */
+  public void makeRealmPlans() {
+    if (realmPlans == null) {
+      realmPlans = RealmPlan.planRealms(this, serialPlanning);
+    }
+  }
+
+  /**
+   * Are AI realm plans and combat predictions calculated in single
+   * thread.
+   * @return True if plans are calculated in single thread
+   */
+  public boolean isSerialPlanning() {
+    return serialPlanning;
+  }
+
+  /**
+   * Set AI realm plans and combat predictions to be calculated in
+   * single thread. This is mainly for reproducing bugs.
+   * @param serial True for single thread planning
+   */
+  public void setSerialPlanning(final boolean serial) {
+    serialPlanning = serial;
+    if (combatPredictor != null) {
+      combatPredictor.setSerialSimulation(serial);
+    }
+  }
+
+  /**
+   * Get combat predictor for AI fleet decisions.
+   * @return CombatPredictor
+   */
+  public CombatPredictor getCombatPredictor() {
+    if (combatPredictor == null) {
+      combatPredictor = new CombatPredictor();
+      combatPredictor.setSerialSimulation(serialPlanning);
+    }
+    return combatPredictor;
+  }
+
+  /**
+   * Get mission plan for realm made in current AI turn.
+   * @param index Realm index
+   * @return Realm plan or null if plan is not available
+   */
+  public RealmPlan getRealmPlan(final int index) {
+    if (realmPlans != null && index >= 0 && index < realmPlans.length) {
+      return realmPlans[index];
+    }
+    return null;
+  }
+
+  /**
+   * Get mission plan for realm made in current AI turn.
+   * @param info Realm
+   * @return Realm plan or null if plan is not available
+   */
+  public RealmPlan getRealmPlan(final PlayerInfo info) {
+    if (realmPlans != null) {
+      return getRealmPlan(players.getIndex(info));
+    }
+    return null;
   }
 
   /**
@@ -1968,23 +2146,34 @@ public class StarMap {
         MissionHandling.findScoutShipForMission(info, mission);
       }
       // Handle research
-      Research.handle(info);
-      Research.removeUnusedAndObsoleteDesigns(info, this);
-      ArrayList<Message> messages = info.getMsgList().getFullList();
-      for (Message msg : messages) {
-        if (msg.getType().equals(MmType.RESEARCH)) {
-          Research.handleShipDesigns(info, this.getVotes().areNukesBanned(),
-              this.getVotes().arePrivateersBanned(),
-              getAscensionEvents().getAscensionActivation(), this);
-          break;
+      TurnPhaseTimer.enter(TurnPhase.RESEARCH);
+      try {
+        Research.handle(info);
+        Research.removeUnusedAndObsoleteDesigns(info, this);
+        ArrayList<Message> messages = info.getMsgList().getFullList();
+        for (Message msg : messages) {
+          if (msg.getType().equals(MmType.RESEARCH)) {
+            Research.handleShipDesigns(info,
+                this.getVotes().areNukesBanned(),
+                this.getVotes().arePrivateersBanned(),
+                getAscensionEvents().getAscensionActivation(), this);
+            break;
+          }
         }
+      } finally {
+        TurnPhaseTimer.exit();
       }
-      for (int j = 0; j < planetList.size(); j++) {
-        // Handle planets
-        Planet planet = planetList.get(j);
-        if (planet.getPlanetPlayerInfo() == info) {
-          PlanetHandling.handlePlanet(this, planet, aiTurnNumber);
+      TurnPhaseTimer.enter(TurnPhase.PLANETS);
+      try {
+        for (int j = 0; j < planetList.size(); j++) {
+          // Handle planets
+          Planet planet = planetList.get(j);
+          if (planet.getPlanetPlayerInfo() == info) {
+            PlanetHandling.handlePlanet(this, planet, aiTurnNumber);
+          }
         }
+      } finally {
+        TurnPhaseTimer.exit();
       }
       // Handle Leaders
       if (info.getRuler() == null && info.areLeadersDead()) {
@@ -2103,6 +2292,53 @@ public class StarMap {
    */
   public void doFleetScanUpdate(final PlayerInfo info, final Fleet fleet,
       final Planet planet) {
+    doScanUpdate(info, fleet, planet, nextScanStamp());
+  }
+
+  /**
+   * Do scan update for all fleets and planets of the realm in one pass.
+   * Each sector is checked for tutorial only once during the pass.
+   * @param info Realm doing the scan
+   */
+  public void doRealmScanUpdate(final PlayerInfo info) {
+    int pass = nextScanStamp();
+    // Copy fleets since fleet can leave the galaxy during the scan
+    ArrayList<Fleet> fleets = new ArrayList<>();
+    for (int i = 0; i < info.getFleets().getNumberOfFleets(); i++) {
+      fleets.add(info.getFleets().getByIndex(i));
+    }
+    for (Fleet fleet : fleets) {
+      doScanUpdate(info, fleet, null, pass);
+    }
+    for (Planet planet : planetList) {
+      if (planet.getPlanetPlayerInfo() == info) {
+        doScanUpdate(info, null, planet, pass);
+      }
+    }
+  }
+
+  /**
+   * Get next scan stamp. Scan grids are created when needed.
+   * @return Scan stamp
+   */
+  private int nextScanStamp() {
+    if (scanVisited == null) {
+      scanVisited = new int[maxX][maxY];
+      scanMarked = new int[maxX][maxY];
+    }
+    scanStamp++;
+    return scanStamp;
+  }
+
+  /**
+   * Do Fleet/Planet scan Update for star map.
+   * @param info Player who controls the fleet
+   * @param fleet Fleet which is doing the rescan
+   * @param planet Planet which is doing the rescan
+   * @param pass Scan stamp for whole realm pass
+   */
+  private void doScanUpdate(final PlayerInfo info, final Fleet fleet,
+      final Planet planet, final int pass) {
     forceRedraw = true;
     int scanRad = -1;
     int cloakDetection = 0;
@@ -2151,12 +2387,67 @@ public class StarMap {
       }
     }
     if (scanRad != -1) {
-      for (int y = -scanRad; y < scanRad + 1; y++) {
-        for (int x = -scanRad; x < scanRad + 1; x++) {
-          drawVisibilityLine(info, cx, cy, cx + x, cy + y, cloakDetection,
-              scanRad, fleet);
+      castVisibility(info, cx, cy, cloakDetection, scanRad, fleet, pass);
+    }
+  }
+
+  /**
+   * Cast visibility from scanner to all directions and set visibility
+   * info for one player. Each sector is handled only once even if several
+   * rays go through it. Sector which blocks the visibility is seen but
+   * sectors behind it on the same rays are not.
+   * @param info PlayerInfo
+   * @param sx Scanner X coordinate
+   * @param sy Scanner Y coordinate
+   * @param cloakDetection Cloaking Detection level
+   * @param maxRad maximum radius
+   * @param fleet Fleet or null
+   * @param pass Scan stamp for whole realm pass
+   */
+  private void castVisibility(final PlayerInfo info, final int sx,
+      final int sy, final int cloakDetection, final int maxRad,
+      final Fleet fleet, final int pass) {
+    ScanRayTable table = ScanRayTable.getTable(maxRad);
+    int stamp = nextScanStamp();
+    int i = 0;
+    while (i < table.getSize()) {
+      int nx = sx + table.getOffsetX(i);
+      int ny = sy + table.getOffsetY(i);
+      if (!isValidCoordinate(nx, ny)) {
+        // Rest of the ray is outside of the map too
+        i = table.getSubtreeEnd(i);
+        continue;
+      }
+      if (scanVisited[nx][ny] != stamp) {
+        scanVisited[nx][ny] = stamp;
+        if (i > 0 && fleet != null
+            && info.getSectorVisibility(nx, ny) == PlayerInfo.UNCHARTED) {
+          messageBasedOnTiles(info, nx, ny, fleet);
+        }
+        info.setSectorVisibility(nx, ny, PlayerInfo.VISIBLE);
+        if (scanMarked[nx][ny] != pass) {
+          scanMarked[nx][ny] = pass;
+          tutorialBasedOnTiles(info, nx, ny);
+        }
+        if (fleet != null) {
+          rareTechBasedOnTiles(info, nx, ny, fleet);
+          ascensionEventsOnTiles(info, nx, ny, fleet);
+        }
+        // Detection weakens 10 per step
+        int detectValue = cloakDetection - table.getSteps(i) * 10;
+        if (i == 0 && cloakDetection > 0) {
+          info.setSectorCloakingDetection(nx, ny, cloakDetection);
+        } else if (detectValue > 0
+            && info.getSectorCloakDetection(nx, ny) < detectValue) {
+          info.setSectorCloakingDetection(nx, ny, detectValue);
         }
       }
+      if (i > 0 && tileInfo[nx][ny].isVisibilityBlocked()) {
+        // There is something that blocks the vision
+        i = table.getSubtreeEnd(i);
+      } else {
+        i++;
+      }
     }
   }
 
@@ -2176,16 +2467,35 @@ public class StarMap {
     } else if (maxX >= 75) {
       scanRad = 6;
     }
-    int cx = 0;
-    int cy = 0;
     if (planet == null) {
       return;
     }
-    cx = planet.getX();
-    cy = planet.getY();
-    for (int y = -scanRad; y < scanRad + 1; y++) {
-      for (int x = -scanRad; x < scanRad + 1; x++) {
-        drawTelescopeLine(info, cx, cy, cx + x, cy + y, scanRad);
+    ScanRayTable table = ScanRayTable.getTable(scanRad);
+    int stamp = nextScanStamp();
+    int cx = planet.getX();
+    int cy = planet.getY();
+    int i = 0;
+    while (i < table.getSize()) {
+      int nx = cx + table.getOffsetX(i);
+      int ny = cy + table.getOffsetY(i);
+      if (!isValidCoordinate(nx, ny)) {
+        // Rest of the ray is outside of the map too
+        i = table.getSubtreeEnd(i);
+        continue;
+      }
+      if (scanVisited[nx][ny] != stamp) {
+        scanVisited[nx][ny] = stamp;
+        if (info.getSectorVisibility(nx, ny) == PlayerInfo.UNCHARTED) {
+          info.setSectorVisibility(nx, ny, PlayerInfo.FOG_OF_WAR);
+          scanMarked[nx][ny] = stamp;
+        }
+      }
+      if (i > 0 && scanMarked[nx][ny] == stamp
+          && tileInfo[nx][ny].isVisibilityBlocked()) {
+        // Uncharted sector blocks the vision
+        i = table.getSubtreeEnd(i);
+      } else {
+        i++;
       }
     }
   }
@@ -2218,61 +2528,72 @@ public class StarMap {
           if (!fleet.isStarBaseDeployed()) {
             fleet.setMovesLeft(fleet.getFleetSpeed());
           }
-          doFleetScanUpdate(info, fleet, null);
         }
       }
     }
+    getCultureField().startUpdate();
+    updatePlanetCultures();
+    getCultureField().finishUpdate();
+    doAllRealmScanUpdates();
+    updateEspionage();
+  }
+
+  /**
+   * Report culture of all realm planets into culture field.
+   */
+  private void updatePlanetCultures() {
     for (int i = 0; i < planetList.size(); i++) {
       Planet planet = planetList.get(i);
       if (planet.getPlanetPlayerInfo() != null) {
         PlayerInfo info = planet.getPlanetPlayerInfo();
         int index = players.getIndex(info);
         if (index > -1) {
-          calculateCulture(planet.getX(), planet.getY(), planet.getCulture(),
-              index);
+          getCultureField().updateSource(planet, planet.getX(),
+              planet.getY(), planet.getCulture(), index);
         }
-        doFleetScanUpdate(info, null, planet);
       }
     }
-    updateEspionage();
   }
 
   /**
    * Update star map when game has loaded
    */
   public void updateStarMapOnLoadGame() {
+    getCultureField().startUpdate();
     for (int i = 0; i < players.getCurrentMaxPlayers(); i++) {
       PlayerInfo info = players.getPlayerInfoByIndex(i);
       if (info != null) {
         info.estimateBestTechWorld(planetList);
         for (int j = 0; j < info.getFleets().getNumberOfFleets(); j++) {
           Fleet fleet = info.getFleets().getByIndex(j);
-          doFleetScanUpdate(info, fleet, null);
           if (fleet.getCulturalValue() > 0 && fleet.isStarBaseDeployed()) {
             // Recalculate culture for the map for each player
-            calculateCulture(fleet.getX(), fleet.getY(),
+            getCultureField().updateSource(fleet, fleet.getX(), fleet.getY(),
                 fleet.getCulturalValue(), i);
           }
 
         }
       }
     }
-    for (int i = 0; i < planetList.size(); i++) {
-      Planet planet = planetList.get(i);
-      if (planet.getPlanetPlayerInfo() != null) {
-        PlayerInfo info = planet.getPlanetPlayerInfo();
-        int index = players.getIndex(info);
-        if (index > -1) {
-          calculateCulture(planet.getX(), planet.getY(), planet.getCulture(),
-              index);
-        }
-        doFleetScanUpdate(info, null, planet);
-      }
-    }
+    updatePlanetCultures();
+    getCultureField().finishUpdate();
+    doAllRealmScanUpdates();
     updateEspionage();
     updateWinningStrategies();
   }
 
+  /**
+   * Do scan update for all realms. Each realm is scanned in one pass.
+   */
+  public void doAllRealmScanUpdates() {
+    for (int i = 0; i < players.getCurrentMaxPlayers(); i++) {
+      PlayerInfo info = players.getPlayerInfoByIndex(i);
+      if (info != null) {
+        doRealmScanUpdate(info);
+      }
+    }
+  }
+
   /**
    * Update espionage bonuses. This should be called on load and
    * after each turn.
@@ -2466,271 +2787,58 @@ public class StarMap {
     return result;
   }
   /**
-   * Culture level 1
-   */
-  private static final int CULTURE_LEVEL_0 = 1;
-  /**
-   * Culture level 1
-   */
-  private static final int CULTURE_LEVEL_1 = 5;
-  /**
-   * Culture level 2
-   */
-  private static final int CULTURE_LEVEL_2 = 10;
-  /**
-   * Culture level 3
-   */
-  private static final int CULTURE_LEVEL_3 = 20;
-  /**
-   * Culture level 4
-   */
-  private static final int CULTURE_LEVEL_4 = 40;
-  /**
-   * Culture level 5
-   */
-  private static final int CULTURE_LEVEL_5 = 80;
-  /**
-   * Culture level 6
-   */
-  private static final int CULTURE_LEVEL_6 = 160;
-  /**
-   * Culture level 7
-   */
-  private static final int CULTURE_LEVEL_7 = 320;
-  /**
-   * Culture level 8
-   */
-  private static final int CULTURE_LEVEL_8 = 640;
-  /**
-   * Culture level 9
+   * Calculate culture on map
+   * @param cx Center of culture X coordinate
+   * @param cy Center of culture Y coordinate
+   * @param value Culture value
+   * @param index Player index
    */
-  private static final int CULTURE_LEVEL_9 = 1280;
+  public void calculateCulture(final int cx, final int cy, final int value,
+      final int index) {
+    CultureStencil stencil = CultureStencil.getStencil(value);
+    for (int i = 0; i < stencil.getSize(); i++) {
+      addSectorCulture(cx + stencil.getOffsetX(i), cy + stencil.getOffsetY(i),
+          index, stencil.getCulture(i, value));
+    }
+  }
 
   /**
-   * Maximum culture radius
+   * Change culture value of culture source which stays in same place.
+   * If culture stencil stays same only the difference is added.
+   * @param cx Center of culture X coordinate
+   * @param cy Center of culture Y coordinate
+   * @param oldValue Culture value which was added earlier
+   * @param newValue New culture value
+   * @param index Player index
    */
-  private static final int MAX_CULTURE_RADIUS = 7;
+  void changeCulture(final int cx, final int cy, final int oldValue,
+      final int newValue, final int index) {
+    CultureStencil stencil = CultureStencil.getStencil(newValue);
+    if (stencil != CultureStencil.getStencil(oldValue)) {
+      removeCulture(cx, cy, oldValue, index);
+      calculateCulture(cx, cy, newValue, index);
+      return;
+    }
+    for (int i = 0; i < stencil.getSize(); i++) {
+      addSectorCulture(cx + stencil.getOffsetX(i), cy + stencil.getOffsetY(i),
+          index, stencil.getCulture(i, newValue)
+          - stencil.getCulture(i, oldValue));
+    }
+  }
+
   /**
-   * Calculate culture on map
+   * Remove culture which was earlier added with same values.
    * @param cx Center of culture X coordinate
    * @param cy Center of culture Y coordinate
    * @param value Culture value
    * @param index Player index
    */
-  public void calculateCulture(final int cx, final int cy, final int value,
+  void removeCulture(final int cx, final int cy, final int value,
       final int index) {
-    String mask = null;
-    if (value == CULTURE_LEVEL_0) {
-      //        765432101234567
-      mask = /* 7 */"...............\n"
-      + /* 6 */"...............\n"
-      + /* 5 */"...............\n"
-      + /* 4 */"...............\n"
-      + /* 3 */"...............\n"
-      + /* 2 */"...............\n"
-      + /* 1 */"...............\n"
-      + /* 0 */".......X.......\n"
-      + /* 1 */"...............\n"
-      + /* 2 */"...............\n"
-      + /* 3 */"...............\n"
-      + /* 4 */"...............\n"
-      + /* 5 */"...............\n"
-      + /* 6 */"...............\n"
-      + /* 7 */"...............\n";
-    } else if (value < CULTURE_LEVEL_1) {
-      //        765432101234567
-      mask = /* 7 */"...............\n"
-      + /* 6 */"...............\n"
-      + /* 5 */"...............\n"
-      + /* 4 */"...............\n"
-      + /* 3 */"...............\n"
-      + /* 2 */"...............\n"
-      + /* 1 */".......X.......\n"
-      + /* 0 */"......XXX......\n"
-      + /* 1 */".......X.......\n"
-      + /* 2 */"...............\n"
-      + /* 3 */"...............\n"
-      + /* 4 */"...............\n"
-      + /* 5 */"...............\n"
-      + /* 6 */"...............\n"
-      + /* 7 */"...............\n";
-    } else if (value < CULTURE_LEVEL_2) {
-      //        765432101234567
-      mask = /* 7 */"...............\n"
-      + /* 6 */"...............\n"
-      + /* 5 */"...............\n"
-      + /* 4 */"...............\n"
-      + /* 3 */"...............\n"
-      + /* 2 */"...............\n"
-      + /* 1 */"......1X1......\n"
-      + /* 0 */"......XXX......\n"
-      + /* 1 */"......1X1......\n"
-      + /* 2 */"...............\n"
-      + /* 3 */"...............\n"
-      + /* 4 */"...............\n"
-      + /* 5 */"...............\n"
-      + /* 6 */"...............\n"
-      + /* 7 */"...............\n";
-    } else if (value < CULTURE_LEVEL_3) {
-      //        765432101234567
-      mask = /* 7 */"...............\n"
-      + /* 6 */"...............\n"
-      + /* 5 */"...............\n"
-      + /* 4 */"...............\n"
-      + /* 3 */"...............\n"
-      + /* 2 */".......1.......\n"
-      + /* 1 */"......1X1......\n"
-      + /* 0 */".....1XXX1.....\n"
-      + /* 1 */"......1X1......\n"
-      + /* 2 */".......1.......\n"
-      + /* 3 */"...............\n"
-      + /* 4 */"...............\n"
-      + /* 5 */"...............\n"
-      + /* 6 */"...............\n"
-      + /* 7 */"...............\n";
-    } else if (value < CULTURE_LEVEL_4) {
-      //        765432101234567
-      mask = /* 7 */"...............\n"
-      + /* 6 */"...............\n"
-      + /* 5 */"...............\n"
-      + /* 4 */"...............\n"
-      + /* 3 */".......1.......\n"
-      + /* 2 */"......1X1......\n"
-      + /* 1 */".....1XXX1.....\n"
-      + /* 0 */"....1XXXXX1....\n"
-      + /* 1 */".....1XXX1.....\n"
-      + /* 2 */"......1X1......\n"
-      + /* 3 */".......1.......\n"
-      + /* 4 */"...............\n"
-      + /* 5 */"...............\n"
-      + /* 6 */"...............\n"
-      + /* 7 */"...............\n";
-    } else if (value < CULTURE_LEVEL_5) {
-      //        765432101234567
-      mask = /* 7 */"...............\n"
-      + /* 6 */"...............\n"
-      + /* 5 */"...............\n"
-      + /* 4 */".......1.......\n"
-      + /* 3 */"......121......\n"
-      + /* 2 */".....12X21.....\n"
-      + /* 1 */"....12XXX21....\n"
-      + /* 0 */"...12XXXXX21...\n"
-      + /* 1 */"....12XXX21....\n"
-      + /* 2 */".....12X21.....\n"
-      + /* 3 */"......121......\n"
-      + /* 4 */".......1.......\n"
-      + /* 5 */"...............\n"
-      + /* 6 */"...............\n"
-      + /* 7 */"...............\n";
-    } else if (value < CULTURE_LEVEL_6) {
-      //        765432101234567
-      mask = /* 7 */"...............\n"
-      + /* 6 */"...............\n"
-      + /* 5 */"...............\n"
-      + /* 4 */"......121......\n"
-      + /* 3 */".....12X21.....\n"
-      + /* 2 */"....12XXX21....\n"
-      + /* 1 */"...12XXXXX21...\n"
-      + /* 0 */"...2XXXXXXX2...\n"
-      + /* 1 */"...12XXXXX21...\n"
-      + /* 2 */"....12XXX21....\n"
-      + /* 3 */".....12X21.....\n"
-      + /* 4 */"......121......\n"
-      + /* 5 */"...............\n"
-      + /* 6 */"...............\n"
-      + /* 7 */"...............\n";
-    } else if (value < CULTURE_LEVEL_7) {
-      //        765432101234567
-      mask = /* 7 */"...............\n"
-      + /* 6 */"...............\n"
-      + /* 5 */"......121......\n"
-      + /* 4 */".....12X21.....\n"
-      + /* 3 */"....12XXX21....\n"
-      + /* 2 */"...12XXXXX21...\n"
-      + /* 1 */"..12XXXXXXX21..\n"
-      + /* 0 */"..2XXXXXXXXX2..\n"
-      + /* 1 */"..12XXXXXXX21..\n"
-      + /* 2 */"...12XXXXX21...\n"
-      + /* 3 */"....12XXX21....\n"
-      + /* 4 */".....12X21.....\n"
-      + /* 5 */"......121......\n"
-      + /* 6 */"...............\n"
-      + /* 7 */"...............\n";
-    } else if (value < CULTURE_LEVEL_8) {
-      //        765432101234567
-      mask = /* 7 */"...............\n"
-      + /* 6 */"......121......\n"
-      + /* 5 */".....12321.....\n"
-      + /* 4 */"....123X321....\n"
-      + /* 3 */"...123XXX321...\n"
-      + /* 2 */"..123XXXXX321..\n"
-      + /* 1 */".123XXXXXXX321.\n"
-      + /* 0 */".23XXXXXXXXX32.\n"
-      + /* 1 */".123XXXXXXX321.\n"
-      + /* 2 */"..123XXXXX321..\n"
-      + /* 3 */"...123XXX321...\n"
-      + /* 4 */"....123X321....\n"
-      + /* 5 */".....12321.....\n"
-      + /* 6 */"......121......\n"
-      + /* 7 */"...............\n";
-    } else if (value < CULTURE_LEVEL_9) {
-      //        765432101234567
-      mask = /* 7 */".......1.......\n"
-      + /* 6 */"......121......\n"
-      + /* 5 */"....123X321....\n"
-      + /* 4 */"....2XXXXX2....\n"
-      + /* 3 */"..123XXXXX321..\n"
-      + /* 2 */"..23XXXXXXX32..\n"
-      + /* 1 */".12XXXXXXXXX21.\n"
-      + /* 0 */"123XXXXXXXXX321\n"
-      + /* 1 */".12XXXXXXXXX21.\n"
-      + /* 2 */"..23XXXXXXX32..\n"
-      + /* 3 */"..123XXXXX321..\n"
-      + /* 4 */"....2XXXXX2....\n"
-      + /* 5 */"....123X321....\n"
-      + /* 6 */"......121......\n"
-      + /* 7 */".......1.......\n";
-    } else {
-      //        765432101234567
-      mask = /* 7 */"......121......\n"
-      + /* 6 */".....12321.....\n"
-      + /* 5 */"...123XXX321...\n"
-      + /* 4 */"...123XXX321...\n"
-      + /* 3 */".123XXXXXXX321.\n"
-      + /* 2 */".123XXXXXXX321.\n"
-      + /* 1 */"123XXXXXXXXX321\n"
-      + /* 0 */"23XXXXXXXXXXX32\n"
-      + /* 1 */"123XXXXXXXXX321\n"
-      + /* 2 */".123XXXXXXX321.\n"
-      + /* 3 */".123XXXXXXX321.\n"
-      + /* 4 */"...123XXX321...\n"
-      + /* 5 */"...123XXX321...\n"
-      + /* 6 */".....12321.....\n"
-      + /* 7 */"......121......\n";
-    }
-
-    String[] lines = mask.split("\n");
-    int x = -MAX_CULTURE_RADIUS;
-    int y = -MAX_CULTURE_RADIUS;
-    for (int line = 0; line < lines.length; line++) {
-      for (int col = 0; col < lines[line].length(); col++) {
-        if (lines[line].charAt(col) != '.') {
-          int adjustValue = value;
-          if (lines[line].charAt(col) == '1') {
-            adjustValue = adjustValue / 2;
-          }
-          if (lines[line].charAt(col) == '2') {
-            adjustValue = adjustValue * 2 / 3;
-          }
-          if (lines[line].charAt(col) == '3') {
-            adjustValue = adjustValue * 3 / 4;
-          }
-          addSectorCulture(cx + x, cy + y, index, adjustValue);
-        }
-        x++;
-      }
-      x = -MAX_CULTURE_RADIUS;
-      y++;
+    CultureStencil stencil = CultureStencil.getStencil(value);
+    for (int i = 0; i < stencil.getSize(); i++) {
+      addSectorCulture(cx + stencil.getOffsetX(i), cy + stencil.getOffsetY(i),
+          index, -stencil.getCulture(i, value));
     }
   }
 
@@ -2743,6 +2851,20 @@ public class StarMap {
         culture[i][j].reset();
       }
     }
+    sectorChanges++;
+    getCultureField().clear();
+  }
+
+  /**
+   * Get culture field which updates culture on map only for changed
+   * culture sources.
+   * @return CultureField
+   */
+  public CultureField getCultureField() {
+    if (cultureField == null) {
+      cultureField = new CultureField(this);
+    }
+    return cultureField;
   }
 
   /**
@@ -3378,63 +3500,6 @@ public class StarMap {
     }
   }
 
-  /**
-   * Draw telescope line and set visibility info for one player
-   * @param info PlayerInfo
-   * @param sx Start X
-   * @param sy Start Y
-   * @param ex End X
-   * @param ey End Y
-   * @param maxRad maximum radius
-   */
-  private void drawTelescopeLine(final PlayerInfo info, final int sx,
-      final int sy, final int ex, final int ey, final int maxRad) {
-    double startX = sx;
-    double startY = sy;
-    double dx = Math.abs(startX - ex);
-    double dy = Math.abs(startY - ey);
-    // Calculate distance to end
-    int distance = (int) dy;
-    if (dx > dy) {
-      distance = (int) dx;
-    }
-    double mx;
-    double my;
-    // Calculate how much move each round
-    if (distance > 0) {
-      mx = (ex - startX) / distance;
-      my = (ey - startY) / distance;
-    } else {
-      mx = 0;
-      my = 0;
-    }
-    if (info.getSectorVisibility(
-        new Coordinate(sx, sy)) == PlayerInfo.UNCHARTED) {
-      info.setSectorVisibility(sx, sy, PlayerInfo.FOG_OF_WAR);
-    }
-    // Moving loop
-    for (int i = 0; i < distance; i++) {
-      startX = startX + mx;
-      startY = startY + my;
-      int nx = (int) Math.round(startX);
-      int ny = (int) Math.round(startY);
-      Coordinate startCoordinate = new Coordinate(sx, sy);
-      Coordinate coordinate = new Coordinate(nx, ny);
-      if (startCoordinate.calculateDistance(coordinate) > maxRad) {
-        // We have moved to maximum radius
-        break;
-      }
-      if (isValidCoordinate(nx, ny)
-          && info.getSectorVisibility(coordinate) == PlayerInfo.UNCHARTED) {
-        info.setSectorVisibility(nx, ny, PlayerInfo.FOG_OF_WAR);
-        if (tileInfo[nx][ny].isVisibilityBlocked()) {
-          // There is something that blocks the vision
-          break;
-        }
-      }
-    }
-  }
-
   /**
    * Calculate average happiness for whole realm
    * @param playerIndex Realm or Player index
@@ -3459,13 +3524,19 @@ public class StarMap {
     return result;
   }
   /**
-   * Get total production for one player per turn for certain production
+   * Get total production for one player per turn for certain production.
+   * Production is read from production ledger which is calculated
+   * once per turn and again after production affecting changes.
    * @param production See Planet.PRODUCTION_*
    * @param playerIndex Player index to match
    * @return total production per turn
    */
   public int getTotalProductionByPlayerPerTurn(final int production,
       final int playerIndex) {
+    if (ProductionLedger.isCollected(production) && players != null
+        && playerIndex >= 0 && playerIndex < players.getCurrentMaxRealms()) {
+      return getProductionLedger().getTotal(production, playerIndex);
+    }
     int result = 0;
     for (int i = 0; i < planetList.size(); i++) {
       Planet planet = planetList.get(i);
@@ -3474,6 +3545,39 @@ public class StarMap {
         result = result + planet.getTotalProduction(production);
       }
     }
+    int research = 0;
+    if (production == Planet.PRODUCTION_ARTIFACT_RESEARCH) {
+      research = getTotalProductionByPlayerPerTurn(
+          Planet.PRODUCTION_RESEARCH, playerIndex);
+    }
+    return calculateRealmProduction(production, playerIndex, result,
+        research);
+  }
+
+  /**
+   * Get production ledger for current turn.
+   * @return ProductionLedger
+   */
+  public ProductionLedger getProductionLedger() {
+    if (productionLedger == null || productionLedger.getTurn() != turn) {
+      productionLedger = new ProductionLedger(this);
+    }
+    return productionLedger;
+  }
+
+  /**
+   * Calculate total production for one player per turn from planet
+   * production. This adds fleet, leader and realm bonuses.
+   * @param production See Planet.PRODUCTION_*
+   * @param playerIndex Player index
+   * @param planetProduction Production from realm's planets
+   * @param totalResearch Total research of realm per turn, used only for
+   *        artifact research
+   * @return total production per turn
+   */
+  int calculateRealmProduction(final int production, final int playerIndex,
+      final int planetProduction, final int totalResearch) {
+    int result = planetProduction;
     PlayerInfo info = getPlayerByIndex(playerIndex);
     if (production == Planet.PRODUCTION_CREDITS && info.getRuler() != null
         && info.getRuler().hasPerk(Perk.MERCHANT)) {
@@ -3564,9 +3668,7 @@ public class StarMap {
     }
     if (production == Planet.PRODUCTION_ARTIFACT_RESEARCH
         && info.getArtifactLists().hasDiscoveredArtifacts()) {
-      int research = getTotalProductionByPlayerPerTurn(
-          Planet.PRODUCTION_RESEARCH, playerIndex);
-      research = research / 10;
+      int research = totalResearch / 10;
       if (research < 1) {
         research = 1;
       }
@@ -3641,6 +3743,7 @@ public class StarMap {
   public void clearTileInfo(final int x, final int y) {
     if (isValidCoordinate(x, y)) {
       tileInfo[x][y] = SquareInfo.EMPTY_TILE;
+      updateNavigationSector(x, y);
     }
   }
   /**
@@ -3667,6 +3770,7 @@ public class StarMap {
       final int value) {
     if (isValidCoordinate(x, y)) {
       culture[x][y].addCulture(index, value);
+      sectorChanges++;
     }
   }
 
@@ -3874,9 +3978,7 @@ public class StarMap {
    * @return PlayerInfo if found or null
    */
   public PlayerInfo isBlockedByFleet(final int x, final int y) {
-    if (fleetTiles == null) {
-      getFleetTiles();
-    }
+    FleetTileInfo[][] fleetTiles = getFleetTiles(false);
     if (isValidCoordinate(x, y) && fleetTiles[x][y] != null) {
       int index = fleetTiles[x][y].getPlayerIndex();
       return players.getPlayerInfoByIndex(index);
@@ -4390,12 +4492,20 @@ public class StarMap {
       event.setText(newsData.getNewsText());
       history.addEvent(event);
       planetList.add(planet);
+      if (planetGrid != null) {
+        planetGrid.add(planet, planet.getX(), planet.getY());
+      }
+      if (planetNames != null) {
+        planetNames.add(planet);
+      }
       int planetNumber = planetList.size() - 1;
       SquareInfo info = new SquareInfo(SquareInfo.TYPE_PLANET, planetNumber);
       int px = planet.getCoordinate().getX();
       int py = planet.getCoordinate().getY();
       tileInfo[px][py] = info;
       tiles[px][py] = planet.getPlanetType().getTileIndex();
+      sectorChanges++;
+      updateNavigationSector(px, py);
     }
   }
 
@@ -4723,7 +4833,20 @@ public class StarMap {
     if (info != null) {
       DiplomaticTrade trade = new DiplomaticTrade(this,
           players.getIndex(searcher), players.getIndex(info));
-      Planet[] planets = trade.getTradeablePlanetListForSecond();
+      HashSet<Planet> tradeable = new HashSet<>();
+      for (Planet planet : trade.getTradeablePlanetListForSecond()) {
+        tradeable.add(planet);
+      }
+      Planet nearest = getPlanetGrid().getNearest(coord.getX(),
+          coord.getY(), tradeable::contains);
+      if (nearest == null) {
+        return null;
+      }
+      // Distances are compared as whole numbers, so all planets rounding
+      // to same distance are checked in planet list order.
+      int range = (int) coord.calculateDistance(nearest.getCoordinate()) + 1;
+      List<Planet> planets = getPlanetGrid().getWithinRadius(coord.getX(),
+          coord.getY(), range, tradeable::contains);
       Planet targetPlanet = null;
       int distance = 9999;
       for (Planet planet : planets) {
@@ -18,7 +18,9 @@ package org.openRealmOfStars.starMap;
  */
 
 import java.util.ArrayList;
+import java.util.Arrays;
 
+import org.openRealmOfStars.ai.mission.RealmPlan;
 import org.openRealmOfStars.gui.icons.Icons;
 import org.openRealmOfStars.player.PlayerInfo;
 import org.openRealmOfStars.player.PlayerList;
@@ -996,46 +998,45 @@ public final class StarMapUtilities {
    */
   public static Planet[] getBestFreePlanets(final StarMap map,
       final PlayerInfo info) {
+    return getBestFreePlanets(map, info, null);
+  }
+
+  /**
+   * Get Best free available planet for colonization. If realm plan
+   * is given then planet values are taken from plan instead of
+   * evaluating them again.
+   * @param map StarMap
+   * @param info Realm which is doing the search
+   * @param plan Realm plan calculated for this turn, may be null
+   * @return Best free planets. Index 0 contains the best.
+   */
+  public static Planet[] getBestFreePlanets(final StarMap map,
+      final PlayerInfo info, final RealmPlan plan) {
+    Coordinate coord = getCenterRealm(map, info);
+    int divider = getPlanetValueDivider(map);
+    RealmPlan validPlan = null;
+    if (plan != null && plan.isValid(info, coord)) {
+      validPlan = plan;
+    }
     ArrayList<Planet> tempList = new ArrayList<>();
-    ArrayList<Planet> bestList = new ArrayList<>();
-    for (Planet planet : map.getPlanetList()) {
+    ArrayList<Integer> values = new ArrayList<>();
+    for (int i = 0; i < map.getPlanetList().size(); i++) {
+      Planet planet = map.getPlanetList().get(i);
       if (planet.getPlanetPlayerInfo() == null
           && info.getSectorVisibility(planet.getCoordinate())
           > PlayerInfo.UNCHARTED && !planet.isGasGiant()) {
-        tempList.add(planet);
-      }
-    }
-    int index = map.getPlayerList().getIndex(info);
-    Coordinate coord = map.calculateCenterOfRealm(index);
-    info.setCenterRealm(coord);
-    while (tempList.size() > 0) {
-      Planet bestPlanet = null;
-      int bestValue = -999;
-      int divider = 1;
-      if (map.getMaxX() < 75) {
-        divider = 1;
-      } else if (map.getMaxX() < 130) {
-        divider = 2;
-      } else if (map.getMaxX() < 180) {
-        divider = 3;
-      } else {
-        divider = 4;
-      }
-      for (Planet planet : tempList) {
-        int value = planet.evaluatePlanetValue(info, coord, divider);
+        int value = getPlanetValue(planet, i, info, coord, divider,
+            validPlan);
         if (planet.isHomeWorld()) {
           value = value + 10;
         }
-        if (value > bestValue) {
-          bestPlanet = planet;
-          bestValue = value;
-        }
+        tempList.add(planet);
+        values.add(value);
       }
-      tempList.remove(bestPlanet);
-      bestList.add(bestPlanet);
     }
-    return bestList.toArray(new Planet[bestList.size()]);
+    return sortByValue(tempList, values);
   }
+
   /**
    * Get Best conquerable planets. This is done based on planet's value.
    * @param map StarMap
@@ -1044,43 +1045,114 @@ public final class StarMapUtilities {
    */
   public static Planet[] getBestConquerablePlanets(final StarMap map,
       final PlayerInfo info) {
+    return getBestConquerablePlanets(map, info, null);
+  }
+
+  /**
+   * Get Best conquerable planets. This is done based on planet's value.
+   * If realm plan is given then planet values are taken from plan instead
+   * of evaluating them again.
+   * @param map StarMap
+   * @param info Realm which is doing the search
+   * @param plan Realm plan calculated for this turn, may be null
+   * @return Best conquerable planets. Index 0 contains the best.
+   */
+  public static Planet[] getBestConquerablePlanets(final StarMap map,
+      final PlayerInfo info, final RealmPlan plan) {
+    Coordinate coord = getCenterRealm(map, info);
+    int divider = getPlanetValueDivider(map);
+    RealmPlan validPlan = null;
+    if (plan != null && plan.isValid(info, coord)) {
+      validPlan = plan;
+    }
     ArrayList<Planet> tempList = new ArrayList<>();
-    ArrayList<Planet> bestList = new ArrayList<>();
-    for (Planet planet : map.getPlanetList()) {
+    ArrayList<Integer> values = new ArrayList<>();
+    for (int i = 0; i < map.getPlanetList().size(); i++) {
+      Planet planet = map.getPlanetList().get(i);
       if (planet.getPlanetPlayerInfo() != null
           && planet.getPlanetPlayerInfo() != info
           && info.getSectorVisibility(planet.getCoordinate())
           > PlayerInfo.UNCHARTED && !planet.isGasGiant()) {
         tempList.add(planet);
+        values.add(getPlanetValue(planet, i, info, coord, divider,
+            validPlan));
       }
     }
+    return sortByValue(tempList, values);
+  }
+
+  /**
+   * Calculate center of realm and store it into realm.
+   * @param map StarMap
+   * @param info Realm
+   * @return Center of realm
+   */
+  private static Coordinate getCenterRealm(final StarMap map,
+      final PlayerInfo info) {
     int index = map.getPlayerList().getIndex(info);
     Coordinate coord = map.calculateCenterOfRealm(index);
     info.setCenterRealm(coord);
-    while (tempList.size() > 0) {
-      Planet bestPlanet = null;
-      int bestValue = -999;
-      int divider = 1;
-      if (map.getMaxX() < 75) {
-        divider = 1;
-      } else if (map.getMaxX() < 130) {
-        divider = 2;
-      } else if (map.getMaxX() < 180) {
-        divider = 3;
-      } else {
-        divider = 4;
-      }
-      for (Planet planet : tempList) {
-        int value = planet.evaluatePlanetValue(info, coord, divider);
-        if (value > bestValue) {
-          bestPlanet = planet;
-          bestValue = value;
-        }
-      }
-      tempList.remove(bestPlanet);
-      bestList.add(bestPlanet);
+    return coord;
+  }
+
+  /**
+   * Get planet value for realm. Value is taken from realm plan if
+   * plan is still valid, otherwise planet is evaluated.
+   * @param planet Planet to evaluate
+   * @param planetIndex Planet index in star map's planet list
+   * @param info Realm
+   * @param coord Center of realm
+   * @param divider Distance divider
+   * @param plan Realm plan or null
+   * @return Planet value
+   */
+  private static int getPlanetValue(final Planet planet,
+      final int planetIndex, final PlayerInfo info, final Coordinate coord,
+      final int divider, final RealmPlan plan) {
+    if (plan != null && plan.hasPlanetValue(planetIndex)) {
+      return plan.getPlanetValue(planetIndex);
     }
-    return bestList.toArray(new Planet[bestList.size()]);
+    return planet.evaluatePlanetValue(info, coord, divider);
+  }
+
+  /**
+   * Get distance divider for planet value based on map size.
+   * @param map StarMap
+   * @return Distance divider
+   */
+  public static int getPlanetValueDivider(final StarMap map) {
+    if (map.getMaxX() < 75) {
+      return 1;
+    }
+    if (map.getMaxX() < 130) {
+      return 2;
+    }
+    if (map.getMaxX() < 180) {
+      return 3;
+    }
+    return 4;
+  }
+
+  /**
+   * Sort planets by their value. Planets with equal value keep their
+   * original order.
+   * @param planets Planets to sort
+   * @param values Planet values in same order as planets
+   * @return Planets in order, index 0 contains the best.
+   */
+  private static Planet[] sortByValue(final ArrayList<Planet> planets,
+      final ArrayList<Integer> values) {
+    Integer[] order = new Integer[planets.size()];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+    Arrays.sort(order, (a, b) -> Integer.compare(values.get(b),
+        values.get(a)));
+    Planet[] result = new Planet[order.length];
+    for (int i = 0; i < order.length; i++) {
+      result[i] = planets.get(order[i]);
+    }
+    return result;
   }
 
   /**
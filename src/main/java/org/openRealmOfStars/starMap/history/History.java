@@ -22,14 +22,11 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.ArrayList;
 
-import org.openRealmOfStars.mapTiles.TileNames;
-import org.openRealmOfStars.mapTiles.Tiles;
 import org.openRealmOfStars.starMap.Coordinate;
 import org.openRealmOfStars.starMap.CulturePower;
 import org.openRealmOfStars.starMap.StarMap;
 import org.openRealmOfStars.starMap.history.event.CultureEvent;
 import org.openRealmOfStars.starMap.history.event.Event;
-import org.openRealmOfStars.starMap.history.event.EventOnPlanet;
 import org.openRealmOfStars.starMap.history.event.EventType;
 import org.openRealmOfStars.starMap.history.event.LeaderEvent;
 import org.openRealmOfStars.utilities.FileIo.IOUtilities;
@@ -46,6 +43,11 @@ public class History {
    */
   private ArrayList<HistoryTurn> listOfTurns;
 
+  /**
+   * Replay cursor used for calculating culture and override tiles.
+   */
+  private HistoryReplay replay;
+
   /**
    * Magic string for history file
    */
@@ -166,6 +168,22 @@ public class History {
     return result;
   }
 
+  /**
+   * Get replay cursor for map size. Same cursor is reused while map
+   * size stays same, so consecutive calculations only replay turns
+   * near the previous calculation.
+   * @param maxX Map size in X axel
+   * @param maxY Map size in Y axel
+   * @return History replay
+   */
+  private HistoryReplay getReplay(final int maxX, final int maxY) {
+    if (replay == null || replay.getMaxX() != maxX
+        || replay.getMaxY() != maxY) {
+      replay = new HistoryReplay(this, maxX, maxY);
+    }
+    return replay;
+  }
+
   /**
    * Calculate culture from history up to certain turn number.
    * @param upToTurn Which turn number to calculate
@@ -173,35 +191,9 @@ public class History {
    * @return Culture as interger array of arry.
    */
   public int[][] calculateCulture(final int upToTurn, final StarMap starMap) {
-    int maxX = starMap.getMaxX();
-    int maxY = starMap.getMaxY();
-    int[][] culture = new int[maxX][maxY];
-    // Clear the culture map
-    for (int i = 0; i < maxY; i++) {
-      for (int j = 0; j < maxX; j++) {
-        culture[j][i] = -1;
-      }
-    }
-    int max = upToTurn;
-    if (listOfTurns.size() < upToTurn) {
-      max = listOfTurns.size();
-    }
-    // Build culture map according the event
-    for (int i = 0; i < max; i++) {
-      HistoryTurn turn = listOfTurns.get(i);
-      for (int j = 0; j < turn.getNumberOfEvents(); j++) {
-        Event event = turn.getEvent(j);
-        if (event instanceof CultureEvent) {
-          CultureEvent cultureEvent = (CultureEvent) event;
-          int x = cultureEvent.getCoordinate().getX();
-          int y = cultureEvent.getCoordinate().getY();
-          if (x >= 0 && x < maxX && y >= 0 && y < maxY) {
-            culture[x][y] = cultureEvent.getPlayerIndex();
-          }
-        }
-      }
-    }
-    return culture;
+    HistoryReplay cursor = getReplay(starMap.getMaxX(), starMap.getMaxY());
+    cursor.seek(upToTurn);
+    return cursor.copyCulture();
   }
   /**
    * Calculate tiles to override from history up to certain turn number.
@@ -211,32 +203,9 @@ public class History {
    */
   public int[][] calculateOverrideTiles(final int upToTurn,
       final StarMap starMap) {
-    int maxX = starMap.getMaxX();
-    int maxY = starMap.getMaxY();
-    int[][] tiles = new int[maxX][maxY];
-    int max = upToTurn + 1;
-    if (listOfTurns.size() < upToTurn) {
-      max = listOfTurns.size();
-    }
-    // Build culture map according the event
-    for (int i = 0; i < max; i++) {
-      HistoryTurn turn = listOfTurns.get(i);
-      for (int j = 0; j < turn.getNumberOfEvents(); j++) {
-        Event event = turn.getEvent(j);
-        if (event instanceof EventOnPlanet) {
-          EventOnPlanet eventOnPlanet = (EventOnPlanet) event;
-          if (eventOnPlanet.getType() == EventType.ARTIFICAL_PLANET_CREATED) {
-            int x = eventOnPlanet.getCoordinate().getX();
-            int y = eventOnPlanet.getCoordinate().getY();
-            if (x >= 0 && x < maxX && y >= 0 && y < maxY) {
-              tiles[x][y] = Tiles.getTileByName(
-                  TileNames.ARTIFICIALWORLD1).getIndex();
-            }
-          }
-        }
-      }
-    }
-    return tiles;
+    HistoryReplay cursor = getReplay(starMap.getMaxX(), starMap.getMaxY());
+    cursor.seek(upToTurn + 1);
+    return cursor.copyTiles();
   }
   /**
    * Method to update culture map according the newest changes.
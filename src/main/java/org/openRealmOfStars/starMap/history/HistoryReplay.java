@@ -0,0 +1,527 @@
+package org.openRealmOfStars.starMap.history;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.openRealmOfStars.mapTiles.TileNames;
+import org.openRealmOfStars.mapTiles.Tiles;
+import org.openRealmOfStars.starMap.history.event.CultureEvent;
+import org.openRealmOfStars.starMap.history.event.Event;
+import org.openRealmOfStars.starMap.history.event.EventOnPlanet;
+import org.openRealmOfStars.starMap.history.event.EventType;
+
+/**
+ *
+ * Replay cursor for history. Cursor holds culture and override tile
+ * maps after certain number of history turns. Every keyframe interval
+ * turns a keyframe is stored as delta against previous keyframe, with
+ * old and new value of each changed sector. Seeking restores nearest
+ * keyframe by walking deltas from current position and then replays
+ * at most keyframe interval turns, so stepping forward or backward
+ * does not replay history from the start.
+ * Keyframes are only built from turns which are not the latest turn
+ * in history, because events are added only to the latest turn.
+ *
+ */
+public final class HistoryReplay {
+
+  /**
+   * Default number of turns between keyframes.
+   */
+  public static final int DEFAULT_KEYFRAME_INTERVAL = 10;
+
+  /**
+   * Culture value for sector without culture.
+   */
+  private static final int NO_CULTURE = -1;
+
+  /**
+   * Changes between two keyframes.
+   */
+  private static final class Delta {
+    /** Changed sectors */
+    private final int[] sectors;
+    /** Culture values in previous keyframe */
+    private final int[] oldCulture;
+    /** Culture values in this keyframe */
+    private final int[] newCulture;
+    /** Tile values in previous keyframe */
+    private final int[] oldTiles;
+    /** Tile values in this keyframe */
+    private final int[] newTiles;
+
+    /**
+     * Create delta.
+     * @param size Number of changed sectors
+     */
+    private Delta(final int size) {
+      sectors = new int[size];
+      oldCulture = new int[size];
+      newCulture = new int[size];
+      oldTiles = new int[size];
+      newTiles = new int[size];
+    }
+  }
+
+  /**
+   * Callback for playing turns in order.
+   */
+  @FunctionalInterface
+  public interface TurnConsumer {
+    /**
+     * Handle single turn. Maps are owned by replay and change after
+     * callback returns, so they must be copied if they are stored.
+     * @param turnIndex History turn index
+     * @param culture Culture map without events of the turn
+     * @param tiles Override tiles including events of the turn
+     */
+    void accept(int turnIndex, int[][] culture, int[][] tiles);
+  }
+
+  /**
+   * History to replay.
+   */
+  private final History history;
+
+  /**
+   * Map size in X axel.
+   */
+  private final int maxX;
+
+  /**
+   * Map size in Y axel.
+   */
+  private final int maxY;
+
+  /**
+   * Turns between keyframes.
+   */
+  private final int interval;
+
+  /**
+   * Current culture map.
+   */
+  private final int[][] culture;
+
+  /**
+   * Current override tile map.
+   */
+  private final int[][] tiles;
+
+  /**
+   * Number of history turns applied into maps.
+   */
+  private int position;
+
+  /**
+   * Number of events applied from last applied turn.
+   */
+  private int appliedEvents;
+
+  /**
+   * Deltas between keyframes. Delta at index i is from keyframe i to
+   * keyframe i + 1.
+   */
+  private final ArrayList<Delta> deltas;
+
+  /**
+   * Keyframe where current changes are recorded from.
+   */
+  private int keyframe;
+
+  /**
+   * Sectors changed since keyframe.
+   */
+  private int[] changedSectors;
+
+  /**
+   * Culture values of changed sectors in keyframe.
+   */
+  private int[] changedCulture;
+
+  /**
+   * Tile values of changed sectors in keyframe.
+   */
+  private int[] changedTiles;
+
+  /**
+   * Number of changed sectors since keyframe.
+   */
+  private int changedCount;
+
+  /**
+   * Change stamp for each sector. Sector is changed since keyframe
+   * if stamp equals current stamp.
+   */
+  private final int[] stamps;
+
+  /**
+   * Current change stamp.
+   */
+  private int stamp;
+
+  /**
+   * Tile index for artificial planet.
+   */
+  private final int artificialTile;
+
+  /**
+   * Create replay cursor at the start of history.
+   * @param history History to replay
+   * @param maxX Map size in X axel
+   * @param maxY Map size in Y axel
+   */
+  public HistoryReplay(final History history, final int maxX,
+      final int maxY) {
+    this(history, maxX, maxY, DEFAULT_KEYFRAME_INTERVAL);
+  }
+
+  /**
+   * Create replay cursor at the start of history.
+   * @param history History to replay
+   * @param maxX Map size in X axel
+   * @param maxY Map size in Y axel
+   * @param interval Turns between keyframes, at least one
+   */
+  public HistoryReplay(final History history, final int maxX,
+      final int maxY, final int interval) {
+    this.history = history;
+    this.maxX = maxX;
+    this.maxY = maxY;
+    this.interval = Math.max(1, interval);
+    culture = new int[maxX][maxY];
+    for (int x = 0; x < maxX; x++) {
+      Arrays.fill(culture[x], NO_CULTURE);
+    }
+    tiles = new int[maxX][maxY];
+    deltas = new ArrayList<>();
+    stamps = new int[maxX * maxY];
+    stamp = 1;
+    changedSectors = new int[64];
+    changedCulture = new int[64];
+    changedTiles = new int[64];
+    artificialTile = Tiles.getTileByName(
+        TileNames.ARTIFICIALWORLD1).getIndex();
+  }
+
+  /**
+   * Get map size in X axel.
+   * @return Map width
+   */
+  public int getMaxX() {
+    return maxX;
+  }
+
+  /**
+   * Get map size in Y axel.
+   * @return Map height
+   */
+  public int getMaxY() {
+    return maxY;
+  }
+
+  /**
+   * Get number of turns between keyframes.
+   * @return Keyframe interval
+   */
+  public int getKeyframeInterval() {
+    return interval;
+  }
+
+  /**
+   * Get number of stored keyframe deltas.
+   * @return Number of deltas
+   */
+  public int getNumberOfKeyframes() {
+    return deltas.size();
+  }
+
+  /**
+   * Get number of history turns applied into maps.
+   * @return Position
+   */
+  public int getPosition() {
+    return position;
+  }
+
+  /**
+   * Get current culture map. Map is owned by replay and changes
+   * when replay is moved.
+   * @return Culture map, -1 for no culture
+   */
+  public int[][] getCulture() {
+    return culture;
+  }
+
+  /**
+   * Get current override tile map. Map is owned by replay and changes
+   * when replay is moved.
+   * @return Tile map, zero for no override
+   */
+  public int[][] getTiles() {
+    return tiles;
+  }
+
+  /**
+   * Record sector value in keyframe before it is changed.
+   * @param x X coordinate
+   * @param y Y coordinate
+   */
+  private void recordChange(final int x, final int y) {
+    int sector = x + y * maxX;
+    if (stamps[sector] == stamp) {
+      return;
+    }
+    stamps[sector] = stamp;
+    if (changedCount == changedSectors.length) {
+      changedSectors = Arrays.copyOf(changedSectors, changedCount * 2);
+      changedCulture = Arrays.copyOf(changedCulture, changedCount * 2);
+      changedTiles = Arrays.copyOf(changedTiles, changedCount * 2);
+    }
+    changedSectors[changedCount] = sector;
+    changedCulture[changedCount] = culture[x][y];
+    changedTiles[changedCount] = tiles[x][y];
+    changedCount++;
+  }
+
+  /**
+   * Start recording changes from new keyframe.
+   */
+  private void clearChanges() {
+    changedCount = 0;
+    stamp++;
+    if (stamp == 0) {
+      Arrays.fill(stamps, 0);
+      stamp = 1;
+    }
+  }
+
+  /**
+   * Apply single event into maps.
+   * @param event Event to apply
+   */
+  private void applyEvent(final Event event) {
+    if (event instanceof CultureEvent) {
+      CultureEvent cultureEvent = (CultureEvent) event;
+      int x = cultureEvent.getCoordinate().getX();
+      int y = cultureEvent.getCoordinate().getY();
+      if (x >= 0 && x < maxX && y >= 0 && y < maxY) {
+        recordChange(x, y);
+        culture[x][y] = cultureEvent.getPlayerIndex();
+      }
+    }
+    if (event instanceof EventOnPlanet) {
+      EventOnPlanet eventOnPlanet = (EventOnPlanet) event;
+      if (eventOnPlanet.getType() == EventType.ARTIFICAL_PLANET_CREATED) {
+        int x = eventOnPlanet.getCoordinate().getX();
+        int y = eventOnPlanet.getCoordinate().getY();
+        if (x >= 0 && x < maxX && y >= 0 && y < maxY) {
+          recordChange(x, y);
+          tiles[x][y] = artificialTile;
+        }
+      }
+    }
+  }
+
+  /**
+   * Apply events which have been added into last applied turn after
+   * it was applied.
+   */
+  private void applyNewEvents() {
+    if (position > 0) {
+      HistoryTurn turn = history.getByIndex(position - 1);
+      for (int i = appliedEvents; i < turn.getNumberOfEvents(); i++) {
+        applyEvent(turn.getEvent(i));
+      }
+      appliedEvents = turn.getNumberOfEvents();
+    }
+  }
+
+  /**
+   * Store keyframe if replay is at next keyframe position and last
+   * applied turn is no longer the latest turn in history.
+   */
+  private void checkKeyframe() {
+    if (position == (keyframe + 1) * interval
+        && position < history.numberOfTurns()) {
+      if (keyframe == deltas.size()) {
+        deltas.add(createDelta());
+      }
+      keyframe++;
+      clearChanges();
+    }
+  }
+
+  /**
+   * Apply next turn into maps.
+   */
+  private void stepForward() {
+    checkKeyframe();
+    HistoryTurn turn = history.getByIndex(position);
+    for (int i = 0; i < turn.getNumberOfEvents(); i++) {
+      applyEvent(turn.getEvent(i));
+    }
+    appliedEvents = turn.getNumberOfEvents();
+    position++;
+    checkKeyframe();
+  }
+
+  /**
+   * Create delta from recorded changes.
+   * @return Delta
+   */
+  private Delta createDelta() {
+    int size = 0;
+    for (int i = 0; i < changedCount; i++) {
+      int x = changedSectors[i] % maxX;
+      int y = changedSectors[i] / maxX;
+      if (changedCulture[i] != culture[x][y]
+          || changedTiles[i] != tiles[x][y]) {
+        size++;
+      }
+    }
+    Delta delta = new Delta(size);
+    int index = 0;
+    for (int i = 0; i < changedCount; i++) {
+      int x = changedSectors[i] % maxX;
+      int y = changedSectors[i] / maxX;
+      if (changedCulture[i] != culture[x][y]
+          || changedTiles[i] != tiles[x][y]) {
+        delta.sectors[index] = changedSectors[i];
+        delta.oldCulture[index] = changedCulture[i];
+        delta.newCulture[index] = culture[x][y];
+        delta.oldTiles[index] = changedTiles[i];
+        delta.newTiles[index] = tiles[x][y];
+        index++;
+      }
+    }
+    return delta;
+  }
+
+  /**
+   * Restore maps to keyframe.
+   * @param target Keyframe index
+   */
+  private void restoreKeyframe(final int target) {
+    for (int i = 0; i < changedCount; i++) {
+      int x = changedSectors[i] % maxX;
+      int y = changedSectors[i] / maxX;
+      culture[x][y] = changedCulture[i];
+      tiles[x][y] = changedTiles[i];
+    }
+    clearChanges();
+    while (keyframe > target) {
+      keyframe--;
+      Delta delta = deltas.get(keyframe);
+      for (int i = 0; i < delta.sectors.length; i++) {
+        int x = delta.sectors[i] % maxX;
+        int y = delta.sectors[i] / maxX;
+        culture[x][y] = delta.oldCulture[i];
+        tiles[x][y] = delta.oldTiles[i];
+      }
+    }
+    while (keyframe < target) {
+      Delta delta = deltas.get(keyframe);
+      for (int i = 0; i < delta.sectors.length; i++) {
+        int x = delta.sectors[i] % maxX;
+        int y = delta.sectors[i] / maxX;
+        culture[x][y] = delta.newCulture[i];
+        tiles[x][y] = delta.newTiles[i];
+      }
+      keyframe++;
+    }
+    position = keyframe * interval;
+    appliedEvents = 0;
+    if (position > 0) {
+      appliedEvents = history.getByIndex(position - 1).getNumberOfEvents();
+    }
+  }
+
+  /**
+   * Move replay so that given number of history turns are applied.
+   * Target is limited between zero and number of turns in history.
+   * @param turns Number of turns to apply
+   */
+  public void seek(final int turns) {
+    int target = Math.max(0, Math.min(turns, history.numberOfTurns()));
+    applyNewEvents();
+    if (target < position) {
+      restoreKeyframe(Math.min(target / interval, deltas.size()));
+    } else if (target / interval > keyframe
+        && target / interval <= deltas.size()) {
+      restoreKeyframe(target / interval);
+    }
+    while (position < target) {
+      stepForward();
+    }
+  }
+
+  /**
+   * Play turns in order and call consumer for each turn. This can be
+   * used for exporting history as image sequence, since each turn is
+   * built from previous one.
+   * @param fromTurn First turn index
+   * @param toTurn Last turn index, inclusive
+   * @param consumer Turn consumer
+   */
+  public void play(final int fromTurn, final int toTurn,
+      final TurnConsumer consumer) {
+    int first = Math.max(0, fromTurn);
+    int last = Math.min(toTurn, history.numberOfTurns() - 1);
+    int[][] frameCulture = new int[maxX][maxY];
+    for (int turn = first; turn <= last; turn++) {
+      seek(turn);
+      for (int x = 0; x < maxX; x++) {
+        System.arraycopy(culture[x], 0, frameCulture[x], 0, maxY);
+      }
+      seek(turn + 1);
+      consumer.accept(turn, frameCulture, tiles);
+    }
+  }
+
+  /**
+   * Copy current culture map.
+   * @return Copy of culture map
+   */
+  public int[][] copyCulture() {
+    return copyMap(culture);
+  }
+
+  /**
+   * Copy current override tile map.
+   * @return Copy of tile map
+   */
+  public int[][] copyTiles() {
+    return copyMap(tiles);
+  }
+
+  /**
+   * Copy map.
+   * @param map Map to copy
+   * @return Copy
+   */
+  private int[][] copyMap(final int[][] map) {
+    int[][] result = new int[maxX][];
+    for (int x = 0; x < maxX; x++) {
+      result[x] = map[x].clone();
+    }
+    return result;
+  }
+}
@@ -21,11 +21,13 @@ import java.awt.Color;
 import java.awt.GradientPaint;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.openRealmOfStars.gui.graphs.BridgeGraphFactory;
-import org.openRealmOfStars.gui.util.GraphRoutines;
 import org.openRealmOfStars.gui.util.GuiFonts;
 import org.openRealmOfStars.gui.util.GuiStatics;
+import org.openRealmOfStars.gui.util.ImageAssets;
 import org.openRealmOfStars.player.race.SpaceRace;
 import org.openRealmOfStars.player.race.SpaceRaceFactory;
 import org.openRealmOfStars.player.race.SpaceRaceUtility;
@@ -38,6 +40,62 @@ import org.openRealmOfStars.utilities.FileIo.IOUtilities;
 *
 */
 public class ImageInstruction {
+
+  /**
+   * Single compiled image instruction command.
+   */
+  static final class Command {
+    /** Command name */
+    private final String name;
+    /** Command parameters */
+    private final String[] parameters;
+
+    /**
+     * Create compiled command.
+     * @param name Command name
+     * @param parameters Command parameters
+     */
+    Command(final String name, final String[] parameters) {
+      this.name = name;
+      this.parameters = parameters;
+    }
+
+    /**
+     * Get command name.
+     * @return Command name
+     */
+    String getName() {
+      return name;
+    }
+
+    /**
+     * Get command parameters.
+     * @return Command parameters
+     */
+    String[] getParameters() {
+      return parameters;
+    }
+  }
+
+  /**
+   * Maximum number of compiled instruction strings kept in cache.
+   */
+  private static final int MAX_COMPILED_INSTRUCTIONS = 256;
+
+  /**
+   * Compiled instruction strings in least recently used order.
+   */
+  private static final Map<String, Command[]> COMPILED_INSTRUCTIONS =
+      new LinkedHashMap<String, Command[]>(16, 0.75f, true) {
+        /** Serialization version */
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(
+            final Map.Entry<String, Command[]> eldest) {
+          return size() > MAX_COMPILED_INSTRUCTIONS;
+        }
+      };
   /**
    * Instructions for background
    */
@@ -1277,7 +1335,7 @@ public class ImageInstruction {
     if (race != null) {
       silhoutteImg = GuiStatics.getRaceImg(race);
     }
-    silhoutteImg = GraphRoutines.blackSilhouette(silhoutteImg);
+    silhoutteImg = ImageAssets.getBlackSilhouette(silhoutteImg);
 
     Graphics2D g = (Graphics2D) workImage.getGraphics();
     if (POSITION_CENTER.equals(position)) {
@@ -1572,6 +1630,49 @@ public class ImageInstruction {
     return img;
   }
 
+  /**
+   * Compile image instruction string into list of commands. Compiled
+   * instructions are cached so same instruction string is parsed only once.
+   * @param instructions Instruction as a String
+   * @return Compiled commands
+   * @throws IllegalArgumentException If command does not have parameters
+   */
+  static Command[] compileImageInstructions(final String instructions) {
+    synchronized (COMPILED_INSTRUCTIONS) {
+      Command[] commands = COMPILED_INSTRUCTIONS.get(instructions);
+      if (commands != null) {
+        return commands;
+      }
+    }
+    String[] lines = instructions.split("\\+");
+    Command[] commands = new Command[lines.length];
+    for (int i = 0; i < lines.length; i++) {
+      String line = lines[i];
+      String[] parts = line.split("\\(");
+      if (parts.length != 2) {
+        throw new IllegalArgumentException(
+            "Command does not contain command and parameters: " + line);
+      }
+      String allParameters = parts[1];
+      allParameters = allParameters.substring(0, allParameters.length() - 1);
+      commands[i] = new Command(parts[0], allParameters.split(","));
+    }
+    synchronized (COMPILED_INSTRUCTIONS) {
+      COMPILED_INSTRUCTIONS.put(instructions, commands);
+    }
+    return commands;
+  }
+
+  /**
+   * Get number of compiled instruction strings in cache.
+   * @return Number of compiled instructions
+   */
+  static int getNumberOfCompiledInstructions() {
+    synchronized (COMPILED_INSTRUCTIONS) {
+      return COMPILED_INSTRUCTIONS.size();
+    }
+  }
+
   /**
    * Parse Image instruction string and draw image
    * to given image.
@@ -1584,17 +1685,9 @@ public class ImageInstruction {
     int textY = 30;
     Color textColor = GuiStatics.getCoolSpaceColor();
     BufferedImage workImage = image;
-    String[] lines = instructions.split("\\+");
-    for (String line : lines) {
-      String[] parts = line.split("\\(");
-      if (parts.length != 2) {
-        throw new IllegalArgumentException(
-            "Command does not contain command and parameters: " + line);
-      }
-      String command = parts[0];
-      String allParameters = parts[1];
-      allParameters = allParameters.substring(0, allParameters.length() - 1);
-      String[] parameters = allParameters.split(",");
+    for (Command compiled : compileImageInstructions(instructions)) {
+      String command = compiled.getName();
+      String[] parameters = compiled.getParameters();
       if (BACKGROUND.equals(command)) {
         // Background has only one parameter
         paintBackground(workImage, parameters[0]);
@@ -1629,9 +1722,6 @@ public class ImageInstruction {
       if (CAPTAIN.equals(command)) {
         workImage = paintCaptainImage(workImage, parameters[0], parameters[1]);
       }
-      if (IMAGE.equals(command)) {
-        workImage = paintImage(workImage, parameters[0]);
-      }
       if (BRIDGE.equals(command)) {
         workImage = paintBridge(workImage, parameters[0]);
       }
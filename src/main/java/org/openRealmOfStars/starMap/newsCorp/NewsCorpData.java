@@ -380,11 +380,13 @@ public class NewsCorpData {
   }
 
   /**
-   * Add news into array up coming news array
+   * Add news into array up coming news array. News image is rendered
+   * in background so that it is ready when news are shown.
    * @param news to add
    */
   public void addNews(final NewsData news) {
     upComingNewsData.add(news);
+    NewsImageCache.prerender(news.getImageInstructions());
   }
 
   /**
@@ -0,0 +1,250 @@
+package org.openRealmOfStars.starMap.newsCorp;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+
+import org.openRealmOfStars.utilities.ErrorLogger;
+
+/**
+ *
+ * Cache for rendered news images. Images are kept in least recently used
+ * order and keyed by image instructions and image size. News image size
+ * is seeded from default news panel size when game window is opened and
+ * updated whenever news screen requests image. Then news images are
+ * rendered in background as soon as news is added, so news screen does
+ * not need to wait for rendering.
+ *
+ */
+public final class NewsImageCache {
+
+  /**
+   * Maximum number of rendered news images in cache.
+   */
+  public static final int MAX_IMAGES = 32;
+
+  /**
+   * Rendered images in least recently used order.
+   */
+  private static final Map<String, FutureTask<BufferedImage>> IMAGES =
+      new LinkedHashMap<String, FutureTask<BufferedImage>>(16, 0.75f, true) {
+        /** Serialization version */
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(
+            final Map.Entry<String, FutureTask<BufferedImage>> eldest) {
+          return size() > MAX_IMAGES;
+        }
+      };
+
+  /**
+   * Executor rendering news images in background.
+   */
+  private static final ExecutorService RENDERER =
+      Executors.newSingleThreadExecutor(NewsImageCache::createThread);
+
+  /**
+   * News image width used for background rendering. Zero if not known.
+   */
+  private static int imageWidth;
+
+  /**
+   * News image height used for background rendering. Zero if not known.
+   */
+  private static int imageHeight;
+
+  /**
+   * Hidden constructor.
+   */
+  private NewsImageCache() {
+    // Nothing to do
+  }
+
+  /**
+   * Create daemon thread for background rendering.
+   * @param runnable Runnable to run in thread
+   * @return Thread
+   */
+  private static Thread createThread(final Runnable runnable) {
+    Thread thread = new Thread(runnable, "News image renderer");
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  /**
+   * Build cache key from instructions and size.
+   * @param instructions Image instructions
+   * @param width Image width
+   * @param height Image height
+   * @return Cache key
+   */
+  private static String getKey(final String instructions, final int width,
+      final int height) {
+    return width + "x" + height + ":" + instructions;
+  }
+
+  /**
+   * Create render task for news image.
+   * @param instructions Image instructions
+   * @param width Image width
+   * @param height Image height
+   * @return Render task
+   */
+  private static FutureTask<BufferedImage> createTask(
+      final String instructions, final int width, final int height) {
+    return new FutureTask<>(() -> {
+      BufferedImage image = new BufferedImage(width, height,
+          BufferedImage.TYPE_4BYTE_ABGR);
+      return ImageInstruction.parseImageInstructions(image, instructions);
+    });
+  }
+
+  /**
+   * Get rendered news image. If image is not in cache it is rendered
+   * in calling thread. If image is being rendered in background this
+   * waits until rendering is done. Requested size is remembered and
+   * used for rendering later news in background.
+   * Returned image is shared and should not be drawn on.
+   * @param instructions Image instructions
+   * @param width Image width
+   * @param height Image height
+   * @return Rendered image
+   */
+  public static BufferedImage getImage(final String instructions,
+      final int width, final int height) {
+    String key = getKey(instructions, width, height);
+    FutureTask<BufferedImage> task;
+    boolean render = false;
+    synchronized (IMAGES) {
+      imageWidth = width;
+      imageHeight = height;
+      task = IMAGES.get(key);
+      if (task == null) {
+        task = createTask(instructions, width, height);
+        IMAGES.put(key, task);
+        render = true;
+      }
+    }
+    if (render) {
+      task.run();
+    }
+    try {
+      return task.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Rendering news image interrupted.",
+          e);
+    } catch (ExecutionException e) {
+      synchronized (IMAGES) {
+        IMAGES.remove(key);
+      }
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException("Rendering news image failed.",
+          e.getCause());
+    }
+  }
+
+  /**
+   * Start rendering news image in background with latest news image
+   * size. Does nothing if news image size is not yet known or image is
+   * already in cache.
+   * @param instructions Image instructions
+   */
+  public static void prerender(final String instructions) {
+    if (instructions == null) {
+      return;
+    }
+    FutureTask<BufferedImage> task;
+    synchronized (IMAGES) {
+      if (imageWidth <= 0 || imageHeight <= 0) {
+        return;
+      }
+      String key = getKey(instructions, imageWidth, imageHeight);
+      if (IMAGES.containsKey(key)) {
+        return;
+      }
+      task = createTask(instructions, imageWidth, imageHeight);
+      IMAGES.put(key, task);
+    }
+    RENDERER.execute(() -> {
+      task.run();
+      try {
+        task.get();
+      } catch (InterruptedException | ExecutionException e) {
+        ErrorLogger.log("Failed to render news image in background: "
+            + e.getMessage());
+      }
+    });
+  }
+
+  /**
+   * Set news image size used for background rendering.
+   * @param width Image width, zero disables background rendering
+   * @param height Image height, zero disables background rendering
+   */
+  public static void setImageSize(final int width, final int height) {
+    synchronized (IMAGES) {
+      imageWidth = width;
+      imageHeight = height;
+    }
+  }
+
+  /**
+   * Is news image already rendered or being rendered.
+   * @param instructions Image instructions
+   * @param width Image width
+   * @param height Image height
+   * @return True if image is in cache
+   */
+  public static boolean isCached(final String instructions, final int width,
+      final int height) {
+    synchronized (IMAGES) {
+      return IMAGES.containsKey(getKey(instructions, width, height));
+    }
+  }
+
+  /**
+   * Get number of news images in cache.
+   * @return Number of images
+   */
+  public static int getNumberOfImages() {
+    synchronized (IMAGES) {
+      return IMAGES.size();
+    }
+  }
+
+  /**
+   * Clear cache and forget news image size.
+   */
+  public static void clear() {
+    synchronized (IMAGES) {
+      IMAGES.clear();
+      imageWidth = 0;
+      imageHeight = 0;
+    }
+  }
+}
@@ -53,6 +53,7 @@ import org.openRealmOfStars.player.ship.ShipHullType;
 import org.openRealmOfStars.player.ship.ShipSize;
 import org.openRealmOfStars.player.ship.ShipStat;
 import org.openRealmOfStars.starMap.Coordinate;
+import org.openRealmOfStars.starMap.FleetTileIndex;
 import org.openRealmOfStars.starMap.StarMap;
 import org.openRealmOfStars.starMap.Sun;
 import org.openRealmOfStars.starMap.event.ascensionEvents.AscensionEvents;
@@ -254,6 +255,10 @@ public class Planet {
 
   /** Orbital for planet. */
   private Ship orbital;
+  /** Fleet tile index which is told when orbital changes. Can be null. */
+  private FleetTileIndex fleetTileIndex;
+  /** Star map whose planet name index has this planet. Can be null. */
+  private StarMap nameIndexMap;
 
   /** Amount of different workers */
   private int[] workers;
@@ -344,6 +349,7 @@ public class Planet {
    * @param building to add
    */
   public void addBuilding(final Building building) {
+    markProductionChanged();
     if (building != null) {
       this.buildings.add(building);
     }
@@ -354,6 +360,7 @@ public class Planet {
    * @param building to remove
    */
   public void removeBuilding(final Building building) {
+    markProductionChanged();
     if (building != null) {
       int recycleBonus = getRecycleBonus();
       for (int i = 0; i < buildings.size(); i++) {
@@ -564,6 +571,7 @@ public class Planet {
    * @param value how many workers in this production
    */
   public void setWorkers(final int workerType, final int value) {
+    markProductionChanged();
     if (workerType >= 0 && workerType < MAX_WORKER_TYPE) {
       workers[workerType] = value;
     }
@@ -1445,6 +1453,18 @@ public class Planet {
    */
   public void setName(final String name) {
     this.name = name;
+    if (nameIndexMap != null) {
+      nameIndexMap.markPlanetRenamed();
+    }
+  }
+
+  /**
+   * Set star map whose planet name index has this planet. Star map is
+   * told when planet is renamed.
+   * @param map StarMap or null
+   */
+  public void setNameIndexMap(final StarMap map) {
+    this.nameIndexMap = map;
   }
 
   /**
@@ -1735,6 +1755,7 @@ public class Planet {
    * @param metal How much metal available on planet
    */
   public void setMetal(final int metal) {
+    markProductionChanged();
     this.metal = metal;
   }
 
@@ -2224,8 +2245,11 @@ public class Planet {
    * @param info PlayerInfo for planet owner
    */
   public void setPlanetOwner(final int ownerIndex, final PlayerInfo info) {
+    // Both realms lose or gain planet's production
+    markProductionChanged();
     this.planetOwner = ownerIndex;
     this.planetOwnerInfo = info;
+    markProductionChanged();
     if (planetOwnerInfo == null) {
       setOrbital(null);
     }
@@ -2586,6 +2610,7 @@ public class Planet {
     stat.setNumberOfBuilt(stat.getNumberOfBuilt() + 1);
     stat.setNumberOfInUse(stat.getNumberOfInUse() + 1);
     orbital = ship;
+    orbitalChanged();
     if (!hasCertainBuilding("Space port")
         && buildings.size() < getGroundSize()) {
       addBuilding(BuildingFactory.createByName("Space port"));
@@ -2973,6 +2998,7 @@ public class Planet {
             sb.append(getName());
             sb.append(".");
             orbital = ship;
+            orbitalChanged();
             if (governor != null
                 && getGovernorGuide() != Planet.PASSIVE_GOVERNOR) {
               int index = map.getPlayerList().getIndex(getPlanetPlayerInfo());
@@ -3250,6 +3276,7 @@ public class Planet {
    * @param map StarMap can be null in tests
    */
   public void updateOneTurn(final boolean enemyOrbiting, final StarMap map) {
+    markProductionChanged();
     if (planetOwnerInfo == null) {
       return;
     }
@@ -3525,6 +3552,7 @@ public class Planet {
    * @param force if true taxLevel can be beyond the limits.
    */
   public void setTax(final int taxLevel, final boolean force) {
+    markProductionChanged();
     if (force) {
       this.tax = taxLevel;
     } else {
@@ -4155,6 +4183,7 @@ public class Planet {
    * @param extraFood extra food
    */
   public void setExtraFood(final int extraFood) {
+    markProductionChanged();
     this.extraFood = extraFood;
   }
 
@@ -4180,6 +4209,7 @@ public class Planet {
    * @param newType the type to set
    */
   public void setPlanetType(final PlanetTypes newType) {
+    markProductionChanged();
     this.planetType = newType;
     if (this.planetType == PlanetTypes.ARTIFICIALWORLD1) {
       amountMetalInGround = 0;
@@ -4217,6 +4247,7 @@ public class Planet {
    * @return True if status was added
    */
   public boolean addStatus(final AppliedStatus status) {
+    markProductionChanged();
     var statusesArray = new PlanetaryStatus[statuses.size()];
     for (int i = 0; i < statusesArray.length; i++) {
       statusesArray[i] = statuses.get(i).getStatus();
@@ -4240,6 +4271,7 @@ public class Planet {
    * @return True applied status was added to applied statuses list.
    */
   public boolean addAppliedStatus(final AppliedStatus status) {
+    markProductionChanged();
     var statusesArray = new PlanetaryStatus[statuses.size()];
     for (int i = 0; i < statusesArray.length; i++) {
       statusesArray[i] = statuses.get(i).getStatus();
@@ -4303,6 +4335,7 @@ public class Planet {
    * @return True if status was removed
    */
   public boolean removeStatus(final String statusId) {
+    markProductionChanged();
     return statuses.removeIf(status -> status.getStatusId().equals(statusId));
   }
 
@@ -4311,6 +4344,7 @@ public class Planet {
    * @param planetaryEvent Event to set
    */
   public void setPlanetaryEvent(final PlanetaryEvent planetaryEvent) {
+    markProductionChanged();
     event = planetaryEvent;
   }
 
@@ -4335,6 +4369,7 @@ public class Planet {
    * @param activation True for activate event.
    */
   public void setEventActivation(final boolean activation) {
+    markProductionChanged();
     eventFound = activation;
   }
 
@@ -4602,6 +4637,7 @@ public class Planet {
    * @param effect HappinessEffect to set for planet
    */
   public void setHappinessEffect(final HappinessEffect effect) {
+    markProductionChanged();
     happinessEffect = effect;
   }
 
@@ -4721,6 +4757,7 @@ public class Planet {
    * @param governor the governor to set
    */
   public void setGovernor(final Leader governor) {
+    markProductionChanged();
     this.governor = governor;
     if (this.governor != null) {
       this.governor.assignJob(Job.GOVERNOR, this.getPlanetPlayerInfo());
@@ -4826,7 +4863,36 @@ public class Planet {
    * @param orbital Ship
    */
   public void setOrbital(final Ship orbital) {
+    markProductionChanged();
     this.orbital = orbital;
+    orbitalChanged();
+  }
+
+  /**
+   * Set fleet tile index where planet's sector is marked as changed
+   * when orbital is built or destroyed.
+   * @param fleetTileIndex FleetTileIndex or null
+   */
+  public void setFleetTileIndex(final FleetTileIndex fleetTileIndex) {
+    this.fleetTileIndex = fleetTileIndex;
+  }
+
+  /**
+   * Tell realm who owns the planet that its production has changed.
+   */
+  private void markProductionChanged() {
+    if (planetOwnerInfo != null) {
+      planetOwnerInfo.markProductionChanged();
+    }
+  }
+
+  /**
+   * Mark planet's sector as changed in fleet tile index.
+   */
+  private void orbitalChanged() {
+    if (fleetTileIndex != null) {
+      fleetTileIndex.markChanged(getX(), getY());
+    }
   }
 
   /**
@@ -5358,6 +5424,7 @@ public class Planet {
    * @param map StarMap
    */
   public void handleTimedStatuses(final StarMap map) {
+    markProductionChanged();
     int turnNumber = map.getTurn();
     ArrayList<TimedStatus> removeList = new ArrayList<>();
     for (TimedStatus status : timedStatuses) {
@@ -62,13 +62,28 @@ public final class BuildingFactory {
    * @return Building or empty
    */
   private Optional<Building> createByNameImpl(final String name) {
+    loadIfNeeded();
+
+    final var cachedTrait = buildings.get(name);
+    return Optional.ofNullable(cachedTrait);
+  }
+
+  /**
+   * Load data into factory if not yet loaded. Loading is synchronized
+   * so that factory can be initialized from several threads.
+   */
+  private synchronized void loadIfNeeded() {
     if (!initialized) {
       init();
-      this.initialized = true;
+      initialized = true;
     }
+  }
 
-    final var cachedTrait = buildings.get(name);
-    return Optional.ofNullable(cachedTrait);
+  /**
+   * Initialize factory by loading its data if not yet loaded.
+   */
+  public static void initialize() {
+    SINGLETON.loadIfNeeded();
   }
 
   /** Initialize the factory */
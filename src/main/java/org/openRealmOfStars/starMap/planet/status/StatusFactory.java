@@ -129,10 +129,7 @@ public final class StatusFactory {
    *         empty if statusId is invalid
    */
   private Optional<PlanetaryStatus> createStatus(final String statusId) {
-    if (!initialized) {
-      initialized = true;
-      init();
-    }
+    loadIfNeeded();
 
     var statusDef = validStatuses.getOrDefault(statusId, null);
     if (statusDef == null) {
@@ -141,6 +138,24 @@ public final class StatusFactory {
     return Optional.of(statusDef);
   }
 
+  /**
+   * Load data into factory if not yet loaded. Loading is synchronized
+   * so that factory can be initialized from several threads.
+   */
+  private synchronized void loadIfNeeded() {
+    if (!initialized) {
+      initialized = true;
+      init();
+    }
+  }
+
+  /**
+   * Initialize factory by loading its data if not yet loaded.
+   */
+  public static void initialize() {
+    SINGLETON.loadIfNeeded();
+  }
+
   /** Initialize the factory with external data */
   private void init() {
     final var basePath = "resources/data/planet_statuses/";
@@ -172,10 +187,7 @@ public final class StatusFactory {
    * @return Status array
    */
   private PlanetaryStatus[] getAll() {
-    if (!initialized) {
-      initialized = true;
-      init();
-    }
+    loadIfNeeded();
     return validStatuses.values().toArray(new PlanetaryStatus[0]);
   }
 
@@ -2,6 +2,7 @@ package org.openRealmOfStars.utilities.FileIo;
 /*
  * Open Realm of Stars game project
  * Copyright (C) 2023 BottledByte
+ * Copyright (C) 2026 Tuomo Untinen
  *
  * This program is free software; you can redistribute it and/or
  * modify it under the terms of the GNU General Public License
@@ -17,15 +18,16 @@ package org.openRealmOfStars.utilities.FileIo;
  * along with this program; if not, see http://www.gnu.org/licenses/
  */
 
+import java.io.File;
 import java.io.IOException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
-import org.json.JSONTokener;
 import org.openRealmOfStars.utilities.ErrorLogger;
 
 /**
@@ -45,10 +47,43 @@ import org.openRealmOfStars.utilities.ErrorLogger;
  * of affected file is discarded, error is reported and loading
  * of other file begins.
  *
+ * Parsed JSON files can be cached into binary files in cache folder,
+ * see JsonCache.
+ *
  * @param <K> Type of ID of V
  * @param <V> Type of loaded objects
  */
 public abstract class DataLoader<K, V> {
+  /** Folder for pre-parsed JSON files, null if cache is not used */
+  private static volatile File cacheFolder;
+
+  /** Number of files which could not be loaded */
+  private static final AtomicInteger FAILED_FILES = new AtomicInteger();
+
+  /**
+   * Set folder for pre-parsed JSON files.
+   * @param folder Cache folder or null to disable cache
+   */
+  public static void setCacheFolder(final File folder) {
+    cacheFolder = folder;
+  }
+
+  /**
+   * Get folder for pre-parsed JSON files.
+   * @return Cache folder or null if cache is not used
+   */
+  public static File getCacheFolder() {
+    return cacheFolder;
+  }
+
+  /**
+   * Get number of data files which have failed to load.
+   * @return Number of failed files
+   */
+  public static int getNumberOfFailedFiles() {
+    return FAILED_FILES.get();
+  }
+
   /**
    * Try to create object of type V from provided JSONObject.
    * @param jobj JSONObject to parse
@@ -94,6 +129,7 @@ public abstract class DataLoader<K, V> {
       final var urlOpt = DataSources.getDataUrl(path);
       if (urlOpt.isEmpty()) {
         ErrorLogger.log("Cannot find file: " + path);
+        FAILED_FILES.incrementAndGet();
         continue;
       }
       final var loadedCount = loadFromUrl(urlOpt.get(), storage);
@@ -116,13 +152,14 @@ public abstract class DataLoader<K, V> {
   protected int loadFromUrl(final URL url, final Map<K, V> storage) {
     final var urlString = url.toExternalForm();
     final var typeName = typeNameGetter();
-    try (var ins = url.openStream()) {
-      final var jsonArray = new JSONArray(new JSONTokener(ins));
+    try {
+      final var jsonArray = JsonCache.readJsonArray(url, cacheFolder);
       var loadedDefs = new ArrayList<V>();
 
       for (var obj : jsonArray) {
         if (!(obj instanceof JSONObject)) {
           ErrorLogger.log("Malformed JSON file: " + urlString);
+          FAILED_FILES.incrementAndGet();
           return 0;
         }
 
@@ -131,6 +168,7 @@ public abstract class DataLoader<K, V> {
           final var tplMalform = "Malformed %1$s in file: %2$s";
           ErrorLogger.log(String.format(tplMalform, typeName, urlString));
 
+          FAILED_FILES.incrementAndGet();
           if (loadedDefs.size() == 0) {
             ErrorLogger.log("No successfully loaded " + typeName);
             return 0;
@@ -156,9 +194,10 @@ public abstract class DataLoader<K, V> {
       }
 
       return loadedDefs.size();
-    } catch (IOException e) {
+    } catch (IOException | JSONException e) {
       ErrorLogger.log(e);
     }
+    FAILED_FILES.incrementAndGet();
     return 0;
   }
 }
@@ -58,6 +58,12 @@ public final class Folders {
   private static final String SCREENSHOT_FOLDER = "/screenshots";
   /** Save game folder */
   private static final String SAVEGAME_FOLDER = "/saves";
+  /** Pre-parsed data cache folder */
+  private static final String DATA_CACHE_FOLDER = "/cache/data";
+  /** Baked tile atlas cache folder */
+  private static final String TILE_CACHE_FOLDER = "/cache/tiles";
+  /** AI turn profile file */
+  private static final String TURN_PROFILE_FILE = "/turn_profile.csv";
   /**
    * Hiding constructor.
    */
@@ -265,6 +271,41 @@ public final class Folders {
     return handleSeparator(userFolder + SAVEGAME_FOLDER);
   }
 
+  /**
+   * Get Path for pre-parsed data cache. Folder is created when cache
+   * is written.
+   * @return Path for data cache.
+   */
+  public static String getDataCachePath() {
+    if (userFolder == null) {
+      initFolders();
+    }
+    return handleSeparator(userFolder + DATA_CACHE_FOLDER);
+  }
+
+  /**
+   * Get Path for baked tile atlas cache. Folder is created when atlas
+   * is written.
+   * @return Path for tile cache.
+   */
+  public static String getTileCachePath() {
+    if (userFolder == null) {
+      initFolders();
+    }
+    return handleSeparator(userFolder + TILE_CACHE_FOLDER);
+  }
+
+  /**
+   * Get Path for AI turn profile CSV file.
+   * @return Path for turn profile file.
+   */
+  public static String getTurnProfilePath() {
+    if (userFolder == null) {
+      initFolders();
+    }
+    return handleSeparator(userFolder + TURN_PROFILE_FILE);
+  }
+
   /**
    * Handle file and folder separator.
    * @param input String input
@@ -0,0 +1,322 @@
+package org.openRealmOfStars.utilities.FileIo;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URL;
+import java.net.URLConnection;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+import org.openRealmOfStars.utilities.ErrorLogger;
+
+/**
+ *
+ * Cache for pre-parsed JSON data files. Parsed JSON array is written
+ * into binary file in cache folder. Cache file remembers last
+ * modification time and length of the source file so it is used
+ * only while source is unchanged. Reading cache file does not need
+ * JSON tokenizing.
+ *
+ */
+public final class JsonCache {
+
+  /**
+   * Magic string for cache file.
+   */
+  public static final String CACHE_MAGIC = "OROS-JSON-CACHE-1";
+
+  /** Tag for null value */
+  private static final int TAG_NULL = 0;
+  /** Tag for string value */
+  private static final int TAG_STRING = 1;
+  /** Tag for boolean value */
+  private static final int TAG_BOOLEAN = 2;
+  /** Tag for integer value */
+  private static final int TAG_INTEGER = 3;
+  /** Tag for long value */
+  private static final int TAG_LONG = 4;
+  /** Tag for double value */
+  private static final int TAG_DOUBLE = 5;
+  /** Tag for big integer value */
+  private static final int TAG_BIG_INTEGER = 6;
+  /** Tag for big decimal value */
+  private static final int TAG_BIG_DECIMAL = 7;
+  /** Tag for JSON object */
+  private static final int TAG_OBJECT = 8;
+  /** Tag for JSON array */
+  private static final int TAG_ARRAY = 9;
+
+  /**
+   * Hiding constructor.
+   */
+  private JsonCache() {
+    // Nothing to do
+  }
+
+  /**
+   * Read JSON array from URL. If cache folder is given and it contains
+   * up to date cache file for URL, array is read from there. Otherwise
+   * JSON is parsed and cache file is written.
+   * @param url URL to JSON file
+   * @param cacheFolder Cache folder or null if cache is not used
+   * @return JSONArray
+   * @throws IOException If reading source fails
+   */
+  public static JSONArray readJsonArray(final URL url,
+      final File cacheFolder) throws IOException {
+    if (cacheFolder == null) {
+      try (InputStream ins = url.openStream()) {
+        return new JSONArray(new JSONTokener(ins));
+      }
+    }
+    URLConnection connection = url.openConnection();
+    long modified = connection.getLastModified();
+    long length = connection.getContentLengthLong();
+    String source = url.toExternalForm();
+    File cacheFile = getCacheFile(cacheFolder, source);
+    if (modified != 0 && cacheFile.isFile()) {
+      try (DataInputStream dis = new DataInputStream(
+          new BufferedInputStream(new FileInputStream(cacheFile)))) {
+        JSONArray array = readCache(dis, source, modified, length);
+        if (array != null) {
+          connection.getInputStream().close();
+          return array;
+        }
+      } catch (IOException e) {
+        ErrorLogger.debug("Ignoring broken data cache " + cacheFile + ": "
+            + e.getMessage());
+      }
+    }
+    JSONArray array;
+    try (InputStream ins = connection.getInputStream()) {
+      array = new JSONArray(new JSONTokener(ins));
+    }
+    if (modified != 0) {
+      writeCacheFile(cacheFile, array, source, modified, length);
+    }
+    return array;
+  }
+
+  /**
+   * Get cache file for source.
+   * @param cacheFolder Cache folder
+   * @param source Source URL as string
+   * @return Cache file
+   */
+  public static File getCacheFile(final File cacheFolder,
+      final String source) {
+    int slash = source.lastIndexOf('/');
+    String name = source.substring(slash + 1);
+    return new File(cacheFolder, Integer.toHexString(source.hashCode())
+        + "-" + name + ".bin");
+  }
+
+  /**
+   * Write cache file. Failing to write cache is not an error since
+   * JSON is then just parsed again next time.
+   * @param cacheFile Cache file
+   * @param array Parsed JSON array
+   * @param source Source URL as string
+   * @param modified Source modification time
+   * @param length Source length
+   */
+  private static void writeCacheFile(final File cacheFile,
+      final JSONArray array, final String source, final long modified,
+      final long length) {
+    File folder = cacheFile.getParentFile();
+    if (!folder.isDirectory() && !folder.mkdirs()) {
+      ErrorLogger.debug("Could not create data cache folder " + folder);
+      return;
+    }
+    File tmpFile = new File(folder, cacheFile.getName() + ".tmp");
+    try (DataOutputStream dos = new DataOutputStream(
+        new BufferedOutputStream(new FileOutputStream(tmpFile)))) {
+      writeCache(dos, array, source, modified, length);
+    } catch (IOException e) {
+      ErrorLogger.debug("Could not write data cache " + cacheFile + ": "
+          + e.getMessage());
+      if (!tmpFile.delete()) {
+        ErrorLogger.debug("Could not delete " + tmpFile);
+      }
+      return;
+    }
+    if ((cacheFile.exists() && !cacheFile.delete())
+        || !tmpFile.renameTo(cacheFile)) {
+      ErrorLogger.debug("Could not replace data cache " + cacheFile);
+      if (!tmpFile.delete()) {
+        ErrorLogger.debug("Could not delete " + tmpFile);
+      }
+    }
+  }
+
+  /**
+   * Write JSON array with cache header.
+   * @param dos DataOutputStream
+   * @param array JSON array
+   * @param source Source URL as string
+   * @param modified Source modification time
+   * @param length Source length
+   * @throws IOException If writing fails or value cannot be cached
+   */
+  public static void writeCache(final DataOutputStream dos,
+      final JSONArray array, final String source, final long modified,
+      final long length) throws IOException {
+    IOUtilities.writeString(dos, CACHE_MAGIC);
+    IOUtilities.writeString(dos, source);
+    dos.writeLong(modified);
+    dos.writeLong(length);
+    writeValue(dos, array);
+  }
+
+  /**
+   * Read JSON array from cache. Null is returned if cache is for other
+   * source or source has changed.
+   * @param dis DataInputStream
+   * @param source Source URL as string
+   * @param modified Source modification time
+   * @param length Source length
+   * @return JSONArray or null
+   * @throws IOException If reading fails
+   */
+  public static JSONArray readCache(final DataInputStream dis,
+      final String source, final long modified, final long length)
+      throws IOException {
+    if (!CACHE_MAGIC.equals(IOUtilities.readString(dis))
+        || !source.equals(IOUtilities.readString(dis))
+        || dis.readLong() != modified || dis.readLong() != length) {
+      return null;
+    }
+    Object value = readValue(dis);
+    if (value instanceof JSONArray) {
+      return (JSONArray) value;
+    }
+    throw new IOException("Data cache does not contain JSON array!");
+  }
+
+  /**
+   * Write single JSON value.
+   * @param dos DataOutputStream
+   * @param value JSON value
+   * @throws IOException If writing fails or value cannot be cached
+   */
+  private static void writeValue(final DataOutputStream dos,
+      final Object value) throws IOException {
+    if (value == null || JSONObject.NULL.equals(value)) {
+      dos.writeByte(TAG_NULL);
+    } else if (value instanceof String) {
+      dos.writeByte(TAG_STRING);
+      IOUtilities.writeString(dos, (String) value);
+    } else if (value instanceof Boolean) {
+      dos.writeByte(TAG_BOOLEAN);
+      dos.writeBoolean((Boolean) value);
+    } else if (value instanceof Integer) {
+      dos.writeByte(TAG_INTEGER);
+      dos.writeInt((Integer) value);
+    } else if (value instanceof Long) {
+      dos.writeByte(TAG_LONG);
+      dos.writeLong((Long) value);
+    } else if (value instanceof Double) {
+      dos.writeByte(TAG_DOUBLE);
+      dos.writeDouble((Double) value);
+    } else if (value instanceof BigInteger) {
+      dos.writeByte(TAG_BIG_INTEGER);
+      IOUtilities.writeString(dos, value.toString());
+    } else if (value instanceof BigDecimal) {
+      dos.writeByte(TAG_BIG_DECIMAL);
+      IOUtilities.writeString(dos, value.toString());
+    } else if (value instanceof JSONObject) {
+      JSONObject object = (JSONObject) value;
+      dos.writeByte(TAG_OBJECT);
+      dos.writeInt(object.length());
+      for (String key : object.keySet()) {
+        IOUtilities.writeString(dos, key);
+        writeValue(dos, object.opt(key));
+      }
+    } else if (value instanceof JSONArray) {
+      JSONArray array = (JSONArray) value;
+      dos.writeByte(TAG_ARRAY);
+      dos.writeInt(array.length());
+      for (int i = 0; i < array.length(); i++) {
+        writeValue(dos, array.opt(i));
+      }
+    } else {
+      throw new IOException("Cannot cache JSON value of "
+          + value.getClass().getName());
+    }
+  }
+
+  /**
+   * Read single JSON value.
+   * @param dis DataInputStream
+   * @return JSON value
+   * @throws IOException If reading fails
+   */
+  private static Object readValue(final DataInputStream dis)
+      throws IOException {
+    int tag = dis.readByte();
+    switch (tag) {
+      case TAG_NULL:
+        return JSONObject.NULL;
+      case TAG_STRING:
+        return IOUtilities.readString(dis);
+      case TAG_BOOLEAN:
+        return Boolean.valueOf(dis.readBoolean());
+      case TAG_INTEGER:
+        return Integer.valueOf(dis.readInt());
+      case TAG_LONG:
+        return Long.valueOf(dis.readLong());
+      case TAG_DOUBLE:
+        return Double.valueOf(dis.readDouble());
+      case TAG_BIG_INTEGER:
+        return new BigInteger(IOUtilities.readString(dis));
+      case TAG_BIG_DECIMAL:
+        return new BigDecimal(IOUtilities.readString(dis));
+      case TAG_OBJECT: {
+        int count = dis.readInt();
+        JSONObject object = new JSONObject();
+        for (int i = 0; i < count; i++) {
+          String key = IOUtilities.readString(dis);
+          object.put(key, readValue(dis));
+        }
+        return object;
+      }
+      case TAG_ARRAY: {
+        int count = dis.readInt();
+        JSONArray array = new JSONArray();
+        for (int i = 0; i < count; i++) {
+          array.put(readValue(dis));
+        }
+        return array;
+      }
+      default:
+        throw new IOException("Unknown tag " + tag + " in data cache!");
+    }
+  }
+}
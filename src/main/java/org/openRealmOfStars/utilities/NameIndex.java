@@ -0,0 +1,281 @@
+package org.openRealmOfStars.utilities;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ *
+ * Name index for list of items. Items are kept in hash map by name and
+ * names are kept in sorted map for prefix searches. Items without name
+ * are never found. Items with same name
+ * or same prefix are returned in list order. Items appended to the list
+ * are added into index and removed items are removed from index.
+ * Renaming is tracked per index: owner of the list calls invalidate()
+ * when its item is renamed.
+ *
+ * @param <T> Item type
+ */
+public final class NameIndex<T> {
+
+  /**
+   * Function giving name for item.
+   */
+  private final Function<T, String> naming;
+
+  /**
+   * Items by name in list order.
+   */
+  private final HashMap<String, ArrayList<T>> byName;
+
+  /**
+   * Same item lists as in byName but in alphabetical order of names.
+   */
+  private final TreeMap<String, ArrayList<T>> sortedNames;
+
+  /**
+   * Order number for each item, used for keeping prefix results in
+   * list order.
+   */
+  private final IdentityHashMap<T, Integer> order;
+
+  /**
+   * Order number for next added item.
+   */
+  private int nextOrder;
+
+  /**
+   * Is index built and not invalidated.
+   */
+  private boolean built;
+
+  /**
+   * Create empty name index. Index needs to be built before searching.
+   * Renames are marked with invalidate().
+   * @param naming Function giving name for item
+   */
+  public NameIndex(final Function<T, String> naming) {
+    this.naming = naming;
+    byName = new HashMap<>();
+    sortedNames = new TreeMap<>();
+    order = new IdentityHashMap<>();
+    built = false;
+  }
+
+  /**
+   * Mark this index to be built again before next search.
+   */
+  public void invalidate() {
+    built = false;
+  }
+
+  /**
+   * Is index up to date with item names.
+   * @param size Number of items in list
+   * @return True if index can be used
+   */
+  public boolean isValid(final int size) {
+    return built && order.size() == size;
+  }
+
+  /**
+   * Build index from item list.
+   * @param list Items in list order
+   */
+  public void build(final List<T> list) {
+    byName.clear();
+    sortedNames.clear();
+    order.clear();
+    nextOrder = 0;
+    built = true;
+    for (T item : list) {
+      add(item);
+    }
+  }
+
+  /**
+   * Add item which has been appended into end of list.
+   * Does nothing if index is not built.
+   * @param item Item to add
+   */
+  public void add(final T item) {
+    if (!built || order.containsKey(item)) {
+      return;
+    }
+    order.put(item, nextOrder);
+    nextOrder++;
+    String name = naming.apply(item);
+    if (name == null) {
+      return;
+    }
+    ArrayList<T> items = byName.get(name);
+    if (items == null) {
+      items = new ArrayList<>(1);
+      byName.put(name, items);
+      sortedNames.put(name, items);
+    }
+    items.add(item);
+  }
+
+  /**
+   * Remove item which has been removed from list.
+   * Does nothing if index is not built.
+   * @param item Item to remove
+   */
+  public void remove(final T item) {
+    if (!built || order.remove(item) == null) {
+      return;
+    }
+    String name = naming.apply(item);
+    if (name == null) {
+      return;
+    }
+    ArrayList<T> items = byName.get(name);
+    if (items == null || !removeSame(items, item)) {
+      // Name has changed without marking, so build again on next search
+      invalidate();
+      return;
+    }
+    if (items.isEmpty()) {
+      byName.remove(name);
+      sortedNames.remove(name);
+    }
+  }
+
+  /**
+   * Remove item from list by identity.
+   * @param items List of items
+   * @param item Item to remove
+   * @return True if item was found
+   */
+  private boolean removeSame(final ArrayList<T> items, final T item) {
+    for (int i = 0; i < items.size(); i++) {
+      if (items.get(i) == item) {
+        items.remove(i);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Get all items with name in list order.
+   * @param name Name to search
+   * @return List of items, empty if not found
+   */
+  public List<T> get(final String name) {
+    ArrayList<T> items = byName.get(name);
+    if (items == null) {
+      return new ArrayList<>();
+    }
+    return new ArrayList<>(items);
+  }
+
+  /**
+   * Get first item in list order with name.
+   * @param name Name to search
+   * @return Item or null if not found
+   */
+  public T getFirst(final String name) {
+    ArrayList<T> items = byName.get(name);
+    if (items == null) {
+      return null;
+    }
+    return items.get(0);
+  }
+
+  /**
+   * Get last item in list order with name.
+   * @param name Name to search
+   * @return Item or null if not found
+   */
+  public T getLast(final String name) {
+    ArrayList<T> items = byName.get(name);
+    if (items == null) {
+      return null;
+    }
+    return items.get(items.size() - 1);
+  }
+
+  /**
+   * Is there item with name.
+   * @param name Name to search
+   * @return True if found
+   */
+  public boolean contains(final String name) {
+    return byName.containsKey(name);
+  }
+
+  /**
+   * Get sorted map of names starting with prefix.
+   * @param prefix Name prefix
+   * @return Map of names and items
+   */
+  private Map<String, ArrayList<T>> getPrefixMap(final String prefix) {
+    if (prefix.isEmpty()) {
+      return sortedNames;
+    }
+    // All names starting with prefix are between prefix and next prefix
+    char last = prefix.charAt(prefix.length() - 1);
+    if (last == Character.MAX_VALUE) {
+      return sortedNames.tailMap(prefix, true);
+    }
+    String next = prefix.substring(0, prefix.length() - 1) + (char) (last + 1);
+    return sortedNames.subMap(prefix, true, next, false);
+  }
+
+  /**
+   * Count items whose name starts with prefix.
+   * @param prefix Name prefix
+   * @return Number of items
+   */
+  public int countStartingWith(final String prefix) {
+    int count = 0;
+    for (Map.Entry<String, ArrayList<T>> entry
+        : getPrefixMap(prefix).entrySet()) {
+      if (entry.getKey().startsWith(prefix)) {
+        count = count + entry.getValue().size();
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Get items whose name starts with prefix.
+   * @param prefix Name prefix
+   * @return Items in list order
+   */
+  public List<T> getStartingWith(final String prefix) {
+    ArrayList<T> result = new ArrayList<>();
+    for (Map.Entry<String, ArrayList<T>> entry
+        : getPrefixMap(prefix).entrySet()) {
+      if (entry.getKey().startsWith(prefix)) {
+        result.addAll(entry.getValue());
+      }
+    }
+    result.sort((first, second) -> Integer.compare(order.get(first),
+        order.get(second)));
+    return result;
+  }
+}
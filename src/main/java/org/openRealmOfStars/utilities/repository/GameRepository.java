@@ -1,7 +1,7 @@
 package org.openRealmOfStars.utilities.repository;
 /*
  * Open Realm of Stars game project
- * Copyright (C) 2016 Tuomo Untinen
+ * Copyright (C) 2016-2026 Tuomo Untinen
  *
  * This program is free software; you can redistribute it and/or
  * modify it under the terms of the GNU General Public License
@@ -26,18 +26,53 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.openRealmOfStars.game.Game;
+import org.openRealmOfStars.game.SavedGame;
 import org.openRealmOfStars.starMap.StarMap;
 import org.openRealmOfStars.utilities.ErrorLogger;
 
 /**
 *
-* Game repository class
+* Game repository class. Games are saved as save container where
+* each part of the game is compressed separately. Save is first written
+* into temporary file which is then renamed over the old save, so failed
+* save never breaks the previous one. Old single stream saves can still
+* be loaded.
 *
 */
 public class GameRepository {
 
+  /**
+   * Executor writing saves in background. Single thread makes sure that
+   * saves are written in same order as they were made.
+   */
+  private static final ExecutorService SAVE_EXECUTOR =
+      Executors.newSingleThreadExecutor(GameRepository::newSaveThread);
+
+  /**
+   * Latest save written in background or null.
+   */
+  private static Future<?> latestSave;
+
+  /**
+   * Create thread for writing saves.
+   * @param runnable Runnable to run in thread
+   * @return Thread
+   */
+  private static Thread newSaveThread(final Runnable runnable) {
+    Thread thread = new Thread(runnable, "Save game writer");
+    thread.setDaemon(true);
+    return thread;
+  }
 
   /**
    * Save game for certain file name
@@ -47,28 +82,187 @@ public class GameRepository {
    */
   public void saveGame(final String folderName, final String filename,
                         final StarMap starMap) {
-    if (starMap != null) {
-      File folder = new File(folderName);
-      if (!folder.exists()) {
-        folder.mkdirs();
+    SaveGameChunks chunks = makeChunks(folderName, filename, starMap);
+    if (chunks != null) {
+      writeSave(folderName, filename, chunks);
+    }
+  }
+
+  /**
+   * Save game for certain file name in background. Game is
+   * copied into memory before this method returns, so game can
+   * continue while save is compressed and written into file.
+   * @param folderName Folder name where to save game
+   * @param filename File name
+   * @param starMap StarMap to save to file
+   * @return Future which is done when save has been written or null
+   *         if nothing was saved.
+   */
+  public Future<?> saveGameInBackground(final String folderName,
+      final String filename, final StarMap starMap) {
+    SaveGameChunks chunks = makeChunks(folderName, filename, starMap);
+    if (chunks == null) {
+      return null;
+    }
+    Future<?> future = SAVE_EXECUTOR.submit(
+        () -> writeSave(folderName, filename, chunks));
+    synchronized (SAVE_EXECUTOR) {
+      latestSave = future;
+    }
+    return future;
+  }
+
+  /**
+   * Wait until all saves written in background are done.
+   */
+  public static void waitForBackgroundSaves() {
+    Future<?> future;
+    synchronized (SAVE_EXECUTOR) {
+      future = latestSave;
+    }
+    if (future == null) {
+      return;
+    }
+    try {
+      future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      ErrorLogger.log("Background save failed: " + e.getMessage());
+    }
+  }
+
+  /**
+   * Copy game into save chunks.
+   * @param folderName Folder name where to save game
+   * @param filename File name
+   * @param starMap StarMap to save
+   * @return SaveGameChunks or null if there is nothing to save
+   */
+  private static SaveGameChunks makeChunks(final String folderName,
+      final String filename, final StarMap starMap) {
+    if (starMap == null) {
+      return null;
+    }
+    SaveGameChunks chunks = new SaveGameChunks();
+    try {
+      SavedGame.writeSummary(chunks.getOutput(SaveGameChunks.SUMMARY),
+          starMap);
+      if (Game.getTutorial() != null) {
+        starMap.setShownTutorial(Game.getTutorial().getShownIndexes());
+      }
+      starMap.saveGame(chunks);
+      chunks.finish();
+    } catch (IOException e) {
+      ErrorLogger.log("Game could not be saved: " + folderName + "/"
+          + filename + "! " + e.getMessage());
+      return null;
+    }
+    return chunks;
+  }
+
+  /**
+   * Write save chunks into file. Chunks are first written into
+   * unique temporary file in the same folder which then replaces
+   * the actual save file. Temporary file is forced to disk before
+   * replacing, so crash cannot leave half written save.
+   * @param folderName Folder name where to save game
+   * @param filename File name
+   * @param chunks SaveGameChunks
+   */
+  private static void writeSave(final String folderName,
+      final String filename, final SaveGameChunks chunks) {
+    File folder = new File(folderName);
+    if (!folder.exists()) {
+      folder.mkdirs();
+    }
+    File file = new File(folderName + "/" + filename);
+    Path tmpFile = null;
+    try {
+      tmpFile = Files.createTempFile(folder.toPath(), filename, ".tmp");
+      FileOutputStream os = new FileOutputStream(tmpFile.toFile());
+      BufferedOutputStream bos = new BufferedOutputStream(os);
+      try (DataOutputStream dos = new DataOutputStream(bos)) {
+        chunks.writeContainer(dos);
+        dos.flush();
+        os.getChannel().force(true);
       }
-      File file = new File(folderName + "/" + filename);
       try {
-        FileOutputStream os = new FileOutputStream(file);
-        BufferedOutputStream bos = new BufferedOutputStream(os);
-        try (DataOutputStream dos = new DataOutputStream(bos)) {
-          starMap.setShownTutorial(Game.getTutorial().getShownIndexes());
-          starMap.saveGame(dos);
-        } catch (IOException e) {
-          ErrorLogger.log(e);
-        }
-      } catch (FileNotFoundException e) {
-        ErrorLogger.log("File could not be write: " + folderName + "/"
-            + filename + "! " + e.getMessage());
+        Files.move(tmpFile, file.toPath(),
+            StandardCopyOption.ATOMIC_MOVE,
+            StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(tmpFile, file.toPath(),
+            StandardCopyOption.REPLACE_EXISTING);
+      }
+      tmpFile = null;
+    } catch (FileNotFoundException e) {
+      ErrorLogger.log("File could not be write: " + folderName + "/"
+          + filename + "! " + e.getMessage());
+    } catch (IOException e) {
+      ErrorLogger.log(e);
+    } finally {
+      if (tmpFile != null) {
+        tmpFile.toFile().delete();
       }
     }
   }
 
+  /**
+   * Read save container magic from stream. If stream does not start
+   * with container magic, stream is reset to beginning.
+   * @param bis BufferedInputStream under the DataInputStream
+   * @param dis DataInputStream
+   * @return True if stream is save container
+   * @throws IOException if there is any problem with reading
+   */
+  private static boolean readContainerMagic(final BufferedInputStream bis,
+      final DataInputStream dis) throws IOException {
+    String magic = SaveGameChunks.CONTAINER_MAGIC;
+    // Length int and UTF-16 chars
+    bis.mark(4 + magic.length() * 2);
+    int len = dis.readInt();
+    if (len == magic.length()) {
+      boolean match = true;
+      for (int i = 0; i < len && match; i++) {
+        match = dis.readChar() == magic.charAt(i);
+      }
+      if (match) {
+        return true;
+      }
+    }
+    bis.reset();
+    return false;
+  }
+
+  /**
+   * Load only save summary from certain file name. Rest of the save
+   * is not read.
+   * @param folderName Folder name where to load saved games
+   * @param filename File name
+   * @return Stream containing summary or null if save does not have
+   *         summary
+   * @throws IOException if reading fails
+   */
+  public DataInputStream loadSummary(final String folderName,
+      final String filename) throws IOException {
+    waitForBackgroundSaves();
+    File file = new File(folderName + "/" + filename);
+    try (FileInputStream is = new FileInputStream(file)) {
+      BufferedInputStream bis = new BufferedInputStream(is);
+      DataInputStream dis = new DataInputStream(bis);
+      if (!readContainerMagic(bis, dis)) {
+        return null;
+      }
+      SaveGameChunks chunks = SaveGameChunks.readContainer(dis,
+          SaveGameChunks.SUMMARY);
+      if (!chunks.hasChunk(SaveGameChunks.SUMMARY)) {
+        return null;
+      }
+      return chunks.getInput(SaveGameChunks.SUMMARY);
+    }
+  }
+
   /**
    * Load game from certain file name
    * @param folderName Folder name where to load saved games
@@ -76,12 +270,17 @@ public class GameRepository {
    * @return StarMap if successful, null if loading failed
    */
   public StarMap loadGame(final String folderName, final String filename) {
+    waitForBackgroundSaves();
     File file = new File(folderName + "/" + filename);
     StarMap starMap = null;
     try (FileInputStream is = new FileInputStream(file)) {
       BufferedInputStream bis = new BufferedInputStream(is);
       DataInputStream dis = new DataInputStream(bis);
-      starMap = new StarMap(dis);
+      if (readContainerMagic(bis, dis)) {
+        starMap = new StarMap(SaveGameChunks.readContainer(dis));
+      } else {
+        starMap = new StarMap(dis);
+      }
     } catch (IOException e) {
       ErrorLogger.log("Error while reading save file '"
           + filename + "': " + e.getMessage());
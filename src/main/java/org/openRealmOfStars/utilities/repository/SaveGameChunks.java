@@ -0,0 +1,367 @@
+package org.openRealmOfStars.utilities.repository;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.openRealmOfStars.utilities.FileIo.IOUtilities;
+
+/**
+ *
+ * Saved game split into named chunks. Each chunk is compressed
+ * separately when written into save container. Chunks can be also
+ * mapped into single stream, then every chunk name returns same stream
+ * and data is read or written in old single stream format.
+ *
+ * Save container format:
+ * CONTAINER_MAGIC, number of chunks and for each chunk: name,
+ * uncompressed length, compressed length and compressed data.
+ *
+ */
+public final class SaveGameChunks {
+
+  /**
+   * Magic string for save container.
+   */
+  public static final String CONTAINER_MAGIC = "OROS-SAVE-CONTAINER-1";
+
+  /**
+   * Chunk for save summary. Summary is written as first chunk so that
+   * it can be read without reading rest of the save.
+   */
+  public static final String SUMMARY = "SUMM";
+  /**
+   * Chunk for save header. Header contains turn, game settings and
+   * map size.
+   */
+  public static final String HEADER = "HEAD";
+  /**
+   * Chunk for map tiles.
+   */
+  public static final String TILES = "TILE";
+  /**
+   * Chunk for sector information.
+   */
+  public static final String SECTORS = "SECT";
+  /**
+   * Chunk for suns and planets.
+   */
+  public static final String PLANETS = "PLNT";
+  /**
+   * Chunk for realms.
+   */
+  public static final String REALMS = "PLYR";
+  /**
+   * Chunk for fleets of every realm.
+   */
+  public static final String FLEETS = "FLET";
+  /**
+   * Chunk for map visibility of every realm.
+   */
+  public static final String VISIBILITY = "VISI";
+  /**
+   * Chunk for news corporation.
+   */
+  public static final String NEWS = "NEWS";
+  /**
+   * Chunk for votes and tutorial.
+   */
+  public static final String GAME = "GAME";
+  /**
+   * Chunk for history.
+   */
+  public static final String HISTORY = "HIST";
+
+  /**
+   * Single input stream for all chunks or null.
+   */
+  private final DataInputStream singleInput;
+
+  /**
+   * Single output stream for all chunks or null.
+   */
+  private final DataOutputStream singleOutput;
+
+  /**
+   * Chunk names in order of creation.
+   */
+  private final ArrayList<String> names;
+
+  /**
+   * Uncompressed chunk data in same order as names.
+   */
+  private final ArrayList<byte[]> data;
+
+  /**
+   * Streams being written in same order as names.
+   */
+  private final ArrayList<ByteArrayOutputStream> buffers;
+
+  /**
+   * Output streams for chunks in same order as names.
+   */
+  private final ArrayList<DataOutputStream> outputs;
+
+  /**
+   * Create empty chunks for writing.
+   */
+  public SaveGameChunks() {
+    singleInput = null;
+    singleOutput = null;
+    names = new ArrayList<>();
+    data = new ArrayList<>();
+    buffers = new ArrayList<>();
+    outputs = new ArrayList<>();
+  }
+
+  /**
+   * Map every chunk into single input stream.
+   * @param dis DataInputStream
+   */
+  public SaveGameChunks(final DataInputStream dis) {
+    singleInput = dis;
+    singleOutput = null;
+    names = new ArrayList<>();
+    data = new ArrayList<>();
+    buffers = new ArrayList<>();
+    outputs = new ArrayList<>();
+  }
+
+  /**
+   * Map every chunk into single output stream.
+   * @param dos DataOutputStream
+   */
+  public SaveGameChunks(final DataOutputStream dos) {
+    singleInput = null;
+    singleOutput = dos;
+    names = new ArrayList<>();
+    data = new ArrayList<>();
+    buffers = new ArrayList<>();
+    outputs = new ArrayList<>();
+  }
+
+  /**
+   * Get output stream for chunk. Chunk is created if it does not exist.
+   * @param name Chunk name
+   * @return DataOutputStream
+   */
+  public DataOutputStream getOutput(final String name) {
+    if (singleOutput != null) {
+      return singleOutput;
+    }
+    int index = names.indexOf(name);
+    if (index == -1) {
+      ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+      names.add(name);
+      data.add(null);
+      buffers.add(buffer);
+      outputs.add(new DataOutputStream(buffer));
+      index = names.size() - 1;
+    }
+    return outputs.get(index);
+  }
+
+  /**
+   * Get input stream for chunk.
+   * @param name Chunk name
+   * @return DataInputStream
+   * @throws IOException If chunk is missing
+   */
+  public DataInputStream getInput(final String name) throws IOException {
+    if (singleInput != null) {
+      return singleInput;
+    }
+    int index = names.indexOf(name);
+    if (index == -1) {
+      throw new IOException("Save is missing chunk " + name + "!");
+    }
+    return new DataInputStream(new ByteArrayInputStream(getData(index)));
+  }
+
+  /**
+   * Has chunk with name. If chunks are mapped into single stream then
+   * every chunk exists.
+   * @param name Chunk name
+   * @return True if chunk exists
+   */
+  public boolean hasChunk(final String name) {
+    if (singleInput != null || singleOutput != null) {
+      return true;
+    }
+    return names.contains(name);
+  }
+
+  /**
+   * Get uncompressed data for chunk.
+   * @param index Chunk index
+   * @return Chunk data
+   */
+  private byte[] getData(final int index) {
+    if (data.get(index) == null) {
+      data.set(index, buffers.get(index).toByteArray());
+    }
+    return data.get(index);
+  }
+
+  /**
+   * Get number of chunks.
+   * @return Number of chunks
+   */
+  public int getNumberOfChunks() {
+    return names.size();
+  }
+
+  /**
+   * Finish writing chunks. After this chunks are not modified and can be
+   * written into save container in any thread.
+   * @throws IOException If flushing streams fails
+   */
+  public void finish() throws IOException {
+    for (int i = 0; i < names.size(); i++) {
+      outputs.get(i).flush();
+      getData(i);
+    }
+  }
+
+  /**
+   * Write chunks as save container. Each chunk is compressed separately.
+   * @param dos DataOutputStream
+   * @throws IOException If writing fails
+   */
+  public void writeContainer(final DataOutputStream dos) throws IOException {
+    IOUtilities.writeString(dos, CONTAINER_MAGIC);
+    dos.writeInt(names.size());
+    Deflater deflater = new Deflater();
+    byte[] buffer = new byte[65536];
+    try {
+      for (int i = 0; i < names.size(); i++) {
+        byte[] chunk = getData(i);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(
+            chunk.length / 4 + 64);
+        deflater.reset();
+        deflater.setInput(chunk);
+        deflater.finish();
+        while (!deflater.finished()) {
+          int len = deflater.deflate(buffer);
+          compressed.write(buffer, 0, len);
+        }
+        IOUtilities.writeString(dos, names.get(i));
+        dos.writeInt(chunk.length);
+        dos.writeInt(compressed.size());
+        compressed.writeTo(dos);
+      }
+    } finally {
+      deflater.end();
+    }
+  }
+
+  /**
+   * Skip bytes from stream.
+   * @param dis DataInputStream
+   * @param length Number of bytes to skip
+   * @throws IOException If stream ends before all bytes are skipped
+   */
+  private static void skipFully(final DataInputStream dis, final int length)
+      throws IOException {
+    int left = length;
+    while (left > 0) {
+      int skipped = dis.skipBytes(left);
+      if (skipped <= 0) {
+        dis.readByte();
+        skipped = 1;
+      }
+      left = left - skipped;
+    }
+  }
+
+  /**
+   * Read save container. Container magic must have been read already.
+   * Reading stops after last wanted chunk has been read.
+   * @param dis DataInputStream
+   * @param wanted Names of chunks to read, if empty all chunks are read.
+   * @return SaveGameChunks
+   * @throws IOException If reading fails
+   */
+  public static SaveGameChunks readContainer(final DataInputStream dis,
+      final String... wanted) throws IOException {
+    SaveGameChunks chunks = new SaveGameChunks();
+    int count = dis.readInt();
+    int found = 0;
+    Inflater inflater = new Inflater();
+    try {
+      for (int i = 0; i < count; i++) {
+        if (wanted.length > 0 && found == wanted.length) {
+          break;
+        }
+        String name = IOUtilities.readString(dis);
+        int length = dis.readInt();
+        int compressedLength = dis.readInt();
+        if (length < 0 || compressedLength < 0) {
+          throw new IOException("Corrupted chunk " + name + "!");
+        }
+        boolean read = wanted.length == 0;
+        for (String wantedName : wanted) {
+          if (wantedName.equals(name)) {
+            read = true;
+            found++;
+          }
+        }
+        if (!read) {
+          skipFully(dis, compressedLength);
+          continue;
+        }
+        byte[] compressed = new byte[compressedLength];
+        dis.readFully(compressed);
+        byte[] chunk = new byte[length];
+        inflater.reset();
+        inflater.setInput(compressed);
+        try {
+          int offset = 0;
+          while (offset < length && !inflater.finished()) {
+            int len = inflater.inflate(chunk, offset, length - offset);
+            if (len == 0 && inflater.needsInput()) {
+              break;
+            }
+            offset = offset + len;
+          }
+          if (offset != length) {
+            throw new IOException("Chunk " + name + " is truncated!");
+          }
+        } catch (DataFormatException e) {
+          throw new IOException("Chunk " + name + " is corrupted! "
+              + e.getMessage());
+        }
+        chunks.names.add(name);
+        chunks.data.add(chunk);
+        chunks.buffers.add(null);
+        chunks.outputs.add(null);
+      }
+    } finally {
+      inflater.end();
+    }
+    return chunks;
+  }
+}
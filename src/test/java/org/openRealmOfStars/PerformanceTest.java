@@ -0,0 +1,33 @@
+package org.openRealmOfStars;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+/**
+ * Marker interface for performance benchmarks.
+ * <br/>
+ * These tests compare old and new implementations and print timing
+ * results. They depend on the machine running them, so they are excluded
+ * from default builds.
+ * <br/>
+ * Run with: mvn test -Dgroups=org.openRealmOfStars.PerformanceTest
+ * <br/>
+ * That activates performanceTests profile, which also includes
+ * *Benchmark classes in test run.
+ */
+public interface PerformanceTest {
+}
@@ -0,0 +1,213 @@
+package org.openRealmOfStars.ai.mission;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.Matchers;
+import org.mockito.Mockito;
+import org.openRealmOfStars.ai.planet.PlanetHandling;
+import org.openRealmOfStars.game.Game;
+import org.openRealmOfStars.game.simulation.TurnSimulator;
+import org.openRealmOfStars.player.PlayerInfo;
+import org.openRealmOfStars.player.PlayerList;
+import org.openRealmOfStars.player.diplomacy.Attitude;
+import org.openRealmOfStars.player.tech.Tech;
+import org.openRealmOfStars.player.tech.TechList;
+import org.openRealmOfStars.starMap.Coordinate;
+import org.openRealmOfStars.starMap.StarMap;
+import org.openRealmOfStars.starMap.StarMapUtilities;
+import org.openRealmOfStars.starMap.planet.Planet;
+import org.openRealmOfStars.starMap.planet.construction.Construction;
+
+/**
+ * Test for RealmPlan class
+ */
+public class RealmPlanTest {
+
+  /**
+   * Create mocked planet.
+   * @param info Realm evaluating the planet
+   * @param value Planet value for realm
+   * @param gasGiant Is planet gas giant
+   * @return Planet
+   */
+  private static Planet createPlanet(final PlayerInfo info, final int value,
+      final boolean gasGiant) {
+    Planet planet = Mockito.mock(Planet.class);
+    Mockito.when(planet.isGasGiant()).thenReturn(gasGiant);
+    Mockito.when(planet.getCoordinate()).thenReturn(new Coordinate(1, 1));
+    Mockito.when(planet.evaluatePlanetValue(Matchers.eq(info),
+        Matchers.any(Coordinate.class), Matchers.anyInt()))
+        .thenReturn(value);
+    return planet;
+  }
+
+  /**
+   * Create mocked AI realm.
+   * @param techs Number of techs
+   * @return PlayerInfo
+   */
+  private static PlayerInfo createRealm(final int techs) {
+    PlayerInfo info = Mockito.mock(PlayerInfo.class);
+    TechList techList = Mockito.mock(TechList.class);
+    Mockito.when(techList.getList()).thenReturn(new Tech[techs]);
+    Mockito.when(info.getTechList()).thenReturn(techList);
+    Mockito.when(info.getSectorVisibility(Matchers.any(Coordinate.class)))
+        .thenReturn(PlayerInfo.VISIBLE);
+    return info;
+  }
+
+  /**
+   * Create mocked star map. First realm is AI and second is human.
+   * @param ai AI realm
+   * @param planets Planets
+   * @return StarMap
+   */
+  private static StarMap createMap(final PlayerInfo ai,
+      final ArrayList<Planet> planets) {
+    StarMap map = Mockito.mock(StarMap.class);
+    Mockito.when(map.getMaxX()).thenReturn(50);
+    Mockito.when(map.getMaxY()).thenReturn(50);
+    Mockito.when(map.getPlanetList()).thenReturn(planets);
+    Mockito.when(map.calculateCenterOfRealm(Matchers.anyInt()))
+        .thenReturn(new Coordinate(5, 5));
+    PlayerList players = Mockito.mock(PlayerList.class);
+    Mockito.when(players.getCurrentMaxPlayers()).thenReturn(2);
+    Mockito.when(players.getPlayerInfoByIndex(0)).thenReturn(ai);
+    Mockito.when(players.getIndex(ai)).thenReturn(0);
+    PlayerInfo human = Mockito.mock(PlayerInfo.class);
+    Mockito.when(human.isHuman()).thenReturn(true);
+    Mockito.when(players.getPlayerInfoByIndex(1)).thenReturn(human);
+    Mockito.when(map.getPlayerList()).thenReturn(players);
+    return map;
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testPlanRealms() {
+    PlayerInfo info = createRealm(3);
+    ArrayList<Planet> planets = new ArrayList<>();
+    planets.add(createPlanet(info, 20, false));
+    planets.add(createPlanet(info, 50, true));
+    planets.add(createPlanet(info, 40, false));
+    StarMap map = createMap(info, planets);
+    RealmPlan[] serial = RealmPlan.planRealms(map, true);
+    RealmPlan[] parallel = RealmPlan.planRealms(map, false);
+    assertEquals(2, serial.length);
+    assertNull(serial[1]);
+    assertNull(parallel[1]);
+    for (RealmPlan plan : new RealmPlan[] {serial[0], parallel[0]}) {
+      assertTrue(plan.getCenter().sameAs(5, 5));
+      assertTrue(plan.hasPlanetValue(0));
+      assertFalse(plan.hasPlanetValue(1));
+      assertTrue(plan.hasPlanetValue(2));
+      assertFalse(plan.hasPlanetValue(3));
+      assertEquals(20, plan.getPlanetValue(0));
+      assertEquals(40, plan.getPlanetValue(2));
+    }
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testPlanValidity() {
+    PlayerInfo info = createRealm(3);
+    StarMap map = createMap(info, new ArrayList<>());
+    RealmPlan plan = RealmPlan.planRealm(map, 0);
+    assertTrue(plan.isValid(info, new Coordinate(5, 5)));
+    assertFalse(plan.isValid(info, new Coordinate(6, 5)));
+    assertFalse(plan.isValid(createRealm(4), new Coordinate(5, 5)));
+    assertNull(RealmPlan.planRealm(map, 1));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testBestFreePlanetsWithPlan() {
+    PlayerInfo info = createRealm(3);
+    ArrayList<Planet> planets = new ArrayList<>();
+    planets.add(createPlanet(info, 20, false));
+    planets.add(createPlanet(info, 40, false));
+    planets.add(createPlanet(info, 30, false));
+    Mockito.when(planets.get(0).isHomeWorld()).thenReturn(true);
+    StarMap map = createMap(info, planets);
+    RealmPlan plan = RealmPlan.planRealm(map, 0);
+    // Planet values change after plan has been made
+    Mockito.when(planets.get(1).evaluatePlanetValue(Matchers.eq(info),
+        Matchers.any(Coordinate.class), Matchers.anyInt())).thenReturn(0);
+    Planet[] best = StarMapUtilities.getBestFreePlanets(map, info, plan);
+    assertEquals(3, best.length);
+    assertEquals(planets.get(1), best[0]);
+    assertEquals(planets.get(0), best[1]);
+    assertEquals(planets.get(2), best[2]);
+    best = StarMapUtilities.getBestFreePlanets(map, info);
+    assertEquals(planets.get(2), best[1]);
+    assertEquals(planets.get(1), best[2]);
+    // Realm has got new tech so plan is no longer used
+    Mockito.when(info.getTechList().getList()).thenReturn(new Tech[4]);
+    best = StarMapUtilities.getBestFreePlanets(map, info, plan);
+    assertEquals(planets.get(1), best[2]);
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.BehaviourTest.class)
+  public void testConstructionScores() {
+    Game game = new Game(false);
+    game.setGalaxyConfig(TurnSimulator.createConfig(4, 0, 10));
+    game.setPlayerInfo();
+    game.makeNewGame(false);
+    StarMap map = game.getStarMap();
+    PlayerInfo info = map.getPlayerByIndex(0);
+    Planet home = null;
+    for (Planet planet : map.getPlanetList()) {
+      if (planet.getPlanetPlayerInfo() == info) {
+        home = planet;
+      }
+    }
+    assertNotNull(home);
+    home.setUnderConstruction(null);
+    RealmPlan serial = RealmPlan.planRealms(map, true)[0];
+    RealmPlan parallel = RealmPlan.planRealms(map, false)[0];
+    Attitude attitude = info.getAiAttitude();
+    Construction[] list = home.getProductionList();
+    int[] scores = PlanetHandling.scoreConstructions(list, home, info, map,
+        attitude);
+    assertArrayEquals(scores, serial.getConstructionScores(home, list,
+        attitude));
+    assertArrayEquals(scores, parallel.getConstructionScores(home, list,
+        attitude));
+    // Planet is offering different constructions
+    Construction[] shorter = Arrays.copyOf(list, list.length - 1);
+    assertNull(serial.getConstructionScores(home, shorter, attitude));
+    Attitude other = Attitude.LOGICAL;
+    if (attitude == Attitude.LOGICAL) {
+      other = Attitude.AGGRESSIVE;
+    }
+    assertNull(serial.getConstructionScores(home, list, other));
+  }
+
+}
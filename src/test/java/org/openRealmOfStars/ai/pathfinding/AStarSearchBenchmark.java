@@ -0,0 +1,168 @@
+package org.openRealmOfStars.ai.pathfinding;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.Mockito;
+import org.openRealmOfStars.starMap.StarMap;
+
+/**
+ * Benchmark comparing legacy list based search and binary heap search
+ * on 256x256 star map.
+ */
+public class AStarSearchBenchmark {
+
+  /** Map size used in benchmark */
+  private static final int MAP_SIZE = 256;
+  /** Number of searches in one round */
+  private static final int SEARCHES = 8;
+  /** Warm up rounds */
+  private static final int WARM_UP_ROUNDS = 20;
+  /** Measured rounds */
+  private static final int MEASURED_ROUNDS = 20;
+
+  /**
+   * Create star map mock with random obstacles.
+   * @param wall Add long wall in middle of the map
+   * @return StarMap mock
+   */
+  private static StarMap createMap(final boolean wall) {
+    boolean[][] blocked = new boolean[MAP_SIZE][MAP_SIZE];
+    Random random = new Random(256);
+    for (int i = 0; i < MAP_SIZE * MAP_SIZE / 20; i++) {
+      blocked[random.nextInt(MAP_SIZE)][random.nextInt(MAP_SIZE)] = true;
+    }
+    if (wall) {
+      for (int y = 20; y < MAP_SIZE; y++) {
+        blocked[MAP_SIZE / 2][y] = true;
+      }
+    }
+    // Stub only so that mock does not record million invocations
+    StarMap map = Mockito.mock(StarMap.class,
+        Mockito.withSettings().stubOnly());
+    Mockito.when(map.getMaxX()).thenReturn(MAP_SIZE);
+    Mockito.when(map.getMaxY()).thenReturn(MAP_SIZE);
+    Mockito.when(map.isBlocked(Mockito.anyInt(), Mockito.anyInt()))
+        .thenAnswer(invocation -> {
+          int x = (Integer) invocation.getArguments()[0];
+          int y = (Integer) invocation.getArguments()[1];
+          return blocked[x][y];
+        });
+    return map;
+  }
+
+  /**
+   * Create searches for benchmark. Creation is not measured since
+   * it is same for both implementations. Searches can be run again
+   * since each search starts from initialized values.
+   * @param map StarMap
+   * @return Array of searches
+   */
+  private static AStarSearch[] createSearches(final StarMap map) {
+    AStarSearch[] searches = new AStarSearch[SEARCHES];
+    for (int i = 0; i < SEARCHES; i++) {
+      searches[i] = new AStarSearch(map, 2 + i, 200 + i * 4,
+          MAP_SIZE - 3 - i, 230 - i * 3, false);
+    }
+    return searches;
+  }
+
+  /**
+   * Run one round of searches.
+   * @param searches Searches to run
+   * @param legacy Use legacy search
+   * @return Elapsed nano seconds for searches and routes
+   */
+  private static long runRound(final AStarSearch[] searches,
+      final boolean legacy) {
+    for (AStarSearch search : searches) {
+      search.setLegacySearch(legacy);
+    }
+    long start = System.nanoTime();
+    for (AStarSearch search : searches) {
+      assertEquals(true, search.doSearch());
+      search.doRoute();
+    }
+    return System.nanoTime() - start;
+  }
+
+  /**
+   * Calculate average route length of latest round.
+   * @param searches Searches which have been run
+   * @return Average route length in moves
+   */
+  private static int averageRouteLength(final AStarSearch[] searches) {
+    int moves = 0;
+    for (AStarSearch search : searches) {
+      moves++;
+      while (!search.isLastMove()) {
+        search.nextMove();
+        moves++;
+      }
+    }
+    return moves / searches.length;
+  }
+
+  /**
+   * Run benchmark and print results.
+   * @param name Benchmark name
+   * @param map StarMap
+   */
+  private static void benchmark(final String name, final StarMap map) {
+    AStarSearch[] searches = createSearches(map);
+    // Mock creates lots of garbage, collect it before measuring
+    System.gc();
+    for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+      runRound(searches, true);
+      runRound(searches, false);
+    }
+    long legacyTime = 0;
+    long heapTime = 0;
+    for (int i = 0; i < MEASURED_ROUNDS; i++) {
+      legacyTime = legacyTime + runRound(searches, true);
+      heapTime = heapTime + runRound(searches, false);
+    }
+    int heapLength = averageRouteLength(searches);
+    runRound(searches, true);
+    int legacyLength = averageRouteLength(searches);
+    int total = SEARCHES * MEASURED_ROUNDS;
+    System.out.println("AStarSearch " + MAP_SIZE + "x" + MAP_SIZE + " "
+        + name);
+    System.out.println("Legacy search: " + legacyTime / total / 1000
+        + " us/search, route " + legacyLength + " moves");
+    System.out.println("Heap search: " + heapTime / total / 1000
+        + " us/search, route " + heapLength + " moves");
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.PerformanceTest.class)
+  public void benchmarkSearchInOpenSpace() {
+    benchmark("open space", createMap(false));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.PerformanceTest.class)
+  public void benchmarkSearchAroundWall() {
+    benchmark("around wall", createMap(true));
+  }
+}
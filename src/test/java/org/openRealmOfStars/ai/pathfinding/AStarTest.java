@@ -1,7 +1,7 @@
 package org.openRealmOfStars.ai.pathfinding;
 /*
  * Open Realm of Stars game project
- * Copyright (C) 2016-2018 Tuomo Untinen
+ * Copyright (C) 2016-2026 Tuomo Untinen
  *
  * This program is free software; you can redistribute it and/or
  * modify it under the terms of the GNU General Public License
@@ -66,7 +66,7 @@ public class AStarTest {
       test.nextMove();
     }
     assertEquals(1,test.getTargetDistance());
-    assertEquals(5,steps);
+    assertEquals(4,steps);
   }
 
   @Test
@@ -113,7 +113,7 @@ public class AStarTest {
       assertNotEquals(null, search.getMove());
       if (steps == 1) {
         assertEquals(11, search.getMove().getX());
-        assertEquals(9, search.getMove().getY());
+        assertEquals(10, search.getMove().getY());
       }
       search.nextMove();
       steps++;
@@ -149,7 +149,7 @@ public class AStarTest {
       assertNotEquals(null, search.getMove());
       if (steps == 1) {
         assertEquals(11, search.getMove().getX());
-        assertEquals(9, search.getMove().getY());
+        assertEquals(10, search.getMove().getY());
       }
       search.nextMove();
       steps++;
@@ -162,4 +162,232 @@ public class AStarTest {
     assertEquals(2,steps);
   }
 
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testHeapSearchInCombat() {
+    Combat combat = Mockito.mock(Combat.class);
+    CombatShip target = Mockito.mock(CombatShip.class);
+    Mockito.when(target.getX()).thenReturn(4);
+    Mockito.when(target.getY()).thenReturn(1);
+    Ship targetShip = Mockito.mock(Ship.class);
+    Mockito.when(target.getShip()).thenReturn(targetShip);
+    CombatShip source = Mockito.mock(CombatShip.class);
+    Mockito.when(source.getX()).thenReturn(4);
+    Mockito.when(source.getY()).thenReturn(7);
+    AStarSearch test = new AStarSearch(combat, source, target, 1);
+    assertEquals(true, test.doSearch());
+    test.doRoute();
+    int steps = 0;
+    while (!test.isLastMove()) {
+      steps++;
+      assertNotEquals(null, test.getMove());
+      test.nextMove();
+    }
+    assertEquals(1, test.getTargetDistance());
+    assertEquals(4, steps);
+    assertEquals(4, test.getMove().getX());
+    assertEquals(2, test.getMove().getY());
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testHeapSearchInStarMapCloseUp() {
+    StarMap map = Mockito.mock(StarMap.class);
+    Mockito.when(map.getMaxX()).thenReturn(50);
+    Mockito.when(map.getMaxY()).thenReturn(50);
+    Mockito.when(map.isBlocked(Mockito.anyInt(), Mockito.anyInt()))
+        .thenReturn(false);
+    AStarSearch search = new AStarSearch(map, 10, 10, 12, 10, 5, false);
+    assertEquals(true, search.doSearch());
+    search.doRoute();
+    assertEquals(11, search.getMove().getX());
+    assertEquals(10, search.getMove().getY());
+    assertEquals(false, search.isLastMove());
+    search.nextMove();
+    assertEquals(12, search.getMove().getX());
+    assertEquals(10, search.getMove().getY());
+    assertEquals(true, search.isLastMove());
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testHeapSearchAroundWall() {
+    StarMap map = Mockito.mock(StarMap.class);
+    Mockito.when(map.getMaxX()).thenReturn(20);
+    Mockito.when(map.getMaxY()).thenReturn(20);
+    for (int y = 0; y < 20; y++) {
+      for (int x = 0; x < 20; x++) {
+        boolean wall = x == 10 && y < 15;
+        Mockito.when(map.isBlocked(x, y)).thenReturn(wall);
+      }
+    }
+    AStarSearch search = new AStarSearch(map, 5, 5, 15, 5, false);
+    assertEquals(true, search.doSearch());
+    search.doRoute();
+    int steps = 1;
+    boolean passedWall = false;
+    while (!search.isLastMove()) {
+      PathPoint point = search.getMove();
+      assertEquals(false, map.isBlocked(point.getX(), point.getY()));
+      if (point.getX() == 10) {
+        passedWall = true;
+        assertEquals(15, point.getY());
+      }
+      search.nextMove();
+      steps++;
+    }
+    assertEquals(true, passedWall);
+    assertEquals(15, search.getMove().getX());
+    assertEquals(5, search.getMove().getY());
+    // Ten moves to the end of the wall and ten moves back to target
+    assertEquals(20, steps);
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testHeapSearchDiagonalCostsSingleMove() {
+    // Weighting diagonal moves as 14 against 10 for straight ones would
+    // take a twelve move route here, shortest route is ten moves.
+    String[] rows = {
+        "........",
+        ".#...#.#",
+        "#...##..",
+        "##.##...",
+        "..##...#",
+        "#..#....",
+        "#...##..",
+        "..#..##."};
+    StarMap map = Mockito.mock(StarMap.class);
+    Mockito.when(map.getMaxX()).thenReturn(8);
+    Mockito.when(map.getMaxY()).thenReturn(8);
+    for (int y = 0; y < 8; y++) {
+      for (int x = 0; x < 8; x++) {
+        Mockito.when(map.isBlocked(x, y)).thenReturn(
+            rows[y].charAt(x) == '#');
+      }
+    }
+    AStarSearch search = new AStarSearch(map, 0, 0, 7, 7, false);
+    assertEquals(true, search.doSearch());
+    search.doRoute();
+    int lastX = 0;
+    int lastY = 0;
+    int steps = 0;
+    while (true) {
+      PathPoint point = search.getMove();
+      assertEquals(false, map.isBlocked(point.getX(), point.getY()));
+      assertEquals(1, Math.max(Math.abs(point.getX() - lastX),
+          Math.abs(point.getY() - lastY)));
+      lastX = point.getX();
+      lastY = point.getY();
+      steps++;
+      if (search.isLastMove()) {
+        break;
+      }
+      search.nextMove();
+    }
+    assertEquals(7, lastX);
+    assertEquals(7, lastY);
+    assertEquals(10, steps);
+    search = new AStarSearch(map, 0, 0, 7, 7, false);
+    assertEquals(true, search.doSearchPreferStraightLines());
+    search.doRoute();
+    steps = 1;
+    while (!search.isLastMove()) {
+      search.nextMove();
+      steps++;
+    }
+    assertEquals(10, steps);
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testHeapSearchPrefersStraightMoves() {
+    StarMap map = Mockito.mock(StarMap.class);
+    Mockito.when(map.getMaxX()).thenReturn(20);
+    Mockito.when(map.getMaxY()).thenReturn(20);
+    AStarSearch search = new AStarSearch(map, 5, 5, 15, 5, false);
+    assertEquals(true, search.doSearchPreferStraightLines());
+    search.doRoute();
+    int steps = 1;
+    while (true) {
+      assertEquals(5, search.getMove().getY());
+      if (search.isLastMove()) {
+        break;
+      }
+      search.nextMove();
+      steps++;
+    }
+    assertEquals(10, steps);
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testHeapSearchNoPath() {
+    StarMap map = Mockito.mock(StarMap.class);
+    Mockito.when(map.getMaxX()).thenReturn(20);
+    Mockito.when(map.getMaxY()).thenReturn(20);
+    for (int y = 0; y < 20; y++) {
+      for (int x = 0; x < 20; x++) {
+        Mockito.when(map.isBlocked(x, y)).thenReturn(x == 10);
+      }
+    }
+    AStarSearch search = new AStarSearch(map, 5, 5, 15, 5, false);
+    assertEquals(false, search.doSearch());
+    search.doRoute();
+    assertEquals(null, search.getMove());
+    assertEquals(true, search.isLastMove());
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testHeapSquareSearch() {
+    StarMap map = Mockito.mock(StarMap.class);
+    Mockito.when(map.getMaxX()).thenReturn(20);
+    Mockito.when(map.getMaxY()).thenReturn(20);
+    Mockito.when(map.isGoodForAscension(Mockito.anyInt(), Mockito.anyInt()))
+        .thenReturn(true);
+    AStarSearch search = new AStarSearch(map, 2, 2, 5, 6);
+    assertEquals(true, search.doSquareSearch());
+    search.doSquareRoute();
+    int lastX = 2;
+    int lastY = 2;
+    int steps = 0;
+    while (true) {
+      PathPoint point = search.getMove();
+      int dist = Math.abs(point.getX() - lastX)
+          + Math.abs(point.getY() - lastY);
+      assertEquals(1, dist);
+      lastX = point.getX();
+      lastY = point.getY();
+      steps++;
+      if (search.isLastMove()) {
+        break;
+      }
+      search.nextMove();
+    }
+    assertEquals(7, steps);
+    assertEquals(5, lastX);
+    assertEquals(6, lastY);
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testHeapSearchReusedWithDifferentSizes() {
+    StarMap bigMap = Mockito.mock(StarMap.class);
+    Mockito.when(bigMap.getMaxX()).thenReturn(64);
+    Mockito.when(bigMap.getMaxY()).thenReturn(64);
+    StarMap smallMap = Mockito.mock(StarMap.class);
+    Mockito.when(smallMap.getMaxX()).thenReturn(8);
+    Mockito.when(smallMap.getMaxY()).thenReturn(8);
+    for (int i = 0; i < 3; i++) {
+      AStarSearch search = new AStarSearch(bigMap, 1, 1, 60, 40, false);
+      assertEquals(true, search.doSearch());
+      search = new AStarSearch(smallMap, 7, 7, 0, 0, false);
+      assertEquals(true, search.doSearch());
+      search.doRoute();
+      assertEquals(6, search.getMove().getX());
+      assertEquals(6, search.getMove().getY());
+    }
+  }
+
 }
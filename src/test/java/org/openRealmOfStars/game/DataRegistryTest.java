@@ -0,0 +1,47 @@
+package org.openRealmOfStars.game;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.openRealmOfStars.player.government.GovernmentFactory;
+import org.openRealmOfStars.player.race.SpaceRaceFactory;
+import org.openRealmOfStars.starMap.planet.construction.BuildingFactory;
+
+/**
+*
+* Data registry test
+*
+*/
+public class DataRegistryTest {
+
+  @Test
+  @Category(org.openRealmOfStars.BehaviourTest.class)
+  public void testLoadAll() {
+    assertTrue(DataRegistry.getNumberOfFactories() > 10);
+    assertTrue(DataRegistry.loadAll());
+    assertTrue(SpaceRaceFactory.getValues().length > 0);
+    assertTrue(GovernmentFactory.getValues().length > 0);
+    assertNotNull(BuildingFactory.createByName("Basic farm"));
+    // Second load does nothing since everything is loaded
+    assertTrue(DataRegistry.loadAll());
+  }
+
+}
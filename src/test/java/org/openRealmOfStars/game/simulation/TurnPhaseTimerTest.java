@@ -0,0 +1,159 @@
+package org.openRealmOfStars.game.simulation;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.openRealmOfStars.starMap.StarMap;
+
+/**
+ * Test for TurnPhaseTimer class
+ */
+public class TurnPhaseTimerTest {
+
+  /**
+   * Busy wait for a while.
+   * @param nanos Time to wait in nanoseconds
+   */
+  private static void spin(final long nanos) {
+    long end = System.nanoTime() + nanos;
+    while (System.nanoTime() < end) {
+      Thread.onSpinWait();
+    }
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testDisabled() {
+    TurnPhaseTimer.setEnabled(false);
+    TurnPhaseTimer.enter(TurnPhase.FLEETS);
+    spin(1000000);
+    TurnPhaseTimer.exit();
+    assertFalse(TurnPhaseTimer.isEnabled());
+    assertEquals(0, TurnPhaseTimer.getTime(TurnPhase.FLEETS));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testNestedPhases() {
+    TurnPhaseTimer.setEnabled(true);
+    TurnPhaseTimer.enter(TurnPhase.FLEETS);
+    spin(1000000);
+    TurnPhaseTimer.enter(TurnPhase.COMBAT);
+    spin(2000000);
+    TurnPhaseTimer.exit();
+    spin(1000000);
+    TurnPhaseTimer.exit();
+    // Extra exit is ignored
+    TurnPhaseTimer.exit();
+    long fleets = TurnPhaseTimer.getTime(TurnPhase.FLEETS);
+    long combat = TurnPhaseTimer.getTime(TurnPhase.COMBAT);
+    TurnPhaseTimer.setEnabled(false);
+    assertTrue(fleets >= 2000000);
+    assertTrue(combat >= 2000000);
+    assertEquals(0, TurnPhaseTimer.getTime(TurnPhase.NEWS));
+    assertEquals(0, TurnPhaseTimer.getTime(TurnPhase.FLEETS));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testTurnProfile() throws IOException, InterruptedException {
+    File csv = File.createTempFile("turn_profile", ".csv");
+    csv.deleteOnExit();
+    TurnPhaseTimer.setEnabled(true);
+    TurnPhaseTimer.setCsvFile(csv);
+    TurnPhaseTimer.setRealm(1);
+    TurnPhaseTimer.enter(TurnPhase.FLEETS);
+    spin(2000000);
+    // Other threads are not timed
+    Thread other = new Thread(() -> {
+      TurnPhaseTimer.enter(TurnPhase.COMBAT);
+      spin(1000000);
+      TurnPhaseTimer.exit();
+    });
+    other.start();
+    other.join();
+    TurnPhaseTimer.exit();
+    TurnPhaseTimer.setRealm(TurnPhaseTimer.NO_REALM);
+    TurnPhaseTimer.enter(TurnPhase.END_OF_TURN);
+    spin(1000000);
+    TurnPhaseTimer.exit();
+    TurnProfile profile = TurnPhaseTimer.endTurn(5);
+    TurnPhaseTimer.setCsvFile(null);
+    assertNotNull(profile);
+    assertEquals(profile, TurnPhaseTimer.getLastProfile());
+    assertEquals(5, profile.getTurn());
+    assertTrue(profile.getTime(1, TurnPhase.FLEETS) >= 2000000);
+    assertEquals(0, profile.getTime(TurnPhase.COMBAT));
+    assertTrue(profile.getTime(TurnPhaseTimer.NO_REALM,
+        TurnPhase.END_OF_TURN) >= 1000000);
+    assertEquals(0, profile.getTime(0, TurnPhase.FLEETS));
+    assertEquals(1, profile.getSlowestRealm());
+    assertEquals(TurnPhase.FLEETS, profile.getSlowestPhase());
+    assertTrue(profile.getElapsed() >= 3000000);
+    assertTrue(profile.getSummary().startsWith("Turn 5:"));
+    List<String> lines = Files.readAllLines(csv.toPath(),
+        StandardCharsets.UTF_8);
+    assertEquals(TurnProfile.CSV_HEADER, lines.get(0));
+    assertEquals(3, lines.size());
+    assertTrue(lines.get(1).startsWith("5,-1,END_OF_TURN,"));
+    assertTrue(lines.get(2).startsWith("5,1,FLEETS,"));
+    // Next turn starts from zero
+    TurnProfile next = TurnPhaseTimer.endTurn(6);
+    assertEquals(0, next.getTime(TurnPhase.FLEETS));
+    TurnPhaseTimer.setEnabled(false);
+    assertNull(TurnPhaseTimer.getLastProfile());
+    assertNull(TurnPhaseTimer.endTurn(7));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testPirateRealm() {
+    TurnPhaseTimer.setEnabled(true);
+    // Pirate and monster realm comes after all playing realms
+    TurnPhaseTimer.setRealm(StarMap.MAX_PLAYERS);
+    TurnPhaseTimer.enter(TurnPhase.FLEETS);
+    spin(1000000);
+    TurnPhaseTimer.exit();
+    TurnPhaseTimer.setRealm(StarMap.MAX_PLAYERS + 1);
+    TurnPhaseTimer.enter(TurnPhase.FLEETS);
+    spin(1000000);
+    TurnPhaseTimer.exit();
+    TurnProfile profile = TurnPhaseTimer.endTurn(1);
+    TurnPhaseTimer.setEnabled(false);
+    assertTrue(profile.getTime(StarMap.MAX_PLAYERS, TurnPhase.FLEETS)
+        >= 1000000);
+    assertTrue(profile.getTime(TurnPhaseTimer.NO_REALM, TurnPhase.FLEETS)
+        >= 1000000);
+    assertEquals(0, profile.getTime(StarMap.MAX_PLAYERS + 1,
+        TurnPhase.FLEETS));
+  }
+
+}
@@ -0,0 +1,80 @@
+package org.openRealmOfStars.game.simulation;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.openRealmOfStars.player.AiDifficulty;
+import org.openRealmOfStars.starMap.GalaxyConfig;
+
+/**
+ * Smoke test for TurnSimulator
+ */
+public class TurnSimulatorTest {
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testCreateConfig() {
+    GalaxyConfig config = TurnSimulator.createConfig(4, 9, 20);
+    assertEquals(256, config.getSizeX());
+    assertEquals(4, config.getMaxPlayers());
+    assertTrue(config.getScoringVictoryTurns() >= 20);
+    assertTrue(config.isAiOnly());
+    for (int i = 0; i < config.getMaxPlayers(); i++) {
+      assertEquals(AiDifficulty.NORMAL, config.getDifficulty(i));
+    }
+    assertEquals(50, TurnSimulator.createConfig(2, -1, 5).getSizeX());
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testSimulation() {
+    TurnSimulator simulator = new TurnSimulator(
+        TurnSimulator.createConfig(4, 0, 3), 3);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    simulator.run(new PrintStream(bytes, true, StandardCharsets.UTF_8));
+    assertEquals(3, simulator.getTurnsSimulated());
+    assertFalse(TurnPhaseTimer.isEnabled());
+    long turns = 0;
+    for (int i = 0; i < simulator.getTurnsSimulated(); i++) {
+      assertTrue(simulator.getTurnTime(i) > 0);
+      turns = turns + simulator.getTurnTime(i);
+    }
+    assertEquals(turns, simulator.getTotalTime());
+    long phases = 0;
+    for (TurnPhase phase : TurnPhase.values()) {
+      phases = phases + simulator.getPhaseTime(phase);
+    }
+    assertTrue(simulator.getPhaseTime(TurnPhase.PLANETS) > 0);
+    assertTrue(phases <= simulator.getTotalTime());
+    assertTrue(simulator.getTurnsPerSecond() > 0);
+    assertTrue(simulator.getReport().contains("Simulated 3 turns"));
+    String output = new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    assertEquals(3, output.split("\n").length);
+    assertTrue(output.startsWith("Turn "));
+  }
+
+}
@@ -24,19 +24,25 @@ import org.junit.experimental.categories.Category;
 import org.mockito.Mockito;
 import org.openRealmOfStars.ai.mission.Mission;
 import org.openRealmOfStars.ai.mission.MissionList;
+import org.openRealmOfStars.ai.mission.MissionPhase;
 import org.openRealmOfStars.ai.mission.MissionType;
 import org.openRealmOfStars.ai.research.Research;
 import org.openRealmOfStars.game.Game;
 import org.openRealmOfStars.player.PlayerInfo;
 import org.openRealmOfStars.player.PlayerList;
+import org.openRealmOfStars.player.combat.CombatPrediction;
+import org.openRealmOfStars.player.combat.CombatPredictor;
+import org.openRealmOfStars.player.combat.CombatSimulation;
 import org.openRealmOfStars.player.diplomacy.Attitude;
 import org.openRealmOfStars.player.diplomacy.Diplomacy;
 import org.openRealmOfStars.player.diplomacy.DiplomacyBonusType;
 import org.openRealmOfStars.player.fleet.Fleet;
+import org.openRealmOfStars.player.fleet.FleetList;
 import org.openRealmOfStars.player.race.SpaceRaceFactory;
 import org.openRealmOfStars.player.ship.ShipStat;
 import org.openRealmOfStars.player.tech.Tech;
 import org.openRealmOfStars.player.tech.TechFactory;
+import org.openRealmOfStars.starMap.Coordinate;
 import org.openRealmOfStars.starMap.PirateDifficultLevel;
 import org.openRealmOfStars.starMap.StarMap;
 import org.openRealmOfStars.starMap.vote.Vote;
@@ -416,4 +422,77 @@ public class AiTurnViewTest {
         DiplomacyBonusType.OLYMPICS));
   }
 
+  /**
+   * Create combat prediction where attacker wins given number of
+   * ten simulations and defender wins rest.
+   * @param wins Number of attacker wins
+   * @return Combat prediction
+   */
+  private static CombatPrediction createPrediction(final int wins) {
+    int[] results = new int[10 * CombatSimulation.RESULT_FIELDS];
+    for (int i = wins; i < 10; i++) {
+      results[i * CombatSimulation.RESULT_FIELDS
+          + CombatSimulation.RESULT_WINNER] = CombatSimulation.DEFENDER;
+    }
+    return new CombatPrediction(results, 10);
+  }
+
+  /**
+   * Create fleet mock.
+   * @param name Fleet name
+   * @param x X coordinate
+   * @param y Y coordinate
+   * @return Fleet
+   */
+  private static Fleet createFleet(final String name, final int x,
+      final int y) {
+    Fleet fleet = Mockito.mock(Fleet.class);
+    Mockito.when(fleet.getName()).thenReturn(name);
+    Mockito.when(fleet.getMilitaryValue()).thenReturn(10);
+    Mockito.when(fleet.getCoordinate()).thenReturn(new Coordinate(x, y));
+    return fleet;
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testFleetDestructionNeedsWinningFleet() {
+    Game game = Mockito.mock(Game.class);
+    StarMap map = Mockito.mock(StarMap.class);
+    Mockito.when(game.getStarMap()).thenReturn(map);
+    PlayerList players = Mockito.mock(PlayerList.class);
+    Mockito.when(game.getPlayers()).thenReturn(players);
+    PlayerInfo info = Mockito.mock(PlayerInfo.class);
+    Mockito.when(players.getPlayerInfoByIndex(0)).thenReturn(info);
+    MissionList missions = new MissionList();
+    Mockito.when(info.getMissions()).thenReturn(missions);
+    Mission mission = new Mission(MissionType.DESTROY_FLEET,
+        MissionPhase.PLANNING, new Coordinate(10, 10));
+    missions.add(mission);
+    Fleet target = createFleet("Target", 10, 10);
+    Mockito.when(map.getFleetByCoordinate(10, 10)).thenReturn(target);
+    Fleet close = createFleet("Close", 10, 12);
+    Fleet far = createFleet("Far", 10, 15);
+    FleetList fleets = Mockito.mock(FleetList.class);
+    Mockito.when(fleets.getNumberOfFleets()).thenReturn(2);
+    Mockito.when(fleets.getByIndex(0)).thenReturn(close);
+    Mockito.when(fleets.getByIndex(1)).thenReturn(far);
+    Mockito.when(info.getFleets()).thenReturn(fleets);
+    CombatPredictor predictor = Mockito.mock(CombatPredictor.class);
+    Mockito.when(map.getCombatPredictor()).thenReturn(predictor);
+    Mockito.when(predictor.predict(close, target))
+        .thenReturn(createPrediction(4));
+    Mockito.when(predictor.predict(far, target))
+        .thenReturn(createPrediction(4));
+    AITurnView view = new AITurnView(game);
+    // No fleet is sent if none is predicted to win at least half
+    view.searchForFleetDestruction();
+    assertEquals(MissionPhase.PLANNING, mission.getPhase());
+    assertEquals(null, mission.getFleetName());
+    Mockito.when(predictor.predict(far, target))
+        .thenReturn(createPrediction(5));
+    view.searchForFleetDestruction();
+    assertEquals(MissionPhase.LOADING, mission.getPhase());
+    assertEquals("Far", mission.getFleetName());
+  }
+
 }
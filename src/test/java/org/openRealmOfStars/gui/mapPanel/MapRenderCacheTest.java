@@ -0,0 +1,210 @@
+package org.openRealmOfStars.gui.mapPanel;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.Mockito;
+import org.openRealmOfStars.mapTiles.Tile;
+import org.openRealmOfStars.mapTiles.TileNames;
+import org.openRealmOfStars.mapTiles.Tiles;
+import org.openRealmOfStars.player.PlayerInfo;
+import org.openRealmOfStars.player.VisibilityMap;
+import org.openRealmOfStars.starMap.CulturePower;
+import org.openRealmOfStars.starMap.StarMap;
+import org.openRealmOfStars.starMap.planet.Planet;
+
+/**
+* Tests for map render cache
+*
+*/
+public class MapRenderCacheTest {
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testChunkSizes() {
+    assertEquals(16, MapRenderCache.getChunkSectors(Tile.ZOOM_NORMAL));
+    assertEquals(8, MapRenderCache.getChunkSectors(Tile.ZOOM_IN2));
+    assertTrue(MapRenderCache.getChunkSectors(Tile.ZOOM_OUT2) > 16);
+    assertEquals(3, MapRenderCache.getTextMargin(Tile.ZOOM_NORMAL));
+    assertTrue(MapRenderCache.getTextMargin(Tile.ZOOM_OUT2)
+        > MapRenderCache.getTextMargin(Tile.ZOOM_NORMAL));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testChunksPerZoom() {
+    MapRenderCache cache = new MapRenderCache();
+    assertNull(cache.getChunk(Tile.ZOOM_NORMAL, 0, 0));
+    MapRenderCache.Chunk chunk = cache.createChunk(Tile.ZOOM_NORMAL, 0, 0,
+        5);
+    assertEquals(chunk, cache.getChunk(Tile.ZOOM_NORMAL, 0, 0));
+    assertNull(cache.getChunk(Tile.ZOOM_IN1, 0, 0));
+    assertNull(cache.getChunk(Tile.ZOOM_NORMAL, 1, 0));
+    assertEquals(5, chunk.getSignature());
+    assertFalse(chunk.isStale());
+    assertEquals(16 * 32, chunk.getImage().getWidth());
+    cache.createChunk(Tile.ZOOM_IN1, 0, 0, 5);
+    assertEquals(2, cache.getNumberOfChunks());
+    cache.clear();
+    assertEquals(0, cache.getNumberOfChunks());
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testLeastRecentlyUsedIsDropped() {
+    MapRenderCache cache = new MapRenderCache();
+    int capacity = cache.getCapacity();
+    for (int i = 0; i < capacity; i++) {
+      cache.createChunk(Tile.ZOOM_IN2, i, 0, 0);
+    }
+    assertNotNull(cache.getChunk(Tile.ZOOM_IN2, 0, 0));
+    cache.createChunk(Tile.ZOOM_IN2, capacity, 0, 0);
+    assertEquals(capacity, cache.getNumberOfChunks());
+    assertNotNull(cache.getChunk(Tile.ZOOM_IN2, 0, 0));
+    assertNull(cache.getChunk(Tile.ZOOM_IN2, 1, 0));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testCapacity() {
+    MapRenderCache cache = new MapRenderCache();
+    assertEquals(16, cache.getCapacity());
+    cache.setCapacity(101, 101, Tile.ZOOM_IN2);
+    assertEquals(14 * 14 * 2, cache.getCapacity());
+    cache.setCapacity(10, 10, Tile.ZOOM_NORMAL);
+    assertEquals(14 * 14 * 2, cache.getCapacity());
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testViewerChange() {
+    MapRenderCache cache = new MapRenderCache();
+    PlayerInfo info = Mockito.mock(PlayerInfo.class);
+    cache.setViewer(info);
+    cache.createChunk(Tile.ZOOM_NORMAL, 0, 0, 0);
+    cache.setViewer(info);
+    assertEquals(1, cache.getNumberOfChunks());
+    cache.setViewer(Mockito.mock(PlayerInfo.class));
+    assertEquals(0, cache.getNumberOfChunks());
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testStaleChunks() {
+    StarMap map = Mockito.mock(StarMap.class);
+    Mockito.when(map.getMaxX()).thenReturn(64);
+    Mockito.when(map.getMaxY()).thenReturn(64);
+    VisibilityMap visibility = new VisibilityMap(64, 64);
+    PlayerInfo info = Mockito.mock(PlayerInfo.class);
+    Mockito.when(info.getVisibilityMap()).thenReturn(visibility);
+    MapRenderCache cache = new MapRenderCache();
+    cache.update(map, info);
+    MapRenderCache.Chunk first = cache.createChunk(Tile.ZOOM_NORMAL, 0, 0,
+        0);
+    MapRenderCache.Chunk second = cache.createChunk(Tile.ZOOM_NORMAL, 2, 0,
+        0);
+    cache.update(map, info);
+    assertFalse(first.isStale());
+    assertFalse(second.isStale());
+    visibility.setVisibility(5, 5, PlayerInfo.VISIBLE);
+    cache.update(map, info);
+    assertTrue(first.isStale());
+    assertFalse(second.isStale());
+    first.setStale(false);
+    // Text margin of second chunk reaches this sector
+    visibility.setVisibility(30, 5, PlayerInfo.VISIBLE);
+    cache.update(map, info);
+    assertFalse(first.isStale());
+    assertTrue(second.isStale());
+    second.setStale(false);
+    Mockito.when(map.getSectorChanges()).thenReturn(1);
+    cache.update(map, info);
+    assertTrue(first.isStale());
+    assertTrue(second.isStale());
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testSignature() {
+    StarMap map = Mockito.mock(StarMap.class);
+    Mockito.when(map.getMaxX()).thenReturn(10);
+    Mockito.when(map.getMaxY()).thenReturn(10);
+    CulturePower culture = Mockito.mock(CulturePower.class);
+    Mockito.when(culture.getHighestCulture()).thenReturn(-1);
+    Mockito.when(map.getSectorCulture(Mockito.anyInt(), Mockito.anyInt()))
+        .thenReturn(culture);
+    PlayerInfo info = Mockito.mock(PlayerInfo.class);
+    Mockito.when(info.getSectorVisibility(Mockito.anyInt(),
+        Mockito.anyInt())).thenReturn(PlayerInfo.UNCHARTED);
+    long uncharted = MapRenderCache.calculateSignature(map, info, -2, -2,
+        12, 12);
+    assertEquals(uncharted, MapRenderCache.calculateSignature(map, info,
+        -2, -2, 12, 12));
+    Mockito.when(info.getSectorVisibility(3, 3)).thenReturn(
+        PlayerInfo.VISIBLE);
+    long charted = MapRenderCache.calculateSignature(map, info, -2, -2,
+        12, 12);
+    assertNotEquals(uncharted, charted);
+    Mockito.when(culture.getHighestCulture()).thenReturn(1);
+    long cultured = MapRenderCache.calculateSignature(map, info, -2, -2,
+        12, 12);
+    assertNotEquals(charted, cultured);
+    Mockito.when(map.getTileIndex(5, 5)).thenReturn(3);
+    assertNotEquals(cultured, MapRenderCache.calculateSignature(map, info,
+        -2, -2, 12, 12));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testPlanetAndAnimationSignature() {
+    StarMap map = Mockito.mock(StarMap.class);
+    Mockito.when(map.getMaxX()).thenReturn(10);
+    Mockito.when(map.getMaxY()).thenReturn(10);
+    PlayerInfo info = Mockito.mock(PlayerInfo.class);
+    Mockito.when(info.getSectorVisibility(Mockito.anyInt(),
+        Mockito.anyInt())).thenReturn(PlayerInfo.FOG_OF_WAR);
+    Planet planet = Mockito.mock(Planet.class);
+    Mockito.when(planet.getOrderNumber()).thenReturn(2);
+    Mockito.when(map.getPlanetByCoordinate(4, 4)).thenReturn(planet);
+    long signature = MapRenderCache.calculateSignature(map, info, 0, 0,
+        10, 10);
+    Mockito.when(planet.isHomeWorld()).thenReturn(true);
+    long homeWorld = MapRenderCache.calculateSignature(map, info, 0, 0,
+        10, 10);
+    assertNotEquals(signature, homeWorld);
+    Mockito.when(planet.getOrderNumber()).thenReturn(3);
+    assertNotEquals(homeWorld, MapRenderCache.calculateSignature(map, info,
+        0, 0, 10, 10));
+    Tile frame1 = Tiles.getTileByName(TileNames.WORM_HOLE1);
+    Tile frame2 = Tiles.getTileByName(TileNames.WORM_HOLE2);
+    assertTrue(MapRenderCache.isAnimated(frame1));
+    assertTrue(MapRenderCache.isAnimated(frame2));
+    assertFalse(MapRenderCache.isAnimated(Tiles.getTileByName(
+        TileNames.EMPTY)));
+    Mockito.when(map.getTileIndex(7, 7)).thenReturn(frame1.getIndex());
+    long animated = MapRenderCache.calculateSignature(map, info, 0, 0,
+        10, 10);
+    Mockito.when(map.getTileIndex(7, 7)).thenReturn(frame2.getIndex());
+    assertEquals(animated, MapRenderCache.calculateSignature(map, info,
+        0, 0, 10, 10));
+  }
+
+}
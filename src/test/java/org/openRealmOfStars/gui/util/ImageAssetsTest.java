@@ -0,0 +1,106 @@
+package org.openRealmOfStars.gui.util;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import static org.junit.Assert.*;
+
+import java.awt.image.BufferedImage;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+*
+* Image assets test
+*
+*/
+public class ImageAssetsTest {
+
+  @After
+  public void tearDown() {
+    ImageAssets.clearVariants();
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.BehaviourTest.class)
+  public void testLoadOnce() {
+    ImageAssets.preload("/resources/images/oros-logo32.png",
+        "/resources/images/oros-logo48.png");
+    BufferedImage image = ImageAssets.load(
+        "/resources/images/oros-logo32.png");
+    assertNotNull(image);
+    assertEquals(32, image.getWidth());
+    assertSame(image, ImageAssets.load("/resources/images/oros-logo32.png"));
+    assertEquals(48, ImageAssets.load("/resources/images/oros-logo48.png")
+        .getWidth());
+    assertTrue(ImageAssets.getNumberOfImages() >= 2);
+    assertTrue(ImageAssets.getLoadTime() > 0);
+    assertTrue(ImageAssets.getLoadedBytes() >= 32 * 32);
+    assertNull(ImageAssets.load("/resources/images/no-such-image.png"));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testVariants() {
+    ImageAssets.clearVariants();
+    BufferedImage image = new BufferedImage(10, 8,
+        BufferedImage.TYPE_4BYTE_ABGR);
+    image.setRGB(0, 0, 0xffff0000);
+    BufferedImage scaled = ImageAssets.getScaled(image, 5, 4);
+    assertEquals(5, scaled.getWidth());
+    assertEquals(4, scaled.getHeight());
+    assertSame(scaled, ImageAssets.getScaled(image, 5, 4));
+    assertNotSame(scaled, ImageAssets.getScaled(image, 4, 4));
+    BufferedImage flipped = ImageAssets.getFlippedY(image);
+    assertEquals(0xffff0000, flipped.getRGB(0, 7));
+    assertSame(flipped, ImageAssets.getFlippedY(image));
+    assertSame(ImageAssets.getGlow(image), ImageAssets.getGlow(image));
+    assertSame(ImageAssets.getBlackSilhouette(image),
+        ImageAssets.getBlackSilhouette(image));
+    assertNotSame(ImageAssets.getBlackSilhouette(image),
+        ImageAssets.getWhiteSilhouette(image));
+    assertEquals(6, ImageAssets.getNumberOfVariants());
+    assertEquals(5, ImageAssets.getVariantHits());
+    assertEquals(6, ImageAssets.getVariantMisses());
+    assertTrue(ImageAssets.getVariantBytes() > 0);
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testBudget() {
+    ImageAssets.clearVariants();
+    BufferedImage image = new BufferedImage(16, 16,
+        BufferedImage.TYPE_INT_ARGB);
+    // Source takes 1024 bytes and each 8x8 variant takes 256 bytes,
+    // so source and three variants fit in budget
+    ImageAssets.setVariantBudget(1024 + 3 * 256);
+    BufferedImage first = ImageAssets.getScaled(image, 8, 8);
+    assertEquals(1024 + 256, ImageAssets.getVariantBytes());
+    ImageAssets.getScaled(image, 8, 7);
+    ImageAssets.getScaled(image, 8, 6);
+    assertSame(first, ImageAssets.getScaled(image, 8, 8));
+    ImageAssets.getScaled(image, 7, 8);
+    assertTrue(ImageAssets.getVariantBytes() <= 1024 + 3 * 256);
+    assertTrue(ImageAssets.getVariantEvictions() > 0);
+    assertSame(first, ImageAssets.getScaled(image, 8, 8));
+    ImageAssets.setVariantBudget(0);
+    assertEquals(0, ImageAssets.getNumberOfVariants());
+    assertEquals(0, ImageAssets.getVariantBytes());
+  }
+}
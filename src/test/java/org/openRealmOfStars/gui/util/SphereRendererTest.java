@@ -0,0 +1,96 @@
+package org.openRealmOfStars.gui.util;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import static org.junit.Assert.*;
+
+import java.awt.image.BufferedImage;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+*
+* Sphere renderer test
+*
+*/
+public class SphereRendererTest {
+
+  /**
+   * Create texture where each column has own color.
+   * @return Texture
+   */
+  private static BufferedImage createStripedTexture() {
+    BufferedImage texture = new BufferedImage(360 * 2, 360,
+        BufferedImage.TYPE_4BYTE_ABGR);
+    for (int y = 0; y < texture.getHeight(); y++) {
+      for (int x = 0; x < texture.getWidth(); x++) {
+        texture.setRGB(x, y, 0xff000000 | (x % 360) * 100);
+      }
+    }
+    return texture;
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testUniformTexture() {
+    BufferedImage texture = new BufferedImage(360 * 2, 360,
+        BufferedImage.TYPE_4BYTE_ABGR);
+    for (int y = 0; y < texture.getHeight(); y++) {
+      for (int x = 0; x < texture.getWidth(); x++) {
+        texture.setRGB(x, y, 0xff0000ff);
+      }
+    }
+    SphereRenderer renderer = new SphereRenderer(texture);
+    BufferedImage image = renderer.render(0);
+    assertTrue(image.getWidth() > 300);
+    assertTrue(image.getHeight() > 300);
+    assertEquals(0xff0000ff, image.getRGB(image.getWidth() / 2,
+        image.getHeight() / 2));
+    assertEquals(0, image.getRGB(0, 0));
+    assertEquals(0, image.getRGB(image.getWidth() - 1,
+        image.getHeight() - 1));
+    assertTrue(renderer.getNumberOfSpherePixels() > 0);
+    assertSame(image, renderer.render(10));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testRotation() {
+    SphereRenderer renderer = new SphereRenderer(createStripedTexture());
+    BufferedImage image = renderer.render(0);
+    int x = image.getWidth() / 2;
+    int y = image.getHeight() / 2;
+    int first = image.getRGB(x, y);
+    int second = renderer.render(20).getRGB(x, y);
+    assertNotEquals(first, second);
+    assertEquals(first, renderer.render(0).getRGB(x, y));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testSharedProjection() {
+    SphereRenderer first = new SphereRenderer(createStripedTexture());
+    SphereRenderer second = new SphereRenderer(createStripedTexture());
+    assertEquals(first.getOriginX(), second.getOriginX());
+    assertEquals(first.getOriginY(), second.getOriginY());
+    assertEquals(first.getNumberOfSpherePixels(),
+        second.getNumberOfSpherePixels());
+  }
+
+}
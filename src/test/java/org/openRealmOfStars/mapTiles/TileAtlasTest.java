@@ -0,0 +1,134 @@
+package org.openRealmOfStars.mapTiles;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import static org.junit.Assert.*;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.openRealmOfStars.gui.util.GraphRoutines;
+
+/**
+*
+* Tile atlas test
+*
+*/
+public class TileAtlasTest {
+
+  /** Temporary folder for atlas files */
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  /**
+   * Create tile image filled with single color.
+   * @param size Tile size
+   * @param color ARGB color
+   * @return Tile image
+   */
+  private static BufferedImage createTile(final int size, final int color) {
+    BufferedImage tile = new BufferedImage(size, size,
+        BufferedImage.TYPE_4BYTE_ABGR);
+    for (int y = 0; y < size; y++) {
+      for (int x = 0; x < size; x++) {
+        tile.setRGB(x, y, color);
+      }
+    }
+    return tile;
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testPacking() {
+    TileAtlas atlas = new TileAtlas(8, 6, TileAtlas.COLUMNS + 2);
+    assertEquals(8 * TileAtlas.COLUMNS, atlas.getImage().getWidth());
+    assertEquals(12, atlas.getImage().getHeight());
+    atlas.setTile(1, createTile(8, 0xff112233));
+    atlas.setTile(TileAtlas.COLUMNS + 1, createTile(8, 0x80445566));
+    assertEquals(8, atlas.getSourceX(1));
+    assertEquals(0, atlas.getSourceY(1));
+    assertEquals(8, atlas.getSourceX(TileAtlas.COLUMNS + 1));
+    assertEquals(6, atlas.getSourceY(TileAtlas.COLUMNS + 1));
+    assertEquals(0xff112233, atlas.getTileImage(1).getRGB(7, 5));
+    assertEquals(0x80445566,
+        atlas.getTileImage(TileAtlas.COLUMNS + 1).getRGB(0, 0));
+    assertEquals(0, atlas.getTileImage(0).getRGB(0, 0));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testSaveAndLoad() throws IOException {
+    TileAtlas atlas = new TileAtlas(4, 4, 3);
+    atlas.setTile(2, createTile(4, 0xff00ff00));
+    File file = new File(folder.getRoot(), "cache/tiles4-test.png");
+    atlas.save(file);
+    assertTrue(file.isFile());
+    TileAtlas loaded = TileAtlas.load(file, 4, 4, 3);
+    assertNotNull(loaded);
+    assertEquals(BufferedImage.TYPE_4BYTE_ABGR, loaded.getImage().getType());
+    assertEquals(0xff00ff00, loaded.getTileImage(2).getRGB(3, 3));
+    assertNull(TileAtlas.load(file, 8, 8, 3));
+    assertNull(TileAtlas.load(new File(folder.getRoot(), "missing.png"),
+        4, 4, 3));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testDrawFromAtlas() {
+    TileAtlas atlas = new TileAtlas(4, 4, 2);
+    atlas.setTile(1, createTile(4, 0xffff0000));
+    Tile tile = new Tile(atlas, 1, Tile.ZOOM_OUT1, "Test");
+    assertEquals(4, tile.getRawTile().getWidth());
+    BufferedImage target = new BufferedImage(10, 10,
+        BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = target.createGraphics();
+    tile.draw(g, 2, 3);
+    g.dispose();
+    assertEquals(0, target.getRGB(1, 3));
+    assertEquals(0xffff0000, target.getRGB(2, 3));
+    assertEquals(0xffff0000, target.getRGB(5, 6));
+    assertEquals(0, target.getRGB(6, 6));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.BehaviourTest.class)
+  public void testBakedTiles() {
+    TileAtlas atlas = Tiles.getAtlas(Tile.ZOOM_IN1);
+    assertEquals(Tiles.getMaxTiles(), atlas.getNumberOfTiles());
+    for (int i = 0; i < Tiles.getMaxTiles(); i += 17) {
+      BufferedImage expected = GraphRoutines.scaleTile64to48(
+          Tiles.getTileByIndex(i, Tile.ZOOM_IN2).getRawTile(), true);
+      BufferedImage actual = Tiles.getTileByIndex(i, Tile.ZOOM_IN1)
+          .getRawTile();
+      assertEquals(expected.getRGB(24, 24), actual.getRGB(24, 24));
+      assertEquals(expected.getRGB(3, 40), actual.getRGB(3, 40));
+    }
+    Tile small = Tiles.getTileByName(TileNames.SUN_C, Tile.ZOOM_OUT1);
+    assertEquals(TileNames.SUN_C, small.getName());
+    assertEquals(24, small.getRawTile().getWidth());
+    assertEquals(Tiles.getTileByName(TileNames.SUN_C).getIndex(),
+        small.getIndex());
+  }
+
+}
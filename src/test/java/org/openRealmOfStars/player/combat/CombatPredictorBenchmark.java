@@ -0,0 +1,131 @@
+package org.openRealmOfStars.player.combat;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.openRealmOfStars.player.PlayerInfo;
+import org.openRealmOfStars.player.fleet.Fleet;
+import org.openRealmOfStars.player.race.SpaceRaceFactory;
+import org.openRealmOfStars.player.ship.Ship;
+import org.openRealmOfStars.player.ship.ShipSize;
+import org.openRealmOfStars.player.ship.generator.ShipGenerator;
+import org.openRealmOfStars.player.ship.shipdesign.ShipDesign;
+import org.openRealmOfStars.player.tech.TechFactory;
+
+/**
+ * Benchmark comparing real fast combats against simulated combats
+ * used for combat predictions.
+ */
+public class CombatPredictorBenchmark {
+
+  /** Ships in each fleet */
+  private static final int SHIPS = 8;
+  /** Number of combats to compare */
+  private static final int COMBATS = 200;
+  /** Warm up rounds */
+  private static final int WARM_UP_ROUNDS = 5;
+
+  /**
+   * Create fleet from design.
+   * @param info Realm owning the fleet
+   * @param design Ship design
+   * @param x Fleet X coordinate
+   * @return Fleet
+   */
+  private static Fleet createFleet(final PlayerInfo info,
+      final ShipDesign design, final int x) {
+    Fleet fleet = new Fleet(new Ship(design), x, 5);
+    for (int i = 1; i < SHIPS; i++) {
+      fleet.addShip(new Ship(design));
+    }
+    info.getFleets().add(fleet);
+    return fleet;
+  }
+
+  /**
+   * Run real fast combats with fresh fleets.
+   * @param info1 Attacker
+   * @param info2 Defender
+   * @param design1 Attacker design
+   * @param design2 Defender design
+   * @return Number of attacker wins
+   */
+  private static int realCombats(final PlayerInfo info1,
+      final PlayerInfo info2, final ShipDesign design1,
+      final ShipDesign design2) {
+    int wins = 0;
+    for (int i = 0; i < COMBATS; i++) {
+      Fleet fleet1 = createFleet(info1, design1, 5);
+      Fleet fleet2 = createFleet(info2, design2, 6);
+      Combat combat = new Combat(fleet1, fleet2, info1, info2, 2450);
+      combat.doFastCombat();
+      if (combat.getWinner() == info1) {
+        wins++;
+      }
+      info1.getFleets().removeFleet(fleet1);
+      info2.getFleets().removeFleet(fleet2);
+    }
+    return wins;
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.PerformanceTest.class)
+  public void benchmarkCombatPrediction() {
+    PlayerInfo info1 = new PlayerInfo(SpaceRaceFactory.createOne("HUMANS"));
+    PlayerInfo info2 = new PlayerInfo(SpaceRaceFactory.createOne("SPORKS"));
+    info1.getTechList().addTech(TechFactory.createCombatTech(
+        "Photon torpedo Mk2", 2));
+    info2.getTechList().addTech(TechFactory.createCombatTech(
+        "Photon torpedo Mk2", 2));
+    ShipDesign design1 = ShipGenerator.createBattleShip(
+        info1, ShipSize.SMALL, false, false, (byte) 0);
+    ShipDesign design2 = ShipGenerator.createBattleShip(
+        info2, ShipSize.SMALL, false, false, (byte) 0);
+    CombatPredictor predictor = new CombatPredictor();
+    predictor.setSimulations(COMBATS);
+    Fleet fleet1 = createFleet(info1, design1, 5);
+    Fleet fleet2 = createFleet(info2, design2, 6);
+    CombatSimulation simulation = new CombatSimulation(fleet1, fleet2);
+    long sink = 0;
+    for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+      sink = sink + realCombats(info1, info2, design1, design2);
+      sink = sink + Math.round(predictor.simulate(simulation, i)
+          .getWinProbability() * COMBATS);
+    }
+    long start = System.nanoTime();
+    int realWins = realCombats(info1, info2, design1, design2);
+    long realTime = System.nanoTime() - start;
+    predictor.setSerialSimulation(true);
+    start = System.nanoTime();
+    CombatPrediction serial = predictor.simulate(simulation, 0);
+    long serialTime = System.nanoTime() - start;
+    predictor.setSerialSimulation(false);
+    start = System.nanoTime();
+    CombatPrediction parallel = predictor.simulate(simulation, 0);
+    long parallelTime = System.nanoTime() - start;
+    System.out.println(COMBATS + " combats between two fleets of " + SHIPS
+        + " ships (" + sink + ")");
+    System.out.println("Real fast combats: " + realTime / 1000
+        + " us, attacker won " + realWins);
+    System.out.println("Serial simulations: " + serialTime / 1000
+        + " us, attacker win probability " + serial.getWinProbability());
+    System.out.println("Parallel simulations: " + parallelTime / 1000
+        + " us, attacker win probability " + parallel.getWinProbability());
+  }
+}
@@ -0,0 +1,194 @@
+package org.openRealmOfStars.player.combat;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.openRealmOfStars.player.PlayerInfo;
+import org.openRealmOfStars.player.fleet.Fleet;
+import org.openRealmOfStars.player.race.SpaceRaceFactory;
+import org.openRealmOfStars.player.ship.Ship;
+import org.openRealmOfStars.player.ship.ShipSize;
+import org.openRealmOfStars.player.ship.generator.ShipGenerator;
+import org.openRealmOfStars.player.ship.shipdesign.ShipDesign;
+import org.openRealmOfStars.player.tech.TechFactory;
+
+public class CombatPredictorTest {
+
+  /**
+   * Create fleet of small battleships.
+   * @param info Realm whose techs are used
+   * @param ships Number of ships
+   * @return Fleet
+   */
+  private static Fleet createBattleFleet(final PlayerInfo info,
+      final int ships) {
+    return createFleet(ShipGenerator.createBattleShip(
+        info, ShipSize.SMALL, false, false, (byte) 0), ships);
+  }
+
+  /**
+   * Create fleet from design.
+   * @param design Ship design
+   * @param ships Number of ships
+   * @return Fleet
+   */
+  private static Fleet createFleet(final ShipDesign design,
+      final int ships) {
+    Fleet fleet = new Fleet(new Ship(design), 5, 5);
+    for (int i = 1; i < ships; i++) {
+      fleet.addShip(new Ship(design));
+    }
+    return fleet;
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.BehaviourTest.class)
+  public void testBattleshipAgainstColony() {
+    CombatPredictor predictor = new CombatPredictor();
+    PlayerInfo info1 = new PlayerInfo(SpaceRaceFactory.createOne("HUMANS"));
+    PlayerInfo info2 = new PlayerInfo(SpaceRaceFactory.createOne("SPORKS"));
+    info1.getTechList().addTech(TechFactory.createCombatTech(
+        "Photon torpedo Mk2", 2));
+    Fleet fleet1 = createBattleFleet(info1, 1);
+    Fleet fleet2 = new Fleet(new Ship(ShipGenerator.createColony(info2,
+        false)), 6, 5);
+    int hullPoints = fleet2.getFirstShip().getHullPoints();
+    CombatPrediction prediction = predictor.predict(fleet1, fleet2);
+    assertEquals(CombatPredictor.DEFAULT_SIMULATIONS,
+        prediction.getSimulations());
+    assertEquals(1.0, prediction.getWinProbability(), 0.001);
+    assertEquals(0.0, prediction.getLossProbability(), 0.001);
+    assertEquals(0.0, prediction.getExpectedAttackerLosses(), 0.001);
+    assertEquals(1.0, prediction.getExpectedDefenderLosses(), 0.001);
+    assertEquals(0.0, prediction.getExpectedDefenderPowerLost(), 0.001);
+    // Actual ships are not touched
+    assertEquals(hullPoints, fleet2.getFirstShip().getHullPoints());
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.BehaviourTest.class)
+  public void testNoWeapons() {
+    CombatPredictor predictor = new CombatPredictor();
+    PlayerInfo info1 = new PlayerInfo(SpaceRaceFactory.createOne("HUMANS"));
+    PlayerInfo info2 = new PlayerInfo(SpaceRaceFactory.createOne("SPORKS"));
+    Fleet fleet1 = new Fleet(new Ship(ShipGenerator.createColony(info1,
+        false)), 5, 5);
+    Fleet fleet2 = new Fleet(new Ship(ShipGenerator.createColony(info2,
+        false)), 6, 5);
+    CombatPrediction prediction = predictor.predict(fleet1, fleet2);
+    assertEquals(1.0, prediction.getDrawProbability(), 0.001);
+    assertEquals(0.0, prediction.getExpectedAttackerLosses(), 0.001);
+    assertEquals(0.0, prediction.getExpectedDefenderLosses(), 0.001);
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.BehaviourTest.class)
+  public void testBiggerFleetWins() {
+    CombatPredictor predictor = new CombatPredictor();
+    PlayerInfo info1 = new PlayerInfo(SpaceRaceFactory.createOne("HUMANS"));
+    PlayerInfo info2 = new PlayerInfo(SpaceRaceFactory.createOne("HUMANS"));
+    Fleet fleet1 = createBattleFleet(info1, 6);
+    Fleet fleet2 = createBattleFleet(info2, 1);
+    CombatPrediction prediction = predictor.predict(fleet1, fleet2);
+    assertTrue(prediction.getWinProbability() > 0.9);
+    CombatPrediction reverse = predictor.predict(fleet2, fleet1);
+    assertTrue(reverse.getLossProbability() > 0.9);
+    assertEquals(1.0, reverse.getWinProbability()
+        + reverse.getLossProbability() + reverse.getDrawProbability(),
+        0.001);
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.BehaviourTest.class)
+  public void testCacheAndComposition() {
+    CombatPredictor predictor = new CombatPredictor();
+    PlayerInfo info1 = new PlayerInfo(SpaceRaceFactory.createOne("HUMANS"));
+    PlayerInfo info2 = new PlayerInfo(SpaceRaceFactory.createOne("SPORKS"));
+    ShipDesign design = ShipGenerator.createBattleShip(
+        info1, ShipSize.SMALL, false, false, (byte) 0);
+    Fleet fleet1 = createFleet(design, 2);
+    Fleet fleet2 = createBattleFleet(info2, 2);
+    predictor.clearCache();
+    CombatPrediction prediction = predictor.predict(fleet1, fleet2);
+    assertEquals(prediction, predictor.predict(fleet1, fleet2));
+    assertEquals(1, predictor.getCacheSize());
+    // Same composition in different fleet uses cached prediction
+    Fleet copy = createFleet(design, 2);
+    assertEquals(CombatPredictor.getCompositionHash(fleet1),
+        CombatPredictor.getCompositionHash(copy));
+    assertEquals(prediction, predictor.predict(copy, fleet2));
+    copy.getFirstShip().oneDamage(0);
+    assertNotEquals(CombatPredictor.getCompositionHash(fleet1),
+        CombatPredictor.getCompositionHash(copy));
+    predictor.predict(copy, fleet2);
+    assertEquals(2, predictor.getCacheSize());
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.BehaviourTest.class)
+  public void testPluggableRandom() {
+    CombatPredictor predictor = new CombatPredictor();
+    PlayerInfo info1 = new PlayerInfo(SpaceRaceFactory.createOne("HUMANS"));
+    PlayerInfo info2 = new PlayerInfo(SpaceRaceFactory.createOne("HUMANS"));
+    Fleet fleet1 = createBattleFleet(info1, 3);
+    Fleet fleet2 = createBattleFleet(info2, 3);
+    // Every shot hits and first choice is always taken, so each
+    // simulation has exactly same outcome.
+    predictor.setRandomFactory(seed -> bound -> 0);
+    predictor.setSimulations(50);
+    CombatPrediction prediction = predictor.predict(fleet1, fleet2);
+    assertEquals(50, prediction.getSimulations());
+    double win = prediction.getWinProbability();
+    assertTrue(win == 0.0 || win == 1.0);
+    predictor.setSerialSimulation(true);
+    predictor.clearCache();
+    CombatPrediction serial = predictor.predict(fleet1, fleet2);
+    assertEquals(win, serial.getWinProbability(), 0.001);
+    assertEquals(prediction.getExpectedDefenderLosses(),
+        serial.getExpectedDefenderLosses(), 0.001);
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.BehaviourTest.class)
+  public void testSameSeedSamePrediction() {
+    CombatPredictor predictor = new CombatPredictor();
+    PlayerInfo info1 = new PlayerInfo(SpaceRaceFactory.createOne("HUMANS"));
+    PlayerInfo info2 = new PlayerInfo(SpaceRaceFactory.createOne("SPORKS"));
+    info2.getTechList().addTech(TechFactory.createDefenseTech(
+        "Shield Mk2", 2));
+    Fleet fleet1 = createBattleFleet(info1, 4);
+    Fleet fleet2 = createBattleFleet(info2, 3);
+    CombatSimulation simulation = new CombatSimulation(fleet1, fleet2);
+    assertEquals(7, simulation.getNumberOfShips());
+    assertEquals(4, simulation.getNumberOfShips(CombatSimulation.ATTACKER));
+    assertEquals(fleet2.getMilitaryValue(),
+        simulation.getMilitaryPower(CombatSimulation.DEFENDER));
+    CombatPrediction first = predictor.simulate(simulation, 42);
+    predictor.setSerialSimulation(true);
+    CombatPrediction second = predictor.simulate(simulation, 42);
+    assertEquals(first.getWinProbability(), second.getWinProbability(),
+        0.0001);
+    assertEquals(first.getExpectedAttackerPowerLost(),
+        second.getExpectedAttackerPowerLost(), 0.0001);
+  }
+}
@@ -364,6 +364,7 @@ public class CombatTest {
   @Test
   @Category(org.openRealmOfStars.BehaviourTest.class)
   public void testStarbaseFleetLose() {
+    DiceGenerator.initializeGenerators(5L, 1234);
     PlayerInfo defender = new PlayerInfo(SpaceRaceFactory.createOne(
         SpaceRaceFactory.SPACE_PIRATE));
     PlayerInfo attacker = new PlayerInfo(SpaceRaceFactory.createOne("SPORKS"));
@@ -407,6 +408,9 @@ public class CombatTest {
       combat.nextShip(null);
     }
     assertEquals(2, deployedBases);
+    // Attacker has to go around the starbases, keep worm hole away so
+    // that it cannot block the side attacker chose.
+    combat.setTimerForWormHole(100);
     combat.doFastCombat();
     assertEquals(attacker, combat.getWinner());
   }
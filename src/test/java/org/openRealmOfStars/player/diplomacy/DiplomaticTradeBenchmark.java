@@ -0,0 +1,124 @@
+package org.openRealmOfStars.player.diplomacy;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.Mockito;
+import org.openRealmOfStars.player.PlayerInfo;
+import org.openRealmOfStars.player.race.SpaceRaceFactory;
+import org.openRealmOfStars.starMap.Coordinate;
+import org.openRealmOfStars.starMap.StarMap;
+
+/**
+ * Benchmark comparing full map trade valuation with sector by sector
+ * comparison on maximum size galaxy.
+ */
+public class DiplomaticTradeBenchmark {
+
+  /** Maximum galaxy size */
+  private static final int SIZE = 256;
+  /** Number of valuations measured */
+  private static final int ROUNDS = 200;
+  /** Warm up rounds */
+  private static final int WARM_UP_ROUNDS = 5;
+
+  /**
+   * Create realm with randomly charted map.
+   * @param random Random
+   * @return Realm
+   */
+  private static PlayerInfo createRealm(final Random random) {
+    PlayerInfo info = new PlayerInfo(SpaceRaceFactory.createOne("HUMANS"));
+    info.initMapData(SIZE, SIZE);
+    for (int y = 0; y < SIZE; y++) {
+      for (int x = 0; x < SIZE; x++) {
+        info.setSectorVisibility(x, y, (byte) random.nextInt(4));
+      }
+    }
+    return info;
+  }
+
+  /**
+   * Calculate full map value sector by sector.
+   * @param receiver Map receiver
+   * @param giver Map giver
+   * @return Map value
+   */
+  private static int sectorMapValue(final PlayerInfo receiver,
+      final PlayerInfo giver) {
+    int value = 0;
+    for (int y = 0; y < SIZE; y++) {
+      for (int x = 0; x < SIZE; x++) {
+        Coordinate coord = new Coordinate(x, y);
+        if (giver.getSectorVisibility(coord) != PlayerInfo.UNCHARTED
+            && receiver.getSectorVisibility(coord) == PlayerInfo.UNCHARTED) {
+          value = value + 1;
+        }
+      }
+    }
+    return value;
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.PerformanceTest.class)
+  public void benchmarkFullMapValue() {
+    Random random = new Random(0);
+    PlayerInfo receiver = createRealm(random);
+    PlayerInfo giver = createRealm(random);
+    StarMap starMap = Mockito.mock(StarMap.class);
+    Mockito.when(starMap.getMaxX()).thenReturn(SIZE);
+    Mockito.when(starMap.getMaxY()).thenReturn(SIZE);
+    long sink = 0;
+    for (int i = 0; i < WARM_UP_ROUNDS * ROUNDS; i++) {
+      sink = sink + DiplomaticTrade.calculateMapValue(starMap, receiver,
+          giver, DiplomaticTrade.MAP_FULLMAP);
+    }
+    for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+      sink = sink + sectorMapValue(receiver, giver);
+    }
+    int expected = sectorMapValue(receiver, giver);
+    long start = System.nanoTime();
+    for (int i = 0; i < ROUNDS; i++) {
+      sink = sink + sectorMapValue(receiver, giver);
+    }
+    long sectorTime = System.nanoTime() - start;
+    start = System.nanoTime();
+    for (int i = 0; i < ROUNDS; i++) {
+      sink = sink + DiplomaticTrade.calculateMapValue(starMap, receiver,
+          giver, DiplomaticTrade.MAP_FULLMAP);
+    }
+    long planeTime = System.nanoTime() - start;
+    assertEquals(expected, DiplomaticTrade.calculateMapValue(starMap,
+        receiver, giver, DiplomaticTrade.MAP_FULLMAP));
+    start = System.nanoTime();
+    int charted = receiver.chartSectorsFrom(giver);
+    long mergeTime = System.nanoTime() - start;
+    assertEquals(expected, charted);
+    System.out.println(ROUNDS + " full map valuations on " + SIZE + "x"
+        + SIZE + " galaxy (" + sink + ")");
+    System.out.println("Sector by sector: " + sectorTime / 1000 + " us");
+    System.out.println("Packed words: " + planeTime / 1000 + " us");
+    System.out.println("Map merge of " + charted + " sectors: "
+        + mergeTime / 1000 + " us");
+  }
+}
@@ -19,11 +19,18 @@ package org.openRealmOfStars.player.player;
  */
 
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
 import org.junit.Test;
 
 import org.junit.experimental.categories.Category;
@@ -459,4 +466,55 @@ public class PlayerInfoTest {
       assertEquals(80, player.getFakeMilitarySize());
     }
 
+    /**
+     * Save player info and return map visibility stream.
+     * @param player PlayerInfo
+     * @return Map visibility bytes without map size
+     * @throws IOException if saving fails
+     */
+    private static byte[] saveMapData(final PlayerInfo player)
+        throws IOException {
+      ByteArrayOutputStream map = new ByteArrayOutputStream();
+      DataOutputStream dos = new DataOutputStream(
+          new ByteArrayOutputStream());
+      player.savePlayerInfo(dos, dos, new DataOutputStream(map));
+      byte[] bytes = map.toByteArray();
+      byte[] result = new byte[bytes.length - 8];
+      System.arraycopy(bytes, 8, result, 0, result.length);
+      return result;
+    }
+
+    @Test
+    @Category(org.openRealmOfStars.UnitTest.class)
+    public void testSaveMapDataFromJournal() throws IOException {
+      PlayerInfo player = new PlayerInfo(SpaceRaceFactory.createOne("HUMANS"), 2, 0);
+      player.initMapData(10, 8);
+      player.setSectorVisibility(3, 2, PlayerInfo.VISIBLE);
+      byte[] expected = new byte[80];
+      expected[23] = PlayerInfo.VISIBLE;
+      assertArrayEquals(expected, saveMapData(player));
+      player.resetVisibilityDataAfterTurn();
+      player.setSectorVisibility(9, 7, PlayerInfo.FOG_OF_WAR);
+      expected[23] = PlayerInfo.FOG_OF_WAR;
+      expected[79] = PlayerInfo.FOG_OF_WAR;
+      assertArrayEquals(expected, saveMapData(player));
+      // Journal is restarted, so whole map is read again
+      for (int i = 0; i < 1000; i++) {
+        player.setSectorVisibility(i % 10, 0, PlayerInfo.VISIBLE);
+        player.resetVisibilityDataAfterTurn();
+      }
+      for (int i = 0; i < 10; i++) {
+        expected[i] = PlayerInfo.FOG_OF_WAR;
+      }
+      assertArrayEquals(expected, saveMapData(player));
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      player.savePlayerInfo(new DataOutputStream(out));
+      PlayerInfo loaded = new PlayerInfo(new DataInputStream(
+          new ByteArrayInputStream(out.toByteArray())));
+      loaded.setSectorVisibility(0, 1, PlayerInfo.UNCHARTED);
+      loaded.setSectorVisibility(0, 0, PlayerInfo.UNCHARTED);
+      expected[0] = PlayerInfo.UNCHARTED;
+      assertArrayEquals(expected, saveMapData(loaded));
+    }
+
 }
@@ -0,0 +1,203 @@
+package org.openRealmOfStars.player.player;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.openRealmOfStars.player.PlayerInfo;
+import org.openRealmOfStars.player.VisibilityMap;
+
+/**
+*
+* Visibility map test
+*
+*/
+public class VisibilityMapTest {
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testPackedStates() {
+    VisibilityMap map = new VisibilityMap(7, 5);
+    assertEquals(7, map.getMaxX());
+    assertEquals(5, map.getMaxY());
+    for (int y = 0; y < 5; y++) {
+      for (int x = 0; x < 7; x++) {
+        assertEquals(PlayerInfo.UNCHARTED, map.getVisibility(x, y));
+        map.setVisibility(x, y, (byte) ((x + y) % 4));
+      }
+    }
+    for (int y = 0; y < 5; y++) {
+      for (int x = 0; x < 7; x++) {
+        assertEquals((x + y) % 4, map.getVisibility(x, y));
+      }
+    }
+  }
+
+  @Test(expected = ArrayIndexOutOfBoundsException.class)
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testOutsideMap() {
+    VisibilityMap map = new VisibilityMap(5, 5);
+    map.getVisibility(5, 0);
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testNextEpoch() {
+    VisibilityMap map = new VisibilityMap(10, 10);
+    map.setVisibility(1, 1, PlayerInfo.VISIBLE);
+    map.setVisibility(2, 2, PlayerInfo.VISIBLE_VEINS);
+    map.setVisibility(3, 3, PlayerInfo.FOG_OF_WAR);
+    map.setCloakDetection(1, 1, 50);
+    assertEquals(50, map.getCloakDetection(1, 1));
+    assertEquals(0, map.getCloakDetection(2, 1));
+    assertEquals(1, map.getNumberOfDetectionSectors());
+    int epoch = map.getEpoch();
+    map.nextEpoch();
+    assertEquals(epoch + 1, map.getEpoch());
+    assertEquals(PlayerInfo.FOG_OF_WAR, map.getVisibility(1, 1));
+    assertEquals(PlayerInfo.FOG_OF_WAR, map.getVisibility(2, 2));
+    assertEquals(PlayerInfo.FOG_OF_WAR, map.getVisibility(3, 3));
+    assertEquals(PlayerInfo.UNCHARTED, map.getVisibility(4, 4));
+    assertEquals(0, map.getCloakDetection(1, 1));
+    assertEquals(0, map.getNumberOfDetectionSectors());
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testManyCloakDetections() {
+    VisibilityMap map = new VisibilityMap(64, 64);
+    for (int y = 0; y < 64; y++) {
+      for (int x = 0; x < 64; x++) {
+        map.setCloakDetection(x, y, x + y * 64 + 1);
+      }
+    }
+    assertEquals(64 * 64, map.getNumberOfDetectionSectors());
+    for (int y = 0; y < 64; y++) {
+      for (int x = 0; x < 64; x++) {
+        assertEquals(x + y * 64 + 1, map.getCloakDetection(x, y));
+      }
+    }
+    map.nextEpoch();
+    map.setCloakDetection(10, 10, 20);
+    assertEquals(20, map.getCloakDetection(10, 10));
+    assertEquals(0, map.getCloakDetection(11, 10));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testJournal() {
+    VisibilityMap map = new VisibilityMap(10, 10);
+    long position = map.getJournalPosition();
+    assertEquals(0, map.getChangesSince(position).length);
+    map.setVisibility(1, 2, PlayerInfo.VISIBLE);
+    map.setVisibility(1, 2, PlayerInfo.VISIBLE);
+    map.setVisibility(3, 0, PlayerInfo.FOG_OF_WAR);
+    int[] changes = map.getChangesSince(position);
+    assertArrayEquals(new int[] {21, 3}, changes);
+    position = map.getJournalPosition();
+    map.nextEpoch();
+    assertArrayEquals(new int[] {21}, map.getChangesSince(position));
+    assertNull(map.getChangesSince(map.getJournalPosition() + 1));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testJournalRestart() {
+    VisibilityMap map = new VisibilityMap(10, 10);
+    long position = map.getJournalPosition();
+    for (int i = 0; i < 1000; i++) {
+      map.setVisibility(i % 10, (i / 10) % 10, PlayerInfo.VISIBLE);
+      map.nextEpoch();
+    }
+    assertNull(map.getChangesSince(position));
+    long latest = map.getJournalPosition();
+    map.setVisibility(0, 0, PlayerInfo.UNCHARTED);
+    assertArrayEquals(new int[] {0}, map.getChangesSince(latest));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testPlanes() {
+    VisibilityMap map = new VisibilityMap(13, 11);
+    map.setVisibility(0, 0, PlayerInfo.FOG_OF_WAR);
+    map.setVisibility(5, 2, PlayerInfo.VISIBLE);
+    map.setVisibility(12, 10, PlayerInfo.VISIBLE_VEINS);
+    long[] charted = map.getChartedPlane();
+    long[] visible = map.getVisiblePlane();
+    assertEquals(3, charted.length);
+    assertEquals(1L | 1L << 31, charted[0]);
+    assertEquals(1L << 31, visible[0]);
+    assertEquals(1L << (142 - 128), charted[2]);
+    assertEquals(1L << (142 - 128), visible[2]);
+    assertEquals(0, charted[1]);
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testChartFrom() {
+    Random random = new Random(42);
+    VisibilityMap giver = new VisibilityMap(37, 29);
+    VisibilityMap receiver = new VisibilityMap(37, 29);
+    for (int y = 0; y < 29; y++) {
+      for (int x = 0; x < 37; x++) {
+        giver.setVisibility(x, y, (byte) random.nextInt(4));
+        receiver.setVisibility(x, y, (byte) random.nextInt(4));
+      }
+    }
+    int expected = 0;
+    byte[] before = new byte[37 * 29];
+    for (int y = 0; y < 29; y++) {
+      for (int x = 0; x < 37; x++) {
+        before[x + y * 37] = receiver.getVisibility(x, y);
+        if (giver.getVisibility(x, y) != PlayerInfo.UNCHARTED
+            && receiver.getVisibility(x, y) == PlayerInfo.UNCHARTED) {
+          expected++;
+        }
+      }
+    }
+    assertEquals(expected, receiver.countChartedOnlyIn(giver));
+    long position = receiver.getJournalPosition();
+    assertEquals(expected, receiver.chartFrom(giver));
+    assertEquals(expected, receiver.getChangesSince(position).length);
+    for (int y = 0; y < 29; y++) {
+      for (int x = 0; x < 37; x++) {
+        byte old = before[x + y * 37];
+        if (old == PlayerInfo.UNCHARTED
+            && giver.getVisibility(x, y) != PlayerInfo.UNCHARTED) {
+          assertEquals(PlayerInfo.FOG_OF_WAR, receiver.getVisibility(x, y));
+        } else {
+          assertEquals(old, receiver.getVisibility(x, y));
+        }
+      }
+    }
+    assertEquals(0, receiver.countChartedOnlyIn(giver));
+    assertEquals(0, receiver.chartFrom(giver));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testChartFromDifferentSize() {
+    VisibilityMap map = new VisibilityMap(10, 10);
+    map.countChartedOnlyIn(new VisibilityMap(10, 11));
+  }
+
+}
@@ -0,0 +1,186 @@
+package org.openRealmOfStars.player.ship;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.openRealmOfStars.player.fleet.Fleet;
+import org.openRealmOfStars.player.race.SpaceRaceFactory;
+import org.openRealmOfStars.player.ship.shipdesign.ShipDesign;
+
+/**
+ * Benchmark comparing calculated and cached ship stats for late game
+ * fleets full of battleships.
+ */
+public class ShipStatsBenchmark {
+
+  /** Number of fleets */
+  private static final int FLEETS = 6;
+  /** Warm up rounds */
+  private static final int WARM_UP_ROUNDS = 200;
+  /** Measured rounds */
+  private static final int MEASURED_ROUNDS = 200;
+
+  /**
+   * Create late game battleship design.
+   * @return Ship design
+   */
+  private static ShipDesign createDesign() {
+    ShipHull hull = ShipHullFactory.createByName("Battleship Mk3",
+        SpaceRaceFactory.createOne("HUMANS"));
+    ShipDesign design = new ShipDesign(hull);
+    String[] names = {"Zero-point source Mk3", "Hyper drive Mk13",
+        "Combat thrusters Mk5", "Photon torpedo Mk20", "Railgun Mk10",
+        "Antimatter beam Mk5", "Shield Mk20", "Armor plating Mk20",
+        "Targeting computer Mk5", "Scanner Mk8"};
+    for (String name : names) {
+      design.addComponent(ShipComponentFactory.createByName(name));
+    }
+    return design;
+  }
+
+  /**
+   * Create fleets with maximum number of ships.
+   * @return Array of fleets
+   */
+  private static Fleet[] createFleets() {
+    ShipDesign design = createDesign();
+    Fleet[] fleets = new Fleet[FLEETS];
+    for (int i = 0; i < FLEETS; i++) {
+      fleets[i] = new Fleet(new Ship(design), i, i);
+      for (int j = 1; j < Fleet.MAX_FLEET_SIZE; j++) {
+        fleets[i].addShip(new Ship(design));
+      }
+    }
+    return fleets;
+  }
+
+  /**
+   * Read all stats by calculating them.
+   * @param fleets Fleets to read
+   * @return Sum of stats
+   */
+  private static long calculateStats(final Fleet[] fleets) {
+    long sum = 0;
+    for (Fleet fleet : fleets) {
+      for (Ship ship : fleet.getShips()) {
+        int tacticSpeed = ship.calculateTacticSpeed();
+        sum = sum + ship.calculateTotalMilitaryPower()
+            + ship.calculateTheoreticalMilitaryPower()
+            + ship.calculateTotalShield() + ship.calculateTotalArmor()
+            + ship.calculateDefenseValue(tacticSpeed)
+            + ship.calculateInitiative() + ship.calculateSpeed()
+            + ship.calculateScannerDetectionLvl();
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Read all stats from ship stats.
+   * @param fleets Fleets to read
+   * @return Sum of stats
+   */
+  private static long cachedStats(final Fleet[] fleets) {
+    long sum = 0;
+    for (Fleet fleet : fleets) {
+      for (Ship ship : fleet.getShips()) {
+        sum = sum + ship.getTotalMilitaryPower()
+            + ship.getTheoreticalMilitaryPower()
+            + ship.getTotalShield() + ship.getTotalArmor()
+            + ship.getDefenseValue() + ship.getInitiative()
+            + ship.getSpeed() + ship.getScannerDetectionLvl();
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Sum military value of fleets by calculating each ship.
+   * @param fleets Fleets to read
+   * @return Military value
+   */
+  private static long calculateMilitaryValue(final Fleet[] fleets) {
+    long sum = 0;
+    for (Fleet fleet : fleets) {
+      for (Ship ship : fleet.getShips()) {
+        sum = sum + ship.calculateTotalMilitaryPower();
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Sum military value of fleets from fleet aggregates.
+   * @param fleets Fleets to read
+   * @return Military value
+   */
+  private static long cachedMilitaryValue(final Fleet[] fleets) {
+    long sum = 0;
+    for (Fleet fleet : fleets) {
+      sum = sum + fleet.getMilitaryValue();
+    }
+    return sum;
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.PerformanceTest.class)
+  public void benchmarkShipStats() {
+    Fleet[] fleets = createFleets();
+    assertEquals(calculateStats(fleets), cachedStats(fleets));
+    assertEquals(calculateMilitaryValue(fleets),
+        cachedMilitaryValue(fleets));
+    long sink = 0;
+    for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+      sink = sink + calculateStats(fleets) + cachedStats(fleets);
+      sink = sink + calculateMilitaryValue(fleets)
+          + cachedMilitaryValue(fleets);
+    }
+    long calculatedTime = 0;
+    long cachedTime = 0;
+    long calculatedValueTime = 0;
+    long cachedValueTime = 0;
+    for (int i = 0; i < MEASURED_ROUNDS; i++) {
+      long start = System.nanoTime();
+      sink = sink + calculateStats(fleets);
+      calculatedTime = calculatedTime + System.nanoTime() - start;
+      start = System.nanoTime();
+      sink = sink + cachedStats(fleets);
+      cachedTime = cachedTime + System.nanoTime() - start;
+      start = System.nanoTime();
+      sink = sink + calculateMilitaryValue(fleets);
+      calculatedValueTime = calculatedValueTime + System.nanoTime() - start;
+      start = System.nanoTime();
+      sink = sink + cachedMilitaryValue(fleets);
+      cachedValueTime = cachedValueTime + System.nanoTime() - start;
+    }
+    int ships = FLEETS * Fleet.MAX_FLEET_SIZE;
+    System.out.println("Ship stats for " + ships + " battleships in "
+        + FLEETS + " fleets (" + sink + ")");
+    System.out.println("Calculated stats: " + calculatedTime
+        / MEASURED_ROUNDS / 1000 + " us/round");
+    System.out.println("Cached stats: " + cachedTime
+        / MEASURED_ROUNDS / 1000 + " us/round");
+    System.out.println("Calculated military value: " + calculatedValueTime
+        / MEASURED_ROUNDS / 1000 + " us/round");
+    System.out.println("Cached military value: " + cachedValueTime
+        / MEASURED_ROUNDS / 1000 + " us/round");
+  }
+}
@@ -21,6 +21,7 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.mockito.Mockito;
 import org.openRealmOfStars.player.PlayerInfo;
+import org.openRealmOfStars.player.fleet.Fleet;
 import org.openRealmOfStars.player.race.SpaceRaceFactory;
 import org.openRealmOfStars.player.ship.generator.ShipGenerator;
 import org.openRealmOfStars.player.ship.shipdesign.ShipDesign;
@@ -838,5 +839,68 @@ public class ShipTest {
     assertEquals(1, ship.getTotalResearchBonus());
   }
 
+  @Test
+  @Category(org.openRealmOfStars.BehaviourTest.class)
+  public void testStatsChangeWithDamageAndFlags() {
+    ShipHull hull = ShipHullFactory.createByName("Scout Mk1",
+        SpaceRaceFactory.createOne("HUMANS"));
+    ShipDesign design = new ShipDesign(hull);
+    design.addComponent(ShipComponentFactory.createByName(
+        "Fission source Mk1"));
+    design.addComponent(ShipComponentFactory.createByName(
+        "Nuclear drive Mk1"));
+    design.addComponent(ShipComponentFactory.createByName(
+        "Armor plating Mk1"));
+    design.addComponent(ShipComponentFactory.createByName("Laser Mk1"));
+    Ship ship = new Ship(design);
+    Fleet fleet = new Fleet(ship, 1, 1);
+    assertEquals(6, ship.getTotalMilitaryPower());
+    assertEquals(6, fleet.getMilitaryValue());
+    assertEquals(2, ship.getSpeed());
+    int energy = ship.getTotalEnergy();
+    // Destroy the weapon
+    for (int i = 0; i < ship.getNumberOfComponents(); i++) {
+      if (ship.getComponent(i).isWeapon()) {
+        ship.oneDamage(i);
+      }
+    }
+    assertEquals(0, ship.getTotalMilitaryPower());
+    assertEquals(6, ship.getTheoreticalMilitaryPower());
+    assertEquals(0, fleet.getMilitaryValue());
+    // Destroy everything
+    for (int i = 0; i < ship.getNumberOfComponents(); i++) {
+      ship.oneDamage(i);
+    }
+    assertEquals(0, ship.getTotalEnergy());
+    assertEquals(0, ship.getSpeed());
+    ship.fixShip(true);
+    assertEquals(energy, ship.getTotalEnergy());
+    assertEquals(6, ship.getTotalMilitaryPower());
+    assertEquals(6, fleet.getMilitaryValue());
+    // Nothing to fix
+    Fleet owner = Mockito.mock(Fleet.class);
+    ship.setFleet(owner);
+    ship.fixShip(true);
+    Mockito.verify(owner, Mockito.never()).shipChanged(ship);
+    ship.oneDamage(0);
+    Mockito.verify(owner).shipChanged(ship);
+    ship.fixShip(true);
+    ship.setFleet(fleet);
+    fleet.addShip(new Ship(design));
+    assertEquals(12, fleet.getMilitaryValue());
+
+    ShipHull starbaseHull = ShipHullFactory.createByName("Small starbase Mk1",
+        SpaceRaceFactory.createOne("HUMANS"));
+    design = new ShipDesign(starbaseHull);
+    design.addComponent(ShipComponentFactory.createByName(
+        "Fission source Mk1"));
+    design.addComponent(ShipComponentFactory.createByName("Laser Mk1"));
+    Ship starbase = new Ship(design);
+    assertEquals(0, starbase.getTotalMilitaryPower());
+    starbase.setFlag(Ship.FLAG_STARBASE_DEPLOYED, true);
+    assertTrue(starbase.getTotalMilitaryPower() > 0);
+    starbase.setFlag(Ship.FLAG_STARBASE_DEPLOYED, false);
+    assertEquals(0, starbase.getTotalMilitaryPower());
+  }
 
 }
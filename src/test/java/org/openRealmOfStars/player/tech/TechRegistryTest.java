@@ -0,0 +1,115 @@
+package org.openRealmOfStars.player.tech;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.BitSet;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.openRealmOfStars.player.race.SpaceRaceFactory;
+
+/**
+ * Tech registry test
+ *
+ */
+public class TechRegistryTest {
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testFactoryTechs() {
+    int id = TechRegistry.findId("Laser Mk1");
+    assertNotEquals(TechRegistry.UNKNOWN, id);
+    assertEquals("Laser Mk1", TechRegistry.getName(id));
+    assertEquals(id, TechRegistry.getId("Laser Mk1"));
+    assertEquals(TechType.Combat, TechRegistry.getType("Laser Mk1"));
+    assertEquals(1, TechRegistry.getLevel("Laser Mk1"));
+    assertEquals(1, TechRegistry.getMarkLevel("Laser Mk1"));
+    assertEquals(TechType.Hulls, TechRegistry.getType("Probe"));
+    assertEquals(0, TechRegistry.getMarkLevel("Probe"));
+    assertNull(TechRegistry.getName(-1));
+    assertNull(TechRegistry.getName(TechRegistry.size()));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testUnknownTech() {
+    assertEquals(TechRegistry.UNKNOWN,
+        TechRegistry.findId("Registry test tech Mk7"));
+    assertEquals(TechRegistry.UNKNOWN,
+        TechRegistry.getMarkLevel("Registry test tech Mk7"));
+    assertEquals(TechRegistry.UNKNOWN,
+        TechRegistry.findFamily("Registry test tech Mk"));
+    int size = TechRegistry.size();
+    int id = TechRegistry.getId("Registry test tech Mk7");
+    assertEquals(size, id);
+    assertEquals(id, TechRegistry.findId("Registry test tech Mk7"));
+    assertNull(TechRegistry.getType("Registry test tech Mk7"));
+    assertEquals(0, TechRegistry.getLevel("Registry test tech Mk7"));
+    assertEquals(7, TechRegistry.getMarkLevel(id));
+    assertEquals(TechRegistry.findFamily("Registry test tech Mk"),
+        TechRegistry.getFamily("Registry test tech Mk7"));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testFamilies() {
+    int family = TechRegistry.findFamily("Laser Mk");
+    assertNotEquals(TechRegistry.UNKNOWN, family);
+    assertEquals(family, TechRegistry.getFamily("Laser Mk3"));
+    assertEquals(TechRegistry.UNKNOWN, TechRegistry.getFamily("Probe"));
+    BitSet members = TechRegistry.getFamilyMembers(family);
+    assertTrue(members.get(TechRegistry.findId("Laser Mk1")));
+    assertTrue(members.get(TechRegistry.findId("Laser Mk5")));
+    assertFalse(members.get(TechRegistry.findId("Railgun Mk1")));
+    // Returned members are copy
+    members.clear();
+    assertFalse(TechRegistry.getFamilyMembers(family).isEmpty());
+    BitSet ids = new BitSet();
+    ids.set(TechRegistry.findId("Railgun Mk2"));
+    assertFalse(TechRegistry.intersectsFamily(family, ids));
+    ids.set(TechRegistry.findId("Laser Mk2"));
+    assertTrue(TechRegistry.intersectsFamily(family, ids));
+    assertFalse(TechRegistry.intersectsFamily(TechRegistry.UNKNOWN, ids));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testKnownTechs() {
+    TechList list = new TechList(SpaceRaceFactory.createOne("HUMANS"));
+    list.addTech(TechFactory.createCombatTech("Laser Mk1", 1));
+    list.addTech(TechFactory.createDefenseTech("Shield Mk1", 1));
+    BitSet combat = list.getKnownTechs(TechType.Combat);
+    assertTrue(combat.get(TechRegistry.findId("Laser Mk1")));
+    assertFalse(combat.get(TechRegistry.findId("Shield Mk1")));
+    BitSet all = list.getKnownTechs();
+    assertTrue(all.get(TechRegistry.findId("Laser Mk1")));
+    assertTrue(all.get(TechRegistry.findId("Shield Mk1")));
+    assertEquals(list.getList().length, all.cardinality());
+    assertTrue(list.hasTechForMk("Laser Mk"));
+    assertFalse(list.hasTechForMk("Railgun Mk"));
+    assertTrue(list.hasTech("Shield Mk1"));
+    assertFalse(list.hasTech(TechType.Combat, "Shield Mk1"));
+    assertFalse(list.hasTech("Registry never seen Mk1"));
+  }
+}
@@ -0,0 +1,131 @@
+package org.openRealmOfStars.starMap;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.openRealmOfStars.game.Game;
+import org.openRealmOfStars.game.simulation.TurnSimulator;
+
+/**
+*
+* Culture field and culture stencil test
+*
+*/
+public class CultureFieldTest {
+
+  /**
+   * Create small game.
+   * @return StarMap
+   */
+  private static StarMap createGame() {
+    Game game = new Game(false);
+    game.setGalaxyConfig(TurnSimulator.createConfig(4, 0, 10));
+    game.setPlayerInfo();
+    game.makeNewGame(false);
+    return game.getStarMap();
+  }
+
+  /**
+   * Copy culture of realm from map.
+   * @param map StarMap
+   * @param index Realm index
+   * @return Culture values
+   */
+  private static int[][] copyCulture(final StarMap map, final int index) {
+    int[][] result = new int[map.getMaxX()][map.getMaxY()];
+    for (int x = 0; x < map.getMaxX(); x++) {
+      for (int y = 0; y < map.getMaxY(); y++) {
+        result[x][y] = map.getSectorCulture(x, y).getCulture(index);
+      }
+    }
+    return result;
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testStencils() {
+    assertEquals(0, CultureStencil.getLevel(1));
+    assertEquals(1, CultureStencil.getLevel(0));
+    assertEquals(1, CultureStencil.getLevel(4));
+    assertEquals(2, CultureStencil.getLevel(5));
+    assertEquals(10, CultureStencil.getLevel(1280));
+    assertEquals(1, CultureStencil.getStencil(1).getSize());
+    assertEquals(5, CultureStencil.getStencil(2).getSize());
+    CultureStencil stencil = CultureStencil.getStencil(7);
+    assertEquals(9, stencil.getSize());
+    for (int i = 0; i < stencil.getSize(); i++) {
+      int dx = stencil.getOffsetX(i);
+      int dy = stencil.getOffsetY(i);
+      if (Math.abs(dx) == 1 && Math.abs(dy) == 1) {
+        assertEquals(3, stencil.getCulture(i, 7));
+      } else {
+        assertEquals(7, stencil.getCulture(i, 7));
+      }
+    }
+    stencil = CultureStencil.getStencil(5000);
+    for (int i = 0; i < stencil.getSize(); i++) {
+      assertTrue(Math.abs(stencil.getOffsetX(i))
+          <= CultureStencil.MAX_CULTURE_RADIUS);
+      assertTrue(Math.abs(stencil.getOffsetY(i))
+          <= CultureStencil.MAX_CULTURE_RADIUS);
+    }
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.BehaviourTest.class)
+  public void testIncrementalUpdate() {
+    StarMap map = createGame();
+    map.resetCulture();
+    CultureField field = map.getCultureField();
+    Object first = new Object();
+    Object second = new Object();
+    field.startUpdate();
+    field.updateSource(first, 10, 10, 30, 0);
+    field.updateSource(second, 20, 20, 3, 1);
+    field.finishUpdate();
+    assertEquals(2, field.getNumberOfSources());
+    int applied = field.getAppliedStencils();
+    // Nothing changes
+    field.startUpdate();
+    field.updateSource(first, 10, 10, 30, 0);
+    field.updateSource(second, 20, 20, 3, 1);
+    field.finishUpdate();
+    assertEquals(applied, field.getAppliedStencils());
+    // First grows, second moves and then disappears
+    field.startUpdate();
+    field.updateSource(first, 10, 10, 35, 0);
+    field.updateSource(second, 21, 20, 3, 1);
+    field.finishUpdate();
+    field.startUpdate();
+    field.updateSource(first, 10, 10, 90, 0);
+    field.finishUpdate();
+    assertEquals(1, field.getNumberOfSources());
+    int[][] incremental = copyCulture(map, 0);
+    int[][] other = copyCulture(map, 1);
+    map.resetCulture();
+    map.calculateCulture(10, 10, 90, 0);
+    assertArrayEquals(copyCulture(map, 0), incremental);
+    assertArrayEquals(copyCulture(map, 1), other);
+    assertEquals(0, map.getSectorCulture(21, 20).getCulture(1));
+    assertEquals(90, map.getSectorCulture(10, 10).getCulture(0));
+  }
+
+}
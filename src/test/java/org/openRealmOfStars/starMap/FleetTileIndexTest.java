@@ -0,0 +1,269 @@
+package org.openRealmOfStars.starMap;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.Mockito;
+import org.openRealmOfStars.mapTiles.FleetTileInfo;
+import org.openRealmOfStars.player.PlayerInfo;
+import org.openRealmOfStars.player.PlayerList;
+import org.openRealmOfStars.player.fleet.Fleet;
+import org.openRealmOfStars.player.fleet.FleetList;
+import org.openRealmOfStars.player.leader.Leader;
+import org.openRealmOfStars.player.leader.Perk;
+import org.openRealmOfStars.player.race.SpaceRace;
+import org.openRealmOfStars.player.race.SpaceRaceFactory;
+import org.openRealmOfStars.player.ship.Ship;
+import org.openRealmOfStars.player.ship.ShipComponentFactory;
+import org.openRealmOfStars.player.ship.ShipHull;
+import org.openRealmOfStars.player.ship.ShipHullFactory;
+import org.openRealmOfStars.player.ship.ShipSize;
+import org.openRealmOfStars.player.ship.shipdesign.ShipDesign;
+import org.openRealmOfStars.starMap.planet.Planet;
+
+/**
+ * Test for FleetTileIndex class
+ */
+public class FleetTileIndexTest {
+
+  /**
+   * Create mocked ship.
+   * @param imageIndex Ship image index
+   * @param militaryPower Ship military power
+   * @return Ship
+   */
+  private static Ship createShip(final int imageIndex,
+      final int militaryPower) {
+    ShipHull hull = Mockito.mock(ShipHull.class);
+    Mockito.when(hull.getImageIndex()).thenReturn(imageIndex);
+    Mockito.when(hull.getSize()).thenReturn(ShipSize.SMALL);
+    Mockito.when(hull.getRace()).thenReturn(Mockito.mock(SpaceRace.class));
+    Ship ship = Mockito.mock(Ship.class);
+    Mockito.when(ship.getHull()).thenReturn(hull);
+    Mockito.when(ship.getTotalMilitaryPower()).thenReturn(militaryPower);
+    return ship;
+  }
+
+  /**
+   * Create mocked star map with two realms.
+   * @param first First realm fleets
+   * @param second Second realm fleets
+   * @param planets Planet list
+   * @return StarMap
+   */
+  private static StarMap createMap(final FleetList first,
+      final FleetList second, final ArrayList<Planet> planets) {
+    StarMap map = Mockito.mock(StarMap.class);
+    Mockito.when(map.getMaxX()).thenReturn(10);
+    Mockito.when(map.getMaxY()).thenReturn(10);
+    Mockito.when(map.getPlanetList()).thenReturn(planets);
+    PlayerList players = Mockito.mock(PlayerList.class);
+    Mockito.when(players.getCurrentMaxPlayers()).thenReturn(2);
+    PlayerInfo info = Mockito.mock(PlayerInfo.class);
+    Mockito.when(info.getFleets()).thenReturn(first);
+    Mockito.when(players.getPlayerInfoByIndex(0)).thenReturn(info);
+    info = Mockito.mock(PlayerInfo.class);
+    Mockito.when(info.getFleets()).thenReturn(second);
+    Mockito.when(players.getPlayerInfoByIndex(1)).thenReturn(info);
+    Mockito.when(map.getPlayerList()).thenReturn(players);
+    return map;
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testFleetMove() {
+    FleetList first = new FleetList();
+    FleetList second = new FleetList();
+    Fleet fleet = new Fleet(createShip(1, 10), 1, 1);
+    first.add(fleet);
+    second.add(new Fleet(createShip(2, 10), 2, 2));
+    FleetTileIndex index = new FleetTileIndex(
+        createMap(first, second, new ArrayList<>()));
+    FleetTileInfo[][] tiles = index.getTiles(false);
+    assertEquals(0, tiles[1][1].getPlayerIndex());
+    assertEquals(1, tiles[1][1].getImageIndex());
+    assertEquals(1, tiles[2][2].getPlayerIndex());
+    fleet.setPos(new Coordinate(3, 3));
+    tiles = index.getTiles(false);
+    assertNull(tiles[1][1]);
+    assertEquals(0, tiles[3][3].getPlayerIndex());
+    assertEquals(0, tiles[3][3].getFleetIndex());
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testFleetRemoveAndAdd() {
+    FleetList first = new FleetList();
+    FleetList second = new FleetList();
+    Fleet fleet = new Fleet(createShip(1, 10), 1, 1);
+    first.add(fleet);
+    first.add(new Fleet(createShip(3, 10), 4, 4));
+    FleetTileIndex index = new FleetTileIndex(
+        createMap(first, second, new ArrayList<>()));
+    FleetTileInfo[][] tiles = index.getTiles(false);
+    assertEquals(1, tiles[4][4].getFleetIndex());
+    first.removeFleet(fleet);
+    tiles = index.getTiles(false);
+    assertNull(tiles[1][1]);
+    assertEquals(0, tiles[4][4].getFleetIndex());
+    second.add(new Fleet(createShip(2, 10), 4, 4));
+    tiles = index.getTiles(false);
+    assertEquals(0, tiles[4][4].getPlayerIndex());
+    assertEquals(3, tiles[4][4].getImageIndex());
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testStrongerFleetIsShown() {
+    FleetList first = new FleetList();
+    FleetList second = new FleetList();
+    Fleet fleet = new Fleet(createShip(1, 10), 1, 1);
+    first.add(fleet);
+    first.add(new Fleet(createShip(3, 5), 1, 1));
+    FleetTileIndex index = new FleetTileIndex(
+        createMap(first, second, new ArrayList<>()));
+    FleetTileInfo[][] tiles = index.getTiles(false);
+    assertEquals(0, tiles[1][1].getFleetIndex());
+    fleet.addShip(createShip(4, 0));
+    Fleet stronger = new Fleet(createShip(5, 50), 1, 1);
+    first.add(stronger);
+    tiles = index.getTiles(false);
+    assertEquals(2, tiles[1][1].getFleetIndex());
+    assertEquals(5, tiles[1][1].getImageIndex());
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testOrbital() {
+    Planet planet = Mockito.mock(Planet.class);
+    Ship orbital = createShip(7, 10);
+    Mockito.when(planet.getOrbital()).thenReturn(orbital);
+    Mockito.when(planet.getX()).thenReturn(5);
+    Mockito.when(planet.getY()).thenReturn(5);
+    ArrayList<Planet> planets = new ArrayList<>();
+    planets.add(planet);
+    FleetList first = new FleetList();
+    FleetList second = new FleetList();
+    Fleet fleet = new Fleet(createShip(1, 10), 1, 1);
+    first.add(fleet);
+    FleetTileIndex index = new FleetTileIndex(
+        createMap(first, second, planets));
+    FleetTileInfo[][] tiles = index.getTiles(false);
+    assertEquals(0, tiles[5][5].getPlanetIndex());
+    assertEquals(-1, tiles[5][5].getPlayerIndex());
+    fleet.setPos(new Coordinate(5, 5));
+    tiles = index.getTiles(false);
+    assertEquals(0, tiles[5][5].getPlayerIndex());
+    fleet.setPos(new Coordinate(6, 5));
+    tiles = index.getTiles(false);
+    assertEquals(0, tiles[5][5].getPlanetIndex());
+    Mockito.when(planet.getOrbital()).thenReturn(null);
+    tiles = index.getTiles(true);
+    assertNull(tiles[5][5]);
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testOrbitalBuiltAndDestroyed() {
+    Planet planet = new Planet(new Coordinate(5, 5), "Test", 1, false);
+    ArrayList<Planet> planets = new ArrayList<>();
+    planets.add(planet);
+    FleetList first = new FleetList();
+    FleetList second = new FleetList();
+    FleetTileIndex index = new FleetTileIndex(
+        createMap(first, second, planets));
+    FleetTileInfo[][] tiles = index.getTiles(false);
+    assertNull(tiles[5][5]);
+    planet.setOrbital(createShip(7, 10));
+    tiles = index.getTiles(false);
+    assertEquals(0, tiles[5][5].getPlanetIndex());
+    planet.setOrbital(null);
+    tiles = index.getTiles(false);
+    assertNull(tiles[5][5]);
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testStarbaseDeploy() {
+    FleetList first = new FleetList();
+    FleetList second = new FleetList();
+    first.add(new Fleet(createShip(1, 50), 1, 1));
+    ShipDesign design = new ShipDesign(ShipHullFactory.createByName(
+        "Large starbase Mk1", SpaceRaceFactory.createOne("HUMANS")));
+    design.addComponent(ShipComponentFactory.createByName(
+        "Zero-point source Mk2"));
+    Ship starbase = new Ship(design);
+    first.add(new Fleet(starbase, 1, 1));
+    FleetTileIndex index = new FleetTileIndex(
+        createMap(first, second, new ArrayList<>()));
+    FleetTileInfo[][] tiles = index.getTiles(false);
+    assertEquals(0, tiles[1][1].getFleetIndex());
+    starbase.setFlag(Ship.FLAG_STARBASE_DEPLOYED, true);
+    tiles = index.getTiles(false);
+    assertEquals(1, tiles[1][1].getFleetIndex());
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testCloakedCommander() {
+    FleetList first = new FleetList();
+    FleetList second = new FleetList();
+    Fleet fleet = new Fleet(createShip(1, 50), 1, 1);
+    first.add(fleet);
+    first.add(new Fleet(createShip(2, 10), 1, 1));
+    FleetTileIndex index = new FleetTileIndex(
+        createMap(first, second, new ArrayList<>()));
+    FleetTileInfo[][] tiles = index.getTiles(false);
+    assertEquals(0, tiles[1][1].getFleetIndex());
+    Leader leader = new Leader("Agent");
+    leader.addPerk(Perk.SECRET_AGENT);
+    fleet.setCommander(leader);
+    tiles = index.getTiles(false);
+    assertEquals(1, tiles[1][1].getFleetIndex());
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testFleetsInSector() {
+    FleetList first = new FleetList();
+    FleetList second = new FleetList();
+    Fleet fleet = new Fleet(createShip(1, 10), 1, 1);
+    first.add(new Fleet(createShip(2, 10), 2, 2));
+    FleetTileIndex index = new FleetTileIndex(
+        createMap(first, second, new ArrayList<>()));
+    index.getTiles(false);
+    first.add(fleet);
+    assertEquals(fleet, index.getFleets(0, 1, 1).get(0));
+    assertNull(index.getFleets(1, 1, 1));
+    fleet.setPos(new Coordinate(2, 2));
+    assertNull(index.getFleets(0, 1, 1));
+    assertEquals(2, index.getFleets(0, 2, 2).size());
+    first.removeFleet(fleet);
+    assertEquals(1, index.getFleets(0, 2, 2).size());
+    FleetTileInfo[][] tiles = index.getTiles(false);
+    assertEquals(0, tiles[2][2].getFleetIndex());
+    assertEquals(2, tiles[2][2].getImageIndex());
+  }
+
+}
@@ -0,0 +1,201 @@
+package org.openRealmOfStars.starMap;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.Mockito;
+import org.openRealmOfStars.player.PlayerInfo;
+import org.openRealmOfStars.player.PlayerList;
+import org.openRealmOfStars.player.fleet.Fleet;
+import org.openRealmOfStars.player.fleet.FleetList;
+import org.openRealmOfStars.player.ship.Ship;
+import org.openRealmOfStars.starMap.planet.Planet;
+
+/**
+ * Test for NavigationGrid class
+ */
+public class NavigationGridTest {
+
+  /**
+   * Create mocked star map with one blocked sector at 5,5 and one
+   * dangerous sector at 3,3. First realm has fleet at 1,1 and second
+   * realm has fleet at 2,2.
+   * @param planets Planet list for map
+   * @param fleets Fleets for both realms
+   * @return StarMap
+   */
+  private static StarMap createMap(final ArrayList<Planet> planets,
+      final Fleet[] fleets) {
+    StarMap map = Mockito.mock(StarMap.class);
+    Mockito.when(map.getMaxX()).thenReturn(10);
+    Mockito.when(map.getMaxY()).thenReturn(10);
+    Mockito.when(map.getTurn()).thenReturn(1);
+    Mockito.when(map.isBlocked(5, 5)).thenReturn(true);
+    Mockito.when(map.isDangerous(3, 3)).thenReturn(true);
+    Mockito.when(map.getPlanetList()).thenReturn(planets);
+    PlayerList players = Mockito.mock(PlayerList.class);
+    Mockito.when(players.getCurrentMaxPlayers()).thenReturn(fleets.length);
+    for (int i = 0; i < fleets.length; i++) {
+      FleetList fleetList = new FleetList();
+      fleetList.add(fleets[i]);
+      PlayerInfo info = Mockito.mock(PlayerInfo.class);
+      Mockito.when(info.getFleets()).thenReturn(fleetList);
+      Mockito.when(players.getPlayerInfoByIndex(i)).thenReturn(info);
+    }
+    Mockito.when(map.getPlayerList()).thenReturn(players);
+    return map;
+  }
+
+  /**
+   * Create fleet with one mocked ship.
+   * @param x X coordinate
+   * @param y Y coordinate
+   * @return Fleet
+   */
+  private static Fleet createFleet(final int x, final int y) {
+    return new Fleet(Mockito.mock(Ship.class), x, y);
+  }
+
+  /**
+   * Create navigation grid which is kept up to date by fleet tile index
+   * like star map does.
+   * @param map StarMap
+   * @return NavigationGrid
+   */
+  private static NavigationGrid createGrid(final StarMap map) {
+    FleetTileIndex index = new FleetTileIndex(map);
+    index.attachFleetLists();
+    NavigationGrid grid = new NavigationGrid(map);
+    index.setNavigationGrid(grid);
+    return grid;
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testBlockedAndDangerous() {
+    Fleet[] fleets = {createFleet(1, 1), createFleet(2, 2)};
+    StarMap map = createMap(new ArrayList<>(), fleets);
+    NavigationGrid grid = createGrid(map);
+    assertEquals(1, grid.getTurn());
+    BitSet blocked = grid.getBlocked(NavigationGrid.NO_REALM, false);
+    assertEquals(1, blocked.cardinality());
+    assertTrue(blocked.get(55));
+    blocked = grid.getBlocked(NavigationGrid.NO_REALM, true);
+    assertEquals(2, blocked.cardinality());
+    assertTrue(blocked.get(33));
+    assertSame(blocked, grid.getBlocked(NavigationGrid.NO_REALM, true));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testOtherRealmFleetsAreBlocked() {
+    Fleet[] fleets = {createFleet(1, 1), createFleet(2, 2)};
+    StarMap map = createMap(new ArrayList<>(), fleets);
+    NavigationGrid grid = createGrid(map);
+    assertEquals(0, grid.getRealmAt(1, 1));
+    assertEquals(1, grid.getRealmAt(2, 2));
+    assertEquals(NavigationGrid.NO_REALM, grid.getRealmAt(0, 0));
+    BitSet blocked = grid.getBlocked(0, false);
+    assertFalse(blocked.get(11));
+    assertTrue(blocked.get(22));
+    assertTrue(blocked.get(55));
+    blocked = grid.getBlocked(1, false);
+    assertTrue(blocked.get(11));
+    assertFalse(blocked.get(22));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testFleetMoveCopiesSharedBitSet() {
+    Fleet[] fleets = {createFleet(1, 1), createFleet(2, 2)};
+    StarMap map = createMap(new ArrayList<>(), fleets);
+    NavigationGrid grid = createGrid(map);
+    BitSet before = grid.getBlocked(0, false);
+    fleets[1].setPos(new Coordinate(4, 2));
+    BitSet after = grid.getBlocked(0, false);
+    assertNotSame(before, after);
+    assertTrue(before.get(22));
+    assertFalse(before.get(24));
+    assertFalse(after.get(22));
+    assertTrue(after.get(24));
+    assertEquals(1, grid.getRealmAt(4, 2));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testOrbitalWithoutFleetIsBlocked() {
+    Planet planet = Mockito.mock(Planet.class);
+    Ship orbital = Mockito.mock(Ship.class);
+    Mockito.when(planet.getOrbital()).thenReturn(orbital);
+    Mockito.when(planet.getX()).thenReturn(7);
+    Mockito.when(planet.getY()).thenReturn(7);
+    ArrayList<Planet> planets = new ArrayList<>();
+    planets.add(planet);
+    Fleet[] fleets = {createFleet(1, 1), createFleet(2, 2)};
+    StarMap map = createMap(planets, fleets);
+    NavigationGrid grid = createGrid(map);
+    assertTrue(grid.getBlocked(0, false).get(77));
+    assertFalse(grid.getBlocked(NavigationGrid.NO_REALM, false).get(77));
+    Mockito.when(map.getPlanetByCoordinate(7, 7)).thenReturn(planet);
+    fleets[0].setPos(new Coordinate(7, 7));
+    assertFalse(grid.getBlocked(0, false).get(77));
+    assertTrue(grid.getBlocked(1, false).get(77));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testUpdateSector() {
+    Fleet[] fleets = {createFleet(1, 1), createFleet(2, 2)};
+    StarMap map = createMap(new ArrayList<>(), fleets);
+    NavigationGrid grid = createGrid(map);
+    BitSet before = grid.getBlocked(0, false);
+    Mockito.when(map.isBlocked(6, 6)).thenReturn(true);
+    Mockito.when(map.isBlocked(5, 5)).thenReturn(false);
+    grid.updateSector(6, 6);
+    grid.updateSector(5, 5);
+    grid.updateSector(-1, 20);
+    BitSet after = grid.getBlocked(0, false);
+    assertTrue(after.get(66));
+    assertFalse(after.get(55));
+    assertFalse(before.get(66));
+    assertTrue(before.get(55));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testFleetWithoutShipsIsNotBlocking() {
+    Fleet[] fleets = {createFleet(1, 1), createFleet(2, 2)};
+    StarMap map = createMap(new ArrayList<>(), fleets);
+    NavigationGrid grid = createGrid(map);
+    assertTrue(grid.getBlocked(0, false).get(22));
+    fleets[1].removeShip(fleets[1].getFirstShip());
+    assertFalse(grid.getBlocked(0, false).get(22));
+    assertEquals(NavigationGrid.NO_REALM, grid.getRealmAt(2, 2));
+  }
+
+}
@@ -0,0 +1,264 @@
+package org.openRealmOfStars.starMap;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.openRealmOfStars.game.Game;
+import org.openRealmOfStars.game.simulation.TurnSimulator;
+import org.openRealmOfStars.player.PlayerInfo;
+import org.openRealmOfStars.player.artifact.ArtifactFactory;
+import org.openRealmOfStars.player.fleet.Fleet;
+import org.openRealmOfStars.player.race.SpaceRaceFactory;
+import org.openRealmOfStars.player.ship.Ship;
+import org.openRealmOfStars.player.ship.ShipComponentFactory;
+import org.openRealmOfStars.player.ship.ShipHullFactory;
+import org.openRealmOfStars.player.ship.generator.ShipGenerator;
+import org.openRealmOfStars.player.ship.shipdesign.ShipDesign;
+import org.openRealmOfStars.starMap.planet.Planet;
+import org.openRealmOfStars.starMap.vote.Vote;
+import org.openRealmOfStars.starMap.vote.VotingType;
+import org.openRealmOfStars.starMap.vote.sports.VotingChoice;
+
+/**
+*
+* Production ledger test
+*
+*/
+public class ProductionLedgerTest {
+
+  /**
+   * Production types in ledger.
+   */
+  private static final int[] PRODUCTIONS = {Planet.PRODUCTION_FOOD,
+      Planet.PRODUCTION_METAL, Planet.PRODUCTION_PRODUCTION,
+      Planet.PRODUCTION_RESEARCH, Planet.PRODUCTION_CULTURE,
+      Planet.PRODUCTION_CREDITS, Planet.PRODUCTION_POPULATION,
+      Planet.PRODUCTION_ARTIFACT_RESEARCH };
+
+  /**
+   * Create small game.
+   * @return StarMap
+   */
+  private static StarMap createGame() {
+    Game game = new Game(false);
+    game.setGalaxyConfig(TurnSimulator.createConfig(4, 0, 10));
+    game.setPlayerInfo();
+    game.makeNewGame(false);
+    return game.getStarMap();
+  }
+
+  /**
+   * Calculate production without ledger.
+   * @param map StarMap
+   * @param production Production type
+   * @param realmIndex Realm index
+   * @return Total production
+   */
+  private static int calculate(final StarMap map, final int production,
+      final int realmIndex) {
+    int result = 0;
+    for (Planet planet : map.getPlanetList()) {
+      if (planet.getPlanetPlayerInfo() != null
+          && planet.getPlanetOwnerIndex() == realmIndex) {
+        result = result + planet.getTotalProduction(production);
+      }
+    }
+    int research = 0;
+    if (production == Planet.PRODUCTION_ARTIFACT_RESEARCH) {
+      research = calculate(map, Planet.PRODUCTION_RESEARCH, realmIndex);
+    }
+    return map.calculateRealmProduction(production, realmIndex, result,
+        research);
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testCollected() {
+    for (int production : PRODUCTIONS) {
+      assertTrue(ProductionLedger.isCollected(production));
+    }
+    assertFalse(ProductionLedger.isCollected(Planet.PRODUCTION_MATERIAL));
+    assertFalse(ProductionLedger.isCollected(Planet.PRODUCTION_WATER));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.BehaviourTest.class)
+  public void testSameAsCalculated() {
+    StarMap map = createGame();
+    for (int i = 0; i < map.getPlayerList().getCurrentMaxRealms(); i++) {
+      for (int production : PRODUCTIONS) {
+        assertEquals(calculate(map, production, i),
+            map.getTotalProductionByPlayerPerTurn(production, i));
+      }
+    }
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.BehaviourTest.class)
+  public void testChanges() {
+    StarMap map = createGame();
+    ProductionLedger ledger = map.getProductionLedger();
+    assertEquals(ledger, map.getProductionLedger());
+    Planet home = null;
+    int workerType = -1;
+    for (Planet planet : map.getPlanetList()) {
+      if (planet.getPlanetPlayerInfo() != null) {
+        for (int i = 0; i < Planet.MAX_WORKER_TYPE; i++) {
+          if (i != Planet.RESEARCH_SCIENTIST && planet.getWorkers(i) > 0) {
+            home = planet;
+            workerType = i;
+          }
+        }
+      }
+    }
+    assertNotNull(home);
+    int realm = home.getPlanetOwnerIndex();
+    int research = map.getTotalProductionByPlayerPerTurn(
+        Planet.PRODUCTION_RESEARCH, realm);
+    assertEquals(research, map.getTotalProductionByPlayerPerTurn(
+        Planet.PRODUCTION_RESEARCH, realm));
+    int scientists = home.getWorkers(Planet.RESEARCH_SCIENTIST);
+    home.setWorkers(workerType, home.getWorkers(workerType) - 1);
+    home.setWorkers(Planet.RESEARCH_SCIENTIST, scientists + 1);
+    assertEquals(calculate(map, Planet.PRODUCTION_RESEARCH, realm),
+        map.getTotalProductionByPlayerPerTurn(Planet.PRODUCTION_RESEARCH,
+            realm));
+    map.setTurn(map.getTurn() + 1);
+    assertNotEquals(ledger, map.getProductionLedger());
+  }
+
+  /**
+   * Find sector without planet.
+   * @param map StarMap
+   * @return Coordinate
+   */
+  private static Coordinate findDeepSpace(final StarMap map) {
+    for (int x = 0; x < map.getMaxX(); x++) {
+      for (int y = 0; y < map.getMaxY(); y++) {
+        if (map.getPlanetByCoordinate(x, y) == null) {
+          return new Coordinate(x, y);
+        }
+      }
+    }
+    return null;
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.BehaviourTest.class)
+  public void testStarbaseDeploy() {
+    StarMap map = createGame();
+    PlayerInfo info = map.getPlayerByIndex(0);
+    ShipDesign design = new ShipDesign(ShipHullFactory.createByName(
+        "Large starbase Mk1", SpaceRaceFactory.createOne("HUMANS")));
+    design.addComponent(ShipComponentFactory.createByName(
+        "Zero-point source Mk2"));
+    design.addComponent(ShipComponentFactory.createByName("Starbase lab"));
+    Ship starbase = new Ship(design);
+    Coordinate coord = findDeepSpace(map);
+    info.getFleets().add(new Fleet(starbase, coord.getX(), coord.getY()));
+    int research = map.getTotalProductionByPlayerPerTurn(
+        Planet.PRODUCTION_RESEARCH, 0);
+    starbase.setFlag(Ship.FLAG_STARBASE_DEPLOYED, true);
+    assertEquals(research + 1, map.getTotalProductionByPlayerPerTurn(
+        Planet.PRODUCTION_RESEARCH, 0));
+    assertEquals(calculate(map, Planet.PRODUCTION_RESEARCH, 0),
+        map.getTotalProductionByPlayerPerTurn(Planet.PRODUCTION_RESEARCH, 0));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.BehaviourTest.class)
+  public void testColonyFleetMove() {
+    StarMap map = createGame();
+    PlayerInfo info = map.getPlayerByIndex(0);
+    Planet home = null;
+    for (Planet planet : map.getPlanetList()) {
+      if (planet.getPlanetPlayerInfo() == info) {
+        home = planet;
+      }
+    }
+    assertNotNull(home);
+    Ship colony = new Ship(ShipGenerator.createColony(info, false));
+    colony.setColonist(1);
+    Fleet fleet = new Fleet(colony, home.getX(), home.getY());
+    info.getFleets().add(fleet);
+    int research = map.getTotalProductionByPlayerPerTurn(
+        Planet.PRODUCTION_RESEARCH, 0);
+    assertEquals(calculate(map, Planet.PRODUCTION_RESEARCH, 0), research);
+    fleet.setPos(findDeepSpace(map));
+    assertEquals(research + 1, map.getTotalProductionByPlayerPerTurn(
+        Planet.PRODUCTION_RESEARCH, 0));
+    fleet.setPos(home.getCoordinate());
+    assertEquals(research, map.getTotalProductionByPlayerPerTurn(
+        Planet.PRODUCTION_RESEARCH, 0));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.BehaviourTest.class)
+  public void testArtifactDiscovered() {
+    StarMap map = createGame();
+    PlayerInfo info = map.getPlayerByIndex(0);
+    assertEquals(calculate(map, Planet.PRODUCTION_ARTIFACT_RESEARCH, 0),
+        map.getTotalProductionByPlayerPerTurn(
+            Planet.PRODUCTION_ARTIFACT_RESEARCH, 0));
+    info.getArtifactLists().addDiscoveredArtifact(
+        ArtifactFactory.createArtifact(0));
+    assertEquals(calculate(map, Planet.PRODUCTION_ARTIFACT_RESEARCH, 0),
+        map.getTotalProductionByPlayerPerTurn(
+            Planet.PRODUCTION_ARTIFACT_RESEARCH, 0));
+    info.getArtifactLists().researchArtifact();
+    assertEquals(calculate(map, Planet.PRODUCTION_ARTIFACT_RESEARCH, 0),
+        map.getTotalProductionByPlayerPerTurn(
+            Planet.PRODUCTION_ARTIFACT_RESEARCH, 0));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.BehaviourTest.class)
+  public void testTaxationVote() {
+    StarMap map = createGame();
+    for (int i = 0; i < map.getNewsCorpData().getCredit().getMaxPlayers();
+        i++) {
+      map.getNewsCorpData().getCredit().addStat(i, 30);
+    }
+    map.getNewsCorpData().getCredit().addStat(0, 100);
+    map.getNewsCorpData().getCredit().addStat(1, 10);
+    int richest = map.getTotalProductionByPlayerPerTurn(
+        Planet.PRODUCTION_CREDITS, 0);
+    int poorest = map.getTotalProductionByPlayerPerTurn(
+        Planet.PRODUCTION_CREDITS, 1);
+    Vote vote = new Vote(VotingType.TAXATION_OF_RICHEST_REALM,
+        map.getPlayerList().getCurrentMaxRealms(), 0);
+    vote.setChoice(0, VotingChoice.VOTED_YES);
+    vote.setNumberOfVotes(0, 10);
+    map.getVotes().getVotes().add(vote);
+    assertEquals(richest - 1, map.getTotalProductionByPlayerPerTurn(
+        Planet.PRODUCTION_CREDITS, 0));
+    assertEquals(poorest + 1, map.getTotalProductionByPlayerPerTurn(
+        Planet.PRODUCTION_CREDITS, 1));
+    // Realms swap places in credit statistics
+    map.getNewsCorpData().getCredit().addStat(0, 5);
+    map.getNewsCorpData().getCredit().addStat(1, 50);
+    assertEquals(richest + 1, map.getTotalProductionByPlayerPerTurn(
+        Planet.PRODUCTION_CREDITS, 0));
+    assertEquals(poorest - 1, map.getTotalProductionByPlayerPerTurn(
+        Planet.PRODUCTION_CREDITS, 1));
+  }
+
+}
@@ -0,0 +1,149 @@
+package org.openRealmOfStars.starMap;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import static org.junit.Assert.*;
+
+import java.util.HashSet;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.openRealmOfStars.game.Game;
+import org.openRealmOfStars.game.simulation.TurnSimulator;
+import org.openRealmOfStars.player.PlayerInfo;
+import org.openRealmOfStars.player.fleet.Fleet;
+
+/**
+*
+* Scan ray table test
+*
+*/
+public class ScanRayTableTest {
+
+  /**
+   * Collect sectors which rays reach by stepping lines one by one.
+   * @param radius Scanner radius
+   * @return Set of sectors as strings
+   */
+  private static HashSet<String> collectLineSectors(final int radius) {
+    HashSet<String> result = new HashSet<>();
+    result.add("0,0");
+    for (int ey = -radius; ey < radius + 1; ey++) {
+      for (int ex = -radius; ex < radius + 1; ex++) {
+        int distance = Math.max(Math.abs(ex), Math.abs(ey));
+        for (int i = 1; i <= distance; i++) {
+          int x = (int) Math.round((double) ex * i / distance);
+          int y = (int) Math.round((double) ey * i / distance);
+          if (Math.sqrt(x * x + y * y) > radius) {
+            break;
+          }
+          result.add(x + "," + y);
+        }
+      }
+    }
+    return result;
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testSameSectorsAsLines() {
+    for (int radius = 0; radius < 9; radius++) {
+      ScanRayTable table = ScanRayTable.getTable(radius);
+      assertEquals(radius, table.getRadius());
+      HashSet<String> sectors = new HashSet<>();
+      for (int i = 0; i < table.getSize(); i++) {
+        sectors.add(table.getOffsetX(i) + "," + table.getOffsetY(i));
+      }
+      assertEquals(collectLineSectors(radius), sectors);
+      // Rays are merged so there are less nodes than sectors in rays
+      int square = (2 * radius + 1) * (2 * radius + 1);
+      assertTrue(table.getSize() <= square * Math.max(radius, 1));
+    }
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testTreeOrder() {
+    ScanRayTable table = ScanRayTable.getTable(4);
+    assertSame(table, ScanRayTable.getTable(4));
+    assertEquals(0, table.getOffsetX(0));
+    assertEquals(0, table.getOffsetY(0));
+    assertEquals(0, table.getSteps(0));
+    assertEquals(table.getSize(), table.getSubtreeEnd(0));
+    for (int i = 1; i < table.getSize(); i++) {
+      int steps = table.getSteps(i);
+      assertEquals(steps, Math.max(Math.abs(table.getOffsetX(i)),
+          Math.abs(table.getOffsetY(i))));
+      assertTrue(table.getSubtreeEnd(i) > i);
+      for (int j = i + 1; j < table.getSubtreeEnd(i); j++) {
+        assertTrue(table.getSteps(j) > steps);
+      }
+    }
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.BehaviourTest.class)
+  public void testRealmScan() {
+    Game game = new Game(false);
+    game.setGalaxyConfig(TurnSimulator.createConfig(4, 0, 10));
+    game.setPlayerInfo();
+    game.makeNewGame(false);
+    StarMap map = game.getStarMap();
+    PlayerInfo info = map.getPlayerByIndex(0);
+    Fleet fleet = info.getFleets().getByIndex(0);
+    info.resetVisibilityDataAfterTurn();
+    assertNotEquals(PlayerInfo.VISIBLE, info.getSectorVisibility(
+        fleet.getCoordinate()));
+    map.doRealmScanUpdate(info);
+    assertEquals(PlayerInfo.VISIBLE, info.getSectorVisibility(
+        fleet.getCoordinate()));
+    int radius = fleet.getFleetScannerLvl();
+    for (int y = 0; y < map.getMaxY(); y++) {
+      for (int x = 0; x < map.getMaxX(); x++) {
+        if (info.getSectorVisibility(x, y) == PlayerInfo.VISIBLE) {
+          boolean seen = false;
+          for (int i = 0; i < info.getFleets().getNumberOfFleets(); i++) {
+            Fleet iterator = info.getFleets().getByIndex(i);
+            if (iterator.getCoordinate().calculateDistance(
+                new Coordinate(x, y)) <= iterator.getFleetScannerLvl()) {
+              seen = true;
+            }
+          }
+          for (int i = 0; i < map.getPlanetList().size(); i++) {
+            if (map.getPlanetList().get(i).getPlanetPlayerInfo() == info
+                && map.getPlanetList().get(i).getCoordinate()
+                .calculateDistance(new Coordinate(x, y))
+                <= map.getPlanetList().get(i).getScannerLvl()) {
+              seen = true;
+            }
+          }
+          assertTrue(seen);
+        }
+      }
+    }
+    if (radius > 0) {
+      int nx = fleet.getX() + 1;
+      if (!map.isValidCoordinate(nx, fleet.getY())) {
+        nx = fleet.getX() - 1;
+      }
+      assertEquals(PlayerInfo.VISIBLE, info.getSectorVisibility(nx,
+          fleet.getY()));
+    }
+  }
+
+}
@@ -0,0 +1,178 @@
+package org.openRealmOfStars.starMap;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.openRealmOfStars.game.Game;
+import org.openRealmOfStars.game.simulation.TurnSimulator;
+import org.openRealmOfStars.player.PlayerInfo;
+import org.openRealmOfStars.starMap.planet.Planet;
+
+/**
+*
+* Spatial grid test
+*
+*/
+public class SpatialGridTest {
+
+  /**
+   * Build grid with items named by their coordinates.
+   * @param coordinates X and Y pairs
+   * @return Spatial grid
+   */
+  private static SpatialGrid<String> createGrid(final int... coordinates) {
+    SpatialGrid<String> grid = new SpatialGrid<>(50, 40, 8);
+    for (int i = 0; i < coordinates.length; i = i + 2) {
+      grid.add(coordinates[i] + "," + coordinates[i + 1], coordinates[i],
+          coordinates[i + 1]);
+    }
+    return grid;
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testNearest() {
+    SpatialGrid<String> grid = createGrid(40, 30, 5, 5, 12, 5, 30, 35);
+    assertEquals(4, grid.size());
+    assertEquals("5,5", grid.getNearest(0, 0, null));
+    assertEquals("40,30", grid.getNearest(49, 39, null));
+    assertEquals("12,5", grid.getNearest(0, 0, item -> !item.equals("5,5")));
+    assertNull(grid.getNearest(0, 0, 5.0, null));
+    assertEquals("5,5", grid.getNearest(0, 0, Math.sqrt(50), null));
+    assertNull(grid.getNearest(0, 0, item -> false));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testTiesInOrderOfAdding() {
+    SpatialGrid<String> grid = createGrid(30, 20, 10, 20, 20, 30, 20, 10);
+    assertEquals("30,20", grid.getNearest(20, 20, null));
+    List<String> nearest = grid.getNearest(20, 20, 3, null);
+    assertEquals(3, nearest.size());
+    assertEquals("30,20", nearest.get(0));
+    assertEquals("10,20", nearest.get(1));
+    assertEquals("20,30", nearest.get(2));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testRadiusAndArea() {
+    SpatialGrid<String> grid = createGrid(25, 25, 3, 3, 22, 22, 28, 25,
+        40, 39);
+    List<String> found = grid.getWithinRadius(25, 25, 5, null);
+    assertEquals(3, found.size());
+    assertEquals("25,25", found.get(0));
+    assertEquals("22,22", found.get(1));
+    assertEquals("28,25", found.get(2));
+    found = grid.getWithinArea(0, 0, 25, 25, item -> !item.equals("25,25"));
+    assertEquals(2, found.size());
+    assertEquals("3,3", found.get(0));
+    assertEquals("22,22", found.get(1));
+    assertEquals(0, grid.getWithinArea(10, 10, 5, 5, null).size());
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testAgainstLinearScan() {
+    Random random = new Random(42);
+    SpatialGrid<Integer> grid = new SpatialGrid<>(100, 80, 8);
+    int[] xs = new int[300];
+    int[] ys = new int[300];
+    for (int i = 0; i < xs.length; i++) {
+      xs[i] = random.nextInt(100);
+      ys[i] = random.nextInt(80);
+      grid.add(i, xs[i], ys[i]);
+    }
+    for (int test = 0; test < 200; test++) {
+      int x = random.nextInt(110) - 5;
+      int y = random.nextInt(90) - 5;
+      ArrayList<Integer> expected = new ArrayList<>();
+      for (int i = 0; i < xs.length; i++) {
+        if (i % 3 != 0) {
+          expected.add(i);
+        }
+      }
+      Coordinate coord = new Coordinate(x, y);
+      expected.sort((a, b) -> {
+        int cmp = Double.compare(
+            coord.calculateDistance(new Coordinate(xs[a], ys[a])),
+            coord.calculateDistance(new Coordinate(xs[b], ys[b])));
+        if (cmp == 0) {
+          cmp = Integer.compare(a, b);
+        }
+        return cmp;
+      });
+      assertEquals(expected.subList(0, 5),
+          grid.getNearest(x, y, 5, item -> item % 3 != 0));
+      int count = 0;
+      for (int i = 0; i < xs.length; i++) {
+        if (coord.calculateDistance(new Coordinate(xs[i], ys[i])) <= 12) {
+          count++;
+        }
+      }
+      assertEquals(count, grid.getWithinRadius(x, y, 12, null).size());
+    }
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.BehaviourTest.class)
+  public void testStarMapQueries() {
+    Game game = new Game(false);
+    game.setGalaxyConfig(TurnSimulator.createConfig(4, 0, 10));
+    game.setPlayerInfo();
+    game.makeNewGame(false);
+    StarMap map = game.getStarMap();
+    PlayerInfo info = map.getPlayerByIndex(0);
+    for (int y = 0; y < map.getMaxY(); y = y + 3) {
+      for (int x = 0; x < map.getMaxX(); x = x + 3) {
+        Coordinate coord = new Coordinate(x, y);
+        Planet expected = null;
+        double distance = 9999.0;
+        for (Planet planet : map.getPlanetList()) {
+          double dist = coord.calculateDistance(planet.getCoordinate());
+          if (planet.getPlanetPlayerInfo() == info && dist < distance) {
+            distance = dist;
+            expected = planet;
+          }
+        }
+        assertSame(expected, map.getClosestHomePort(info, coord));
+        Sun expectedSun = null;
+        distance = 999.9;
+        for (Sun sun : map.getSunList()) {
+          double dist = coord.calculateDistance(sun.getCenterCoordinate());
+          if (dist < distance) {
+            distance = dist;
+            expectedSun = sun;
+          }
+        }
+        if (distance > 10) {
+          expectedSun = null;
+        }
+        assertSame(expectedSun, map.getNearesetSolarSystem(x, y));
+      }
+    }
+  }
+
+}
@@ -0,0 +1,214 @@
+package org.openRealmOfStars.starMap.history;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.Mockito;
+import org.openRealmOfStars.mapTiles.TileNames;
+import org.openRealmOfStars.mapTiles.Tiles;
+import org.openRealmOfStars.starMap.Coordinate;
+import org.openRealmOfStars.starMap.StarMap;
+import org.openRealmOfStars.starMap.history.event.CultureEvent;
+import org.openRealmOfStars.starMap.history.event.Event;
+import org.openRealmOfStars.starMap.history.event.EventOnPlanet;
+import org.openRealmOfStars.starMap.history.event.EventType;
+
+/**
+*
+* History replay test
+*
+*/
+public class HistoryReplayTest {
+
+  /** Map size */
+  private static final int SIZE = 12;
+
+  /**
+   * Add random events into latest turn.
+   * @param history History
+   * @param random Random
+   * @param count Number of events
+   */
+  private static void addEvents(final History history, final Random random,
+      final int count) {
+    for (int i = 0; i < count; i++) {
+      Coordinate coord = new Coordinate(random.nextInt(SIZE),
+          random.nextInt(SIZE));
+      if (random.nextInt(20) == 0) {
+        history.addEvent(new EventOnPlanet(
+            EventType.ARTIFICAL_PLANET_CREATED, coord, "Steel sphere", 0));
+      } else {
+        history.addEvent(new CultureEvent(coord, random.nextInt(5) - 1));
+      }
+    }
+  }
+
+  /**
+   * Create random history.
+   * @param random Random
+   * @param turns Number of turns
+   * @return History
+   */
+  private static History createHistory(final Random random,
+      final int turns) {
+    History history = new History();
+    for (int i = 0; i < turns; i++) {
+      history.addTurn(i);
+      addEvents(history, random, random.nextInt(8));
+    }
+    return history;
+  }
+
+  /**
+   * Replay history from the start.
+   * @param history History
+   * @param turns Number of turns to apply
+   * @param tiles True for override tiles, false for culture
+   * @return Map
+   */
+  private static int[][] replayAll(final History history, final int turns,
+      final boolean tiles) {
+    int[][] result = new int[SIZE][SIZE];
+    if (!tiles) {
+      for (int x = 0; x < SIZE; x++) {
+        for (int y = 0; y < SIZE; y++) {
+          result[x][y] = -1;
+        }
+      }
+    }
+    for (int i = 0; i < Math.min(turns, history.numberOfTurns()); i++) {
+      HistoryTurn turn = history.getByIndex(i);
+      for (int j = 0; j < turn.getNumberOfEvents(); j++) {
+        Event event = turn.getEvent(j);
+        if (!tiles && event instanceof CultureEvent) {
+          CultureEvent cultureEvent = (CultureEvent) event;
+          result[cultureEvent.getCoordinate().getX()]
+              [cultureEvent.getCoordinate().getY()] =
+              cultureEvent.getPlayerIndex();
+        }
+        if (tiles && event instanceof EventOnPlanet) {
+          EventOnPlanet planetEvent = (EventOnPlanet) event;
+          result[planetEvent.getCoordinate().getX()]
+              [planetEvent.getCoordinate().getY()] =
+              Tiles.getTileByName(TileNames.ARTIFICIALWORLD1).getIndex();
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Check that replay matches full replay.
+   * @param history History
+   * @param replay Replay
+   * @param turns Number of turns
+   */
+  private static void assertSeek(final History history,
+      final HistoryReplay replay, final int turns) {
+    replay.seek(turns);
+    assertArrayEquals(replayAll(history, turns, false), replay.getCulture());
+    assertArrayEquals(replayAll(history, turns, true), replay.getTiles());
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testRandomSeeks() {
+    Random random = new Random(7);
+    History history = createHistory(random, 95);
+    HistoryReplay replay = new HistoryReplay(history, SIZE, SIZE, 7);
+    assertEquals(7, replay.getKeyframeInterval());
+    assertSeek(history, replay, 95);
+    assertEquals(95, replay.getPosition());
+    assertEquals(13, replay.getNumberOfKeyframes());
+    for (int i = 0; i < 200; i++) {
+      assertSeek(history, replay, random.nextInt(97));
+    }
+    for (int i = 95; i >= 0; i--) {
+      assertSeek(history, replay, i);
+    }
+    replay.seek(-5);
+    assertEquals(0, replay.getPosition());
+    replay.seek(500);
+    assertEquals(95, replay.getPosition());
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testGrowingHistory() {
+    Random random = new Random(3);
+    History history = createHistory(random, 1);
+    HistoryReplay replay = new HistoryReplay(history, SIZE, SIZE, 4);
+    for (int i = 1; i < 40; i++) {
+      assertSeek(history, replay, history.numberOfTurns());
+      // Events are added into turn which replay has already applied
+      addEvents(history, random, 3);
+      assertSeek(history, replay, history.numberOfTurns());
+      history.addTurn(i);
+      addEvents(history, random, random.nextInt(6));
+      assertSeek(history, replay, random.nextInt(i + 1));
+    }
+    assertEquals(9, replay.getNumberOfKeyframes());
+    for (int i = 0; i < 100; i++) {
+      assertSeek(history, replay, random.nextInt(41));
+    }
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testPlay() {
+    Random random = new Random(11);
+    History history = createHistory(random, 30);
+    HistoryReplay replay = new HistoryReplay(history, SIZE, SIZE);
+    replay.seek(30);
+    int[] count = new int[1];
+    replay.play(5, 40, (turn, culture, tiles) -> {
+      assertEquals(5 + count[0], turn);
+      assertArrayEquals(replayAll(history, turn, false), culture);
+      assertArrayEquals(replayAll(history, turn + 1, true), tiles);
+      count[0]++;
+    });
+    assertEquals(25, count[0]);
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testHistoryCalculations() {
+    Random random = new Random(5);
+    History history = createHistory(random, 50);
+    StarMap map = Mockito.mock(StarMap.class);
+    Mockito.when(map.getMaxX()).thenReturn(SIZE);
+    Mockito.when(map.getMaxY()).thenReturn(SIZE);
+    for (int turn = 50; turn >= 0; turn--) {
+      assertArrayEquals(replayAll(history, turn, false),
+          history.calculateCulture(turn, map));
+      assertArrayEquals(replayAll(history, turn + 1, true),
+          history.calculateOverrideTiles(turn, map));
+    }
+    int[][] culture = history.calculateCulture(10, map);
+    culture[0][0] = 42;
+    assertArrayEquals(replayAll(history, 10, false),
+        history.calculateCulture(10, map));
+  }
+
+}
@@ -406,6 +406,24 @@ public class ImageInstructionTest {
     assertEquals("background(stars)+planet(position center,ironworld1,half)", instruction.build());
   }
 
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testCompileInstructions() {
+    String text = "background(black)+textColor(dark)+planet(position left,"
+        + "rock1,half)";
+    ImageInstruction.Command[] commands =
+        ImageInstruction.compileImageInstructions(text);
+    assertEquals(3, commands.length);
+    assertEquals("background", commands[0].getName());
+    assertArrayEquals(new String[] {"black"}, commands[0].getParameters());
+    assertEquals("textColor", commands[1].getName());
+    assertEquals("planet", commands[2].getName());
+    assertArrayEquals(new String[] {"position left", "rock1", "half"},
+        commands[2].getParameters());
+    assertSame(commands, ImageInstruction.compileImageInstructions(text));
+    assertTrue(ImageInstruction.getNumberOfCompiledInstructions() > 0);
+  }
+
   @Test(expected=IllegalArgumentException.class)
   @Category(org.openRealmOfStars.UnitTest.class)
   public void testParserWithNoParameters() {
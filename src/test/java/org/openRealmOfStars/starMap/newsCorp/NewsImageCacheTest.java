@@ -0,0 +1,101 @@
+package org.openRealmOfStars.starMap.newsCorp;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import static org.junit.Assert.*;
+
+import java.awt.image.BufferedImage;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+*
+* News image cache test
+*
+*/
+public class NewsImageCacheTest {
+
+  @After
+  public void tearDown() {
+    NewsImageCache.clear();
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.BehaviourTest.class)
+  public void testCachedImage() {
+    NewsImageCache.clear();
+    String text = "background(black)";
+    BufferedImage image = NewsImageCache.getImage(text, 40, 30);
+    assertEquals(40, image.getWidth());
+    assertEquals(30, image.getHeight());
+    assertSame(image, NewsImageCache.getImage(text, 40, 30));
+    assertNotSame(image, NewsImageCache.getImage(text, 30, 40));
+    assertEquals(2, NewsImageCache.getNumberOfImages());
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.BehaviourTest.class)
+  public void testLeastRecentlyUsed() {
+    NewsImageCache.clear();
+    String first = "background(black)";
+    NewsImageCache.getImage(first, 10, 10);
+    for (int i = 1; i < NewsImageCache.MAX_IMAGES; i++) {
+      NewsImageCache.getImage("background(black)", 10 + i, 10);
+      NewsImageCache.getImage(first, 10, 10);
+    }
+    assertEquals(NewsImageCache.MAX_IMAGES,
+        NewsImageCache.getNumberOfImages());
+    NewsImageCache.getImage("background(black)", 100, 10);
+    assertEquals(NewsImageCache.MAX_IMAGES,
+        NewsImageCache.getNumberOfImages());
+    assertTrue(NewsImageCache.isCached(first, 10, 10));
+    assertFalse(NewsImageCache.isCached("background(black)", 11, 10));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.BehaviourTest.class)
+  public void testPrerender() {
+    NewsImageCache.clear();
+    String text = "background(black)+text(Prerender)";
+    NewsImageCache.prerender(text);
+    assertFalse(NewsImageCache.isCached(text, 20, 20));
+    NewsImageCache.setImageSize(20, 20);
+    NewsCorpData data = new NewsCorpData(2);
+    NewsData news = new NewsData();
+    news.setImageInstructions(text);
+    news.setNewsText("Prerender");
+    data.addNews(news);
+    assertTrue(NewsImageCache.isCached(text, 20, 20));
+    BufferedImage image = NewsImageCache.getImage(text, 20, 20);
+    assertEquals(20, image.getWidth());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testBrokenInstructions() {
+    NewsImageCache.clear();
+    try {
+      NewsImageCache.getImage("broken", 10, 10);
+    } finally {
+      assertEquals(0, NewsImageCache.getNumberOfImages());
+    }
+  }
+
+}
@@ -0,0 +1,144 @@
+package org.openRealmOfStars.utilities.FileIo;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+
+/**
+*
+* Test for JSON cache
+*
+*/
+public class JsonCacheTest {
+
+  /**
+   * JSON used in tests.
+   */
+  private static final String JSON = "[{\"name\": \"Farm\", \"cost\": 12,"
+      + " \"big\": 12345678901, \"ratio\": 0.5, \"single\": true,"
+      + " \"none\": null, \"list\": [1, \"two\", {\"three\": 3}]},"
+      + " {\"name\": \"Mine\"}]";
+
+  /**
+   * Temporary folder for cache.
+   */
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  /**
+   * Write string into file.
+   * @param file File
+   * @param text Text to write
+   * @throws IOException If writing fails
+   */
+  private static void write(final File file, final String text)
+      throws IOException {
+    try (FileOutputStream fos = new FileOutputStream(file)) {
+      fos.write(text.getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testRoundTrip() throws IOException {
+    JSONArray array = new JSONArray(new JSONTokener(JSON));
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    DataOutputStream dos = new DataOutputStream(bos);
+    JsonCache.writeCache(dos, array, "source", 10, 20);
+    dos.flush();
+    JSONArray result = JsonCache.readCache(new DataInputStream(
+        new ByteArrayInputStream(bos.toByteArray())), "source", 10, 20);
+    assertNotNull(result);
+    assertTrue(array.similar(result));
+    JSONObject farm = result.getJSONObject(0);
+    assertEquals(12, farm.getInt("cost"));
+    assertEquals(12345678901L, farm.getLong("big"));
+    assertEquals(0.5, farm.getDouble("ratio"), 0.001);
+    assertTrue(farm.isNull("none"));
+    assertEquals(farm.get("cost").getClass(),
+        array.getJSONObject(0).get("cost").getClass());
+    assertEquals(farm.get("ratio").getClass(),
+        array.getJSONObject(0).get("ratio").getClass());
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testChangedSource() throws IOException {
+    JSONArray array = new JSONArray(new JSONTokener(JSON));
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    DataOutputStream dos = new DataOutputStream(bos);
+    JsonCache.writeCache(dos, array, "source", 10, 20);
+    dos.flush();
+    byte[] data = bos.toByteArray();
+    assertNull(JsonCache.readCache(new DataInputStream(
+        new ByteArrayInputStream(data)), "source", 11, 20));
+    assertNull(JsonCache.readCache(new DataInputStream(
+        new ByteArrayInputStream(data)), "source", 10, 21));
+    assertNull(JsonCache.readCache(new DataInputStream(
+        new ByteArrayInputStream(data)), "other", 10, 20));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testReadWithCache() throws IOException {
+    File json = folder.newFile("data.json");
+    write(json, JSON);
+    File cacheFolder = new File(folder.getRoot(), "cache");
+    JSONArray first = JsonCache.readJsonArray(json.toURI().toURL(),
+        cacheFolder);
+    File cacheFile = JsonCache.getCacheFile(cacheFolder,
+        json.toURI().toURL().toExternalForm());
+    assertTrue(cacheFile.isFile());
+    JSONArray second = JsonCache.readJsonArray(json.toURI().toURL(),
+        cacheFolder);
+    assertTrue(first.similar(second));
+    write(json, "[{\"name\": \"Changed\"}]");
+    assertTrue(json.setLastModified(json.lastModified() + 2000));
+    JSONArray third = JsonCache.readJsonArray(json.toURI().toURL(),
+        cacheFolder);
+    assertEquals(1, third.length());
+    assertEquals("Changed", third.getJSONObject(0).getString("name"));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testReadWithoutCache() throws IOException {
+    File json = folder.newFile("data.json");
+    write(json, JSON);
+    JSONArray array = JsonCache.readJsonArray(json.toURI().toURL(), null);
+    assertEquals(2, array.length());
+  }
+
+}
@@ -0,0 +1,185 @@
+package org.openRealmOfStars.utilities;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.Mockito;
+import org.openRealmOfStars.player.PlayerInfo;
+import org.openRealmOfStars.player.fleet.Fleet;
+import org.openRealmOfStars.player.fleet.FleetList;
+import org.openRealmOfStars.player.race.SpaceRaceFactory;
+import org.openRealmOfStars.player.ship.ShipStat;
+import org.openRealmOfStars.player.ship.generator.ShipGenerator;
+import org.openRealmOfStars.player.ship.shipdesign.ShipDesign;
+import org.openRealmOfStars.starMap.Coordinate;
+import org.openRealmOfStars.starMap.StarMap;
+import org.openRealmOfStars.starMap.planet.Planet;
+
+/**
+*
+* Name index test
+*
+*/
+public class NameIndexTest {
+
+  /**
+   * Mutable named item for tests.
+   */
+  private static final class Item {
+    /** Item name */
+    private String name;
+
+    /**
+     * Create item.
+     * @param name Item name
+     */
+    Item(final String name) {
+      this.name = name;
+    }
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testLookups() {
+    ArrayList<Item> list = new ArrayList<>();
+    Item scout1 = new Item("Scout Mk1");
+    Item colony = new Item("Colony");
+    Item scout2 = new Item("Scout Mk2");
+    Item colony2 = new Item("Colony");
+    list.add(scout2);
+    list.add(colony);
+    list.add(scout1);
+    list.add(colony2);
+    NameIndex<Item> index = new NameIndex<>(item -> item.name);
+    assertFalse(index.isValid(list.size()));
+    index.build(list);
+    assertTrue(index.isValid(list.size()));
+    assertSame(colony, index.getFirst("Colony"));
+    assertSame(colony2, index.getLast("Colony"));
+    assertNull(index.getFirst("Trooper"));
+    assertTrue(index.contains("Scout Mk1"));
+    assertEquals(2, index.countStartingWith("Scout"));
+    assertEquals(4, index.countStartingWith(""));
+    List<Item> scouts = index.getStartingWith("Scout Mk");
+    assertEquals(2, scouts.size());
+    assertSame(scout2, scouts.get(0));
+    assertSame(scout1, scouts.get(1));
+    list.remove(colony);
+    index.remove(colony);
+    assertSame(colony2, index.getFirst("Colony"));
+    Item trooper = new Item("Trooper");
+    list.add(trooper);
+    index.add(trooper);
+    assertTrue(index.isValid(list.size()));
+    assertSame(trooper, index.getFirst("Trooper"));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testRename() {
+    ArrayList<Item> list = new ArrayList<>();
+    Item item = new Item("Old");
+    list.add(item);
+    NameIndex<Item> index = new NameIndex<>(value -> value.name);
+    index.build(list);
+    item.name = "New";
+    assertTrue(index.isValid(list.size()));
+    index.invalidate();
+    assertFalse(index.isValid(list.size()));
+    index.build(list);
+    assertSame(item, index.getFirst("New"));
+    assertNull(index.getFirst("Old"));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testFleetList() {
+    FleetList fleets = new FleetList();
+    Fleet first = new Fleet(null, 1, 1);
+    first.setName("Scout #1");
+    fleets.add(first);
+    Fleet second = new Fleet(null, 2, 2);
+    second.setName("scout #1");
+    fleets.add(second);
+    assertNotEquals("scout #1", second.getName());
+    assertFalse(fleets.isUniqueName("SCOUT #1", null));
+    assertTrue(fleets.isUniqueName("SCOUT #1", first));
+    assertSame(first, fleets.getByName("Scout #1"));
+    assertEquals(1, fleets.getIndexByName(second.getName()));
+    first.setName("Explorer");
+    assertNull(fleets.getByName("Scout #1"));
+    assertSame(first, fleets.getByName("Explorer"));
+    assertEquals(1, fleets.howManyFleetWithStartingNames("Expl"));
+    // Renaming fleet in other list does not invalidate this list
+    FleetList others = new FleetList();
+    Fleet third = new Fleet(null, 3, 3);
+    third.setName("Explorer");
+    others.add(third);
+    assertSame(third, others.getByName("Explorer"));
+    third.setName("Raider");
+    assertSame(first, fleets.getByName("Explorer"));
+    assertSame(third, others.getByName("Raider"));
+    fleets.removeFleet(first);
+    assertNull(fleets.getByName("Explorer"));
+    assertSame(second, fleets.getByName(second.getName()));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testShipStatList() {
+    PlayerInfo info = new PlayerInfo(SpaceRaceFactory.createOne("HUMANS"));
+    ShipDesign design = ShipGenerator.createScout(info);
+    design.setName("Explorer");
+    ShipStat stat = new ShipStat(design);
+    info.addShipStat(stat);
+    assertSame(stat, info.getShipStatByName("Explorer"));
+    design.setName("Pathfinder");
+    assertNull(info.getShipStatByName("Explorer"));
+    assertSame(stat, info.getShipStatByName("Pathfinder"));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testOnlyIndexedRenamesAreMarked() {
+    PlayerInfo owner = Mockito.mock(PlayerInfo.class);
+    ShipDesign design = ShipGenerator.createScout(
+        new PlayerInfo(SpaceRaceFactory.createOne("HUMANS")));
+    design.setName("Explorer");
+    design.setDesignOwner(owner);
+    ShipDesign copy = design.copy(design.getHull().getRace());
+    copy.setName("Copy");
+    Mockito.verify(owner, Mockito.never()).markDesignRenamed();
+    design.setName("Pathfinder");
+    Mockito.verify(owner).markDesignRenamed();
+
+    StarMap map = Mockito.mock(StarMap.class);
+    Planet planet = new Planet(new Coordinate(1, 1), "Test", 1, false);
+    planet.setName("First");
+    planet.setNameIndexMap(map);
+    Mockito.verify(map, Mockito.never()).markPlanetRenamed();
+    planet.setName("Second");
+    Mockito.verify(map).markPlanetRenamed();
+  }
+
+}
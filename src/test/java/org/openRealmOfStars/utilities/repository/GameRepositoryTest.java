@@ -0,0 +1,156 @@
+package org.openRealmOfStars.utilities.repository;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.concurrent.Future;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.openRealmOfStars.game.Game;
+import org.openRealmOfStars.game.SavedGame;
+import org.openRealmOfStars.game.simulation.TurnSimulator;
+import org.openRealmOfStars.player.PlayerInfo;
+import org.openRealmOfStars.starMap.StarMap;
+
+/**
+*
+* Game repository test
+*
+*/
+public class GameRepositoryTest {
+
+  /**
+   * Temporary folder for saves.
+   */
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  /**
+   * Create small game.
+   * @return StarMap
+   */
+  private static StarMap createGame() {
+    Game game = new Game(false);
+    game.setGalaxyConfig(TurnSimulator.createConfig(4, 0, 10));
+    game.setPlayerInfo();
+    game.makeNewGame(false);
+    return game.getStarMap();
+  }
+
+  /**
+   * Check that loaded game matches saved game.
+   * @param expected Saved game
+   * @param map Loaded game
+   */
+  private static void assertSameGame(final StarMap expected,
+      final StarMap map) {
+    assertNotNull(map);
+    assertEquals(expected.getTurn(), map.getTurn());
+    assertEquals(expected.getMaxX(), map.getMaxX());
+    assertEquals(expected.getPlanetList().size(),
+        map.getPlanetList().size());
+    assertEquals(expected.getPlayerList().getCurrentMaxRealms(),
+        map.getPlayerList().getCurrentMaxRealms());
+    for (int i = 0; i < expected.getPlayerList().getCurrentMaxRealms(); i++) {
+      assertEquals(expected.getPlayerList().getPlayerInfoByIndex(i)
+          .getFleets().getNumberOfFleets(),
+          map.getPlayerList().getPlayerInfoByIndex(i).getFleets()
+          .getNumberOfFleets());
+    }
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.BehaviourTest.class)
+  public void testSaveAndLoad() throws Exception {
+    StarMap starMap = createGame();
+    String path = folder.getRoot().getAbsolutePath();
+    GameRepository repository = new GameRepository();
+    repository.saveGame(path, "test.save", starMap);
+    assertSameGame(starMap, repository.loadGame(path, "test.save"));
+    Future<?> future = repository.saveGameInBackground(path,
+        "background.save", starMap);
+    future.get();
+    assertSameGame(starMap, repository.loadGame(path, "background.save"));
+    assertEquals(0, folder.getRoot().list(
+        (dir, name) -> name.endsWith(".tmp")).length);
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.BehaviourTest.class)
+  public void testSaveSameFileTwice() throws Exception {
+    StarMap starMap = createGame();
+    String path = folder.getRoot().getAbsolutePath();
+    GameRepository repository = new GameRepository();
+    Future<?> future = repository.saveGameInBackground(path,
+        "autosave.save", starMap);
+    repository.saveGame(path, "autosave.save", starMap);
+    future.get();
+    assertSameGame(starMap, repository.loadGame(path, "autosave.save"));
+    assertEquals(0, folder.getRoot().list(
+        (dir, name) -> name.endsWith(".tmp")).length);
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.BehaviourTest.class)
+  public void testSummary() throws IOException {
+    StarMap starMap = createGame();
+    String path = folder.getRoot().getAbsolutePath();
+    GameRepository repository = new GameRepository();
+    repository.saveGame(path, "test.save", starMap);
+    assertNotNull(repository.loadSummary(path, "test.save"));
+    SavedGame saved = new SavedGame(path, "test.save");
+    PlayerInfo info = starMap.getPlayerList().getPlayerInfoByIndex(0);
+    assertEquals(starMap.getTurn() + starMap.getStartStarYear(),
+        saved.getStarYear());
+    assertEquals(4, saved.getRealms());
+    assertEquals(starMap.getMaxX() + " X " + starMap.getMaxY(),
+        saved.getGalaxySize());
+    assertEquals(info.getEmpireName(), saved.getEmpireName());
+    assertEquals(info.getRace().getId(), saved.getPlayerRace().getId());
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.BehaviourTest.class)
+  public void testLoadOldSave() throws IOException {
+    StarMap starMap = createGame();
+    File file = folder.newFile("old.save");
+    try (DataOutputStream dos = new DataOutputStream(
+        new FileOutputStream(file))) {
+      starMap.saveGame(dos);
+    }
+    String path = folder.getRoot().getAbsolutePath();
+    StarMap map = new GameRepository().loadGame(path, "old.save");
+    assertSameGame(starMap, map);
+    assertNull(new GameRepository().loadSummary(path, "old.save"));
+    SavedGame saved = new SavedGame(path, "old.save");
+    assertEquals(starMap.getTurn() + starMap.getStartStarYear(),
+        saved.getStarYear());
+  }
+
+}
@@ -0,0 +1,122 @@
+package org.openRealmOfStars.utilities.repository;
+/*
+ * Open Realm of Stars game project
+ * Copyright (C) 2026 Tuomo Untinen
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see http://www.gnu.org/licenses/
+ */
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.openRealmOfStars.utilities.FileIo.IOUtilities;
+
+/**
+*
+* Save game chunks test
+*
+*/
+public class SaveGameChunksTest {
+
+  /**
+   * Write test chunks into container.
+   * @return Container bytes
+   * @throws IOException if writing fails
+   */
+  private static byte[] writeTestContainer() throws IOException {
+    SaveGameChunks chunks = new SaveGameChunks();
+    chunks.getOutput(SaveGameChunks.HEADER).writeInt(42);
+    DataOutputStream dos = chunks.getOutput(SaveGameChunks.TILES);
+    for (int i = 0; i < 10000; i++) {
+      dos.writeInt(i % 7);
+    }
+    IOUtilities.writeString(chunks.getOutput(SaveGameChunks.HISTORY),
+        "History");
+    chunks.getOutput(SaveGameChunks.HEADER).writeInt(43);
+    chunks.finish();
+    assertEquals(3, chunks.getNumberOfChunks());
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    chunks.writeContainer(new DataOutputStream(baos));
+    return baos.toByteArray();
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testContainerRoundTrip() throws IOException {
+    byte[] buf = writeTestContainer();
+    // Repeating tile data should compress well
+    assertEquals(true, buf.length < 10000);
+    DataInputStream dis = new DataInputStream(new ByteArrayInputStream(buf));
+    assertEquals(SaveGameChunks.CONTAINER_MAGIC, IOUtilities.readString(dis));
+    SaveGameChunks chunks = SaveGameChunks.readContainer(dis);
+    assertEquals(3, chunks.getNumberOfChunks());
+    DataInputStream header = chunks.getInput(SaveGameChunks.HEADER);
+    assertEquals(42, header.readInt());
+    assertEquals(43, header.readInt());
+    DataInputStream tiles = chunks.getInput(SaveGameChunks.TILES);
+    for (int i = 0; i < 10000; i++) {
+      assertEquals(i % 7, tiles.readInt());
+    }
+    assertEquals("History", IOUtilities.readString(
+        chunks.getInput(SaveGameChunks.HISTORY)));
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testReadWantedChunks() throws IOException {
+    byte[] buf = writeTestContainer();
+    DataInputStream dis = new DataInputStream(new ByteArrayInputStream(buf));
+    IOUtilities.readString(dis);
+    SaveGameChunks chunks = SaveGameChunks.readContainer(dis,
+        SaveGameChunks.HISTORY);
+    assertEquals(1, chunks.getNumberOfChunks());
+    assertEquals("History", IOUtilities.readString(
+        chunks.getInput(SaveGameChunks.HISTORY)));
+  }
+
+  @Test(expected = IOException.class)
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testMissingChunk() throws IOException {
+    byte[] buf = writeTestContainer();
+    DataInputStream dis = new DataInputStream(new ByteArrayInputStream(buf));
+    IOUtilities.readString(dis);
+    SaveGameChunks chunks = SaveGameChunks.readContainer(dis,
+        SaveGameChunks.HEADER);
+    chunks.getInput(SaveGameChunks.TILES);
+  }
+
+  @Test
+  @Category(org.openRealmOfStars.UnitTest.class)
+  public void testSingleStream() throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    DataOutputStream dos = new DataOutputStream(baos);
+    SaveGameChunks chunks = new SaveGameChunks(dos);
+    assertSame(dos, chunks.getOutput(SaveGameChunks.HEADER));
+    assertSame(dos, chunks.getOutput(SaveGameChunks.TILES));
+    DataInputStream dis = new DataInputStream(new ByteArrayInputStream(
+        baos.toByteArray()));
+    chunks = new SaveGameChunks(dis);
+    assertSame(dis, chunks.getInput(SaveGameChunks.HISTORY));
+  }
+
+}